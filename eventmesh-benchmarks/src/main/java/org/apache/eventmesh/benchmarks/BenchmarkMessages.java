@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.utils.JsonUtils;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.jackson.JsonFormat;
+
+/**
+ * Messages shared by the benchmarks, shaped like the ones sent by the java sdk.
+ */
+public final class BenchmarkMessages {
+
+    public static final String TOPIC = "TEST-TOPIC-TCP-ASYNC";
+
+    public static final String GROUP = "EventmeshTestGroup";
+
+    public static final String EVENTMESH_MESSAGE_PROTOCOL = "eventmeshmessage";
+
+    public static final String CLOUD_EVENTS_PROTOCOL = "cloudevents";
+
+    private BenchmarkMessages() {
+    }
+
+    public static String payload(int size) {
+        return StringUtils.repeat('x', size);
+    }
+
+    public static CloudEvent cloudEvent(int payloadSize) {
+        return CloudEventBuilder.v1()
+            .withId(UUID.randomUUID().toString())
+            .withSubject(TOPIC)
+            .withSource(URI.create("/"))
+            .withType(CLOUD_EVENTS_PROTOCOL)
+            .withDataContentType(JsonFormat.CONTENT_TYPE)
+            .withData(payload(payloadSize).getBytes(StandardCharsets.UTF_8))
+            .withExtension("ttl", "4000")
+            .withExtension("idcmessagecontext", "benchmark")
+            .build();
+    }
+
+    public static Header header(String protocolType) {
+        Header header = new Header(Command.ASYNC_MESSAGE_TO_SERVER, 0, null, UUID.randomUUID().toString());
+        header.putProperty(Constants.PROTOCOL_TYPE, protocolType);
+        header.putProperty(Constants.PROTOCOL_VERSION, SpecVersion.V1.toString());
+        header.putProperty(Constants.PROTOCOL_DESC, "tcp");
+        return header;
+    }
+
+    /**
+     * A package whose body is an {@link EventMeshMessage}, as encoded by the sdk.
+     */
+    public static Package eventMeshMessagePackage(int payloadSize) {
+        EventMeshMessage message = new EventMeshMessage();
+        message.setTopic(TOPIC);
+        message.setBody(payload(payloadSize));
+        message.getProperties().put("ttl", "4000");
+        message.getProperties().put("msgtype", "persistent");
+        return new Package(header(EVENTMESH_MESSAGE_PROTOCOL), message);
+    }
+
+    /**
+     * A package whose body is the json-serialized {@link CloudEvent}, as encoded by the sdk.
+     */
+    public static Package cloudEventPackage(int payloadSize) {
+        byte[] body = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE)
+            .serialize(cloudEvent(payloadSize));
+        return new Package(header(CLOUD_EVENTS_PROTOCOL), body);
+    }
+
+    /**
+     * The package the protocol adaptors receive for {@code pkg}, i.e. with the body as the decoder hands it over.
+     */
+    public static Package decodedPackage(Package pkg) {
+        Object body = pkg.getBody();
+        String bodyJson = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8)
+            : JsonUtils.serialize(body);
+        return new Package(pkg.getHeader(), bodyJson);
+    }
+}
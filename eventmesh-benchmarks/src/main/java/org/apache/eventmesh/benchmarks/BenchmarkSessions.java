@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.common.config.ConfigurationWrapper;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+/**
+ * Real {@link Session}s bound to in-memory channels, so that the benchmarks go through the same code as a connected
+ * client without a network round trip.
+ */
+public final class BenchmarkSessions {
+
+    private BenchmarkSessions() {
+    }
+
+    public static EventMeshTCPConfiguration tcpConfiguration() throws IOException {
+        // an empty configuration file, so every setting keeps its default
+        Path confDir = Files.createTempDirectory("eventmesh-benchmarks");
+        confDir.toFile().deleteOnExit();
+        File conf = Files.createFile(confDir.resolve(EventMeshConstants.EVENTMESH_CONF_FILE)).toFile();
+        conf.deleteOnExit();
+        return new EventMeshTCPConfiguration(
+            new ConfigurationWrapper(confDir.toString(), EventMeshConstants.EVENTMESH_CONF_FILE, false));
+    }
+
+    public static ChannelHandlerContext channelContext(int port) {
+        return new RemoteChannel(new InetSocketAddress("127.0.0.1", port)).pipeline().firstContext();
+    }
+
+    /**
+     * A subscribed consumer session of {@link BenchmarkMessages#GROUP} on {@link BenchmarkMessages#TOPIC}.
+     */
+    public static Session consumerSession(EventMeshTCPConfiguration configuration, int port) {
+        UserAgent client = UserAgent.builder()
+            .env("benchmark")
+            .subsystem("5023")
+            .group(BenchmarkMessages.GROUP)
+            .purpose(EventMeshConstants.PURPOSE_SUB)
+            .host("127.0.0.1")
+            .port(port)
+            .pid(port)
+            .version("2.0")
+            .build();
+        Session session = new Session(client, channelContext(port), configuration);
+        session.getSessionContext().subscribeTopics.put(BenchmarkMessages.TOPIC,
+            new SubscriptionItem(BenchmarkMessages.TOPIC, SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC));
+        return session;
+    }
+
+    private static final class RemoteChannel extends EmbeddedChannel {
+
+        private final InetSocketAddress remoteAddress;
+
+        RemoteChannel(InetSocketAddress remoteAddress) {
+            super(new ChannelInboundHandlerAdapter());
+            this.remoteAddress = remoteAddress;
+        }
+
+        @Override
+        protected SocketAddress remoteAddress0() {
+            return remoteAddress;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Encoding and decoding of a TCP {@link Package} by {@link Codec}, for both body flavours the sdk sends.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"256", "4096"})
+    private int payloadSize;
+
+    @Param({BenchmarkMessages.EVENTMESH_MESSAGE_PROTOCOL, BenchmarkMessages.CLOUD_EVENTS_PROTOCOL})
+    private String protocolType;
+
+    private final Codec.Encoder encoder = new Codec.Encoder();
+
+    private final Codec.Decoder decoder = new Codec.Decoder();
+
+    private final List<Object> decoded = new ArrayList<>(1);
+
+    private Package pkg;
+
+    private byte[] frame;
+
+    private ByteBuf out;
+
+    @Setup
+    public void setup() throws Exception {
+        pkg = BenchmarkMessages.CLOUD_EVENTS_PROTOCOL.equals(protocolType)
+            ? BenchmarkMessages.cloudEventPackage(payloadSize)
+            : BenchmarkMessages.eventMeshMessagePackage(payloadSize);
+        out = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        encoder.encode(null, pkg, out);
+        frame = new byte[out.readableBytes()];
+        out.readBytes(frame);
+    }
+
+    @TearDown
+    public void tearDown() {
+        out.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() throws Exception {
+        out.clear();
+        encoder.encode(null, pkg, out);
+        return out;
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        decoded.clear();
+        decoder.decode(null, Unpooled.wrappedBuffer(frame), decoded);
+        return decoded.get(0);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.common.utils.JsonUtils;
+import org.apache.eventmesh.connector.pravega.client.PravegaCloudEventWriter;
+import org.apache.eventmesh.connector.pravega.client.PravegaEvent;
+import org.apache.eventmesh.connector.rabbitmq.cloudevent.RabbitmqCloudEvent;
+import org.apache.eventmesh.connector.rabbitmq.cloudevent.RabbitmqCloudEventWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+
+import com.rabbitmq.client.AMQP;
+
+/**
+ * Wire format of the RabbitMQ and Pravega connectors: CloudEvents binary content mode against the formats it
+ * replaced, Java serialization for RabbitMQ and a JSON document for Pravega.
+ *
+ * <p>Encoding starts from the connector's writer output and decoding ends with the {@link CloudEvent} handed to
+ * the listener. The encoded size of every format is logged once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectorWireFormatBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectorWireFormatBenchmark.class);
+
+    @Param({"256", "4096"})
+    private int payloadSize;
+
+    private RabbitmqCloudEvent rabbitmqCloudEvent;
+
+    private AMQP.BasicProperties rabbitmqProperties;
+
+    private byte[] rabbitmqSerialized;
+
+    private PravegaEvent pravegaEvent;
+
+    private byte[] pravegaBinary;
+
+    private byte[] pravegaJson;
+
+    @Setup
+    public void setup() throws Exception {
+        CloudEvent cloudEvent = BenchmarkMessages.cloudEvent(payloadSize);
+        rabbitmqCloudEvent = new RabbitmqCloudEventWriter().writeBinary(cloudEvent);
+        rabbitmqProperties = rabbitmqCloudEvent.toBasicProperties();
+        rabbitmqSerialized = rabbitmqJavaSerializationEncode();
+        pravegaEvent = new PravegaCloudEventWriter(BenchmarkMessages.TOPIC).writeBinary(cloudEvent);
+        pravegaBinary = PravegaEvent.toByteArray(pravegaEvent);
+        pravegaJson = pravegaJsonEncode();
+
+        LOGGER.info("payloadSize {}: rabbitmq binary {} bytes (body {} + headers {}), java serialization {} bytes",
+            payloadSize, rabbitmqCloudEvent.getData().length + amqpPropertiesSize(rabbitmqProperties),
+            rabbitmqCloudEvent.getData().length, amqpPropertiesSize(rabbitmqProperties), rabbitmqSerialized.length);
+        LOGGER.info("payloadSize {}: pravega binary {} bytes, json {} bytes", payloadSize, pravegaBinary.length,
+            pravegaJson.length);
+    }
+
+    @Benchmark
+    public AMQP.BasicProperties rabbitmqBinaryEncode() {
+        return rabbitmqCloudEvent.toBasicProperties();
+    }
+
+    @Benchmark
+    public CloudEvent rabbitmqBinaryDecode() {
+        return RabbitmqCloudEvent.getFromMessage(rabbitmqProperties, rabbitmqCloudEvent.getData()).convertToCloudEvent();
+    }
+
+    @Benchmark
+    public byte[] rabbitmqJavaSerializationEncode() throws Exception {
+        LegacyRabbitmqCloudEvent legacy = new LegacyRabbitmqCloudEvent();
+        legacy.version = rabbitmqCloudEvent.getVersion();
+        legacy.data = new String(rabbitmqCloudEvent.getData(), StandardCharsets.UTF_8);
+        legacy.extensions = new HashMap<>(rabbitmqCloudEvent.getExtensions());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(legacy);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public CloudEvent rabbitmqJavaSerializationDecode() throws Exception {
+        LegacyRabbitmqCloudEvent legacy;
+        try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(rabbitmqSerialized))) {
+            legacy = (LegacyRabbitmqCloudEvent) objectIn.readObject();
+        }
+        RabbitmqCloudEvent event = new RabbitmqCloudEvent();
+        event.setVersion(legacy.version);
+        event.setData(legacy.data.getBytes(StandardCharsets.UTF_8));
+        event.setExtensions(legacy.extensions);
+        return event.convertToCloudEvent();
+    }
+
+    @Benchmark
+    public byte[] pravegaBinaryEncode() {
+        return PravegaEvent.toByteArray(pravegaEvent);
+    }
+
+    @Benchmark
+    public CloudEvent pravegaBinaryDecode() {
+        return PravegaEvent.getFromByteArray(pravegaBinary).convertToCloudEvent();
+    }
+
+    @Benchmark
+    public byte[] pravegaJsonEncode() {
+        LegacyPravegaEvent legacy = new LegacyPravegaEvent();
+        legacy.version = pravegaEvent.getVersion();
+        legacy.topic = pravegaEvent.getTopic();
+        legacy.data = new String(pravegaEvent.getData(), StandardCharsets.UTF_8);
+        legacy.extensions = pravegaEvent.getExtensions();
+        legacy.createTimestamp = pravegaEvent.getCreateTimestamp();
+        return JsonUtils.serialize(legacy).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CloudEvent pravegaJsonDecode() {
+        return PravegaEvent.getFromByteArray(pravegaJson).convertToCloudEvent();
+    }
+
+    /**
+     * size of the properties in the AMQP content header, the part of the frame that depends on the format
+     */
+    private static int amqpPropertiesSize(AMQP.BasicProperties properties) {
+        // shortstr content type, then a field table of shortstr names and 'S' longstr values
+        int size = 1 + properties.getContentType().getBytes(StandardCharsets.UTF_8).length + 4;
+        for (Map.Entry<String, Object> header : properties.getHeaders().entrySet()) {
+            size += 1 + header.getKey().getBytes(StandardCharsets.UTF_8).length
+                + 1 + 4 + header.getValue().toString().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+
+    /**
+     * the event as Java serialization used to write it to RabbitMQ
+     */
+    private static class LegacyRabbitmqCloudEvent implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private SpecVersion version;
+
+        private String data;
+
+        private Map<String, String> extensions;
+    }
+
+    /**
+     * the event as it used to be written to Pravega as JSON
+     */
+    public static class LegacyPravegaEvent {
+
+        public SpecVersion version;
+
+        public String topic;
+
+        public String data;
+
+        public Map<String, String> extensions;
+
+        public long createTimestamp;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.FreePriorityDispatchStrategy;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.LoadAwareDispatchStrategy;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Selection of the downstream session of a consumer group, done once per message pushed to TCP clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchStrategyBenchmark {
+
+    @Param({"4", "64"})
+    private int sessionCount;
+
+    @Param({FreePriorityDispatchStrategy.NAME, LoadAwareDispatchStrategy.NAME})
+    private String strategyName;
+
+    private DownstreamDispatchStrategy strategy;
+
+    private List<Session> sessions;
+
+    @Setup
+    public void setup() throws Exception {
+        strategy = FreePriorityDispatchStrategy.NAME.equals(strategyName)
+            ? new FreePriorityDispatchStrategy()
+            : new LoadAwareDispatchStrategy();
+        EventMeshTCPConfiguration configuration = BenchmarkSessions.tcpConfiguration();
+        sessions = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(BenchmarkSessions.consumerSession(configuration, 10000 + i));
+        }
+    }
+
+    @Benchmark
+    public Session select() {
+        return strategy.select(BenchmarkMessages.GROUP, BenchmarkMessages.TOPIC, sessions);
+    }
+}
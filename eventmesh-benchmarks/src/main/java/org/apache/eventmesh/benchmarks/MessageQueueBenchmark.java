@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.connector.standalone.broker.MessageQueue;
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * The in-memory {@link MessageQueue} of the standalone connector.
+ *
+ * <p>Taking a message leaves it in the queue, so {@link #putThenTake} fills and drains a new queue on each invocation
+ * and reports the cost per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageQueueBenchmark {
+
+    private static final int CAPACITY = 2048;
+
+    private MessageEntity[] entities;
+
+    private MessageQueue fullQueue;
+
+    private long offset;
+
+    @Setup
+    public void setup() throws Exception {
+        TopicMetadata topicMetadata = new TopicMetadata(BenchmarkMessages.TOPIC);
+        CloudEvent event = BenchmarkMessages.cloudEvent(256);
+        entities = new MessageEntity[CAPACITY];
+        fullQueue = new MessageQueue(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            entities[i] = new MessageEntity(topicMetadata, event, i, System.currentTimeMillis());
+            fullQueue.put(entities[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CAPACITY)
+    public MessageEntity putThenTake() throws Exception {
+        MessageQueue queue = new MessageQueue(CAPACITY);
+        for (MessageEntity entity : entities) {
+            queue.put(entity);
+        }
+        MessageEntity last = null;
+        for (int i = 0; i < CAPACITY; i++) {
+            last = queue.take();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public MessageEntity getByOffset() {
+        MessageEntity entity = fullQueue.getByOffset(offset);
+        offset = offset + 1 == CAPACITY ? 0 : offset + 1;
+        return entity;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.protocol.api.ProtocolAdaptor;
+import org.apache.eventmesh.protocol.cloudevents.CloudEventsProtocolAdaptor;
+import org.apache.eventmesh.protocol.meshmessage.MeshMessageProtocolAdaptor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Adaptation of a decoded TCP package to a {@link CloudEvent} and back, as done for every message sent through the
+ * runtime.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolAdaptorBenchmark {
+
+    @Param({"256", "4096"})
+    private int payloadSize;
+
+    @Param({BenchmarkMessages.EVENTMESH_MESSAGE_PROTOCOL, BenchmarkMessages.CLOUD_EVENTS_PROTOCOL})
+    private String protocolType;
+
+    private ProtocolAdaptor<ProtocolTransportObject> adaptor;
+
+    private Package pkg;
+
+    private CloudEvent event;
+
+    @Setup
+    public void setup() throws Exception {
+        if (BenchmarkMessages.CLOUD_EVENTS_PROTOCOL.equals(protocolType)) {
+            adaptor = new CloudEventsProtocolAdaptor<>();
+            pkg = BenchmarkMessages.decodedPackage(BenchmarkMessages.cloudEventPackage(payloadSize));
+        } else {
+            adaptor = new MeshMessageProtocolAdaptor();
+            pkg = BenchmarkMessages.decodedPackage(BenchmarkMessages.eventMeshMessagePackage(payloadSize));
+        }
+        event = adaptor.toCloudEvent(pkg);
+    }
+
+    @Benchmark
+    public CloudEvent toCloudEvent() throws Exception {
+        return adaptor.toCloudEvent(pkg);
+    }
+
+    @Benchmark
+    public ProtocolTransportObject fromCloudEvent() throws Exception {
+        return adaptor.fromCloudEvent(event);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks;
+
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientSessionGroupMapping;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * Per-packet session resolution of the TCP dispatcher.
+ *
+ * <p>{@link #addressTableLookup} is the former path, where each packet hashed the remote address in the session
+ * table up to four times; {@link #channelAttributeLookup} reads the session bound to the channel once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionLookupBenchmark {
+
+    private static final int LOOKUPS_PER_PACKET = 4;
+
+    @Param({"16", "1024"})
+    private int sessionCount;
+
+    private final ConcurrentHashMap<InetSocketAddress, Session> sessionTable = new ConcurrentHashMap<>();
+
+    private final ClientSessionGroupMapping mapping = new ClientSessionGroupMapping(null);
+
+    private ChannelHandlerContext[] contexts;
+
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        EventMeshTCPConfiguration configuration = BenchmarkSessions.tcpConfiguration();
+        contexts = new ChannelHandlerContext[sessionCount];
+        for (int i = 0; i < sessionCount; i++) {
+            Session session = BenchmarkSessions.consumerSession(configuration, 10000 + i);
+            ChannelHandlerContext ctx = session.getContext();
+            sessionTable.put((InetSocketAddress) ctx.channel().remoteAddress(), session);
+            ctx.channel().attr(ClientSessionGroupMapping.SESSION_ATTRIBUTE_KEY).set(session);
+            contexts[i] = ctx;
+        }
+    }
+
+    @Benchmark
+    public void addressTableLookup(Blackhole blackhole) {
+        ChannelHandlerContext ctx = nextContext();
+        for (int i = 0; i < LOOKUPS_PER_PACKET; i++) {
+            blackhole.consume(sessionTable.get((InetSocketAddress) ctx.channel().remoteAddress()));
+        }
+    }
+
+    @Benchmark
+    public Session channelAttributeLookup() {
+        return mapping.getSession(nextContext());
+    }
+
+    private ChannelHandlerContext nextContext() {
+        ChannelHandlerContext ctx = contexts[next];
+        next = next + 1 == contexts.length ? 0 : next + 1;
+        return ctx;
+    }
+}
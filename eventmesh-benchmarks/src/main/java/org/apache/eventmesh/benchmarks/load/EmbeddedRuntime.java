@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import org.apache.eventmesh.common.config.ConfigurationWrapper;
+import org.apache.eventmesh.connector.standalone.broker.MessageQueue;
+import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * An {@link EventMeshServer} with all three protocol servers on top of the standalone connector, so a load test
+ * needs neither a broker nor a registry.
+ */
+public final class EmbeddedRuntime implements AutoCloseable {
+
+    private final EventMeshServer server;
+
+    private EmbeddedRuntime(EventMeshServer server) {
+        this.server = server;
+    }
+
+    public static EmbeddedRuntime start(LoadGeneratorConfig config) throws Exception {
+        Path confDir = Files.createTempDirectory("eventmesh-loadgen");
+        confDir.toFile().deleteOnExit();
+        Path confFile = confDir.resolve(EventMeshConstants.EVENTMESH_CONF_FILE);
+        try (OutputStream out = Files.newOutputStream(confFile)) {
+            properties(config).store(out, "generated by the EventMesh load generator");
+        }
+        confFile.toFile().deleteOnExit();
+
+        // the standalone broker keeps messages for an hour and blocks the publishers of a full topic, so every topic has
+        // to hold all the messages of the run
+        System.setProperty(MessageQueue.CAPACITY_PROPERTY, String.valueOf(queueCapacity(config)));
+        EventMeshServer server = new EventMeshServer(
+            new ConfigurationWrapper(confDir.toString(), EventMeshConstants.EVENTMESH_CONF_FILE, false));
+        server.start();
+        return new EmbeddedRuntime(server);
+    }
+
+    private static int queueCapacity(LoadGeneratorConfig config) {
+        long seconds = (long) config.getWarmupSeconds() + config.getDurationSeconds() + config.getDrainSeconds();
+        return (int) Math.min(Integer.MAX_VALUE - 8L, config.getRatePerSecond() * seconds + (2 << 10));
+    }
+
+    private static Properties properties(LoadGeneratorConfig config) {
+        Properties properties = new Properties();
+        properties.setProperty("eventMesh.server.env", "LOADGEN");
+        properties.setProperty("eventMesh.server.idc", "LOADGEN");
+        properties.setProperty("eventMesh.sysid", "0000");
+        properties.setProperty("eventMesh.server.cluster", "LOADGEN");
+        properties.setProperty("eventMesh.server.name", "EVENTMESH-loadgen");
+        properties.setProperty("eventMesh.server.provide.protocols", "HTTP,TCP,GRPC");
+        properties.setProperty("eventMesh.server.tcp.enabled", "true");
+        properties.setProperty("eventMesh.server.tcp.port", String.valueOf(config.getPort(LoadProtocol.TCP)));
+        properties.setProperty("eventMesh.server.http.port", String.valueOf(config.getPort(LoadProtocol.HTTP)));
+        properties.setProperty("eventMesh.server.grpc.port", String.valueOf(config.getPort(LoadProtocol.GRPC)));
+        properties.setProperty("eventMesh.server.admin.http.port", String.valueOf(config.getAdminPort()));
+        // the generator measures the runtime, not its rate limiters
+        properties.setProperty("eventMesh.server.tcp.msgReqnumPerSecond", String.valueOf(Integer.MAX_VALUE));
+        properties.setProperty("eventMesh.server.http.msgReqnumPerSecond", String.valueOf(Integer.MAX_VALUE));
+        // the HTTP subscribers listen on loopback, which the default blacklist rejects as a webhook target
+        properties.setProperty("eventMesh.server.blacklist.ipv4", "0.0.0.0/8");
+        properties.setProperty("eventMesh.server.blacklist.ipv6", "ff00::/8");
+        properties.setProperty("eventMesh.connector.plugin.type", "standalone");
+        properties.setProperty("eventMesh.webHook.producer.connector", "standalone");
+        properties.setProperty("eventMesh.security.plugin.type", "security");
+        properties.setProperty("eventMesh.registry.plugin.type", "nacos");
+        properties.setProperty("eventMesh.registry.plugin.server-addr", "127.0.0.1:8848");
+        return properties;
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.shutdown();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import org.apache.eventmesh.client.grpc.config.EventMeshGrpcClientConfig;
+import org.apache.eventmesh.client.grpc.consumer.EventMeshGrpcConsumer;
+import org.apache.eventmesh.client.grpc.consumer.ReceiveMsgHook;
+import org.apache.eventmesh.client.grpc.producer.EventMeshGrpcProducer;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.grpc.common.StatusCode;
+import org.apache.eventmesh.common.protocol.grpc.protos.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * gRPC clients, subscribers consume over the server stream and publishers block on the unary publish call.
+ */
+public class GrpcLoadDriver implements LoadDriver {
+
+    private final int port;
+
+    private final List<EventMeshGrpcConsumer> subscribers = new ArrayList<>();
+
+    public GrpcLoadDriver(int port) {
+        this.port = port;
+    }
+
+    @Override
+    public void subscribe(int count, ProtocolStats stats) {
+        SubscriptionItem item = new SubscriptionItem(LoadProtocol.GRPC.topic(), SubscriptionMode.CLUSTERING,
+            SubscriptionType.ASYNC);
+        for (int i = 0; i < count; i++) {
+            EventMeshGrpcConsumer consumer = new EventMeshGrpcConsumer(config());
+            subscribers.add(consumer);
+            consumer.init();
+            consumer.registerListener(new ReceiveMsgHook<CloudEvent>() {
+                @Override
+                public Optional<CloudEvent> handle(CloudEvent event) {
+                    stats.onReceived(event);
+                    return Optional.empty();
+                }
+
+                @Override
+                public String getProtocolType() {
+                    return "cloudevents";
+                }
+            });
+            consumer.subscribe(Collections.singletonList(item));
+        }
+    }
+
+    @Override
+    public Publisher publisher(int index) {
+        EventMeshGrpcProducer producer = new EventMeshGrpcProducer(config());
+        return new Publisher() {
+            @Override
+            public void publish(CloudEvent event, long scheduledNanos, ProtocolStats stats) {
+                Response response = producer.publish(event);
+                if (response == null || !StatusCode.SUCCESS.getRetCode().equals(response.getRespCode())) {
+                    stats.onFailed(scheduledNanos);
+                }
+            }
+
+            @Override
+            public void close() {
+                producer.close();
+            }
+        };
+    }
+
+    private EventMeshGrpcClientConfig config() {
+        return EventMeshGrpcClientConfig.builder()
+            .serverAddr("127.0.0.1")
+            .serverPort(port)
+            .producerGroup("loadgen-grpc-pub")
+            .consumerGroup("loadgen-grpc-sub")
+            .env("loadgen")
+            .idc("loadgen")
+            .sys("5023")
+            .build();
+    }
+
+    @Override
+    public void close() {
+        for (EventMeshGrpcConsumer subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import org.apache.eventmesh.client.http.conf.EventMeshHttpClientConfig;
+import org.apache.eventmesh.client.http.consumer.EventMeshHttpConsumer;
+import org.apache.eventmesh.client.http.producer.EventMeshHttpProducer;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventFormat;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.jackson.JsonFormat;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+/**
+ * HTTP clients, the runtime pushes to webhooks served by an in-process netty server, one path per subscriber.
+ */
+public class HttpLoadDriver implements LoadDriver {
+
+    private static final byte[] PUSH_ACK = "{\"retCode\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final int port;
+
+    private final int webhookPort;
+
+    private final List<EventMeshHttpConsumer> subscribers = new ArrayList<>();
+
+    private EventLoopGroup webhookGroup;
+
+    private Channel webhookChannel;
+
+    public HttpLoadDriver(int port, int webhookPort) {
+        this.port = port;
+        this.webhookPort = webhookPort;
+    }
+
+    @Override
+    public void subscribe(int count, ProtocolStats stats) throws Exception {
+        WebhookHandler handler = new WebhookHandler(stats);
+        webhookGroup = new NioEventLoopGroup(Math.max(2, count));
+        webhookChannel = new ServerBootstrap()
+            .group(webhookGroup)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel ch) {
+                    ch.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(1024 * 1024), handler);
+                }
+            })
+            .bind("127.0.0.1", webhookPort).sync().channel();
+
+        List<SubscriptionItem> items = Collections.singletonList(
+            new SubscriptionItem(LoadProtocol.HTTP.topic(), SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC));
+        for (int i = 0; i < count; i++) {
+            String url = "http://127.0.0.1:" + webhookPort + "/loadgen/" + i;
+            EventMeshHttpConsumer consumer = new EventMeshHttpConsumer(config(i));
+            subscribers.add(consumer);
+            consumer.heartBeat(items, url);
+            consumer.subscribe(items, url);
+        }
+    }
+
+    @Override
+    public Publisher publisher(int index) throws Exception {
+        EventMeshHttpProducer producer = new EventMeshHttpProducer(config(index));
+        return new Publisher() {
+            @Override
+            public void publish(CloudEvent event, long scheduledNanos, ProtocolStats stats) {
+                try {
+                    producer.publish(event);
+                } catch (Exception e) {
+                    stats.onFailed(scheduledNanos);
+                }
+            }
+
+            @Override
+            public void close() throws Exception {
+                producer.close();
+            }
+        };
+    }
+
+    private EventMeshHttpClientConfig config(int index) {
+        return EventMeshHttpClientConfig.builder()
+            .liteEventMeshAddr("127.0.0.1:" + port)
+            .producerGroup("loadgen-http-pub")
+            .consumerGroup("loadgen-http-sub")
+            .env("loadgen")
+            .idc("loadgen")
+            .ip("127.0.0.1")
+            .sys("5023")
+            .pid(String.valueOf(index + 1))
+            .userName("loadgen")
+            .password("loadgen")
+            .build();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (EventMeshHttpConsumer subscriber : subscribers) {
+            subscriber.close();
+        }
+        if (webhookChannel != null) {
+            webhookChannel.close().sync();
+            webhookGroup.shutdownGracefully();
+        }
+    }
+
+    /**
+     * Answers the pushes of the runtime like a subscriber that consumed the event.
+     */
+    @ChannelHandler.Sharable
+    private static class WebhookHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        private final EventFormat eventFormat = EventFormatProvider.getInstance().resolveFormat(JsonFormat.CONTENT_TYPE);
+
+        private final ProtocolStats stats;
+
+        WebhookHandler(ProtocolStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            // the runtime asks for the delivery agreement with an OPTIONS request before the first push
+            if (HttpMethod.POST.equals(request.method())) {
+                QueryStringDecoder form = new QueryStringDecoder(request.content().toString(StandardCharsets.UTF_8), false);
+                List<String> content = form.parameters().get("content");
+                if (content != null && !content.isEmpty()) {
+                    stats.onReceived(eventFormat.deserialize(content.get(0).getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            FullHttpResponse response = new DefaultFullHttpResponse(request.protocolVersion(), HttpResponseStatus.OK,
+                Unpooled.wrappedBuffer(PUSH_ACK));
+            response.headers()
+                .set("WebHook-Allowed-Origin", "*")
+                .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                .setInt(HttpHeaderNames.CONTENT_LENGTH, PUSH_ACK.length);
+            HttpUtil.setKeepAlive(response, HttpUtil.isKeepAlive(request));
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Creates the SDK clients of one protocol. Closing the driver closes its subscribers.
+ */
+public interface LoadDriver extends AutoCloseable {
+
+    /**
+     * Connects the subscribers, all in one consumer group, every received event is passed to
+     * {@link ProtocolStats#onReceived(CloudEvent)}.
+     */
+    void subscribe(int subscribers, ProtocolStats stats) throws Exception;
+
+    Publisher publisher(int index) throws Exception;
+
+    /**
+     * One publishing client, only used by a single thread.
+     */
+    interface Publisher extends AutoCloseable {
+
+        /**
+         * Publishes the event and reports a failure to {@link ProtocolStats#onFailed(long)}, possibly after returning.
+         */
+        void publish(CloudEvent event, long scheduledNanos, ProtocolStats stats);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+/**
+ * Events of the load generator. Publishers and subscribers share one JVM, so the data starts with the
+ * {@link System#nanoTime()} the event was scheduled at and the receiver computes the end-to-end latency from it.
+ *
+ * <p>Stamping the scheduled instead of the actual send time keeps a stalled publisher from hiding the stall
+ * (coordinated omission): the events it could not send on time report the delay.
+ */
+public final class LoadEvents {
+
+    private static final String CONTENT_TYPE = "application/cloudevents+json";
+
+    private static final String PROTOCOL_TYPE = "cloudevents";
+
+    private LoadEvents() {
+    }
+
+    public static CloudEvent create(LoadProtocol protocol, long scheduledNanos, int payloadBytes) {
+        byte[] stamp = Long.toString(scheduledNanos).getBytes(StandardCharsets.US_ASCII);
+        byte[] data = Arrays.copyOf(stamp, Math.max(stamp.length + 1, payloadBytes));
+        Arrays.fill(data, stamp.length, data.length, (byte) ' ');
+        return CloudEventBuilder.v1()
+            .withId(UUID.randomUUID().toString())
+            .withSubject(protocol.topic())
+            .withSource(URI.create("/"))
+            .withDataContentType(CONTENT_TYPE)
+            .withType(PROTOCOL_TYPE)
+            .withData(data)
+            .withExtension("ttl", "4000")
+            .build();
+    }
+
+    /**
+     * @return the nano time the event was scheduled at, {@link Long#MIN_VALUE} for an event of somebody else
+     */
+    public static long scheduledNanos(CloudEvent event) {
+        CloudEventData data = event.getData();
+        if (data == null) {
+            return Long.MIN_VALUE;
+        }
+        byte[] bytes = data.toBytes();
+        long nanos = 0;
+        int i = 0;
+        boolean negative = bytes.length > 0 && bytes[0] == '-';
+        if (negative) {
+            i++;
+        }
+        int digits = 0;
+        for (; i < bytes.length && bytes[i] >= '0' && bytes[i] <= '9'; i++, digits++) {
+            nanos = nanos * 10 + (bytes[i] - '0');
+        }
+        if (digits == 0) {
+            return Long.MIN_VALUE;
+        }
+        return negative ? -nanos : nanos;
+    }
+}
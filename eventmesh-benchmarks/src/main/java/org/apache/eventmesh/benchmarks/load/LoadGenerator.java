@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * End-to-end load test on one box: boots an {@link EmbeddedRuntime}, connects TCP, HTTP and gRPC subscribers, paces
+ * the publishers at the target rate and reports throughput and latency percentiles per protocol.
+ *
+ * <pre>
+ * ./gradlew :eventmesh-benchmarks:loadgen -Ploadgen.rate=5000 -Ploadgen.tcp.publishers=4 -Ploadgen.http.publishers=0
+ * </pre>
+ *
+ * <p>See {@link LoadGeneratorConfig} for all settings.
+ */
+public final class LoadGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final long SUBSCRIBE_SETTLE_MILLIS = 2_000;
+
+    private static final long DRAIN_POLL_MILLIS = 100;
+
+    private final LoadGeneratorConfig config;
+
+    private final Map<LoadProtocol, ProtocolStats> stats = new EnumMap<>(LoadProtocol.class);
+
+    private final List<LoadDriver> drivers = new ArrayList<>();
+
+    private final List<PacedPublisher> publishers = new ArrayList<>();
+
+    private volatile boolean running = true;
+
+    public LoadGenerator(LoadGeneratorConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) {
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromSystemProperties();
+        System.out.printf("EventMesh load generator: %s%n", config);
+        int status = 0;
+        try (EmbeddedRuntime ignored = EmbeddedRuntime.start(config)) {
+            new LoadGenerator(config).run(System.out);
+        } catch (Exception e) {
+            LOGGER.error("load test failed", e);
+            status = 1;
+        }
+        // the SDK clients leave non daemon threads behind
+        System.exit(status);
+    }
+
+    public void run(PrintStream out) throws Exception {
+        try {
+            connect();
+            for (PacedPublisher publisher : publishers) {
+                publisher.start();
+            }
+            TimeUnit.SECONDS.sleep(config.getWarmupSeconds());
+
+            long measureFrom = System.nanoTime();
+            stats.values().forEach(protocolStats -> protocolStats.startMeasuring(measureFrom));
+            TimeUnit.SECONDS.sleep(config.getDurationSeconds());
+            running = false;
+            for (PacedPublisher publisher : publishers) {
+                publisher.join();
+            }
+            long measured = System.nanoTime() - measureFrom;
+
+            awaitDrain();
+            report(out, measured);
+        } finally {
+            running = false;
+            close();
+        }
+    }
+
+    private void connect() throws Exception {
+        for (LoadProtocol protocol : LoadProtocol.values()) {
+            if (!config.isEnabled(protocol)) {
+                continue;
+            }
+            ProtocolStats protocolStats = new ProtocolStats(protocol);
+            stats.put(protocol, protocolStats);
+            LoadDriver driver = driver(protocol);
+            drivers.add(driver);
+            driver.subscribe(config.getSubscribers(protocol), protocolStats);
+
+            int count = config.getPublishers(protocol);
+            long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) * (double) count / config.getRatePerSecond());
+            for (int i = 0; i < count; i++) {
+                LoadDriver.Publisher publisher = driver.publisher(i);
+                // the first publish of a client opens its connection, keep it out of the schedule
+                long primedAt = System.nanoTime();
+                publisher.publish(LoadEvents.create(protocol, primedAt, config.getPayloadBytes()), primedAt,
+                    protocolStats);
+                publishers.add(new PacedPublisher(protocol + "-publisher-" + i, publisher, intervalNanos,
+                    protocolStats));
+            }
+        }
+        // the gRPC subscription stream and the HTTP webhook registration complete asynchronously
+        TimeUnit.MILLISECONDS.sleep(SUBSCRIBE_SETTLE_MILLIS);
+    }
+
+    private LoadDriver driver(LoadProtocol protocol) {
+        switch (protocol) {
+            case TCP:
+                return new TcpLoadDriver(config.getPort(protocol));
+            case HTTP:
+                return new HttpLoadDriver(config.getPort(protocol), config.getWebhookPort());
+            case GRPC:
+                return new GrpcLoadDriver(config.getPort(protocol));
+            default:
+                throw new IllegalArgumentException("unsupported protocol " + protocol);
+        }
+    }
+
+    private void awaitDrain() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getDrainSeconds());
+        while (System.nanoTime() < deadline) {
+            boolean drained = stats.values().stream()
+                .allMatch(s -> s.getReceived() >= s.getSent() - s.getFailed());
+            if (drained) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(DRAIN_POLL_MILLIS);
+        }
+    }
+
+    private void report(PrintStream out, long measuredNanos) {
+        double seconds = measuredNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("%nmeasured %.1fs, target %d msg/s per protocol, latency in microseconds%n", seconds,
+            config.getRatePerSecond());
+        out.printf("%-6s %10s %8s %10s %8s %10s %10s %9s %9s %9s %9s %9s%n", "proto", "sent", "failed", "received",
+            "lost", "sent/s", "recv/s", "p50", "p90", "p99", "p99.9", "max");
+        for (ProtocolStats s : stats.values()) {
+            LatencyHistogram latency = s.getLatency();
+            out.printf("%-6s %10d %8d %10d %8d %10.0f %10.0f %9d %9d %9d %9d %9d%n", s.getProtocol(), s.getSent(),
+                s.getFailed(), s.getReceived(), Math.max(0, s.getSent() - s.getFailed() - s.getReceived()),
+                s.getSent() / seconds, s.getReceived() / seconds, latency.percentile(50), latency.percentile(90),
+                latency.percentile(99), latency.percentile(99.9), latency.max());
+        }
+    }
+
+    private void close() {
+        for (PacedPublisher publisher : publishers) {
+            closeQuietly(publisher.publisher);
+        }
+        for (LoadDriver driver : drivers) {
+            closeQuietly(driver);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            LOGGER.warn("close failed", e);
+        }
+    }
+
+    /**
+     * Publishes on a fixed schedule. A publisher that falls behind catches up without skipping, and since events
+     * carry their scheduled time the backlog shows up as latency.
+     */
+    private final class PacedPublisher extends Thread {
+
+        private final LoadDriver.Publisher publisher;
+
+        private final long intervalNanos;
+
+        private final ProtocolStats protocolStats;
+
+        PacedPublisher(String name, LoadDriver.Publisher publisher, long intervalNanos, ProtocolStats protocolStats) {
+            super(name);
+            this.publisher = publisher;
+            this.intervalNanos = intervalNanos;
+            this.protocolStats = protocolStats;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            LoadProtocol protocol = protocolStats.getProtocol();
+            long next = System.nanoTime();
+            while (running) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                    continue;
+                }
+                publisher.publish(LoadEvents.create(protocol, next, config.getPayloadBytes()), next, protocolStats);
+                protocolStats.onSent(next);
+                next += intervalNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a {@link LoadGenerator} run, read from {@code -Dloadgen.*} system properties.
+ *
+ * <ul>
+ *     <li>{@code loadgen.rate}: target messages per second of every protocol, spread over its publishers</li>
+ *     <li>{@code loadgen.duration}, {@code loadgen.warmup}, {@code loadgen.drain}: phases in seconds</li>
+ *     <li>{@code loadgen.payload}: size of the event data in bytes</li>
+ *     <li>{@code loadgen.<tcp|http|grpc>.publishers}, {@code loadgen.<tcp|http|grpc>.subscribers}: client counts,
+ *     a protocol without publishers is not driven</li>
+ *     <li>{@code loadgen.<tcp|http|grpc|admin>.port}: ports of the embedded runtime</li>
+ *     <li>{@code loadgen.webhook.port}: port the HTTP subscribers listen on</li>
+ * </ul>
+ */
+public final class LoadGeneratorConfig {
+
+    private static final String PREFIX = "loadgen.";
+
+    private final int ratePerSecond;
+
+    private final int durationSeconds;
+
+    private final int warmupSeconds;
+
+    private final int drainSeconds;
+
+    private final int payloadBytes;
+
+    private final Map<LoadProtocol, Integer> publishers = new EnumMap<>(LoadProtocol.class);
+
+    private final Map<LoadProtocol, Integer> subscribers = new EnumMap<>(LoadProtocol.class);
+
+    private final Map<LoadProtocol, Integer> ports = new EnumMap<>(LoadProtocol.class);
+
+    private final int adminPort;
+
+    private final int webhookPort;
+
+    private LoadGeneratorConfig() {
+        ratePerSecond = intProperty("rate", 1000);
+        durationSeconds = intProperty("duration", 30);
+        warmupSeconds = intProperty("warmup", 5);
+        drainSeconds = intProperty("drain", 10);
+        payloadBytes = intProperty("payload", 256);
+        for (LoadProtocol protocol : LoadProtocol.values()) {
+            publishers.put(protocol, intProperty(protocol.key() + ".publishers", 1));
+            subscribers.put(protocol, intProperty(protocol.key() + ".subscribers", 1));
+        }
+        ports.put(LoadProtocol.TCP, intProperty("tcp.port", 10000));
+        ports.put(LoadProtocol.HTTP, intProperty("http.port", 10105));
+        ports.put(LoadProtocol.GRPC, intProperty("grpc.port", 10205));
+        adminPort = intProperty("admin.port", 10106);
+        webhookPort = intProperty("webhook.port", 18088);
+    }
+
+    public static LoadGeneratorConfig fromSystemProperties() {
+        return new LoadGeneratorConfig();
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.getInteger(PREFIX + key, defaultValue);
+    }
+
+    public boolean isEnabled(LoadProtocol protocol) {
+        return publishers.get(protocol) > 0;
+    }
+
+    public int getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDrainSeconds() {
+        return drainSeconds;
+    }
+
+    public int getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    public int getPublishers(LoadProtocol protocol) {
+        return publishers.get(protocol);
+    }
+
+    public int getSubscribers(LoadProtocol protocol) {
+        return subscribers.get(protocol);
+    }
+
+    public int getPort(LoadProtocol protocol) {
+        return ports.get(protocol);
+    }
+
+    public int getAdminPort() {
+        return adminPort;
+    }
+
+    public int getWebhookPort() {
+        return webhookPort;
+    }
+
+    @Override
+    public String toString() {
+        return "rate=" + ratePerSecond + "/s per protocol, duration=" + durationSeconds + "s, warmup=" + warmupSeconds
+            + "s, payload=" + payloadBytes + "B, publishers=" + publishers + ", subscribers=" + subscribers;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Counters and end-to-end latency of one protocol. Only events scheduled after the warm-up are counted.
+ */
+public class ProtocolStats {
+
+    private final LoadProtocol protocol;
+
+    private final LongAdder sent = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder received = new LongAdder();
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private volatile long measureFromNanos = Long.MAX_VALUE;
+
+    public ProtocolStats(LoadProtocol protocol) {
+        this.protocol = protocol;
+    }
+
+    public LoadProtocol getProtocol() {
+        return protocol;
+    }
+
+    public void startMeasuring(long nanos) {
+        measureFromNanos = nanos;
+    }
+
+    public void onSent(long scheduledNanos) {
+        if (scheduledNanos >= measureFromNanos) {
+            sent.increment();
+        }
+    }
+
+    public void onFailed(long scheduledNanos) {
+        if (scheduledNanos >= measureFromNanos) {
+            failed.increment();
+        }
+    }
+
+    public void onReceived(CloudEvent event) {
+        long scheduledNanos = LoadEvents.scheduledNanos(event);
+        if (scheduledNanos >= measureFromNanos) {
+            received.increment();
+            latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos));
+        }
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+}
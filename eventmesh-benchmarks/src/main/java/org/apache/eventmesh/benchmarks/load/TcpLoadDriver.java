@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import org.apache.eventmesh.client.tcp.EventMeshTCPClientFactory;
+import org.apache.eventmesh.client.tcp.EventMeshTCPPubClient;
+import org.apache.eventmesh.client.tcp.EventMeshTCPSubClient;
+import org.apache.eventmesh.client.tcp.conf.EventMeshTCPClientConfig;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
+import org.apache.eventmesh.common.protocol.tcp.OPStatus;
+import org.apache.eventmesh.common.protocol.tcp.UserAgent;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * TCP clients, publishers send asynchronously and count a message as failed when its ack is not a success.
+ */
+public class TcpLoadDriver implements LoadDriver {
+
+    private static final long ACK_TIMEOUT_MILLIS = 10_000;
+
+    private final int port;
+
+    private final List<EventMeshTCPSubClient<CloudEvent>> subscribers = new ArrayList<>();
+
+    public TcpLoadDriver(int port) {
+        this.port = port;
+    }
+
+    @Override
+    public void subscribe(int count, ProtocolStats stats) throws Exception {
+        for (int i = 0; i < count; i++) {
+            EventMeshTCPSubClient<CloudEvent> client = EventMeshTCPClientFactory.createEventMeshTCPClient(
+                config(EventMeshConstants.PURPOSE_SUB, i), CloudEvent.class).getSubClient();
+            subscribers.add(client);
+            client.init();
+            client.subscribe(LoadProtocol.TCP.topic(), SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC);
+            client.registerBusiHandler(event -> {
+                stats.onReceived(event);
+                return Optional.empty();
+            });
+            client.listen();
+        }
+    }
+
+    @Override
+    public Publisher publisher(int index) throws Exception {
+        EventMeshTCPPubClient<CloudEvent> client = EventMeshTCPClientFactory.createEventMeshTCPClient(
+            config(EventMeshConstants.PURPOSE_PUB, index), CloudEvent.class).getPubClient();
+        client.init();
+        return new Publisher() {
+            @Override
+            public void publish(CloudEvent event, long scheduledNanos, ProtocolStats stats) {
+                try {
+                    client.publishAsync(event, ACK_TIMEOUT_MILLIS).whenComplete((ack, e) -> {
+                        if (e != null || ack.getHeader().getCode() != OPStatus.SUCCESS.getCode()) {
+                            stats.onFailed(scheduledNanos);
+                        }
+                    });
+                } catch (Exception e) {
+                    stats.onFailed(scheduledNanos);
+                }
+            }
+
+            @Override
+            public void close() throws Exception {
+                client.close();
+            }
+        };
+    }
+
+    private EventMeshTCPClientConfig config(String purpose, int index) {
+        UserAgent userAgent = UserAgent.builder()
+            .env("loadgen")
+            .subsystem("5023")
+            .path("/loadgen")
+            .host("127.0.0.1")
+            .pid(index)
+            .version("2.0")
+            .idc("loadgen")
+            .group("loadgen-tcp-" + purpose)
+            .purpose(purpose)
+            .build();
+        return EventMeshTCPClientConfig.builder()
+            .host("127.0.0.1")
+            .port(port)
+            .userAgent(userAgent)
+            .build();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (EventMeshTCPSubClient<CloudEvent> subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+}
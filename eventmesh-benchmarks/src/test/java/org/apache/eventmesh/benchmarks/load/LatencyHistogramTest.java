@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.benchmarks.load;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(100, histogram.count());
+        Assert.assertEquals(50, histogram.percentile(50));
+        Assert.assertEquals(99, histogram.percentile(99));
+        Assert.assertEquals(100, histogram.percentile(100));
+        Assert.assertEquals(50.5, histogram.mean(), 0.001);
+    }
+
+    @Test
+    public void testLargeValuesWithinOnePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1_000_000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(500_000, histogram.percentile(50), 5_000);
+        Assert.assertEquals(999_000, histogram.percentile(99.9), 9_990);
+        Assert.assertEquals(1_000_000, histogram.max());
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (long value = 0; value < 1 << 20; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(value <= LatencyHistogram.bucketUpperBound(index));
+            Assert.assertTrue(index == 0 || value > LatencyHistogram.bucketUpperBound(index - 1));
+        }
+        Assert.assertEquals(Long.MAX_VALUE,
+            LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.percentile(99));
+        Assert.assertEquals(0, histogram.mean(), 0);
+    }
+}
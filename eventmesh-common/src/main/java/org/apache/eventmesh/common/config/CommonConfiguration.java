@@ -60,6 +60,18 @@ public class CommonConfiguration {
     
     private transient boolean eventMeshServerTraceEnable = false;
 
+    private transient double eventMeshTraceSampleRatio = 1.0;
+
+    private transient String eventMeshTraceSampleRules = "";
+
+    private transient int eventMeshTopicCacheTtlInMills = 30 * 1000;
+
+    private transient int eventMeshTopicCacheNegativeTtlInMills = 5 * 1000;
+
+    private transient int eventMeshServerDrainTimeoutInMills = 40 * 1000;
+
+    private transient int eventMeshMessageLogMaxPerSecondPerTopic = 0;
+
     protected transient ConfigurationWrapper configurationWrapper;
 
     private transient String eventMeshWebhookOrigin = "eventmesh." + eventMeshIDC;
@@ -120,7 +132,26 @@ public class CommonConfiguration {
             eventMeshServerTraceEnable = Boolean.parseBoolean(get(ConfKeys.KEYS_EVENTMESH_TRACE_ENABLED, () -> "false"));
             if (eventMeshServerTraceEnable) {
                 eventMeshTracePluginType = checkNotEmpty(ConfKeys.KEYS_EVENTMESH_TRACE_PLUGIN_TYPE);
+
+                eventMeshTraceSampleRatio = Double.parseDouble(get(ConfKeys.KEYS_EVENTMESH_TRACE_SAMPLE_RATIO,
+                        () -> String.valueOf(eventMeshTraceSampleRatio)));
+                Preconditions.checkState(eventMeshTraceSampleRatio >= 0 && eventMeshTraceSampleRatio <= 1,
+                        ConfKeys.KEYS_EVENTMESH_TRACE_SAMPLE_RATIO + " is invalidated");
+
+                eventMeshTraceSampleRules = get(ConfKeys.KEYS_EVENTMESH_TRACE_SAMPLE_RULES, () -> "");
             }
+
+            eventMeshTopicCacheTtlInMills = configurationWrapper.getIntProp(ConfKeys.KEYS_EVENTMESH_TOPIC_CACHE_TTL,
+                    eventMeshTopicCacheTtlInMills);
+
+            eventMeshTopicCacheNegativeTtlInMills = configurationWrapper.getIntProp(
+                    ConfKeys.KEYS_EVENTMESH_TOPIC_CACHE_NEGATIVE_TTL, eventMeshTopicCacheNegativeTtlInMills);
+
+            eventMeshServerDrainTimeoutInMills = configurationWrapper.getIntProp(
+                    ConfKeys.KEYS_EVENTMESH_SERVER_DRAIN_TIMEOUT, eventMeshServerDrainTimeoutInMills);
+
+            eventMeshMessageLogMaxPerSecondPerTopic = configurationWrapper.getIntProp(
+                    ConfKeys.KEYS_EVENTMESH_MESSAGE_LOG_MAX_PER_SECOND_PER_TOPIC, eventMeshMessageLogMaxPerSecondPerTopic);
         }
     }
 
@@ -199,5 +230,17 @@ public class CommonConfiguration {
         public static final String KEYS_EVENTMESH_TRACE_ENABLED = "eventMesh.server.trace.enabled";
 
         public static final String KEYS_EVENTMESH_TRACE_PLUGIN_TYPE = "eventMesh.trace.plugin";
+
+        public static final String KEYS_EVENTMESH_TRACE_SAMPLE_RATIO = "eventMesh.server.trace.sample.ratio";
+
+        public static final String KEYS_EVENTMESH_TRACE_SAMPLE_RULES = "eventMesh.server.trace.sample.rules";
+
+        public static final String KEYS_EVENTMESH_TOPIC_CACHE_TTL = "eventMesh.connector.topicCache.ttlInMills";
+
+        public static final String KEYS_EVENTMESH_TOPIC_CACHE_NEGATIVE_TTL = "eventMesh.connector.topicCache.negativeTtlInMills";
+
+        public static final String KEYS_EVENTMESH_SERVER_DRAIN_TIMEOUT = "eventMesh.server.gracefulShutdown.drainTimeoutInMills";
+
+        public static final String KEYS_EVENTMESH_MESSAGE_LOG_MAX_PER_SECOND_PER_TOPIC = "eventMesh.server.messageLog.maxPerSecondPerTopic";
     }
 }
\ No newline at end of file
@@ -34,6 +34,12 @@ public class SubscriptionItem implements Serializable {
     @JsonDeserialize(converter = SubscriptionTypeConverter.class)
     private SubscriptionType type;
 
+    /**
+     * name of the CloudEvent attribute (such as partitionkey) whose value is the ordering key of the event,
+     * events with the same key are delivered to the same consumer one by one. null means no ordering.
+     */
+    private String orderingKey;
+
     public SubscriptionItem() {
     }
 
@@ -67,12 +73,21 @@ public class SubscriptionItem implements Serializable {
         this.mode = mode;
     }
 
+    public String getOrderingKey() {
+        return orderingKey;
+    }
+
+    public void setOrderingKey(String orderingKey) {
+        this.orderingKey = orderingKey;
+    }
+
     @Override
     public String toString() {
         return "SubscriptionItem{"
                 + "topic=" + topic
                 + ", mode=" + mode
                 + ", type=" + type
+                + ", orderingKey=" + orderingKey
                 + '}';
     }
 
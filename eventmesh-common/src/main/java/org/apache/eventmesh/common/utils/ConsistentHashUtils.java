@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Consistent hashing based on rendezvous (highest random weight) hashing.
+ * A key is always mapped to the same node as long as that node is alive, and when a node leaves
+ * only the keys mapped to it are moved, so no hash ring has to be rebuilt on membership changes.
+ */
+public class ConsistentHashUtils {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+    /**
+     * select the node of the key among the nodes accepted by the filter
+     *
+     * @param key    hash key, such as the partition key of a message
+     * @param nodes  candidate nodes
+     * @param nodeId stable identity of a node
+     * @param filter nodes which can not be selected now are skipped
+     * @return the selected node, or null if no node is accepted
+     */
+    public static <T> T select(String key, List<T> nodes, Function<T, String> nodeId, Predicate<T> filter) {
+        if (key == null || nodes == null) {
+            return null;
+        }
+
+        T selected = null;
+        long maxWeight = Long.MIN_VALUE;
+        for (T node : nodes) {
+            if (!filter.test(node)) {
+                continue;
+            }
+            long weight = weight(key, nodeId.apply(node));
+            if (selected == null || weight > maxWeight) {
+                selected = node;
+                maxWeight = weight;
+            }
+        }
+        return selected;
+    }
+
+    public static <T> T select(String key, List<T> nodes, Function<T, String> nodeId) {
+        return select(key, nodes, nodeId, node -> true);
+    }
+
+    private static long weight(String key, String nodeId) {
+        return HASH_FUNCTION.newHasher()
+            .putString(nodeId, StandardCharsets.UTF_8)
+            .putChar('#')
+            .putString(key, StandardCharsets.UTF_8)
+            .hash()
+            .asLong();
+    }
+}
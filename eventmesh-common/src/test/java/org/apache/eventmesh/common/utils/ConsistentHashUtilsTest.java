@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.common.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConsistentHashUtilsTest {
+
+    @Test
+    public void testSelectIsStable() {
+        List<String> nodes = nodes(5);
+        for (int i = 0; i < 100; i++) {
+            String key = "key-" + i;
+            Assert.assertEquals(ConsistentHashUtils.select(key, nodes, Function.identity()),
+                ConsistentHashUtils.select(key, new ArrayList<>(nodes), Function.identity()));
+        }
+    }
+
+    @Test
+    public void testOnlyKeysOfRemovedNodeAreMoved() {
+        List<String> nodes = nodes(5);
+        List<String> remainNodes = new ArrayList<>(nodes);
+        remainNodes.remove("node-2");
+        for (int i = 0; i < 1000; i++) {
+            String key = "key-" + i;
+            String before = ConsistentHashUtils.select(key, nodes, Function.identity());
+            String after = ConsistentHashUtils.select(key, remainNodes, Function.identity());
+            if (!"node-2".equals(before)) {
+                Assert.assertEquals(before, after);
+            }
+            Assert.assertEquals(after, ConsistentHashUtils.select(key, nodes, Function.identity(),
+                node -> !"node-2".equals(node)));
+        }
+    }
+
+    @Test
+    public void testSelectWithoutNodes() {
+        Assert.assertNull(ConsistentHashUtils.select("key", new ArrayList<String>(), Function.identity()));
+        Assert.assertNull(ConsistentHashUtils.select(null, nodes(3), Function.identity()));
+        Assert.assertNull(ConsistentHashUtils.select("key", nodes(3), Function.identity(), node -> false));
+    }
+
+    private List<String> nodes(int size) {
+        List<String> nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            nodes.add("node-" + i);
+        }
+        return nodes;
+    }
+}
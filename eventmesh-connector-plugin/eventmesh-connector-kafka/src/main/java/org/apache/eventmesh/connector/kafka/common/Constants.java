@@ -20,4 +20,10 @@ package org.apache.eventmesh.connector.kafka.common;
 public class Constants {
 
     public static final String BROADCAST_PREFIX = "broadcast-";
+
+    public static final String CONSUME_THREADS = "eventMesh.server.kafka.consumeThreads";
+
+    public static final String MAX_INFLIGHT_PER_PARTITION = "eventMesh.server.kafka.maxInflightPerPartition";
+
+    public static final String COMMIT_INTERVAL_IN_MILLS = "eventMesh.server.kafka.commitIntervalInMills";
 }
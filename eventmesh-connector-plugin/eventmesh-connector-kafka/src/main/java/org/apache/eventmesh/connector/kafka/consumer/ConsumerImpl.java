@@ -20,13 +20,13 @@ package org.apache.eventmesh.connector.kafka.consumer;
 import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.connector.kafka.common.Constants;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -43,7 +43,7 @@ import io.cloudevents.kafka.CloudEventDeserializer;
 
 public class ConsumerImpl {
     public static final Logger logger = LoggerFactory.getLogger(ConsumerImpl.class);
-    private final KafkaConsumer<String, CloudEvent> kafkaConsumer;
+    private final Consumer<String, CloudEvent> kafkaConsumer;
     private final Properties properties;
     private AtomicBoolean started = new AtomicBoolean(false);
     private EventListener eventListener;
@@ -63,8 +63,21 @@ public class ConsumerImpl {
 
         this.properties = props;
         this.kafkaConsumer = new KafkaConsumer<String, CloudEvent>(props);
-        kafkaConsumerRunner = new KafkaConsumerRunner(this.kafkaConsumer);
-        executorService = Executors.newFixedThreadPool(10);
+        kafkaConsumerRunner = new KafkaConsumerRunner(this.kafkaConsumer,
+            Integer.parseInt(properties.getProperty(Constants.CONSUME_THREADS,
+                String.valueOf(Runtime.getRuntime().availableProcessors()))),
+            Integer.parseInt(properties.getProperty(Constants.MAX_INFLIGHT_PER_PARTITION, "1000")),
+            Long.parseLong(properties.getProperty(Constants.COMMIT_INTERVAL_IN_MILLS, "1000")),
+            1000L);
+        executorService = Executors.newSingleThreadExecutor();
+        topicsSet = new HashSet<>();
+    }
+
+    ConsumerImpl(Consumer<String, CloudEvent> kafkaConsumer, KafkaConsumerRunner kafkaConsumerRunner) {
+        this.properties = new Properties();
+        this.kafkaConsumer = kafkaConsumer;
+        this.kafkaConsumerRunner = kafkaConsumerRunner;
+        executorService = Executors.newSingleThreadExecutor();
         topicsSet = new HashSet<>();
     }
 
@@ -81,7 +94,9 @@ public class ConsumerImpl {
 
     public synchronized void shutdown() {
         if (this.started.compareAndSet(true, false)) {
-            this.kafkaConsumer.close();
+            // the runner commits the acked offsets and closes the consumer on its own thread
+            this.kafkaConsumerRunner.shutdown();
+            this.executorService.shutdown();
         }
     }
 
@@ -95,16 +110,14 @@ public class ConsumerImpl {
         return !this.isStarted();
     }
 
-    public KafkaConsumer<String, CloudEvent> getKafkaConsumer() {
+    public Consumer<String, CloudEvent> getKafkaConsumer() {
         return kafkaConsumer;
     }
 
     public synchronized void subscribe(String topic) {
         try {
-            // Get the current subscription
             topicsSet.add(topic);
-            List<String> topics = new ArrayList<>(topicsSet);
-            this.kafkaConsumer.subscribe(topics);
+            this.kafkaConsumerRunner.updateSubscription(topicsSet);
         } catch (Exception e) {
             logger.error("Error while subscribing the Kafka consumer to topic: ", e);
             throw new ConnectorRuntimeException(
@@ -114,24 +127,19 @@ public class ConsumerImpl {
 
     public synchronized void unsubscribe(String topic) {
         try {
-            // Kafka will unsubscribe *all* topic if calling unsubscribe, so we
-            this.kafkaConsumer.unsubscribe();
             topicsSet.remove(topic);
-            List<String> topics = new ArrayList<>(topicsSet);
-            this.kafkaConsumer.subscribe(topics);
+            this.kafkaConsumerRunner.updateSubscription(topicsSet);
         } catch (Exception e) {
             logger.error("Error while unsubscribing the Kafka consumer: ", e);
             throw new ConnectorRuntimeException(String.format("kafka push consumer fails to unsubscribe topic: %s", topic));
         }
     }
 
+    /**
+     * acks the events, their offsets are committed with the next batch once all earlier offsets are acked
+     */
     public void updateOffset(List<CloudEvent> cloudEvents, AbstractContext context) {
-        Long maxOffset = cloudEvents.stream().map(cloudEvent -> this.kafkaConsumerRunner.getOffset(cloudEvent)).max(Long::compare).get();
-        cloudEvents.forEach(cloudEvent -> this.updateOffset(cloudEvent.getSubject(), maxOffset));
-    }
-
-    public void updateOffset(String topicName, long offset) {
-        this.kafkaConsumer.seek(new TopicPartition(topicName, 1), offset);
+        this.kafkaConsumerRunner.ack(cloudEvents, context);
     }
 
     public void registerEventListener(EventListener listener) {
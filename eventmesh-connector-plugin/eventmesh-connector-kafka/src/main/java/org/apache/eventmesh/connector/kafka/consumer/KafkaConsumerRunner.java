@@ -17,92 +17,147 @@
 
 package org.apache.eventmesh.connector.kafka.consumer;
 
+import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.EventMeshAction;
 import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.common.ThreadPoolFactory;
 
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 
+/**
+ * Polls the kafka consumer and hands the records to the listener.
+ * <ul>
+ *     <li>records of one partition are consumed in order on one lane, different partitions run in parallel</li>
+ *     <li>a partition with too many unacked records is paused, so a slow partition never blocks the poll loop</li>
+ *     <li>acks only move the per-partition watermark, which is committed in batches with commitAsync</li>
+ *     <li>a record to reconsume later, or one the listener failed on, is redelivered to its lane after an exponential
+ *     backoff</li>
+ * </ul>
+ * The kafka consumer is not thread safe, so every call on it is made from the poll thread.
+ */
 public class KafkaConsumerRunner implements Runnable {
+    private static final long RECONSUME_DELAY_IN_MILLS = 1000L;
+    private static final long RECONSUME_MAX_DELAY_IN_MILLS = 60000L;
     private final Logger logger = LoggerFactory.getLogger(KafkaConsumerRunner.class);
     private final AtomicBoolean closed = new AtomicBoolean(false);
-    private final KafkaConsumer<String, CloudEvent> consumer;
-    private ConcurrentHashMap<CloudEvent, Long> cloudEventToOffset;
+    private final Consumer<String, CloudEvent> consumer;
+    private final Map<TopicPartition, PartitionOffsetTracker> offsetTrackers = new ConcurrentHashMap<>();
+    /**
+     * records handed to the listener, the position is the consume context of the record, the runtime passes it back
+     * when it acks a ManualAck record through updateOffset
+     */
+    private final Set<RecordPosition> inflightRecords = ConcurrentHashMap.newKeySet();
+    private final Set<TopicPartition> pausedPartitions = new HashSet<>();
+    private final ExecutorService[] consumeLanes;
+    private final ScheduledExecutorService reconsumeScheduler =
+        ThreadPoolFactory.createSingleScheduledExecutor("kafka-reconsume-");
+    private final int maxInflightPerPartition;
+    private final long commitIntervalInMills;
+    private final Duration pollTimeout;
+    private volatile Set<String> topics = new HashSet<>();
+    private final AtomicBoolean subscriptionChanged = new AtomicBoolean(false);
+    private long lastCommitTime = System.currentTimeMillis();
     private EventListener listener;
-    private AtomicInteger offset;
 
-    public KafkaConsumerRunner(KafkaConsumer<String, CloudEvent> kafkaConsumer) {
+    public KafkaConsumerRunner(Consumer<String, CloudEvent> kafkaConsumer) {
+        this(kafkaConsumer, Runtime.getRuntime().availableProcessors(), 1000, 1000L, 1000L);
+    }
+
+    public KafkaConsumerRunner(Consumer<String, CloudEvent> kafkaConsumer, int consumeThreads, int maxInflightPerPartition,
+                               long commitIntervalInMills, long pollTimeoutInMills) {
         this.consumer = kafkaConsumer;
-        cloudEventToOffset = new ConcurrentHashMap<>();
+        this.maxInflightPerPartition = maxInflightPerPartition;
+        this.commitIntervalInMills = commitIntervalInMills;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutInMills);
+        this.consumeLanes = new ExecutorService[consumeThreads];
+        for (int i = 0; i < consumeThreads; i++) {
+            consumeLanes[i] = ThreadPoolFactory.createThreadPoolExecutor(1, 1, new LinkedBlockingQueue<>(),
+                "kafka-consume-lane-" + i + "-%d", true);
+        }
     }
 
     public synchronized void setListener(EventListener listener) {
         this.listener = listener;
     }
 
-    public long getOffset(CloudEvent cloudEvent) {
-        return cloudEventToOffset.getOrDefault(cloudEvent, 0L);
+    /**
+     * the new topics are subscribed by the poll thread before its next poll
+     */
+    public synchronized void updateSubscription(Set<String> topics) {
+        this.topics = new HashSet<>(topics);
+        subscriptionChanged.set(true);
+        consumer.wakeup();
+    }
+
+    public void ack(List<CloudEvent> cloudEvents, AbstractContext context) {
+        if (!(context instanceof RecordPosition)) {
+            logger.warn("skip the ack without record position, events: {}", cloudEvents.size());
+            return;
+        }
+        ackRecord((RecordPosition) context);
     }
 
     @Override
     public void run() {
-        while (!closed.get()) {
-            try {
-                ConsumerRecords<String, CloudEvent> records = consumer.poll(Duration.ofMillis(10000));
-                // Handle new records
-                records.forEach(rec -> {
-                    try {
-                        CloudEvent cloudEvent = rec.value();
-                        String topicName = cloudEvent.getSubject();
-                        EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext = new EventMeshAsyncConsumeContext() {
-                            @Override
-                            public void commit(EventMeshAction action) {
-                                switch (action) {
-                                    case CommitMessage:
-                                        // update offset
-                                        logger.info("message commit, topic: {}, current offset:{}", topicName,
-                                            rec.offset());
-                                        break;
-                                    case ReconsumeLater:
-                                        // don't update offset
-                                        break;
-                                    case ManualAck:
-                                        // update offset
-                                        logger
-                                            .info("message ack, topic: {}, current offset:{}", topicName, rec.offset());
-                                        break;
-                                    default:
-                                }
-                            }
-                        };
-                        cloudEventToOffset.put(cloudEvent, rec.offset());
-                        if (listener != null) {
-                            listener.consume(cloudEvent, eventMeshAsyncConsumeContext);
-                        }
-                    } catch (Exception e) {
-                        logger.info("Error parsing cloudevents: {}", e.getMessage());
+        try {
+            while (!closed.get()) {
+                try {
+                    applySubscription();
+                    if (consumer.subscription().isEmpty()) {
+                        TimeUnit.MILLISECONDS.sleep(pollTimeout.toMillis());
+                        continue;
+                    }
+                    ConsumerRecords<String, CloudEvent> records = consumer.poll(pollTimeout);
+                    for (TopicPartition partition : records.partitions()) {
+                        records.records(partition).forEach(rec -> dispatch(partition, rec));
                     }
-                });
-            } catch (WakeupException e) {
-                // Ignore exception if closing
-                if (!closed.get()) {
-                    throw e;
+                    pauseOrResume();
+                    if (System.currentTimeMillis() - lastCommitTime >= commitIntervalInMills) {
+                        commitAsync();
+                    }
+                } catch (WakeupException e) {
+                    // woken up to apply a subscription change or to close
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    logger.error("kafka consumer poll error", e);
                 }
-            } finally {
-                consumer.close();
-                break;
+            }
+        } finally {
+            commitSync();
+            consumer.close();
+            reconsumeScheduler.shutdownNow();
+            for (ExecutorService consumeLane : consumeLanes) {
+                consumeLane.shutdown();
             }
         }
     }
@@ -112,7 +167,211 @@ public class KafkaConsumerRunner implements Runnable {
         closed.set(true);
         consumer.wakeup();
     }
-}
 
+    private void applySubscription() {
+        if (!subscriptionChanged.compareAndSet(true, false)) {
+            return;
+        }
+        Set<String> currentTopics = topics;
+        if (currentTopics.isEmpty()) {
+            commitSync();
+            consumer.unsubscribe();
+            offsetTrackers.clear();
+            pausedPartitions.clear();
+            return;
+        }
+        consumer.subscribe(currentTopics, new ConsumerRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                commitSync();
+                partitions.forEach(offsetTrackers::remove);
+                inflightRecords.removeIf(position -> partitions.contains(position.partition));
+                pausedPartitions.removeAll(partitions);
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                // the trackers are created on the first dispatched record
+            }
+        });
+    }
+
+    private void dispatch(TopicPartition partition, ConsumerRecord<String, CloudEvent> rec) {
+        PartitionOffsetTracker tracker = offsetTrackers.computeIfAbsent(partition, k -> new PartitionOffsetTracker());
+        tracker.dispatched(rec.offset());
+        if (rec.value() == null) {
+            logger.warn("skip the record without cloudevent, partition: {}, offset: {}", partition, rec.offset());
+            tracker.ack(rec.offset());
+            return;
+        }
+        RecordPosition position = new RecordPosition(partition, rec.offset(), tracker);
+        inflightRecords.add(position);
+        consumeLane(partition).execute(() -> consume(rec, position));
+    }
 
+    private void consume(ConsumerRecord<String, CloudEvent> rec, RecordPosition position) {
+        CloudEvent cloudEvent = rec.value();
+        EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext = new EventMeshAsyncConsumeContext() {
+            @Override
+            public void commit(EventMeshAction action) {
+                switch (action) {
+                    case CommitMessage:
+                        ackRecord(position);
+                        break;
+                    case ReconsumeLater:
+                        reconsumeLater(rec, position);
+                        break;
+                    case ManualAck:
+                        // acked by updateOffset once the event was delivered
+                        break;
+                    default:
+                }
+            }
+        };
+        eventMeshAsyncConsumeContext.setAbstractContext(position);
+        try {
+            if (listener == null) {
+                logger.warn("no listener registered, skip the record, partition: {}, offset: {}", position.partition,
+                    position.offset);
+                ackRecord(position);
+                return;
+            }
+            listener.consume(cloudEvent, eventMeshAsyncConsumeContext);
+        } catch (Exception e) {
+            // the record stays in flight, so the watermark of its partition is not committed past it
+            logger.error("consume record failed, reconsume it later, partition: {}, offset: {}", position.partition,
+                position.offset, e);
+            reconsumeLater(rec, position);
+        }
+    }
+
+    private ExecutorService consumeLane(TopicPartition partition) {
+        return consumeLanes[Math.abs(partition.hashCode() % consumeLanes.length)];
+    }
+
+    private void reconsumeLater(ConsumerRecord<String, CloudEvent> rec, RecordPosition position) {
+        long delay = Math.min(RECONSUME_DELAY_IN_MILLS << Math.min(position.reconsumeTimes++, 16),
+            RECONSUME_MAX_DELAY_IN_MILLS);
+        try {
+            reconsumeScheduler.schedule(() -> consumeLane(position.partition).execute(() -> consume(rec, position)),
+                delay, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // the runner is closed, the record is redelivered after the partition is reassigned
+            logger.warn("reconsume record failed, partition: {}, offset: {}", position.partition, position.offset, e);
+        }
+    }
+
+    private void ackRecord(RecordPosition position) {
+        if (inflightRecords.remove(position)) {
+            position.tracker.ack(position.offset);
+        }
+    }
 
+    private void pauseOrResume() {
+        Set<TopicPartition> assignment = consumer.assignment();
+        List<TopicPartition> toPause = new ArrayList<>();
+        List<TopicPartition> toResume = new ArrayList<>();
+        offsetTrackers.forEach((partition, tracker) -> {
+            int inflight = tracker.inflightSize();
+            if (!pausedPartitions.contains(partition) && inflight >= maxInflightPerPartition
+                && assignment.contains(partition)) {
+                toPause.add(partition);
+            } else if (pausedPartitions.contains(partition) && inflight <= maxInflightPerPartition / 2) {
+                toResume.add(partition);
+            }
+        });
+        if (!toPause.isEmpty()) {
+            consumer.pause(toPause);
+            pausedPartitions.addAll(toPause);
+            logger.info("pause partitions with too many unacked records: {}", toPause);
+        }
+        if (!toResume.isEmpty()) {
+            toResume.retainAll(assignment);
+            consumer.resume(toResume);
+            pausedPartitions.removeAll(toResume);
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> committableOffsets() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        offsetTrackers.forEach((partition, tracker) -> {
+            long offset = tracker.committableOffset();
+            if (offset >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(offset));
+            }
+        });
+        return offsets;
+    }
+
+    private void commitAsync() {
+        lastCommitTime = System.currentTimeMillis();
+        Map<TopicPartition, OffsetAndMetadata> offsets = committableOffsets();
+        if (offsets.isEmpty()) {
+            return;
+        }
+        consumer.commitAsync(offsets, (committed, exception) -> {
+            if (exception != null) {
+                // the watermark is not moved, so the offsets are committed again next time
+                logger.warn("commit offsets failed, offsets: {}", committed, exception);
+                return;
+            }
+            committed(committed);
+        });
+    }
+
+    private void commitSync() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = committableOffsets();
+        if (offsets.isEmpty()) {
+            return;
+        }
+        try {
+            consumer.commitSync(offsets);
+            committed(offsets);
+        } catch (Exception e) {
+            logger.warn("commit offsets failed, offsets: {}", offsets, e);
+        }
+    }
+
+    private void committed(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((partition, offsetAndMetadata) -> {
+            PartitionOffsetTracker tracker = offsetTrackers.get(partition);
+            if (tracker != null) {
+                tracker.committed(offsetAndMetadata.offset());
+            }
+        });
+    }
+
+    private static class RecordPosition implements AbstractContext {
+
+        private final TopicPartition partition;
+
+        private final long offset;
+
+        private final PartitionOffsetTracker tracker;
+
+        private int reconsumeTimes;
+
+        RecordPosition(TopicPartition partition, long offset, PartitionOffsetTracker tracker) {
+            this.partition = partition;
+            this.offset = offset;
+            this.tracker = tracker;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RecordPosition that = (RecordPosition) o;
+            return offset == that.offset && partition.equals(that.partition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, offset);
+        }
+    }
+}
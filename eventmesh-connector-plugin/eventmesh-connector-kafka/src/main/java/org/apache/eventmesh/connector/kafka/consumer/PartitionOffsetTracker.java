@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import java.util.TreeSet;
+
+/**
+ * Tracks the offsets of one partition that were handed to the listener but not acked yet.
+ * Acks may arrive in any order, the offset that is safe to commit is the lowest one still in flight,
+ * or the offset after the last dispatched record when everything was acked.
+ */
+public class PartitionOffsetTracker {
+
+    private final TreeSet<Long> inflightOffsets = new TreeSet<>();
+
+    private long nextOffset = -1L;
+
+    private long committedOffset = -1L;
+
+    public synchronized void dispatched(long offset) {
+        inflightOffsets.add(offset);
+        nextOffset = Math.max(nextOffset, offset + 1);
+    }
+
+    public synchronized void ack(long offset) {
+        inflightOffsets.remove(offset);
+    }
+
+    public synchronized int inflightSize() {
+        return inflightOffsets.size();
+    }
+
+    /**
+     * @return the contiguous-ack watermark, or -1 if it is committed already
+     */
+    public synchronized long committableOffset() {
+        long watermark = inflightOffsets.isEmpty() ? nextOffset : inflightOffsets.first();
+        return watermark <= committedOffset ? -1L : watermark;
+    }
+
+    /**
+     * called after the broker accepted the commit of the offset
+     */
+    public synchronized void committed(long offset) {
+        committedOffset = Math.max(committedOffset, offset);
+    }
+}
@@ -19,22 +19,23 @@ package org.apache.eventmesh.connector.kafka.producer;
 
 import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
 
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.serialization.StringSerializer;
 
+import java.util.Collections;
 import java.util.Properties;
-import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import io.cloudevents.CloudEvent;
 import io.cloudevents.kafka.CloudEventSerializer;
 
@@ -43,9 +44,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @SuppressWarnings("deprecation")
 public class ProducerImpl {
-    private KafkaProducer<String, CloudEvent> producer;
+    private final Producer<String, CloudEvent> producer;
     Properties properties;
 
+    /**
+     * kept open for the lifetime of the producer, creating one per topic check costs a new broker connection
+     */
+    private volatile Admin admin;
+
     private AtomicBoolean isStarted;
 
     public ProducerImpl(Properties props) {
@@ -59,6 +65,12 @@ public class ProducerImpl {
         this.producer = new KafkaProducer<>(properties);
     }
 
+    ProducerImpl(Producer<String, CloudEvent> producer, Properties properties) {
+        this.isStarted = new AtomicBoolean(false);
+        this.properties = properties;
+        this.producer = producer;
+    }
+
     public boolean isStarted() {
         return isStarted.get();
     }
@@ -72,7 +84,10 @@ public class ProducerImpl {
     }
 
     public void shutdown() {
-        isStarted.compareAndSet(true, false);
+        if (isStarted.compareAndSet(true, false)) {
+            closeAdmin();
+            producer.close();
+        }
     }
 
     public ProducerImpl init(Properties properties) throws Exception {
@@ -81,19 +96,41 @@ public class ProducerImpl {
 
     public void send(CloudEvent cloudEvent) {
         try {
-            this.producer.send(new ProducerRecord<>(cloudEvent.getSubject(), cloudEvent));
-        } catch (Exception e) {
-            log.error(String.format("Send message oneway Exception, %s", cloudEvent), e);
+            this.producer.send(new ProducerRecord<>(cloudEvent.getSubject(), cloudEvent)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectorRuntimeException(String.format("Send message interrupted, %s", cloudEvent.getId()), e);
+        } catch (ExecutionException e) {
+            throw new ConnectorRuntimeException(String.format("Send message Exception, %s", cloudEvent.getId()), e.getCause());
         }
     }
 
     public void checkTopicExist(String topic) throws ExecutionException, InterruptedException, ConnectorRuntimeException {
-        Admin admin = Admin.create(properties);
-        Set<String> topicNames = admin.listTopics().names().get();
-        admin.close();
-        boolean exist = topicNames.contains(topic);
-        if (!exist) {
-            throw new ConnectorRuntimeException(String.format("topic:%s is not exist", topic));
+        try {
+            getAdmin().describeTopics(Collections.singleton(topic)).all().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+                throw new ConnectorRuntimeException(String.format("topic:%s is not exist", topic));
+            }
+            throw e;
+        }
+    }
+
+    private Admin getAdmin() {
+        if (admin == null) {
+            synchronized (this) {
+                if (admin == null) {
+                    admin = Admin.create(properties);
+                }
+            }
+        }
+        return admin;
+    }
+
+    private synchronized void closeAdmin() {
+        if (admin != null) {
+            admin.close();
+            admin = null;
         }
     }
 
@@ -106,13 +143,39 @@ public class ProducerImpl {
     }
 
     public void sendOneway(CloudEvent message) {
+        try {
+            this.producer.send(new ProducerRecord<>(message.getSubject(), message));
+        } catch (Exception e) {
+            log.error(String.format("Send message oneway Exception, %s", message.getId()), e);
+        }
     }
 
+    /**
+     * the callback runs on the kafka producer io thread once the broker acked the record or the send failed
+     */
     public void sendAsync(CloudEvent cloudEvent, SendCallback sendCallback) {
         try {
-            this.producer.send(new ProducerRecord<>(cloudEvent.getSubject(), cloudEvent));
+            this.producer.send(new ProducerRecord<>(cloudEvent.getSubject(), cloudEvent), (metadata, exception) -> {
+                if (exception != null) {
+                    sendCallback.onException(buildOnExceptionContext(cloudEvent, exception));
+                    return;
+                }
+                SendResult sendResult = new SendResult();
+                sendResult.setTopic(metadata.topic());
+                sendResult.setMessageId(cloudEvent.getId());
+                sendCallback.onSuccess(sendResult);
+            });
         } catch (Exception e) {
-            log.error(String.format("Send message oneway Exception, %s", cloudEvent), e);
+            log.error(String.format("Send message async Exception, %s", cloudEvent.getId()), e);
+            sendCallback.onException(buildOnExceptionContext(cloudEvent, e));
         }
     }
+
+    private OnExceptionContext buildOnExceptionContext(CloudEvent cloudEvent, Throwable e) {
+        return OnExceptionContext.builder()
+            .topic(cloudEvent.getSubject())
+            .messageId(cloudEvent.getId())
+            .exception(e instanceof ConnectorRuntimeException ? (ConnectorRuntimeException) e : new ConnectorRuntimeException(e))
+            .build();
+    }
 }
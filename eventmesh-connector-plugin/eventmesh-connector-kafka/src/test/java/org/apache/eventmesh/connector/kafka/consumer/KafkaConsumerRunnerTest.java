@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.apache.eventmesh.api.AbstractContext;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class KafkaConsumerRunnerTest {
+
+    private static final String TOPIC = "topic";
+
+    private final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+
+    private MockConsumer<String, CloudEvent> mockConsumer;
+
+    private KafkaConsumerRunner runner;
+
+    private Thread pollThread;
+
+    private final Map<String, CloudEvent> consumed = new ConcurrentHashMap<>();
+
+    private final Map<String, AbstractContext> contexts = new ConcurrentHashMap<>();
+
+    private final Set<String> failures = ConcurrentHashMap.newKeySet();
+
+    @Before
+    public void setUp() {
+        mockConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        runner = new KafkaConsumerRunner(mockConsumer, 2, 2, 0L, 10L);
+        // offset 1 of partition 0 is committed right away, the others wait for updateOffset
+        runner.setListener((cloudEvent, context) -> {
+            if (failures.remove(cloudEvent.getId())) {
+                throw new IllegalStateException("consume failed");
+            }
+            contexts.put(cloudEvent.getId(), ((EventMeshAsyncConsumeContext) context).getAbstractContext());
+            consumed.put(cloudEvent.getId(), cloudEvent);
+            context.commit("0-1".equals(cloudEvent.getId()) ? EventMeshAction.CommitMessage : EventMeshAction.ManualAck);
+        });
+
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(Arrays.asList(partition0, partition1));
+            Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+            beginningOffsets.put(partition0, 0L);
+            beginningOffsets.put(partition1, 0L);
+            mockConsumer.updateBeginningOffsets(beginningOffsets);
+            for (int offset = 0; offset < 3; offset++) {
+                addRecord(partition0, offset);
+            }
+            addRecord(partition1, 0);
+        });
+        runner.updateSubscription(Collections.singleton(TOPIC));
+        pollThread = new Thread(runner, "kafka-consumer-runner-test");
+        pollThread.start();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        runner.shutdown();
+        pollThread.join(3000);
+    }
+
+    @Test
+    public void testCommitContiguousAckedOffsets() throws InterruptedException {
+        waitFor(() -> consumed.size() == 4);
+
+        // offset 0 of partition 0 is not acked yet, so nothing beyond it can be committed
+        waitFor(() -> committedOffset(partition0) == 0L);
+        Assert.assertEquals(0L, committedOffset(partition1));
+
+        ack("0-0");
+        ack("1-0");
+        waitFor(() -> committedOffset(partition0) == 2L);
+        waitFor(() -> committedOffset(partition1) == 1L);
+
+        ack("0-2");
+        waitFor(() -> committedOffset(partition0) == 3L);
+    }
+
+    @Test
+    public void testPauseSlowPartition() throws InterruptedException {
+        waitFor(() -> consumed.size() == 4);
+        // partition 0 holds 2 unacked records which reaches the limit, partition 1 keeps polling
+        waitFor(() -> mockConsumer.paused().contains(partition0));
+        Assert.assertFalse(mockConsumer.paused().contains(partition1));
+
+        ack("0-0");
+        waitFor(() -> !mockConsumer.paused().contains(partition0));
+    }
+
+    @Test
+    public void testListenerFailureKeepsRecordUncommitted() throws InterruptedException {
+        waitFor(() -> consumed.size() == 4);
+        failures.add("1-1");
+        mockConsumer.schedulePollTask(() -> addRecord(partition1, 1));
+        ack("1-0");
+
+        // the failed record is consumed again after the backoff, the watermark waits for it
+        waitFor(() -> consumed.containsKey("1-1"));
+        Assert.assertEquals(1L, committedOffset(partition1));
+
+        ack("1-1");
+        waitFor(() -> committedOffset(partition1) == 2L);
+    }
+
+    @Test
+    public void testShutdownCommitsAndClosesConsumer() throws InterruptedException {
+        waitFor(() -> consumed.size() == 4);
+        ack("1-0");
+        runner.shutdown();
+        pollThread.join(3000);
+
+        Assert.assertTrue(mockConsumer.closed());
+    }
+
+    private void ack(String id) {
+        runner.ack(Collections.singletonList(consumed.get(id)), contexts.get(id));
+    }
+
+    private void addRecord(TopicPartition partition, long offset) {
+        String id = partition.partition() + "-" + offset;
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("/test"))
+            .withType("test")
+            .withSubject(TOPIC)
+            .build();
+        mockConsumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, id, cloudEvent));
+    }
+
+    private long committedOffset(TopicPartition partition) {
+        OffsetAndMetadata offsetAndMetadata = mockConsumer.committed(Collections.singleton(partition)).get(partition);
+        return offsetAndMetadata == null ? -1L : offsetAndMetadata.offset();
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("condition not met in time", System.currentTimeMillis() < deadline);
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.consumer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PartitionOffsetTrackerTest {
+
+    @Test
+    public void testWatermarkStopsAtFirstUnackedOffset() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+        for (long offset = 10; offset < 15; offset++) {
+            tracker.dispatched(offset);
+        }
+        Assert.assertEquals(5, tracker.inflightSize());
+        Assert.assertEquals(10, tracker.committableOffset());
+        tracker.committed(10);
+
+        tracker.ack(11);
+        tracker.ack(12);
+        Assert.assertEquals(-1, tracker.committableOffset());
+
+        tracker.ack(10);
+        Assert.assertEquals(13, tracker.committableOffset());
+        tracker.committed(13);
+
+        tracker.ack(14);
+        tracker.ack(13);
+        Assert.assertEquals(15, tracker.committableOffset());
+        tracker.committed(15);
+        Assert.assertEquals(-1, tracker.committableOffset());
+        Assert.assertEquals(0, tracker.inflightSize());
+    }
+
+    @Test
+    public void testWatermarkIsKeptUntilCommitted() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker();
+        tracker.dispatched(0);
+        tracker.ack(0);
+        Assert.assertEquals(1, tracker.committableOffset());
+        // the commit failed, so the offset is still committable
+        Assert.assertEquals(1, tracker.committableOffset());
+
+        tracker.committed(1);
+        Assert.assertEquals(-1, tracker.committableOffset());
+    }
+}
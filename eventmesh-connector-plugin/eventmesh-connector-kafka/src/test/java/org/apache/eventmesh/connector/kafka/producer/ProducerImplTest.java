@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.kafka.producer;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class ProducerImplTest {
+
+    private MockProducer<String, CloudEvent> mockProducer;
+
+    private ProducerImpl producer;
+
+    private final AtomicReference<SendResult> sendResult = new AtomicReference<>();
+
+    private final AtomicReference<OnExceptionContext> exceptionContext = new AtomicReference<>();
+
+    private final SendCallback sendCallback = new SendCallback() {
+        @Override
+        public void onSuccess(SendResult result) {
+            sendResult.set(result);
+        }
+
+        @Override
+        public void onException(OnExceptionContext context) {
+            exceptionContext.set(context);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        mockProducer = new MockProducer<>(false, new StringSerializer(),
+            (topic, cloudEvent) -> cloudEvent.getId().getBytes(StandardCharsets.UTF_8));
+        producer = new ProducerImpl(mockProducer, new Properties());
+        producer.start();
+    }
+
+    @Test
+    public void testSendAsyncSuccess() {
+        producer.sendAsync(buildEvent("1"), sendCallback);
+        Assert.assertNull(sendResult.get());
+
+        Assert.assertTrue(mockProducer.completeNext());
+        Assert.assertEquals("1", sendResult.get().getMessageId());
+        Assert.assertEquals("topic", sendResult.get().getTopic());
+        Assert.assertNull(exceptionContext.get());
+    }
+
+    @Test
+    public void testSendAsyncFailure() {
+        producer.sendAsync(buildEvent("2"), sendCallback);
+
+        Assert.assertTrue(mockProducer.errorNext(new RuntimeException("broker unavailable")));
+        Assert.assertNull(sendResult.get());
+        Assert.assertEquals("2", exceptionContext.get().getMessageId());
+        Assert.assertEquals("topic", exceptionContext.get().getTopic());
+        Assert.assertEquals("broker unavailable", exceptionContext.get().getException().getCause().getMessage());
+    }
+
+    @Test
+    public void testShutdownClosesProducer() {
+        producer.shutdown();
+        Assert.assertTrue(mockProducer.closed());
+    }
+
+    private CloudEvent buildEvent(String id) {
+        return CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("/test"))
+            .withType("test")
+            .withSubject("topic")
+            .withData("data".getBytes())
+            .build();
+    }
+}
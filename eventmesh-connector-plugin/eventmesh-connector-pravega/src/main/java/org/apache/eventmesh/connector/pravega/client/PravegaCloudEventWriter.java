@@ -17,8 +17,6 @@
 
 package org.apache.eventmesh.connector.pravega.client;
 
-import java.nio.charset.StandardCharsets;
-
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.format.EventFormat;
@@ -40,19 +38,19 @@ public class PravegaCloudEventWriter
 
     @Override
     public PravegaEvent setEvent(EventFormat format, byte[] value) throws CloudEventRWException {
-        pravegaEvent.setData(new String(value, StandardCharsets.UTF_8));
+        pravegaEvent.setData(value);
         return pravegaEvent;
     }
 
     @Override
     public PravegaEvent end(CloudEventData data) throws CloudEventRWException {
-        pravegaEvent.setData(new String(data.toBytes(), StandardCharsets.UTF_8));
+        pravegaEvent.setData(data.toBytes());
         return pravegaEvent;
     }
 
     @Override
     public PravegaEvent end() throws CloudEventRWException {
-        pravegaEvent.setData("");
+        pravegaEvent.setData(new byte[0]);
         return pravegaEvent;
     }
 
@@ -20,57 +20,143 @@ package org.apache.eventmesh.connector.pravega.client;
 import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.connector.pravega.exception.PravegaConnectorException;
 
-import java.io.Serializable;
-import java.net.URI;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.builder.CloudEventBuilder;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * CloudEvent in binary content mode. Pravega events carry no headers, so the context attributes are written
+ * in front of the raw data, all numbers big-endian and all strings as int length prefixed UTF-8:
+ *
+ * <pre>
+ * format (1 byte) | specversion | topic | createTimestamp (8 bytes)
+ * | attribute count (4 bytes) | (name | value) * count | data length (4 bytes) | data
+ * </pre>
+ */
 @Data
 @NoArgsConstructor
-public class PravegaEvent implements Serializable {
-    private static final long serialVersionUID = 0L;
+public class PravegaEvent {
+
+    /**
+     * first byte of the binary format, events written as JSON by earlier versions start with '{'
+     */
+    private static final byte BINARY_FORMAT = 1;
 
     private SpecVersion version;
     private String topic;
-    private String data;
+    private byte[] data;
     private Map<String, String> extensions = new HashMap<>();
     private long createTimestamp;
 
     public static byte[] toByteArray(PravegaEvent pravegaEvent) {
-        return JsonUtils.serialize(pravegaEvent).getBytes(StandardCharsets.UTF_8);
+        // encode the strings first, so that the event is written into a buffer of the exact size
+        List<byte[]> strings = new ArrayList<>(2 + pravegaEvent.extensions.size() * 2);
+        strings.add(pravegaEvent.version.toString().getBytes(StandardCharsets.UTF_8));
+        strings.add(pravegaEvent.topic.getBytes(StandardCharsets.UTF_8));
+        pravegaEvent.extensions.forEach((name, value) -> {
+            strings.add(name.getBytes(StandardCharsets.UTF_8));
+            strings.add(value.getBytes(StandardCharsets.UTF_8));
+        });
+        byte[] data = pravegaEvent.data == null ? new byte[0] : pravegaEvent.data;
+
+        int size = 1 + Long.BYTES + Integer.BYTES + Integer.BYTES + data.length;
+        for (byte[] string : strings) {
+            size += Integer.BYTES + string.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(BINARY_FORMAT);
+        Iterator<byte[]> iterator = strings.iterator();
+        writeBytes(buffer, iterator.next());
+        writeBytes(buffer, iterator.next());
+        buffer.putLong(pravegaEvent.createTimestamp);
+        buffer.putInt(pravegaEvent.extensions.size());
+        while (iterator.hasNext()) {
+            writeBytes(buffer, iterator.next());
+        }
+        writeBytes(buffer, data);
+        return buffer.array();
     }
 
     public static PravegaEvent getFromByteArray(byte[] body) {
-        return JsonUtils.deserialize(new String(body, StandardCharsets.UTF_8), PravegaEvent.class);
+        if (body.length > 0 && body[0] == '{') {
+            return getFromJson(new String(body, StandardCharsets.UTF_8));
+        }
+        if (body.length == 0 || body[0] != BINARY_FORMAT) {
+            throw new PravegaConnectorException("unknown PravegaEvent format");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(body, 1, body.length - 1);
+            PravegaEvent pravegaEvent = new PravegaEvent();
+            pravegaEvent.setVersion(SpecVersion.parse(readString(buffer)));
+            pravegaEvent.setTopic(readString(buffer));
+            pravegaEvent.setCreateTimestamp(buffer.getLong());
+            int attributeCount = buffer.getInt();
+            for (int i = 0; i < attributeCount; i++) {
+                pravegaEvent.getExtensions().put(readString(buffer), readString(buffer));
+            }
+            pravegaEvent.setData(readBytes(buffer));
+            return pravegaEvent;
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            throw new PravegaConnectorException(ex);
+        }
     }
 
     public CloudEvent convertToCloudEvent() {
         CloudEventBuilder builder;
-        switch (version) {
-            case V03:
-                builder = CloudEventBuilder.v03();
-                break;
-            case V1:
-                builder = CloudEventBuilder.v1();
-                break;
-            default:
-                throw new PravegaConnectorException(String.format("CloudEvent version %s does not support.", version));
+        try {
+            builder = CloudEventBuilder.fromSpecVersion(version);
+        } catch (Exception ex) {
+            throw new PravegaConnectorException(String.format("CloudEvent version %s does not support.", version));
         }
-        builder.withData(data.getBytes(StandardCharsets.UTF_8))
-            .withId(extensions.remove("id"))
-            .withSource(URI.create(extensions.remove("source")))
-            .withType(extensions.remove("type"))
-            .withDataContentType(extensions.remove("datacontenttype"))
-            .withSubject(extensions.remove("subject"));
-        extensions.forEach(builder::withExtension);
-        return builder.build();
+        extensions.forEach(builder::withContextAttribute);
+        return builder.withData(data).build();
+    }
+
+    /**
+     * read an event written by versions which serialized the whole event as JSON
+     */
+    private static PravegaEvent getFromJson(String json) {
+        JsonNode node = JsonUtils.getJsonNode(json);
+        PravegaEvent pravegaEvent = new PravegaEvent();
+        pravegaEvent.setVersion(SpecVersion.valueOf(node.path("version").asText()));
+        pravegaEvent.setTopic(node.path("topic").asText(null));
+        pravegaEvent.setData(node.path("data").asText("").getBytes(StandardCharsets.UTF_8));
+        pravegaEvent.setCreateTimestamp(node.path("createTimestamp").asLong());
+        node.path("extensions").fields()
+            .forEachRemaining(field -> pravegaEvent.getExtensions().put(field.getKey(), field.getValue().asText()));
+        return pravegaEvent;
+    }
+
+    private static void writeBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.pravega.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.apache.eventmesh.connector.pravega.exception.PravegaConnectorException;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class PravegaEventTest {
+
+    private final CloudEvent cloudEvent = CloudEventBuilder.v1()
+        .withId("1")
+        .withTime(OffsetDateTime.of(2022, 10, 1, 12, 0, 0, 0, ZoneOffset.UTC))
+        .withSource(URI.create("testsource"))
+        .withSubject("topic")
+        .withType(String.class.getCanonicalName())
+        .withDataContentType("text/plain")
+        .withData("data".getBytes(StandardCharsets.UTF_8))
+        .withExtension("extension", "value")
+        .build();
+
+    @Test
+    public void testByteArray() {
+        PravegaEvent pravegaEvent = new PravegaCloudEventWriter("topic").writeBinary(cloudEvent);
+
+        PravegaEvent event = PravegaEvent.getFromByteArray(PravegaEvent.toByteArray(pravegaEvent));
+        assertEquals("topic", event.getTopic());
+        assertEquals(pravegaEvent.getCreateTimestamp(), event.getCreateTimestamp());
+        assertArrayEquals(pravegaEvent.getData(), event.getData());
+        assertEquals(cloudEvent, event.convertToCloudEvent());
+    }
+
+    @Test
+    public void testLegacyJson() {
+        String json = "{\"version\":\"V1\",\"topic\":\"topic\",\"data\":\"data\",\"createTimestamp\":1,"
+            + "\"extensions\":{\"id\":\"1\",\"source\":\"testsource\",\"type\":\"java.lang.String\","
+            + "\"datacontenttype\":\"text/plain\",\"subject\":\"topic\",\"time\":\"2022-10-01T12:00:00Z\","
+            + "\"extension\":\"value\"}}";
+
+        PravegaEvent event = PravegaEvent.getFromByteArray(json.getBytes(StandardCharsets.UTF_8));
+        assertEquals("topic", event.getTopic());
+        assertEquals(1L, event.getCreateTimestamp());
+        assertEquals(cloudEvent, event.convertToCloudEvent());
+    }
+
+    @Test(expected = PravegaConnectorException.class)
+    public void testTruncated() {
+        byte[] bytes = PravegaEvent.toByteArray(new PravegaCloudEventWriter("topic").writeBinary(cloudEvent));
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+        PravegaEvent.getFromByteArray(truncated);
+    }
+}
@@ -19,16 +19,23 @@ package org.apache.eventmesh.connector.pulsar.client;
 
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.connector.pulsar.config.ClientConfiguration;
 import org.apache.eventmesh.connector.pulsar.utils.CloudEventUtils;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.pulsar.client.api.BatcherBuilder;
 import org.apache.pulsar.client.api.ClientBuilder;
+import org.apache.pulsar.client.api.CompressionType;
 import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.ProducerBuilder;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.TypedMessageBuilder;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
@@ -44,7 +51,7 @@ public class PulsarClientWrapper {
 
     private ClientConfiguration config;
     private PulsarClient pulsarClient;
-    private Map<String, Producer<byte[]>> producerMap = new HashMap<>();
+    private Map<String, Producer<byte[]>> producerMap = new ConcurrentHashMap<>();
 
     public PulsarClientWrapper(ClientConfiguration config)  {
         this.config = config;
@@ -70,12 +77,19 @@ public class PulsarClientWrapper {
 
     private Producer<byte[]> createProducer(String topic) {
         try {
-            return this.pulsarClient.newProducer()
+            ProducerBuilder<byte[]> producerBuilder = this.pulsarClient.newProducer()
                 .topic(topic)
-                .batchingMaxPublishDelay(10, TimeUnit.MILLISECONDS)
+                .enableBatching(config.isProducerBatchingEnabled())
+                .batchingMaxMessages(config.getProducerBatchingMaxMessages())
+                .batchingMaxPublishDelay(config.getProducerBatchingMaxPublishDelayInMills(), TimeUnit.MILLISECONDS)
+                .compressionType(CompressionType.valueOf(config.getProducerCompressionType().toUpperCase()))
                 .sendTimeout(10, TimeUnit.SECONDS)
-                .blockIfQueueFull(true)
-                .create();
+                .blockIfQueueFull(true);
+            if (StringUtils.isNotBlank(config.getProducerKeyExtension())) {
+                // a batch only holds messages of one key, so Key_Shared consumers can dispatch it as a whole
+                producerBuilder.batcherBuilder(BatcherBuilder.KEY_BASED);
+            }
+            return producerBuilder.create();
         } catch (PulsarClientException ex) {
             throw new ConnectorRuntimeException(
               String.format("Failed to create pulsar producer for %s with exception: %s", topic, ex.getMessage()));
@@ -90,15 +104,34 @@ public class PulsarClientWrapper {
                 .getInstance()
                 .resolveFormat(JsonFormat.CONTENT_TYPE)
                 .serialize(cloudEvent);
-            producer.sendAsync(serializedCloudEvent).thenAccept(messageId -> {
-                sendCallback.onSuccess(CloudEventUtils.convertSendResult(cloudEvent));
-            });
+            TypedMessageBuilder<byte[]> messageBuilder = producer.newMessage().value(serializedCloudEvent);
+            if (StringUtils.isNotBlank(config.getProducerKeyExtension())) {
+                Object key = cloudEvent.getExtension(config.getProducerKeyExtension());
+                if (key != null) {
+                    messageBuilder.key(Objects.toString(key));
+                }
+            }
+            messageBuilder.sendAsync()
+                .thenAccept(messageId -> sendCallback.onSuccess(CloudEventUtils.convertSendResult(cloudEvent)))
+                .exceptionally(ex -> {
+                    sendCallback.onException(buildOnExceptionContext(cloudEvent, ex));
+                    return null;
+                });
         } catch (Exception ex) {
             log.error("Failed to publish cloudEvent for {} with exception: {}",
                 cloudEvent.getSubject(), ex.getMessage());
+            sendCallback.onException(buildOnExceptionContext(cloudEvent, ex));
         }
     }
 
+    private OnExceptionContext buildOnExceptionContext(CloudEvent cloudEvent, Throwable ex) {
+        return OnExceptionContext.builder()
+            .topic(cloudEvent.getSubject())
+            .messageId(cloudEvent.getId())
+            .exception(new ConnectorRuntimeException(ex))
+            .build();
+    }
+
     public void shutdown() throws PulsarClientException {
         pulsarClient.close();
         for (Map.Entry<String, Producer<byte[]>> producerEntry : producerMap.entrySet()) {
@@ -32,6 +32,40 @@ public class ClientConfiguration {
     private String authPlugin;
     private String authParams;
 
+    /**
+     * listener: one message per listener call, batch: consume with batchReceive
+     */
+    private String consumeMode = CONSUME_MODE_LISTENER;
+    private String subscriptionType = "Exclusive";
+    /**
+     * consumers per topic, only used by Shared and Key_Shared subscriptions
+     */
+    private int consumerNum = 1;
+    /**
+     * ack the contiguous prefix of consumed messages cumulatively, only for Exclusive and Failover subscriptions
+     */
+    private boolean cumulativeAck = false;
+    private int ackGroupTimeInMills = 100;
+    private int batchReceiveMaxMessages = 100;
+    private int batchReceiveMaxBytes = 1024 * 1024;
+    private int batchReceiveTimeoutInMills = 100;
+    /**
+     * threads blocking on batchReceive, one per consumer, which bounds the consumers in batch mode
+     */
+    private int batchReceiveThreads = 16;
+
+    private boolean producerBatchingEnabled = true;
+    private int producerBatchingMaxMessages = 1000;
+    private int producerBatchingMaxPublishDelayInMills = 10;
+    private String producerCompressionType = "NONE";
+    /**
+     * the cloudevent extension used as message key, keeps the order of a key for Key_Shared consumers
+     */
+    private String producerKeyExtension;
+
+    public static final String CONSUME_MODE_LISTENER = "listener";
+    public static final String CONSUME_MODE_BATCH = "batch";
+
     private static ClientConfiguration INSTANCE = null;
 
     public void init() {
@@ -41,6 +75,39 @@ public class ClientConfiguration {
         serviceAddr = StringUtils.trim(serviceAddrStr);
         authPlugin = ConfigurationWrapper.getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_AUTH_PLUGIN);
         authParams = ConfigurationWrapper.getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_AUTH_PARAMS);
+
+        consumeMode = getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_CONSUME_MODE, consumeMode);
+        subscriptionType = getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_SUBSCRIPTION_TYPE, subscriptionType);
+        consumerNum = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_CONSUMER_NUM, consumerNum);
+        cumulativeAck = Boolean.parseBoolean(getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_CUMULATIVE_ACK, String.valueOf(cumulativeAck)));
+        ackGroupTimeInMills = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_ACK_GROUP_TIME, ackGroupTimeInMills);
+        batchReceiveMaxMessages = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_MAX_MESSAGES, batchReceiveMaxMessages);
+        batchReceiveMaxBytes = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_MAX_BYTES, batchReceiveMaxBytes);
+        batchReceiveTimeoutInMills = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_TIMEOUT, batchReceiveTimeoutInMills);
+        batchReceiveThreads = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_THREADS, batchReceiveThreads);
+
+        producerBatchingEnabled = Boolean.parseBoolean(getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_PRODUCER_BATCHING_ENABLED,
+            String.valueOf(producerBatchingEnabled)));
+        producerBatchingMaxMessages = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_PRODUCER_BATCHING_MAX_MESSAGES,
+            producerBatchingMaxMessages);
+        producerBatchingMaxPublishDelayInMills = getIntProp(ConfKeys.KEYS_EVENTMESH_PULSAR_PRODUCER_BATCHING_MAX_DELAY,
+            producerBatchingMaxPublishDelayInMills);
+        producerCompressionType = getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_PRODUCER_COMPRESSION_TYPE, producerCompressionType);
+        producerKeyExtension = ConfigurationWrapper.getProp(ConfKeys.KEYS_EVENTMESH_PULSAR_PRODUCER_KEY_EXTENSION);
+    }
+
+    private static String getProp(String key, String defaultValue) {
+        String value = ConfigurationWrapper.getProp(key);
+        return StringUtils.isBlank(value) ? defaultValue : StringUtils.trim(value);
+    }
+
+    private static int getIntProp(String key, int defaultValue) {
+        String value = ConfigurationWrapper.getProp(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        Preconditions.checkState(StringUtils.isNumeric(StringUtils.trim(value)), String.format("%s error", key));
+        return Integer.parseInt(StringUtils.trim(value));
     }
 
     public static ClientConfiguration getInstance() {
@@ -55,6 +122,24 @@ public class ClientConfiguration {
         public static final String KEYS_EVENTMESH_PULSAR_SERVICE_ADDR = "eventMesh.server.pulsar.service";
         public static final String KEYS_EVENTMESH_PULSAR_AUTH_PLUGIN = "eventMesh.server.pulsar.authPlugin";
         public static final String KEYS_EVENTMESH_PULSAR_AUTH_PARAMS = "eventMesh.server.pulsar.authParams";
+        public static final String KEYS_EVENTMESH_PULSAR_CONSUME_MODE = "eventMesh.server.pulsar.consumer.mode";
+        public static final String KEYS_EVENTMESH_PULSAR_SUBSCRIPTION_TYPE = "eventMesh.server.pulsar.consumer.subscriptionType";
+        public static final String KEYS_EVENTMESH_PULSAR_CONSUMER_NUM = "eventMesh.server.pulsar.consumer.consumerNum";
+        public static final String KEYS_EVENTMESH_PULSAR_CUMULATIVE_ACK = "eventMesh.server.pulsar.consumer.cumulativeAck";
+        public static final String KEYS_EVENTMESH_PULSAR_ACK_GROUP_TIME = "eventMesh.server.pulsar.consumer.ackGroupTimeInMills";
+        public static final String KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_MAX_MESSAGES =
+            "eventMesh.server.pulsar.consumer.batchReceive.maxMessages";
+        public static final String KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_MAX_BYTES = "eventMesh.server.pulsar.consumer.batchReceive.maxBytes";
+        public static final String KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_TIMEOUT =
+            "eventMesh.server.pulsar.consumer.batchReceive.timeoutInMills";
+        public static final String KEYS_EVENTMESH_PULSAR_BATCH_RECEIVE_THREADS = "eventMesh.server.pulsar.consumer.batchReceive.threads";
+        public static final String KEYS_EVENTMESH_PULSAR_PRODUCER_BATCHING_ENABLED = "eventMesh.server.pulsar.producer.batchingEnabled";
+        public static final String KEYS_EVENTMESH_PULSAR_PRODUCER_BATCHING_MAX_MESSAGES =
+            "eventMesh.server.pulsar.producer.batchingMaxMessages";
+        public static final String KEYS_EVENTMESH_PULSAR_PRODUCER_BATCHING_MAX_DELAY =
+            "eventMesh.server.pulsar.producer.batchingMaxPublishDelayInMills";
+        public static final String KEYS_EVENTMESH_PULSAR_PRODUCER_COMPRESSION_TYPE = "eventMesh.server.pulsar.producer.compressionType";
+        public static final String KEYS_EVENTMESH_PULSAR_PRODUCER_KEY_EXTENSION = "eventMesh.server.pulsar.producer.keyExtension";
     }
 
 }
\ No newline at end of file
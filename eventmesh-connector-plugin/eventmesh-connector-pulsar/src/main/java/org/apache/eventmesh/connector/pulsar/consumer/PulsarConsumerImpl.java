@@ -19,26 +19,33 @@ package org.apache.eventmesh.connector.pulsar.consumer;
 
 import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
-import org.apache.eventmesh.api.EventMeshAction;
-import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
 import org.apache.eventmesh.api.consumer.Consumer;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.connector.pulsar.config.ClientConfiguration;
 
+import org.apache.pulsar.client.api.BatchReceivePolicy;
 import org.apache.pulsar.client.api.ClientBuilder;
+import org.apache.pulsar.client.api.ConsumerBuilder;
 import org.apache.pulsar.client.api.MessageListener;
 import org.apache.pulsar.client.api.PulsarClient;
 import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.SubscriptionType;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.format.EventDeserializationException;
-import io.cloudevents.core.provider.EventFormatProvider;
-import io.cloudevents.jackson.JsonFormat;
 
 import com.google.common.base.Preconditions;
 
@@ -50,14 +57,22 @@ public class PulsarConsumerImpl implements Consumer {
     private final AtomicBoolean started = new AtomicBoolean(false);
     private Properties properties;
     private PulsarClient pulsarClient;
-    private org.apache.pulsar.client.api.Consumer<byte[]> consumer;
+    private ClientConfiguration clientConfiguration;
+    private final Map<String, List<org.apache.pulsar.client.api.Consumer<byte[]>>> topicConsumers = new ConcurrentHashMap<>();
+    private final Map<String, PulsarMessageHandler> topicHandlers = new ConcurrentHashMap<>();
+    private ExecutorService batchReceiveExecutor;
+    private ScheduledExecutorService reconsumeScheduler;
     private EventListener eventListener;
 
     @Override
     public void init(Properties properties) throws Exception {
         this.properties = properties;
 
-        final ClientConfiguration clientConfiguration = ClientConfiguration.getInstance();
+        this.clientConfiguration = ClientConfiguration.getInstance();
+        // every receive loop holds its thread until the consumer is closed, so the loops are never queued
+        this.batchReceiveExecutor = ThreadPoolFactory.createThreadPoolExecutor(1,
+            Math.max(1, clientConfiguration.getBatchReceiveThreads()), new SynchronousQueue<>(), "pulsar-batch-receive-%d", true);
+        this.reconsumeScheduler = ThreadPoolFactory.createSingleScheduledExecutor("pulsar-reconsume-");
 
         try {
             ClientBuilder clientBuilder = PulsarClient.builder()
@@ -92,38 +107,76 @@ public class PulsarConsumerImpl implements Consumer {
                  String.format("Cann't find the pulsar client for topic: %s", topic));
         }
 
-        EventMeshAsyncConsumeContext consumeContext = new EventMeshAsyncConsumeContext() {
-            @Override
-            public void commit(EventMeshAction action) {
-                log.debug("message action: {} for topic: {}", action.name(), topic);
+        if (topicConsumers.containsKey(topic)) {
+            return;
+        }
+
+        SubscriptionType subscriptionType = SubscriptionType.valueOf(clientConfiguration.getSubscriptionType());
+        boolean sharedSubscription = subscriptionType == SubscriptionType.Shared
+            || subscriptionType == SubscriptionType.Key_Shared;
+        boolean cumulativeAck = clientConfiguration.isCumulativeAck();
+        if (cumulativeAck && sharedSubscription) {
+            log.warn("cumulative ack is not supported by {} subscription, ack the messages individually", subscriptionType);
+            cumulativeAck = false;
+        }
+        boolean batchMode = ClientConfiguration.CONSUME_MODE_BATCH.equals(clientConfiguration.getConsumeMode());
+        int consumerNum = sharedSubscription ? Math.max(1, clientConfiguration.getConsumerNum()) : 1;
+
+        PulsarMessageHandler messageHandler = new PulsarMessageHandler(eventListener, cumulativeAck, reconsumeScheduler);
+        List<org.apache.pulsar.client.api.Consumer<byte[]>> consumers = new ArrayList<>(consumerNum);
+        for (int i = 0; i < consumerNum; i++) {
+            ConsumerBuilder<byte[]> consumerBuilder = pulsarClient.newConsumer()
+                .topic(topic)
+                .subscriptionName(properties.getProperty(Constants.CONSUMER_GROUP))
+                .subscriptionType(subscriptionType)
+                .acknowledgmentGroupTime(clientConfiguration.getAckGroupTimeInMills(), TimeUnit.MILLISECONDS);
+            if (batchMode) {
+                consumerBuilder.batchReceivePolicy(BatchReceivePolicy.builder()
+                    .maxNumMessages(clientConfiguration.getBatchReceiveMaxMessages())
+                    .maxNumBytes(clientConfiguration.getBatchReceiveMaxBytes())
+                    .timeout(clientConfiguration.getBatchReceiveTimeoutInMills(), TimeUnit.MILLISECONDS)
+                    .build());
+            } else {
+                consumerBuilder.messageListener((MessageListener<byte[]>) messageHandler::handle);
+            }
+            org.apache.pulsar.client.api.Consumer<byte[]> consumer = consumerBuilder.subscribe();
+            consumers.add(consumer);
+            if (batchMode) {
+                try {
+                    batchReceiveExecutor.execute(() -> messageHandler.receiveLoop(consumer));
+                } catch (RejectedExecutionException ex) {
+                    closeQuietly(consumers);
+                    throw new ConnectorRuntimeException(String.format(
+                        "Too many batch receive consumers to subscribe the topic:%s, the limit is %s", topic,
+                        clientConfiguration.getBatchReceiveThreads()));
+                }
+            }
+        }
+        topicHandlers.put(topic, messageHandler);
+        topicConsumers.put(topic, consumers);
+    }
+
+    private void closeQuietly(List<org.apache.pulsar.client.api.Consumer<byte[]>> consumers) {
+        for (org.apache.pulsar.client.api.Consumer<byte[]> consumer : consumers) {
+            try {
+                consumer.close();
+            } catch (PulsarClientException ex) {
+                log.warn("Failed to close the consumer of {}", consumer.getTopic(), ex);
             }
-        };
-
-        consumer = pulsarClient.newConsumer()
-            .topic(topic)
-            .subscriptionName(properties.getProperty(Constants.CONSUMER_GROUP))
-            .messageListener(
-              (MessageListener<byte[]>) (ackConsumer, msg) -> {
-                  CloudEvent cloudEvent = EventFormatProvider
-                      .getInstance()
-                      .resolveFormat(JsonFormat.CONTENT_TYPE)
-                      .deserialize(msg.getData());
-                  eventListener.consume(cloudEvent, consumeContext);
-                  try {
-                      ackConsumer.acknowledge(msg);
-                  } catch (PulsarClientException ex) {
-                      throw new ConnectorRuntimeException(
-                        String.format("Failed to unsubscribe the topic:%s with exception: %s", topic, ex.getMessage()));
-                  } catch (EventDeserializationException ex) {
-                      log.warn("The Message isn't json format, with exception:{}", ex.getMessage());
-                  }
-              }).subscribe();
+        }
     }
 
     @Override
     public void unsubscribe(String topic) {
+        List<org.apache.pulsar.client.api.Consumer<byte[]>> consumers = topicConsumers.remove(topic);
+        topicHandlers.remove(topic);
+        if (consumers == null) {
+            return;
+        }
         try {
-            consumer.unsubscribe();
+            for (org.apache.pulsar.client.api.Consumer<byte[]> consumer : consumers) {
+                consumer.unsubscribe();
+            }
         } catch (PulsarClientException ex) {
             throw new ConnectorRuntimeException(
               String.format("Failed to unsubscribe the topic:%s with exception: %s", topic, ex.getMessage()));
@@ -132,6 +185,14 @@ public class PulsarConsumerImpl implements Consumer {
 
     @Override
     public void updateOffset(List<CloudEvent> cloudEvents, AbstractContext context) {
+        for (CloudEvent cloudEvent : cloudEvents) {
+            PulsarMessageHandler messageHandler = topicHandlers.get(cloudEvent.getSubject());
+            if (messageHandler != null) {
+                messageHandler.ack(context);
+            } else {
+                topicHandlers.values().forEach(handler -> handler.ack(context));
+            }
+        }
     }
 
     @Override
@@ -153,7 +214,15 @@ public class PulsarConsumerImpl implements Consumer {
     public void shutdown() {
         this.started.compareAndSet(true, false);
         try {
-            this.consumer.close();
+            for (List<org.apache.pulsar.client.api.Consumer<byte[]>> consumers : topicConsumers.values()) {
+                for (org.apache.pulsar.client.api.Consumer<byte[]> consumer : consumers) {
+                    consumer.close();
+                }
+            }
+            topicConsumers.clear();
+            topicHandlers.clear();
+            this.batchReceiveExecutor.shutdownNow();
+            this.reconsumeScheduler.shutdownNow();
             this.pulsarClient.close();
         } catch (PulsarClientException ex) {
             throw new ConnectorRuntimeException(
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.pulsar.consumer;
+
+import org.apache.eventmesh.api.AbstractContext;
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Messages;
+import org.apache.pulsar.client.api.PulsarClientException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.format.EventDeserializationException;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.jackson.JsonFormat;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands the messages of the pulsar consumers of one topic to the listener and maps the {@link EventMeshAction}s to acks.
+ * <ul>
+ *     <li>CommitMessage acks the message, ManualAck waits for {@link #ack(AbstractContext)} from updateOffset</li>
+ *     <li>a message the listener fails on is handled as ReconsumeLater</li>
+ *     <li>ReconsumeLater negatively acks the message, or hands it to the listener again after a delay with cumulative
+ *     acks, where a later cumulative ack would also cover the redelivered message</li>
+ *     <li>with cumulative acks only the contiguous prefix of acked messages of each partition is acked, with one
+ *     cumulative ack per partition, which needs a single consumer per topic</li>
+ * </ul>
+ */
+@Slf4j
+public class PulsarMessageHandler {
+
+    private static final long RECONSUME_DELAY_IN_MILLS = 1000L;
+
+    private final EventListener eventListener;
+
+    private final boolean cumulativeAck;
+
+    /**
+     * messages handed to the listener by message id, the pending message is the consume context of the message, the
+     * runtime passes it back when it acks a ManualAck message through updateOffset
+     */
+    private final Map<MessageId, PendingMessage> pendingMessages = new ConcurrentHashMap<>();
+
+    /**
+     * receive order of the pending messages by partition, only used with cumulative acks
+     */
+    private final Map<String /* partition topic */, ConcurrentSkipListMap<Long, PendingMessage>> receiveOrders =
+        new ConcurrentHashMap<>();
+
+    private final AtomicLong receiveSeq = new AtomicLong();
+
+    private final ScheduledExecutorService reconsumeScheduler;
+
+    public PulsarMessageHandler(EventListener eventListener, boolean cumulativeAck,
+                                ScheduledExecutorService reconsumeScheduler) {
+        this.eventListener = eventListener;
+        this.cumulativeAck = cumulativeAck;
+        this.reconsumeScheduler = reconsumeScheduler;
+    }
+
+    public void handle(Consumer<byte[]> consumer, Messages<byte[]> messages) {
+        messages.forEach(msg -> handle(consumer, msg));
+    }
+
+    public void handle(Consumer<byte[]> consumer, Message<byte[]> msg) {
+        CloudEvent cloudEvent;
+        try {
+            cloudEvent = EventFormatProvider
+                .getInstance()
+                .resolveFormat(JsonFormat.CONTENT_TYPE)
+                .deserialize(msg.getData());
+        } catch (EventDeserializationException ex) {
+            log.warn("The Message isn't json format, with exception:{}", ex.getMessage());
+            ackMessage(track(consumer, msg));
+            return;
+        }
+        consume(cloudEvent, track(consumer, msg));
+    }
+
+    /**
+     * acks a message the listener answered with ManualAck
+     *
+     * @param context the consume context the message was handed to the listener with
+     */
+    public void ack(AbstractContext context) {
+        if (!(context instanceof PendingMessage)) {
+            return;
+        }
+        PendingMessage pendingMessage = (PendingMessage) context;
+        if (pendingMessages.get(pendingMessage.messageId) == pendingMessage) {
+            ackMessage(pendingMessage);
+        }
+    }
+
+    public int pendingSize() {
+        if (!cumulativeAck) {
+            return pendingMessages.size();
+        }
+        return receiveOrders.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private PendingMessage track(Consumer<byte[]> consumer, Message<byte[]> msg) {
+        PendingMessage pendingMessage = new PendingMessage(receiveSeq.incrementAndGet(), consumer, msg);
+        pendingMessages.put(pendingMessage.messageId, pendingMessage);
+        if (cumulativeAck) {
+            receiveOrders.computeIfAbsent(pendingMessage.partition, k -> new ConcurrentSkipListMap<>())
+                .put(pendingMessage.seq, pendingMessage);
+        }
+        return pendingMessage;
+    }
+
+    private void consume(CloudEvent cloudEvent, PendingMessage pendingMessage) {
+        EventMeshAsyncConsumeContext consumeContext = new EventMeshAsyncConsumeContext() {
+            @Override
+            public void commit(EventMeshAction action) {
+                switch (action) {
+                    case CommitMessage:
+                        ackMessage(pendingMessage);
+                        break;
+                    case ReconsumeLater:
+                        reconsumeLater(cloudEvent, pendingMessage);
+                        break;
+                    case ManualAck:
+                        // acked by updateOffset once the event was delivered
+                        break;
+                    default:
+                }
+            }
+        };
+        consumeContext.setAbstractContext(pendingMessage);
+        try {
+            eventListener.consume(cloudEvent, consumeContext);
+        } catch (Exception ex) {
+            log.error("Failed to consume the message: {}", pendingMessage.messageId, ex);
+            reconsumeLater(cloudEvent, pendingMessage);
+        }
+    }
+
+    private void reconsumeLater(CloudEvent cloudEvent, PendingMessage pendingMessage) {
+        if (cumulativeAck) {
+            // the message stays pending, so the watermark of its partition waits for it
+            reconsumeScheduler.schedule(() -> consume(cloudEvent, pendingMessage), RECONSUME_DELAY_IN_MILLS,
+                TimeUnit.MILLISECONDS);
+            return;
+        }
+        untrack(pendingMessage);
+        pendingMessage.consumer.negativeAcknowledge(pendingMessage.msg);
+    }
+
+    private void ackMessage(PendingMessage pendingMessage) {
+        if (!pendingMessage.acked.compareAndSet(false, true)) {
+            return;
+        }
+        untrack(pendingMessage);
+        if (!cumulativeAck) {
+            pendingMessage.consumer.acknowledgeAsync(pendingMessage.messageId)
+                .exceptionally(ex -> {
+                    log.warn("Failed to ack the message: {}", pendingMessage.messageId, ex);
+                    return null;
+                });
+            return;
+        }
+        ackCumulative(pendingMessage.partition);
+    }
+
+    private void untrack(PendingMessage pendingMessage) {
+        pendingMessages.remove(pendingMessage.messageId, pendingMessage);
+    }
+
+    private synchronized void ackCumulative(String partition) {
+        ConcurrentSkipListMap<Long, PendingMessage> receiveOrder = receiveOrders.get(partition);
+        PendingMessage lastAcked = null;
+        Map.Entry<Long, PendingMessage> head;
+        while ((head = receiveOrder.firstEntry()) != null && head.getValue().acked.get()) {
+            receiveOrder.remove(head.getKey());
+            lastAcked = head.getValue();
+        }
+        if (lastAcked == null) {
+            return;
+        }
+        MessageId messageId = lastAcked.messageId;
+        lastAcked.consumer.acknowledgeCumulativeAsync(messageId)
+            .exceptionally(ex -> {
+                log.warn("Failed to ack the messages up to: {}", messageId, ex);
+                return null;
+            });
+    }
+
+    /**
+     * blocks on batchReceive and hands the messages to the listener, until the consumer is closed
+     */
+    public void receiveLoop(Consumer<byte[]> consumer) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                handle(consumer, consumer.batchReceive());
+            } catch (PulsarClientException.AlreadyClosedException ex) {
+                break;
+            } catch (PulsarClientException ex) {
+                log.warn("Failed to batch receive from {}", consumer.getTopic(), ex);
+            } catch (Exception ex) {
+                log.error("Failed to handle the messages from {}", consumer.getTopic(), ex);
+            }
+        }
+        log.info("batch receive loop of {} exits", consumer.getTopic());
+    }
+
+    private static class PendingMessage implements AbstractContext {
+
+        private final MessageId messageId;
+
+        private final long seq;
+
+        private final String partition;
+
+        private final Consumer<byte[]> consumer;
+
+        private final Message<byte[]> msg;
+
+        private final AtomicBoolean acked = new AtomicBoolean(false);
+
+        PendingMessage(long seq, Consumer<byte[]> consumer, Message<byte[]> msg) {
+            this.messageId = msg.getMessageId();
+            this.seq = seq;
+            this.partition = String.valueOf(msg.getTopicName());
+            this.consumer = consumer;
+            this.msg = msg;
+        }
+    }
+}
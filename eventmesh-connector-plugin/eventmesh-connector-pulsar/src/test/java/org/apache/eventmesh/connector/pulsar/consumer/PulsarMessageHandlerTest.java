@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.pulsar.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.api.AbstractContext;
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.core.provider.EventFormatProvider;
+import io.cloudevents.jackson.JsonFormat;
+
+public class PulsarMessageHandlerTest {
+
+    private Consumer<byte[]> consumer;
+
+    private ScheduledExecutorService reconsumeScheduler;
+
+    private final Map<String, EventMeshAction> actions = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> consumeTimes = new ConcurrentHashMap<>();
+
+    private final Map<String, AbstractContext> contexts = new ConcurrentHashMap<>();
+
+    private final EventListener eventListener = (cloudEvent, context) -> {
+        consumeTimes.computeIfAbsent(cloudEvent.getId(), k -> new AtomicInteger()).incrementAndGet();
+        contexts.put(cloudEvent.getId(), ((EventMeshAsyncConsumeContext) context).getAbstractContext());
+        context.commit(actions.getOrDefault(cloudEvent.getId(), EventMeshAction.ManualAck));
+    };
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        consumer = mock(Consumer.class);
+        reconsumeScheduler = mock(ScheduledExecutorService.class);
+        when(consumer.acknowledgeAsync(any(MessageId.class))).thenReturn(CompletableFuture.completedFuture(null));
+        when(consumer.acknowledgeCumulativeAsync(any(MessageId.class))).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    public void testIndividualAck() {
+        PulsarMessageHandler handler = new PulsarMessageHandler(eventListener, false, reconsumeScheduler);
+        actions.put("1", EventMeshAction.CommitMessage);
+        actions.put("3", EventMeshAction.ReconsumeLater);
+        Message<byte[]> msg1 = mockMessage("1");
+        Message<byte[]> msg2 = mockMessage("2");
+        Message<byte[]> msg3 = mockMessage("3");
+
+        handler.handle(consumer, msg1);
+        handler.handle(consumer, msg2);
+        handler.handle(consumer, msg3);
+
+        verify(consumer).acknowledgeAsync(msg1.getMessageId());
+        verify(consumer, never()).acknowledgeAsync(msg2.getMessageId());
+        verify(consumer).negativeAcknowledge(msg3);
+        Assert.assertEquals(1, handler.pendingSize());
+
+        // ManualAck messages are acked by updateOffset
+        handler.ack(contexts.get("2"));
+        verify(consumer).acknowledgeAsync(msg2.getMessageId());
+        Assert.assertEquals(0, handler.pendingSize());
+    }
+
+    @Test
+    public void testCumulativeAckOfContiguousPrefix() {
+        PulsarMessageHandler handler = new PulsarMessageHandler(eventListener, true, reconsumeScheduler);
+        Message<byte[]> msg1 = mockMessage("1");
+        Message<byte[]> msg2 = mockMessage("2");
+        Message<byte[]> msg3 = mockMessage("3");
+        handler.handle(consumer, msg1);
+        handler.handle(consumer, msg2);
+        handler.handle(consumer, msg3);
+
+        handler.ack(contexts.get("2"));
+        verify(consumer, never()).acknowledgeCumulativeAsync(any(MessageId.class));
+
+        handler.ack(contexts.get("1"));
+        verify(consumer).acknowledgeCumulativeAsync(msg2.getMessageId());
+        Assert.assertEquals(1, handler.pendingSize());
+
+        handler.ack(contexts.get("3"));
+        verify(consumer).acknowledgeCumulativeAsync(msg3.getMessageId());
+        verify(consumer, never()).acknowledgeAsync(any(MessageId.class));
+        Assert.assertEquals(0, handler.pendingSize());
+    }
+
+    @Test
+    public void testCumulativeAckPerPartition() {
+        PulsarMessageHandler handler = new PulsarMessageHandler(eventListener, true, reconsumeScheduler);
+        Message<byte[]> msg1 = mockMessage("1", "topic-partition-0");
+        Message<byte[]> msg2 = mockMessage("2", "topic-partition-1");
+        Message<byte[]> msg3 = mockMessage("3", "topic-partition-0");
+        handler.handle(consumer, msg1);
+        handler.handle(consumer, msg2);
+        handler.handle(consumer, msg3);
+
+        // partition 1 does not wait for the unacked message of partition 0
+        handler.ack(contexts.get("2"));
+        verify(consumer).acknowledgeCumulativeAsync(msg2.getMessageId());
+
+        handler.ack(contexts.get("3"));
+        verify(consumer, never()).acknowledgeCumulativeAsync(msg3.getMessageId());
+        handler.ack(contexts.get("1"));
+        verify(consumer).acknowledgeCumulativeAsync(msg3.getMessageId());
+        Assert.assertEquals(0, handler.pendingSize());
+    }
+
+    @Test
+    public void testCumulativeReconsumeLaterIsScheduled() {
+        PulsarMessageHandler handler = new PulsarMessageHandler(eventListener, true, reconsumeScheduler);
+        actions.put("1", EventMeshAction.ReconsumeLater);
+        Message<byte[]> msg1 = mockMessage("1");
+        handler.handle(consumer, msg1);
+
+        ArgumentCaptor<Runnable> reconsume = ArgumentCaptor.forClass(Runnable.class);
+        verify(reconsumeScheduler).schedule(reconsume.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, consumeTimes.get("1").get());
+        Assert.assertEquals(1, handler.pendingSize());
+
+        actions.put("1", EventMeshAction.CommitMessage);
+        reconsume.getValue().run();
+        Assert.assertEquals(2, consumeTimes.get("1").get());
+        verify(consumer, times(1)).acknowledgeCumulativeAsync(msg1.getMessageId());
+        Assert.assertEquals(0, handler.pendingSize());
+    }
+
+    @Test
+    public void testAckByMessageIdWithDuplicateEventId() {
+        PulsarMessageHandler handler = new PulsarMessageHandler(eventListener, true, reconsumeScheduler);
+        Message<byte[]> msg1 = mockMessage("1");
+        handler.handle(consumer, msg1);
+        AbstractContext context1 = contexts.get("1");
+        Message<byte[]> msg2 = mockMessage("1");
+        handler.handle(consumer, msg2);
+        final AbstractContext context2 = contexts.get("1");
+        Assert.assertEquals(2, handler.pendingSize());
+
+        handler.ack(context1);
+        verify(consumer).acknowledgeCumulativeAsync(msg1.getMessageId());
+        handler.ack(context2);
+        verify(consumer).acknowledgeCumulativeAsync(msg2.getMessageId());
+        Assert.assertEquals(0, handler.pendingSize());
+    }
+
+    @Test
+    public void testListenerFailureNegativelyAcks() {
+        PulsarMessageHandler handler = new PulsarMessageHandler((cloudEvent, context) -> {
+            throw new IllegalStateException("consume failed");
+        }, false, reconsumeScheduler);
+        Message<byte[]> msg = mockMessage("1");
+        handler.handle(consumer, msg);
+
+        verify(consumer).negativeAcknowledge(msg);
+        verify(consumer, never()).acknowledgeAsync(any(MessageId.class));
+        Assert.assertEquals(0, handler.pendingSize());
+    }
+
+    @Test
+    public void testSkipMessageNotInJsonFormat() {
+        PulsarMessageHandler handler = new PulsarMessageHandler(eventListener, false, reconsumeScheduler);
+        @SuppressWarnings("unchecked")
+        Message<byte[]> msg = mock(Message.class);
+        MessageId messageId = mock(MessageId.class);
+        when(msg.getData()).thenReturn("not a cloudevent".getBytes());
+        when(msg.getMessageId()).thenReturn(messageId);
+
+        handler.handle(consumer, msg);
+        verify(consumer).acknowledgeAsync(messageId);
+    }
+
+    private Message<byte[]> mockMessage(String id) {
+        return mockMessage(id, "topic");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Message<byte[]> mockMessage(String id, String partition) {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("/test"))
+            .withType("test")
+            .withSubject("topic")
+            .build();
+        Message<byte[]> msg = mock(Message.class);
+        MessageId messageId = mock(MessageId.class);
+        when(msg.getData()).thenReturn(EventFormatProvider.getInstance()
+            .resolveFormat(JsonFormat.CONTENT_TYPE).serialize(cloudEvent));
+        when(msg.getMessageId()).thenReturn(messageId);
+        when(msg.getTopicName()).thenReturn(partition);
+        return msg;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.rabbitmq.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.Connection;
+
+/**
+ * A fixed set of channels in publisher confirm mode, used round-robin by concurrent publishers.
+ *
+ * <p>A channel must not be used to publish from several threads at once, so each publish holds its channel
+ * only for the basicPublish call, and the returned future completes when the broker confirms the message.
+ * A channel closed by the broker, e.g. after a publish to a missing exchange, is replaced when its turn comes.
+ */
+public class RabbitmqChannelPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(RabbitmqChannelPool.class);
+
+    private final RabbitmqConnectionFactory rabbitmqConnectionFactory;
+
+    private final Connection connection;
+
+    private final AtomicReferenceArray<ConfirmChannel> channels;
+
+    private final AtomicInteger index = new AtomicInteger();
+
+    private volatile boolean closed = false;
+
+    public RabbitmqChannelPool(RabbitmqConnectionFactory rabbitmqConnectionFactory, Connection connection,
+                               int channelNum) throws IOException {
+        this.rabbitmqConnectionFactory = rabbitmqConnectionFactory;
+        this.connection = connection;
+        this.channels = new AtomicReferenceArray<>(channelNum);
+        for (int i = 0; i < channelNum; i++) {
+            channels.set(i, createChannel());
+        }
+    }
+
+    /**
+     * publish message on the next channel of the pool
+     *
+     * @param exchangeName exchange name
+     * @param routingKey   routing key
+     * @param properties   message properties
+     * @param message      message
+     * @return future completed once the broker confirms the message, or exceptionally when it is nacked or
+     *     the channel is closed before the confirm arrives
+     */
+    public CompletableFuture<Void> publish(String exchangeName, String routingKey, AMQP.BasicProperties properties,
+                                           byte[] message) {
+        ConfirmChannel confirmChannel;
+        try {
+            confirmChannel = nextChannel();
+        } catch (Exception ex) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+            return future;
+        }
+        return confirmChannel.publish(exchangeName, routingKey, properties, message);
+    }
+
+    public synchronized void close(RabbitmqClient rabbitmqClient) {
+        closed = true;
+        for (int i = 0; i < channels.length(); i++) {
+            ConfirmChannel confirmChannel = channels.get(i);
+            rabbitmqClient.closeChannel(confirmChannel.channel);
+            confirmChannel.failAll(new IOException("channel closed before publish confirmed"));
+        }
+    }
+
+    private ConfirmChannel nextChannel() throws IOException {
+        int slot = Math.abs(index.getAndIncrement() % channels.length());
+        ConfirmChannel confirmChannel = channels.get(slot);
+        return confirmChannel.channel.isOpen() ? confirmChannel : reopen(slot, confirmChannel);
+    }
+
+    private synchronized ConfirmChannel reopen(int slot, ConfirmChannel deadChannel) throws IOException {
+        if (closed) {
+            throw new IOException("channel pool is closed");
+        }
+        ConfirmChannel current = channels.get(slot);
+        if (current != deadChannel) {
+            // already replaced by another publisher
+            return current;
+        }
+        ConfirmChannel confirmChannel = createChannel();
+        channels.set(slot, confirmChannel);
+        try {
+            // keep an auto recovering channel from coming back next to its replacement
+            deadChannel.channel.abort();
+        } catch (Exception ex) {
+            logger.warn("[RabbitmqChannelPool] abort closed channel happen exception.", ex);
+        }
+        logger.warn("[RabbitmqChannelPool] replaced closed channel {}", deadChannel.channel.getChannelNumber());
+        return confirmChannel;
+    }
+
+    private ConfirmChannel createChannel() throws IOException {
+        Channel channel = rabbitmqConnectionFactory.createChannel(connection);
+        if (channel == null) {
+            throw new IOException("no channel available on the connection");
+        }
+        return new ConfirmChannel(channel);
+    }
+
+    private static class ConfirmChannel implements ConfirmListener {
+
+        private final Channel channel;
+
+        /**
+         * publish sequence number to the publish waiting for its confirm
+         */
+        private final ConcurrentNavigableMap<Long, CompletableFuture<Void>> unconfirmed = new ConcurrentSkipListMap<>();
+
+        ConfirmChannel(Channel channel) throws IOException {
+            this.channel = channel;
+            channel.confirmSelect();
+            channel.addConfirmListener(this);
+            channel.addShutdownListener(cause -> failAll(cause));
+        }
+
+        CompletableFuture<Void> publish(String exchangeName, String routingKey, AMQP.BasicProperties properties,
+                                        byte[] message) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            synchronized (this) {
+                // the confirm may arrive before basicPublish returns, so register the publish first
+                long seqNo = channel.getNextPublishSeqNo();
+                unconfirmed.put(seqNo, future);
+                try {
+                    channel.basicPublish(exchangeName, routingKey, properties, message);
+                } catch (Exception ex) {
+                    unconfirmed.remove(seqNo);
+                    future.completeExceptionally(ex);
+                }
+            }
+            return future;
+        }
+
+        @Override
+        public void handleAck(long deliveryTag, boolean multiple) {
+            for (CompletableFuture<Void> future : confirmed(deliveryTag, multiple)) {
+                future.complete(null);
+            }
+        }
+
+        @Override
+        public void handleNack(long deliveryTag, boolean multiple) {
+            for (CompletableFuture<Void> future : confirmed(deliveryTag, multiple)) {
+                future.completeExceptionally(new IOException("publish nacked by broker, deliveryTag: " + deliveryTag));
+            }
+        }
+
+        void failAll(Throwable cause) {
+            if (unconfirmed.isEmpty()) {
+                return;
+            }
+            logger.warn("[RabbitmqChannelPool] channel closed with {} unconfirmed publishes", unconfirmed.size());
+            for (Long seqNo : unconfirmed.keySet()) {
+                CompletableFuture<Void> future = unconfirmed.remove(seqNo);
+                if (future != null) {
+                    future.completeExceptionally(cause);
+                }
+            }
+        }
+
+        private List<CompletableFuture<Void>> confirmed(long deliveryTag, boolean multiple) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            if (multiple) {
+                Map<Long, CompletableFuture<Void>> confirmed = unconfirmed.headMap(deliveryTag, true);
+                futures.addAll(confirmed.values());
+                confirmed.clear();
+            } else {
+                CompletableFuture<Void> future = unconfirmed.remove(deliveryTag);
+                if (future != null) {
+                    futures.add(future);
+                }
+            }
+            return futures;
+        }
+    }
+}
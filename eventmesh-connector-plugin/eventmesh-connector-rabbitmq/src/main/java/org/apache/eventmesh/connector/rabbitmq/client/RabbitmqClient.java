@@ -64,20 +64,6 @@ public class RabbitmqClient {
         return rabbitmqConnectionFactory.createConnection(factory);
     }
 
-    /**
-     * send message
-     *
-     * @param channel      channel
-     * @param exchangeName exchange name
-     * @param routingKey   routing key
-     * @param message      message
-     * @throws Exception Exception
-     */
-    public void publish(Channel channel, String exchangeName,
-                        String routingKey, byte[] message) throws Exception {
-        channel.basicPublish(exchangeName, routingKey, null, message);
-    }
-
     /**
      * binding queue
      *
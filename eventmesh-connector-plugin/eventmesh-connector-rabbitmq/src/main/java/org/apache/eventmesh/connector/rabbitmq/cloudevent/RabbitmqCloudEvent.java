@@ -18,60 +18,187 @@
 package org.apache.eventmesh.connector.rabbitmq.cloudevent;
 
 import org.apache.eventmesh.connector.rabbitmq.exception.RabbitmqaConnectorException;
-import org.apache.eventmesh.connector.rabbitmq.utils.ByteArrayUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
 import java.io.Serializable;
-import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.builder.CloudEventBuilder;
 
+import com.rabbitmq.client.AMQP;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * CloudEvent in the binary content mode of the AMQP protocol binding: the context attributes travel as
+ * {@code cloudEvents:} prefixed message headers, datacontenttype as the content type and the data as the raw body.
+ *
+ * <p>Messages written by earlier versions, which Java serialized the whole event as the body, are still readable.
+ */
 @Data
 @NoArgsConstructor
-public class RabbitmqCloudEvent implements Serializable {
+public class RabbitmqCloudEvent {
+
+    public static final String HEADER_PREFIX = "cloudEvents:";
+
+    private static final String SPEC_VERSION = "specversion";
+
+    private static final String DATA_CONTENT_TYPE = "datacontenttype";
+
+    private static final int NON_PERSISTENT_DELIVERY_MODE = 1;
+
+    private static final int PERSISTENT_DELIVERY_MODE = 2;
+
+    /**
+     * first bytes of a Java serialization stream
+     */
+    private static final byte[] JAVA_SERIALIZATION_MAGIC = {(byte) 0xAC, (byte) 0xED};
 
     private SpecVersion version;
-    private String data;
+    private byte[] data;
     private Map<String, String> extensions = new HashMap<>();
 
     public CloudEvent convertToCloudEvent() {
         CloudEventBuilder builder;
-        switch (version) {
-            case V03:
-                builder = CloudEventBuilder.v03();
-                break;
-            case V1:
-                builder = CloudEventBuilder.v1();
-                break;
-            default:
-                throw new RabbitmqaConnectorException(String.format("CloudEvent version %s does not support.", version));
+        try {
+            builder = CloudEventBuilder.fromSpecVersion(version);
+        } catch (Exception ex) {
+            throw new RabbitmqaConnectorException(String.format("CloudEvent version %s does not support.", version));
+        }
+        extensions.forEach(builder::withContextAttribute);
+        return builder.withData(data).build();
+    }
+
+    public AMQP.BasicProperties toBasicProperties() {
+        return toBasicProperties(true);
+    }
+
+    /**
+     * @param persistent whether the broker writes the message to disk, it survives a broker restart in a durable queue
+     */
+    public AMQP.BasicProperties toBasicProperties(boolean persistent) {
+        Map<String, Object> headers = new HashMap<>(extensions.size() + 1);
+        headers.put(HEADER_PREFIX + SPEC_VERSION, version.toString());
+        extensions.forEach((name, value) -> {
+            if (!DATA_CONTENT_TYPE.equals(name)) {
+                headers.put(HEADER_PREFIX + name, value);
+            }
+        });
+        return new AMQP.BasicProperties.Builder()
+                .contentType(extensions.get(DATA_CONTENT_TYPE))
+                .deliveryMode(persistent ? PERSISTENT_DELIVERY_MODE : NON_PERSISTENT_DELIVERY_MODE)
+                .headers(headers)
+                .build();
+    }
+
+    public static RabbitmqCloudEvent getFromMessage(AMQP.BasicProperties properties, byte[] body) {
+        Map<String, Object> headers = properties == null ? null : properties.getHeaders();
+        Object specVersion = headers == null ? null : headers.get(HEADER_PREFIX + SPEC_VERSION);
+        if (specVersion == null) {
+            if (isJavaSerialized(body)) {
+                return getFromLegacyBody(body);
+            }
+            throw new RabbitmqaConnectorException("message is not a binary mode CloudEvent, specversion header is missing");
+        }
+        RabbitmqCloudEvent rabbitmqCloudEvent = new RabbitmqCloudEvent();
+        rabbitmqCloudEvent.setVersion(SpecVersion.parse(specVersion.toString()));
+        headers.forEach((name, value) -> {
+            // header values received from the broker are LongString, toString decodes them as UTF-8
+            if (value != null && name.startsWith(HEADER_PREFIX) && name.length() > HEADER_PREFIX.length()) {
+                rabbitmqCloudEvent.getExtensions().put(name.substring(HEADER_PREFIX.length()), value.toString());
+            }
+        });
+        rabbitmqCloudEvent.getExtensions().remove(SPEC_VERSION);
+        if (properties.getContentType() != null) {
+            rabbitmqCloudEvent.getExtensions().put(DATA_CONTENT_TYPE, properties.getContentType());
         }
-        builder.withData(data.getBytes(StandardCharsets.UTF_8))
-                .withId(extensions.remove("id"))
-                .withSource(URI.create(extensions.remove("source")))
-                .withType(extensions.remove("type"))
-                .withDataContentType(extensions.remove("datacontenttype"))
-                .withSubject(extensions.remove("subject"));
-        extensions.forEach(builder::withExtension);
-
-        return builder.build();
+        rabbitmqCloudEvent.setData(body);
+        return rabbitmqCloudEvent;
     }
 
-    public static byte[] toByteArray(RabbitmqCloudEvent rabbitmqCloudEvent) throws Exception {
-        Optional<byte[]> optionalBytes = ByteArrayUtils.objectToBytes(rabbitmqCloudEvent);
-        return optionalBytes.orElseGet(() -> new byte[]{});
+    private static boolean isJavaSerialized(byte[] body) {
+        return body != null && body.length > JAVA_SERIALIZATION_MAGIC.length
+                && body[0] == JAVA_SERIALIZATION_MAGIC[0] && body[1] == JAVA_SERIALIZATION_MAGIC[1];
     }
 
-    public static RabbitmqCloudEvent getFromByteArray(byte[] body) throws Exception {
-        Optional<RabbitmqCloudEvent> optionalCloudEvent = ByteArrayUtils.bytesToObject(body);
-        return optionalCloudEvent.orElse(null);
+    /**
+     * read an event written by versions which Java serialized the whole event as the body
+     */
+    private static RabbitmqCloudEvent getFromLegacyBody(byte[] body) {
+        LegacyEvent legacyEvent;
+        try (ObjectInputStream in = new LegacyEventInputStream(body)) {
+            legacyEvent = (LegacyEvent) in.readObject();
+        } catch (Exception ex) {
+            throw new RabbitmqaConnectorException(ex);
+        }
+        RabbitmqCloudEvent rabbitmqCloudEvent = new RabbitmqCloudEvent();
+        rabbitmqCloudEvent.setVersion(legacyEvent.version);
+        rabbitmqCloudEvent.setData(legacyEvent.data == null ? null : legacyEvent.data.getBytes(StandardCharsets.UTF_8));
+        if (legacyEvent.extensions != null) {
+            legacyEvent.extensions.forEach((name, value) -> {
+                if (value != null) {
+                    rabbitmqCloudEvent.getExtensions().put(name, value);
+                }
+            });
+        }
+        return rabbitmqCloudEvent;
+    }
+
+    /**
+     * the fields of RabbitmqCloudEvent as earlier versions serialized it
+     */
+    private static class LegacyEvent implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private SpecVersion version;
+        private String data;
+        private Map<String, String> extensions;
+    }
+
+    /**
+     * Reads a legacy event into {@link LegacyEvent}, refusing any class a legacy event does not contain.
+     */
+    private static class LegacyEventInputStream extends ObjectInputStream {
+
+        private static final Map<String, Class<?>> ALLOWED_CLASSES = new HashMap<>();
+
+        static {
+            for (Class<?> clazz : new Class<?>[] {LegacyEvent.class, SpecVersion.class, Enum.class, HashMap.class,
+                LinkedHashMap.class}) {
+                ALLOWED_CLASSES.put(clazz.getName(), clazz);
+            }
+        }
+
+        LegacyEventInputStream(byte[] body) throws IOException {
+            super(new ByteArrayInputStream(body));
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass descriptor = super.readClassDescriptor();
+            // the class has changed since, its serialized fields are read into LegacyEvent which declares the same
+            return RabbitmqCloudEvent.class.getName().equals(descriptor.getName())
+                    ? ObjectStreamClass.lookup(LegacyEvent.class) : descriptor;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException {
+            Class<?> clazz = ALLOWED_CLASSES.get(descriptor.getName());
+            if (clazz == null) {
+                throw new InvalidClassException(descriptor.getName(), "not expected in a legacy RabbitmqCloudEvent");
+            }
+            return clazz;
+        }
     }
 }
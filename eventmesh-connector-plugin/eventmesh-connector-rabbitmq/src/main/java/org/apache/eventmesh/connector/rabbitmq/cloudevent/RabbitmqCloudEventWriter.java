@@ -17,8 +17,6 @@
 
 package org.apache.eventmesh.connector.rabbitmq.cloudevent;
 
-import java.nio.charset.StandardCharsets;
-
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.format.EventFormat;
@@ -38,19 +36,19 @@ public class RabbitmqCloudEventWriter
 
     @Override
     public RabbitmqCloudEvent setEvent(EventFormat format, byte[] value) throws CloudEventRWException {
-        rabbitmqCloudEvent.setData(new String(value, StandardCharsets.UTF_8));
+        rabbitmqCloudEvent.setData(value);
         return rabbitmqCloudEvent;
     }
 
     @Override
     public RabbitmqCloudEvent end(CloudEventData data) throws CloudEventRWException {
-        rabbitmqCloudEvent.setData(new String(data.toBytes(), StandardCharsets.UTF_8));
+        rabbitmqCloudEvent.setData(data.toBytes());
         return rabbitmqCloudEvent;
     }
 
     @Override
     public RabbitmqCloudEvent end() throws CloudEventRWException {
-        rabbitmqCloudEvent.setData("");
+        rabbitmqCloudEvent.setData(new byte[0]);
         return rabbitmqCloudEvent;
     }
 
@@ -29,4 +29,8 @@ public class ConfigKey {
     public static final String ROUTING_KEY = "eventMesh.server.rabbitmq.routingKey";
     public static final String QUEUE_NAME = "eventMesh.server.rabbitmq.queueName";
     public static final String AUTO_ACK = "eventMesh.server.rabbitmq.autoAck";
+    public static final String PREFETCH_COUNT = "eventMesh.server.rabbitmq.prefetchCount";
+    public static final String ACK_BATCH_SIZE = "eventMesh.server.rabbitmq.ackBatchSize";
+    public static final String PRODUCER_CHANNEL_NUM = "eventMesh.server.rabbitmq.producerChannelNum";
+    public static final String PERSISTENT = "eventMesh.server.rabbitmq.persistent";
 }
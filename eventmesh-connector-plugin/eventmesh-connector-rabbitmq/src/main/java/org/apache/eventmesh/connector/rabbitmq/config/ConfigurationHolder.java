@@ -19,6 +19,8 @@ package org.apache.eventmesh.connector.rabbitmq.config;
 
 import org.apache.eventmesh.common.utils.AssertUtils;
 
+import org.apache.commons.lang3.StringUtils;
+
 import com.rabbitmq.client.BuiltinExchangeType;
 
 import lombok.Data;
@@ -36,6 +38,10 @@ public class ConfigurationHolder {
     public String routingKey;
     public String queueName;
     public boolean autoAck;
+    public int prefetchCount = 100;
+    public int ackBatchSize = 10;
+    public int producerChannelNum = Runtime.getRuntime().availableProcessors();
+    public boolean persistent = true;
 
     public void init() {
         this.host = getProperty(ConfigKey.HOST);
@@ -48,6 +54,14 @@ public class ConfigurationHolder {
         this.routingKey = getProperty(ConfigKey.ROUTING_KEY);
         this.queueName = getProperty(ConfigKey.QUEUE_NAME);
         this.autoAck = Boolean.parseBoolean(getProperty(ConfigKey.AUTO_ACK));
+        this.prefetchCount = getIntProperty(ConfigKey.PREFETCH_COUNT, prefetchCount);
+        this.producerChannelNum = getIntProperty(ConfigKey.PRODUCER_CHANNEL_NUM, producerChannelNum);
+        String persistentProperty = ConfigurationWrapper.getProperty(ConfigKey.PERSISTENT);
+        if (StringUtils.isNotBlank(persistentProperty)) {
+            this.persistent = Boolean.parseBoolean(persistentProperty.trim());
+        }
+        // a batch larger than the prefetch window would never fill up
+        this.ackBatchSize = Math.min(getIntProperty(ConfigKey.ACK_BATCH_SIZE, ackBatchSize), prefetchCount);
     }
 
     /**
@@ -62,4 +76,14 @@ public class ConfigurationHolder {
         return property;
 
     }
+
+    private int getIntProperty(String configKey, int defaultValue) {
+        String property = ConfigurationWrapper.getProperty(configKey);
+        if (StringUtils.isBlank(property)) {
+            return defaultValue;
+        }
+        int value = Integer.parseInt(property.trim());
+        AssertUtils.isTrue(value > 0, String.format("%s error", configKey));
+        return value;
+    }
 }
@@ -27,7 +27,7 @@ import org.apache.eventmesh.connector.rabbitmq.config.ConfigurationHolder;
 
 import java.util.List;
 import java.util.Properties;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,13 +53,10 @@ public class RabbitmqConsumer implements Consumer {
 
     private final ConfigurationHolder configurationHolder = new ConfigurationHolder();
 
-    private final ThreadPoolExecutor executor = ThreadPoolFactory.createThreadPoolExecutor(
-            Runtime.getRuntime().availableProcessors() * 2,
-            Runtime.getRuntime().availableProcessors() * 2,
-            "EventMesh-Rabbitmq-Consumer-");
-
     private RabbitmqConsumerHandler rabbitmqConsumerHandler;
 
+    private ScheduledExecutorService requeueScheduler;
+
     @Override
     public boolean isStarted() {
         return started;
@@ -81,9 +78,10 @@ public class RabbitmqConsumer implements Consumer {
     public void shutdown() {
         if (started) {
             try {
-                rabbitmqClient.closeConnection(connection);
-                rabbitmqClient.closeChannel(channel);
                 rabbitmqConsumerHandler.stop();
+                rabbitmqClient.closeChannel(channel);
+                rabbitmqClient.closeConnection(connection);
+                requeueScheduler.shutdownNow();
             } finally {
                 started = false;
             }
@@ -97,7 +95,8 @@ public class RabbitmqConsumer implements Consumer {
         this.connection = rabbitmqClient.getConnection(configurationHolder.getHost(), configurationHolder.getUsername(),
                 configurationHolder.getPasswd(), configurationHolder.getPort(), configurationHolder.getVirtualHost());
         this.channel = rabbitmqConnectionFactory.createChannel(connection);
-        this.rabbitmqConsumerHandler = new RabbitmqConsumerHandler(channel, configurationHolder);
+        this.requeueScheduler = ThreadPoolFactory.createSingleScheduledExecutor("eventMesh-rabbitmq-requeue-");
+        this.rabbitmqConsumerHandler = new RabbitmqConsumerHandler(channel, configurationHolder, requeueScheduler);
     }
 
     @Override
@@ -106,10 +105,10 @@ public class RabbitmqConsumer implements Consumer {
     }
 
     @Override
-    public void subscribe(String topic) {
+    public void subscribe(String topic) throws Exception {
         rabbitmqClient.binding(channel, configurationHolder.getExchangeType(), configurationHolder.getExchangeName(),
                 configurationHolder.getRoutingKey(), configurationHolder.getQueueName());
-        executor.execute(rabbitmqConsumerHandler);
+        rabbitmqConsumerHandler.start();
     }
 
     @Override
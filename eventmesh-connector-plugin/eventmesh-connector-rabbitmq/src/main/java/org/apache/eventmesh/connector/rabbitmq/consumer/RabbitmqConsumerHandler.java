@@ -23,62 +23,193 @@ import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
 import org.apache.eventmesh.connector.rabbitmq.cloudevent.RabbitmqCloudEvent;
 import org.apache.eventmesh.connector.rabbitmq.config.ConfigurationHolder;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 
+import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.GetResponse;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.ShutdownSignalException;
 
-public class RabbitmqConsumerHandler implements Runnable {
+/**
+ * Consumes the queue with basicConsume, the broker pushes up to prefetchCount unacked messages ahead.
+ *
+ * <p>Unless autoAck is on, a message is acked once the listener commits it. The listener may commit out of
+ * order, so only the longest committed run of delivery tags is acked, with one multiple ack per ackBatchSize
+ * messages or as soon as nothing older is still in flight. A message to reconsume later, or delivered while no
+ * listener is registered, is requeued after a delay so that it is not redelivered in a tight loop.
+ */
+public class RabbitmqConsumerHandler extends DefaultConsumer {
 
     private static final Logger logger = LoggerFactory.getLogger(RabbitmqConsumerHandler.class);
 
-    private final Channel channel;
+    private static final long REQUEUE_DELAY_IN_MILLS = 1000L;
+
     private final ConfigurationHolder configurationHolder;
-    private final AtomicBoolean stop = new AtomicBoolean(false);
+
+    /**
+     * delivery tags handed to the listener and not acked yet, mapped to whether the listener committed them
+     */
+    private final TreeMap<Long, Boolean> unackedDeliveries = new TreeMap<>();
+
+    private final ScheduledExecutorService requeueScheduler;
+
+    /**
+     * bumped on every channel shutdown, delivery tags of an older generation are no longer valid
+     */
+    private long channelGeneration;
+
+    private volatile String subscribedConsumerTag;
+
     private EventListener eventListener;
 
-    public RabbitmqConsumerHandler(Channel channel, ConfigurationHolder configurationHolder) {
-        this.channel = channel;
+    public RabbitmqConsumerHandler(Channel channel, ConfigurationHolder configurationHolder,
+                                   ScheduledExecutorService requeueScheduler) {
+        super(channel);
         this.configurationHolder = configurationHolder;
+        this.requeueScheduler = requeueScheduler;
+    }
+
+    public synchronized void start() throws IOException {
+        if (subscribedConsumerTag != null) {
+            return;
+        }
+        if (!configurationHolder.isAutoAck()) {
+            getChannel().basicQos(configurationHolder.getPrefetchCount());
+        }
+        subscribedConsumerTag = getChannel().basicConsume(configurationHolder.getQueueName(),
+                configurationHolder.isAutoAck(), this);
+    }
+
+    public synchronized void stop() {
+        if (subscribedConsumerTag == null) {
+            return;
+        }
+        try {
+            getChannel().basicCancel(subscribedConsumerTag);
+        } catch (Exception ex) {
+            logger.error("[RabbitmqConsumerHandler] cancel consumer happen exception.", ex);
+        } finally {
+            subscribedConsumerTag = null;
+        }
     }
 
     @Override
-    public void run() {
-        while (!stop.get()) {
-            try {
-                GetResponse response = channel.basicGet(configurationHolder.getQueueName(), configurationHolder.isAutoAck());
-                if (response != null) {
-                    RabbitmqCloudEvent rabbitmqCloudEvent = RabbitmqCloudEvent.getFromByteArray(response.getBody());
-                    CloudEvent cloudEvent = rabbitmqCloudEvent.convertToCloudEvent();
-                    final EventMeshAsyncConsumeContext consumeContext = new EventMeshAsyncConsumeContext() {
-                        @Override
-                        public void commit(EventMeshAction action) {
-                            logger.info("[RabbitmqConsumerHandler] Rabbitmq consumer context commit.");
-                        }
-                    };
-                    if (eventListener != null) {
-                        eventListener.consume(cloudEvent, consumeContext);
-                    }
-                    if (!configurationHolder.isAutoAck()) {
-                        channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
-                    }
+    public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties, byte[] body)
+            throws IOException {
+        final long deliveryTag = envelope.getDeliveryTag();
+        CloudEvent cloudEvent;
+        try {
+            cloudEvent = RabbitmqCloudEvent.getFromMessage(properties, body).convertToCloudEvent();
+        } catch (Exception ex) {
+            logger.error("[RabbitmqConsumerHandler] decode message happen exception, deliveryTag: {}", deliveryTag, ex);
+            // it will not decode on redelivery either
+            if (!configurationHolder.isAutoAck()) {
+                getChannel().basicNack(deliveryTag, false, false);
+            }
+            return;
+        }
+        if (!configurationHolder.isAutoAck()) {
+            synchronized (this) {
+                unackedDeliveries.put(deliveryTag, Boolean.FALSE);
+            }
+        }
+        if (eventListener == null) {
+            if (!configurationHolder.isAutoAck()) {
+                requeueLater(deliveryTag);
+            }
+            return;
+        }
+        final EventMeshAsyncConsumeContext consumeContext = new EventMeshAsyncConsumeContext() {
+            @Override
+            public void commit(EventMeshAction action) {
+                if (configurationHolder.isAutoAck()) {
+                    return;
                 }
+                if (action == EventMeshAction.ReconsumeLater) {
+                    requeueLater(deliveryTag);
+                    return;
+                }
+                try {
+                    settle(deliveryTag);
+                } catch (Exception ex) {
+                    logger.error("[RabbitmqConsumerHandler] ack happen exception, deliveryTag: {}", deliveryTag, ex);
+                }
+            }
+        };
+        eventListener.consume(cloudEvent, consumeContext);
+    }
+
+    @Override
+    public void handleShutdownSignal(String consumerTag, ShutdownSignalException sig) {
+        // delivery tags are scoped to the channel, the broker requeues whatever was not acked
+        synchronized (this) {
+            unackedDeliveries.clear();
+            channelGeneration++;
+            subscribedConsumerTag = null;
+        }
+    }
+
+    /**
+     * Keep the delivery unacked for a while, so it still holds back the acks of newer ones, then requeue it.
+     */
+    private void requeueLater(long deliveryTag) {
+        final long generation;
+        synchronized (this) {
+            generation = channelGeneration;
+        }
+        requeueScheduler.schedule(() -> {
+            try {
+                requeue(deliveryTag, generation);
             } catch (Exception ex) {
-                logger.error("[RabbitmqConsumerHandler] thread run happen exception.", ex);
+                logger.error("[RabbitmqConsumerHandler] requeue happen exception, deliveryTag: {}", deliveryTag, ex);
             }
+        }, REQUEUE_DELAY_IN_MILLS, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void requeue(long deliveryTag, long generation) throws IOException {
+        if (generation != channelGeneration || unackedDeliveries.remove(deliveryTag) == null) {
+            return;
         }
+        getChannel().basicNack(deliveryTag, false, true);
+        ackCommitted();
     }
 
-    public void setEventListener(EventListener eventListener) {
-        this.eventListener = eventListener;
+    private synchronized void settle(long deliveryTag) throws IOException {
+        if (!unackedDeliveries.containsKey(deliveryTag)) {
+            return;
+        }
+        unackedDeliveries.put(deliveryTag, Boolean.TRUE);
+        ackCommitted();
     }
 
-    public void stop() {
-        stop.set(true);
+    private void ackCommitted() throws IOException {
+        long ackUpTo = -1;
+        int committed = 0;
+        for (Map.Entry<Long, Boolean> delivery : unackedDeliveries.entrySet()) {
+            if (!delivery.getValue()) {
+                break;
+            }
+            ackUpTo = delivery.getKey();
+            committed++;
+        }
+        if (committed == 0 || committed < configurationHolder.getAckBatchSize() && committed < unackedDeliveries.size()) {
+            return;
+        }
+        getChannel().basicAck(ackUpTo, true);
+        unackedDeliveries.headMap(ackUpTo, true).clear();
+    }
+
+    public void setEventListener(EventListener eventListener) {
+        this.eventListener = eventListener;
     }
 }
@@ -23,14 +23,13 @@ import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.api.producer.Producer;
+import org.apache.eventmesh.connector.rabbitmq.client.RabbitmqChannelPool;
 import org.apache.eventmesh.connector.rabbitmq.client.RabbitmqClient;
 import org.apache.eventmesh.connector.rabbitmq.client.RabbitmqConnectionFactory;
 import org.apache.eventmesh.connector.rabbitmq.cloudevent.RabbitmqCloudEvent;
 import org.apache.eventmesh.connector.rabbitmq.cloudevent.RabbitmqCloudEventWriter;
 import org.apache.eventmesh.connector.rabbitmq.config.ConfigurationHolder;
-import org.apache.eventmesh.connector.rabbitmq.utils.ByteArrayUtils;
 
-import java.util.Optional;
 import java.util.Properties;
 
 import org.slf4j.Logger;
@@ -38,7 +37,6 @@ import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 
-import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Connection;
 
 public class RabbitmqProducer implements Producer {
@@ -51,7 +49,7 @@ public class RabbitmqProducer implements Producer {
 
     private Connection connection;
 
-    private Channel channel;
+    private RabbitmqChannelPool channelPool;
 
     private volatile boolean started = false;
 
@@ -78,8 +76,8 @@ public class RabbitmqProducer implements Producer {
     public void shutdown() {
         if (started) {
             try {
+                channelPool.close(rabbitmqClient);
                 rabbitmqClient.closeConnection(connection);
-                rabbitmqClient.closeChannel(channel);
             } finally {
                 started = false;
             }
@@ -92,7 +90,8 @@ public class RabbitmqProducer implements Producer {
         this.rabbitmqClient = new RabbitmqClient(rabbitmqConnectionFactory);
         this.connection = rabbitmqClient.getConnection(configurationHolder.getHost(), configurationHolder.getUsername(),
                 configurationHolder.getPasswd(), configurationHolder.getPort(), configurationHolder.getVirtualHost());
-        this.channel = rabbitmqConnectionFactory.createChannel(connection);
+        this.channelPool = new RabbitmqChannelPool(rabbitmqConnectionFactory, connection,
+                configurationHolder.getProducerChannelNum());
     }
 
     @Override
@@ -100,36 +99,41 @@ public class RabbitmqProducer implements Producer {
         try {
             RabbitmqCloudEventWriter writer = new RabbitmqCloudEventWriter();
             RabbitmqCloudEvent rabbitmqCloudEvent = writer.writeBinary(cloudEvent);
-            byte[] data = RabbitmqCloudEvent.toByteArray(rabbitmqCloudEvent);
-            if (data != null) {
-                rabbitmqClient.publish(channel, configurationHolder.getExchangeName(), configurationHolder.getRoutingKey(), data);
-
-                SendResult sendResult = new SendResult();
-                sendResult.setTopic(cloudEvent.getSubject());
-                sendResult.setMessageId(cloudEvent.getId());
-                sendCallback.onSuccess(sendResult);
-            }
+            channelPool.publish(configurationHolder.getExchangeName(), configurationHolder.getRoutingKey(),
+                    rabbitmqCloudEvent.toBasicProperties(configurationHolder.isPersistent()), rabbitmqCloudEvent.getData())
+                    .whenComplete((v, ex) -> {
+                        if (ex != null) {
+                            onPublishException(cloudEvent, sendCallback, ex);
+                            return;
+                        }
+                        SendResult sendResult = new SendResult();
+                        sendResult.setTopic(cloudEvent.getSubject());
+                        sendResult.setMessageId(cloudEvent.getId());
+                        sendCallback.onSuccess(sendResult);
+                    });
         } catch (Exception ex) {
-            logger.error("[RabbitmqProducer] publish happen exception.", ex);
-            sendCallback.onException(
-                    OnExceptionContext.builder()
-                            .topic(cloudEvent.getSubject())
-                            .messageId(cloudEvent.getId())
-                            .exception(new ConnectorRuntimeException(ex))
-                            .build()
-            );
+            onPublishException(cloudEvent, sendCallback, ex);
         }
     }
 
+    private void onPublishException(CloudEvent cloudEvent, SendCallback sendCallback, Throwable ex) {
+        logger.error("[RabbitmqProducer] publish happen exception.", ex);
+        sendCallback.onException(
+                OnExceptionContext.builder()
+                        .topic(cloudEvent.getSubject())
+                        .messageId(cloudEvent.getId())
+                        .exception(new ConnectorRuntimeException(ex))
+                        .build()
+        );
+    }
+
     @Override
     public void sendOneway(CloudEvent cloudEvent) {
         try {
-            Optional<byte[]> optionalBytes = ByteArrayUtils.objectToBytes(cloudEvent);
-            if (optionalBytes.isPresent()) {
-                byte[] data = optionalBytes.get();
-                rabbitmqClient.publish(channel, configurationHolder.getExchangeName(),
-                        configurationHolder.getRoutingKey(), data);
-            }
+            RabbitmqCloudEventWriter writer = new RabbitmqCloudEventWriter();
+            RabbitmqCloudEvent rabbitmqCloudEvent = writer.writeBinary(cloudEvent);
+            channelPool.publish(configurationHolder.getExchangeName(), configurationHolder.getRoutingKey(),
+                    rabbitmqCloudEvent.toBasicProperties(configurationHolder.isPersistent()), rabbitmqCloudEvent.getData());
         } catch (Exception ex) {
             logger.error("[RabbitmqProducer] sendOneway happen exception.", ex);
         }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.rabbitmq.client;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.Connection;
+
+public class RabbitmqChannelPoolTest {
+
+    private Channel firstChannel;
+
+    private Channel secondChannel;
+
+    private Channel thirdChannel;
+
+    private RabbitmqChannelPool channelPool;
+
+    @Before
+    public void setup() throws Exception {
+        firstChannel = Mockito.mock(Channel.class);
+        secondChannel = Mockito.mock(Channel.class);
+        thirdChannel = Mockito.mock(Channel.class);
+        Mockito.when(firstChannel.isOpen()).thenReturn(true);
+        Mockito.when(secondChannel.isOpen()).thenReturn(true);
+        Mockito.when(thirdChannel.isOpen()).thenReturn(true);
+        Connection connection = Mockito.mock(Connection.class);
+        RabbitmqConnectionFactory rabbitmqConnectionFactory = Mockito.mock(RabbitmqConnectionFactory.class);
+        Mockito.when(rabbitmqConnectionFactory.createChannel(connection)).thenReturn(firstChannel, secondChannel, thirdChannel);
+
+        channelPool = new RabbitmqChannelPool(rabbitmqConnectionFactory, connection, 2);
+    }
+
+    @Test
+    public void testConfirmSelect() throws Exception {
+        Mockito.verify(firstChannel).confirmSelect();
+        Mockito.verify(secondChannel).confirmSelect();
+    }
+
+    @Test
+    public void testPublishRoundRobin() throws Exception {
+        channelPool.publish("exchange", "routingKey", null, new byte[0]);
+        channelPool.publish("exchange", "routingKey", null, new byte[0]);
+
+        Mockito.verify(firstChannel).basicPublish("exchange", "routingKey", null, new byte[0]);
+        Mockito.verify(secondChannel).basicPublish("exchange", "routingKey", null, new byte[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCompleteOnAck() throws Exception {
+        Mockito.when(firstChannel.getNextPublishSeqNo()).thenReturn(1L, 2L, 3L);
+        final CompletableFuture<Void>[] futures = new CompletableFuture[3];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = channelPool.publish("exchange", "routingKey", null, new byte[0]);
+            // the other publish goes to the second channel
+            channelPool.publish("exchange", "routingKey", null, new byte[0]);
+        }
+        Assert.assertFalse(futures[0].isDone());
+
+        ConfirmListener confirmListener = confirmListener(firstChannel);
+        confirmListener.handleAck(2L, true);
+        Assert.assertTrue(futures[0].isDone());
+        Assert.assertTrue(futures[1].isDone());
+        Assert.assertFalse(futures[2].isDone());
+
+        confirmListener.handleNack(3L, false);
+        Assert.assertTrue(futures[2].isCompletedExceptionally());
+    }
+
+    @Test
+    public void testPublishException() throws Exception {
+        Mockito.doThrow(new IOException("closed")).when(firstChannel)
+                .basicPublish(Mockito.anyString(), Mockito.anyString(), Mockito.nullable(AMQP.BasicProperties.class),
+                        Mockito.any(byte[].class));
+
+        CompletableFuture<Void> future = channelPool.publish("exchange", "routingKey", null, new byte[0]);
+        Assert.assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testReplaceClosedChannel() throws Exception {
+        Mockito.when(firstChannel.isOpen()).thenReturn(false);
+
+        channelPool.publish("exchange", "routingKey", null, new byte[0]);
+        Mockito.verify(firstChannel, Mockito.never()).basicPublish(Mockito.anyString(), Mockito.anyString(),
+                Mockito.nullable(AMQP.BasicProperties.class), Mockito.any(byte[].class));
+        Mockito.verify(firstChannel).abort();
+        Mockito.verify(thirdChannel).confirmSelect();
+        Mockito.verify(thirdChannel).basicPublish("exchange", "routingKey", null, new byte[0]);
+
+        // the replacement keeps the slot of the closed channel
+        channelPool.publish("exchange", "routingKey", null, new byte[0]);
+        channelPool.publish("exchange", "routingKey", null, new byte[0]);
+        Mockito.verify(thirdChannel, Mockito.times(2)).basicPublish("exchange", "routingKey", null, new byte[0]);
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        CompletableFuture<Void> future = channelPool.publish("exchange", "routingKey", null, new byte[0]);
+
+        channelPool.close(new RabbitmqClient(new RabbitmqConnectionFactory()));
+        Assert.assertTrue(future.isCompletedExceptionally());
+        Mockito.verify(firstChannel).close();
+        Mockito.verify(secondChannel).close();
+    }
+
+    private ConfirmListener confirmListener(Channel channel) {
+        ArgumentCaptor<ConfirmListener> captor = ArgumentCaptor.forClass(ConfirmListener.class);
+        Mockito.verify(channel).addConfirmListener(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -17,17 +17,28 @@
 
 package org.apache.eventmesh.connector.rabbitmq.cloudevent;
 
+import org.apache.eventmesh.connector.rabbitmq.exception.RabbitmqaConnectorException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
 import io.cloudevents.core.builder.CloudEventBuilder;
 
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.impl.LongStringHelper;
+
 public class RabbitmqCloudEventTest {
 
     private CloudEvent cloudEvent;
@@ -42,29 +53,130 @@ public class RabbitmqCloudEventTest {
                 .withType(String.class.getCanonicalName())
                 .withDataContentType("text/plain")
                 .withData("data".getBytes(StandardCharsets.UTF_8))
+                .withExtension("extension", "value")
                 .build();
     }
 
     @Test
-    public void toByteArray() throws Exception {
+    public void toBasicProperties() {
         RabbitmqCloudEventWriter writer = new RabbitmqCloudEventWriter();
         RabbitmqCloudEvent rabbitmqCloudEvent = writer.writeBinary(cloudEvent);
-        Assert.assertEquals(cloudEvent.getSubject(), "topic");
 
-        byte[] data = RabbitmqCloudEvent.toByteArray(rabbitmqCloudEvent);
-        Assert.assertNotNull(data);
+        AMQP.BasicProperties properties = rabbitmqCloudEvent.toBasicProperties();
+        Assert.assertEquals("text/plain", properties.getContentType());
+        Assert.assertEquals("1.0", properties.getHeaders().get("cloudEvents:specversion"));
+        Assert.assertEquals("topic", properties.getHeaders().get("cloudEvents:subject"));
+        Assert.assertEquals("value", properties.getHeaders().get("cloudEvents:extension"));
+        Assert.assertEquals(Integer.valueOf(2), properties.getDeliveryMode());
+        Assert.assertArrayEquals("data".getBytes(StandardCharsets.UTF_8), rabbitmqCloudEvent.getData());
+
+        Assert.assertEquals(Integer.valueOf(1), rabbitmqCloudEvent.toBasicProperties(false).getDeliveryMode());
     }
 
     @Test
-    public void getFromByteArray() throws Exception {
+    public void getFromMessage() {
         RabbitmqCloudEventWriter writer = new RabbitmqCloudEventWriter();
         RabbitmqCloudEvent rabbitmqCloudEvent = writer.writeBinary(cloudEvent);
-        Assert.assertEquals(cloudEvent.getSubject(), "topic");
 
-        byte[] data = RabbitmqCloudEvent.toByteArray(rabbitmqCloudEvent);
-        Assert.assertNotNull(data);
+        RabbitmqCloudEvent event = RabbitmqCloudEvent.getFromMessage(rabbitmqCloudEvent.toBasicProperties(),
+                rabbitmqCloudEvent.getData());
+        Assert.assertEquals(cloudEvent, event.convertToCloudEvent());
+    }
+
+    @Test
+    public void getFromMessageWithLongStringHeaders() {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("cloudEvents:specversion", LongStringHelper.asLongString("1.0"));
+        headers.put("cloudEvents:id", LongStringHelper.asLongString("1"));
+        headers.put("cloudEvents:source", LongStringHelper.asLongString("testsource"));
+        headers.put("cloudEvents:type", LongStringHelper.asLongString("type"));
+        headers.put("x-delivery-count", 1);
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder().headers(headers).build();
+
+        CloudEvent event = RabbitmqCloudEvent.getFromMessage(properties, new byte[0]).convertToCloudEvent();
+        Assert.assertEquals(SpecVersion.V1, event.getSpecVersion());
+        Assert.assertEquals("1", event.getId());
+        Assert.assertNull(event.getExtension("x-delivery-count"));
+    }
+
+    @Test(expected = RabbitmqaConnectorException.class)
+    public void getFromMessageWithoutSpecVersion() {
+        RabbitmqCloudEvent.getFromMessage(new AMQP.BasicProperties(), "data".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void getFromLegacyMessage() throws Exception {
+        OldRabbitmqCloudEvent old = new OldRabbitmqCloudEvent();
+        old.version = SpecVersion.V1;
+        old.data = "data";
+        old.extensions = new HashMap<>();
+        old.extensions.put("id", "1");
+        old.extensions.put("source", "testsource");
+        old.extensions.put("type", String.class.getCanonicalName());
+        old.extensions.put("datacontenttype", "text/plain");
+        old.extensions.put("subject", "topic");
+        old.extensions.put("extension", "value");
+
+        CloudEvent event = RabbitmqCloudEvent.getFromMessage(new AMQP.BasicProperties(), legacyBody(old))
+                .convertToCloudEvent();
+        Assert.assertEquals("1", event.getId());
+        Assert.assertEquals("topic", event.getSubject());
+        Assert.assertEquals("value", event.getExtension("extension"));
+        Assert.assertArrayEquals("data".getBytes(StandardCharsets.UTF_8), event.getData().toBytes());
+    }
+
+    @Test(expected = RabbitmqaConnectorException.class)
+    public void getFromLegacyMessageWithUnexpectedClass() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new OldRabbitmqCloudEvent());
+        }
+        RabbitmqCloudEvent.getFromMessage(null, bytes.toByteArray());
+    }
+
+    /**
+     * serialize the event as earlier versions did, under the name RabbitmqCloudEvent had then
+     */
+    private byte[] legacyBody(OldRabbitmqCloudEvent old) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(old);
+        }
+        return replace(bytes.toByteArray(), utf(OldRabbitmqCloudEvent.class.getName()), utf(RabbitmqCloudEvent.class.getName()));
+    }
+
+    private byte[] utf(String name) {
+        byte[] string = name.getBytes(StandardCharsets.UTF_8);
+        byte[] utf = new byte[string.length + 2];
+        utf[0] = (byte) (string.length >> 8);
+        utf[1] = (byte) string.length;
+        System.arraycopy(string, 0, utf, 2, string.length);
+        return utf;
+    }
+
+    private byte[] replace(byte[] bytes, byte[] target, byte[] replacement) {
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            boolean match = true;
+            for (int j = 0; j < target.length && match; j++) {
+                match = bytes[i + j] == target[j];
+            }
+            if (match) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                out.write(bytes, 0, i);
+                out.write(replacement, 0, replacement.length);
+                out.write(bytes, i + target.length, bytes.length - i - target.length);
+                return out.toByteArray();
+            }
+        }
+        throw new IllegalArgumentException("class name not found");
+    }
+
+    private static class OldRabbitmqCloudEvent implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
-        RabbitmqCloudEvent event = RabbitmqCloudEvent.getFromByteArray(data);
-        Assert.assertEquals(event.getExtensions().get("subject"), "topic");
+        private SpecVersion version;
+        private String data;
+        private Map<String, String> extensions;
     }
 }
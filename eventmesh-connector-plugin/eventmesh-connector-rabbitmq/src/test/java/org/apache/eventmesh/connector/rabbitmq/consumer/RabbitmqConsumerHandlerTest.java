@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.rabbitmq.consumer;
+
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.connector.rabbitmq.cloudevent.RabbitmqCloudEvent;
+import org.apache.eventmesh.connector.rabbitmq.cloudevent.RabbitmqCloudEventWriter;
+import org.apache.eventmesh.connector.rabbitmq.config.ConfigurationHolder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+
+public class RabbitmqConsumerHandlerTest {
+
+    private Channel channel;
+
+    private ConfigurationHolder configurationHolder;
+
+    private ScheduledExecutorService requeueScheduler;
+
+    private RabbitmqConsumerHandler handler;
+
+    private final List<EventMeshAsyncConsumeContext> contexts = new ArrayList<>();
+
+    @Before
+    public void setup() throws Exception {
+        channel = Mockito.mock(Channel.class);
+        Mockito.when(channel.basicConsume(Mockito.anyString(), Mockito.anyBoolean(), Mockito.any(RabbitmqConsumerHandler.class)))
+                .thenReturn("consumerTag");
+
+        configurationHolder = new ConfigurationHolder();
+        configurationHolder.setQueueName("test");
+        configurationHolder.setAutoAck(false);
+        configurationHolder.setPrefetchCount(10);
+        configurationHolder.setAckBatchSize(3);
+
+        requeueScheduler = Mockito.mock(ScheduledExecutorService.class);
+        handler = new RabbitmqConsumerHandler(channel, configurationHolder, requeueScheduler);
+        handler.setEventListener((cloudEvent, context) -> contexts.add((EventMeshAsyncConsumeContext) context));
+    }
+
+    @Test
+    public void testStart() throws Exception {
+        handler.start();
+        handler.start();
+
+        Mockito.verify(channel).basicQos(10);
+        Mockito.verify(channel).basicConsume("test", false, handler);
+
+        handler.stop();
+        Mockito.verify(channel).basicCancel("consumerTag");
+    }
+
+    @Test
+    public void testAckInBatches() throws Exception {
+        for (long tag = 1; tag <= 4; tag++) {
+            deliver(tag);
+        }
+
+        contexts.get(0).commit(EventMeshAction.CommitMessage);
+        contexts.get(1).commit(EventMeshAction.CommitMessage);
+        Mockito.verify(channel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+
+        contexts.get(2).commit(EventMeshAction.CommitMessage);
+        Mockito.verify(channel).basicAck(3L, true);
+
+        // the last outstanding delivery is acked without waiting for a full batch
+        contexts.get(3).commit(EventMeshAction.CommitMessage);
+        Mockito.verify(channel).basicAck(4L, true);
+    }
+
+    @Test
+    public void testAckWaitsForOlderDeliveries() throws Exception {
+        for (long tag = 1; tag <= 3; tag++) {
+            deliver(tag);
+        }
+
+        contexts.get(2).commit(EventMeshAction.CommitMessage);
+        contexts.get(1).commit(EventMeshAction.CommitMessage);
+        Mockito.verify(channel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+
+        contexts.get(0).commit(EventMeshAction.CommitMessage);
+        Mockito.verify(channel).basicAck(3L, true);
+    }
+
+    @Test
+    public void testReconsumeLater() throws Exception {
+        deliver(1);
+        deliver(2);
+
+        contexts.get(0).commit(EventMeshAction.ReconsumeLater);
+        contexts.get(1).commit(EventMeshAction.CommitMessage);
+        // the delivery to reconsume is requeued after a delay and holds back the ack until then
+        Mockito.verify(channel, Mockito.never()).basicNack(Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyBoolean());
+        Mockito.verify(channel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+
+        runScheduledRequeue();
+        Mockito.verify(channel).basicNack(1L, false, true);
+        Mockito.verify(channel).basicAck(2L, true);
+    }
+
+    @Test
+    public void testRequeueLaterWithoutListener() throws Exception {
+        handler.setEventListener(null);
+        deliver(1);
+        Mockito.verify(channel, Mockito.never()).basicNack(Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyBoolean());
+
+        runScheduledRequeue();
+        Mockito.verify(channel).basicNack(1L, false, true);
+    }
+
+    @Test
+    public void testRequeueSkippedAfterChannelShutdown() throws Exception {
+        deliver(1);
+        contexts.get(0).commit(EventMeshAction.ReconsumeLater);
+        handler.handleShutdownSignal("consumerTag", null);
+        deliver(1);
+
+        runScheduledRequeue();
+        Mockito.verify(channel, Mockito.never()).basicNack(Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyBoolean());
+    }
+
+    @Test
+    public void testUndecodableMessage() throws Exception {
+        handler.handleDelivery("consumerTag", new Envelope(1L, false, "test", "test"), null,
+                "not a cloud event".getBytes(StandardCharsets.UTF_8));
+
+        Mockito.verify(channel).basicNack(1L, false, false);
+        Assert.assertTrue(contexts.isEmpty());
+    }
+
+    @Test
+    public void testAutoAck() throws Exception {
+        configurationHolder.setAutoAck(true);
+        handler.start();
+        deliver(1);
+        contexts.get(0).commit(EventMeshAction.CommitMessage);
+
+        Mockito.verify(channel, Mockito.never()).basicQos(Mockito.anyInt());
+        Mockito.verify(channel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+    }
+
+    private void runScheduledRequeue() {
+        ArgumentCaptor<Runnable> requeue = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(requeueScheduler).schedule(requeue.capture(), Mockito.anyLong(), Mockito.eq(TimeUnit.MILLISECONDS));
+        requeue.getValue().run();
+    }
+
+    private void deliver(long deliveryTag) throws Exception {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+                .withId(String.valueOf(deliveryTag))
+                .withSource(URI.create("testsource"))
+                .withSubject("topic")
+                .withType(String.class.getCanonicalName())
+                .withDataContentType("text/plain")
+                .withData("data".getBytes(StandardCharsets.UTF_8))
+                .build();
+        RabbitmqCloudEvent rabbitmqCloudEvent = new RabbitmqCloudEventWriter().writeBinary(cloudEvent);
+        handler.handleDelivery("consumerTag", new Envelope(deliveryTag, false, "test", "test"),
+                rabbitmqCloudEvent.toBasicProperties(), rabbitmqCloudEvent.getData());
+    }
+}
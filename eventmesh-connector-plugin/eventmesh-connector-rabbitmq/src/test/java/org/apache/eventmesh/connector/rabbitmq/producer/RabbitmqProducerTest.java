@@ -51,6 +51,7 @@ public class RabbitmqProducerTest extends RabbitmqServer {
     public void publish() throws Exception {
         final int expectedCount = 5;
         final CountDownLatch downLatch = new CountDownLatch(expectedCount);
+        final CountDownLatch confirmLatch = new CountDownLatch(expectedCount);
 
         rabbitmqConsumer.registerEventListener((cloudEvent, context) -> {
             downLatch.countDown();
@@ -77,6 +78,7 @@ public class RabbitmqProducerTest extends RabbitmqServer {
                 public void onSuccess(SendResult sendResult) {
                     Assert.assertEquals(cloudEvent.getId(), sendResult.getMessageId());
                     Assert.assertEquals(cloudEvent.getSubject(), sendResult.getTopic());
+                    confirmLatch.countDown();
                 }
 
                 @Override
@@ -88,5 +90,6 @@ public class RabbitmqProducerTest extends RabbitmqServer {
         }
 
         Assert.assertTrue(downLatch.await(5, TimeUnit.MINUTES));
+        Assert.assertTrue(confirmLatch.await(5, TimeUnit.SECONDS));
     }
 }
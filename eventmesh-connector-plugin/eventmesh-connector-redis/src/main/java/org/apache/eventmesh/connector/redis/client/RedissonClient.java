@@ -59,41 +59,7 @@ public final class RedissonClient {
     }
 
     public static Redisson create() {
-        RedisProperties properties = new RedisProperties();
-        String serverTypeName = getProperty(ConfigOptions.SERVER_TYPE);
-        if (serverTypeName != null) {
-            try {
-                properties.setServerType(RedisProperties.ServerType.valueOf(serverTypeName));
-            } catch (Exception e) {
-                final String message = "Invalid Redis server type: " + properties.getServerType()
-                    + ", supported values are: "
-                    + Arrays.toString(RedisProperties.ServerType.values());
-                throw new ConnectorRuntimeException(message, e);
-            }
-        } else {
-            properties.setServerType(RedisProperties.ServerType.SINGLE);
-        }
-
-        String serverAddress = getProperty(ConfigOptions.SERVER_ADDRESS);
-        if (serverAddress != null) {
-            properties.setServerAddress(serverAddress);
-        } else {
-            throw new ConnectorRuntimeException("Lack Redis server address");
-        }
-
-        String serverMasterName = getProperty(ConfigOptions.SERVER_MASTER_NAME);
-        if (serverMasterName != null) {
-            properties.setServerMasterName(serverMasterName);
-        }
-
-        String serverPassword = getProperty(ConfigOptions.SERVER_PASSWORD);
-        if (serverPassword != null) {
-            properties.setServerPassword(serverPassword);
-        }
-
-        properties.setRedissonProperties(getPropertiesByPrefix(ConfigOptions.REDISSON_PROPERTIES_PREFIX));
-
-        return create(properties);
+        return create(loadProperties());
     }
 
     private static Redisson create(RedisProperties properties) {
@@ -145,4 +111,84 @@ public final class RedissonClient {
 
         return (Redisson) Redisson.create(config);
     }
+
+    public static RedisProperties loadProperties() {
+        RedisProperties properties = new RedisProperties();
+        String serverTypeName = getProperty(ConfigOptions.SERVER_TYPE);
+        if (serverTypeName != null) {
+            try {
+                properties.setServerType(RedisProperties.ServerType.valueOf(serverTypeName));
+            } catch (Exception e) {
+                final String message = "Invalid Redis server type: " + properties.getServerType()
+                    + ", supported values are: "
+                    + Arrays.toString(RedisProperties.ServerType.values());
+                throw new ConnectorRuntimeException(message, e);
+            }
+        } else {
+            properties.setServerType(RedisProperties.ServerType.SINGLE);
+        }
+
+        String serverAddress = getProperty(ConfigOptions.SERVER_ADDRESS);
+        if (serverAddress != null) {
+            properties.setServerAddress(serverAddress);
+        } else {
+            throw new ConnectorRuntimeException("Lack Redis server address");
+        }
+
+        String serverMasterName = getProperty(ConfigOptions.SERVER_MASTER_NAME);
+        if (serverMasterName != null) {
+            properties.setServerMasterName(serverMasterName);
+        }
+
+        String serverPassword = getProperty(ConfigOptions.SERVER_PASSWORD);
+        if (serverPassword != null) {
+            properties.setServerPassword(serverPassword);
+        }
+
+        properties.setRedissonProperties(getPropertiesByPrefix(ConfigOptions.REDISSON_PROPERTIES_PREFIX));
+
+        String modeName = getProperty(ConfigOptions.MODE);
+        if (modeName != null) {
+            try {
+                properties.setMode(RedisProperties.Mode.valueOf(modeName.trim().toUpperCase()));
+            } catch (Exception e) {
+                final String message = "Invalid Redis mode: " + modeName
+                    + ", supported values are: "
+                    + Arrays.toString(RedisProperties.Mode.values());
+                throw new ConnectorRuntimeException(message, e);
+            }
+        }
+
+        String streamMaxLen = getProperty(ConfigOptions.STREAM_MAX_LEN);
+        if (streamMaxLen != null) {
+            properties.setStreamMaxLen(Integer.parseInt(streamMaxLen.trim()));
+        }
+
+        String streamPublishBatchSize = getProperty(ConfigOptions.STREAM_PUBLISH_BATCH_SIZE);
+        if (streamPublishBatchSize != null) {
+            properties.setStreamPublishBatchSize(Integer.parseInt(streamPublishBatchSize.trim()));
+        }
+
+        String streamReadBatchSize = getProperty(ConfigOptions.STREAM_READ_BATCH_SIZE);
+        if (streamReadBatchSize != null) {
+            properties.setStreamReadBatchSize(Integer.parseInt(streamReadBatchSize.trim()));
+        }
+
+        String streamReadBlockTime = getProperty(ConfigOptions.STREAM_READ_BLOCK_TIME);
+        if (streamReadBlockTime != null) {
+            properties.setStreamReadBlockTimeInMills(Long.parseLong(streamReadBlockTime.trim()));
+        }
+
+        String streamClaimMinIdleTime = getProperty(ConfigOptions.STREAM_CLAIM_MIN_IDLE_TIME);
+        if (streamClaimMinIdleTime != null) {
+            properties.setStreamClaimMinIdleTimeInMills(Long.parseLong(streamClaimMinIdleTime.trim()));
+        }
+
+        String streamNodeId = getProperty(ConfigOptions.STREAM_NODE_ID);
+        if (streamNodeId != null && !streamNodeId.trim().isEmpty()) {
+            properties.setStreamNodeId(streamNodeId.trim());
+        }
+
+        return properties;
+    }
 }
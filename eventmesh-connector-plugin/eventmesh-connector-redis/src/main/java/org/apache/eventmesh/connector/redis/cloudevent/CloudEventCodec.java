@@ -18,8 +18,11 @@
 package org.apache.eventmesh.connector.redis.cloudevent;
 
 import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
 import org.redisson.client.protocol.Decoder;
 import org.redisson.client.protocol.Encoder;
+import org.redisson.codec.CompositeCodec;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.jackson.JsonFormat;
@@ -31,6 +34,16 @@ public class CloudEventCodec extends BaseCodec {
 
     public static final CloudEventCodec INSTANCE = new CloudEventCodec();
 
+    /**
+     * stream entries use string field names and cloudevent values
+     */
+    public static final Codec STREAM_INSTANCE = new CompositeCodec(StringCodec.INSTANCE, INSTANCE, INSTANCE);
+
+    /**
+     * the field of a stream entry holding the cloudevent
+     */
+    public static final String STREAM_FIELD = "cloudevent";
+
     private static final JsonFormat jsonFormat = new JsonFormat(false, true);
 
     private static final Encoder encoder = in -> {
@@ -48,4 +48,41 @@ public interface ConfigOptions {
      * For example, the redisson timeout property is configured as eventMesh.server.redis.redisson.timeout
      */
     String REDISSON_PROPERTIES_PREFIX = "eventMesh.server.redis.redisson";
+
+    /**
+     * The messaging mode, PUBSUB (default) for fire-and-forget pub/sub, or STREAM for at-least-once delivery
+     * with redis streams and consumer groups.
+     */
+    String MODE = "eventMesh.server.redis.mode";
+
+    /**
+     * The approximate max length of a stream, older entries are trimmed with MAXLEN ~ on XADD, default is 100000.
+     */
+    String STREAM_MAX_LEN = "eventMesh.server.redis.stream.maxLen";
+
+    /**
+     * The max number of entries sent in one pipelined batch of XADD, default is 100.
+     */
+    String STREAM_PUBLISH_BATCH_SIZE = "eventMesh.server.redis.stream.publishBatchSize";
+
+    /**
+     * The max number of entries read by one XREADGROUP, default is 100.
+     */
+    String STREAM_READ_BATCH_SIZE = "eventMesh.server.redis.stream.readBatchSize";
+
+    /**
+     * The time in milliseconds XREADGROUP blocks when there are no new entries, default is 1000.
+     */
+    String STREAM_READ_BLOCK_TIME = "eventMesh.server.redis.stream.readBlockTimeInMills";
+
+    /**
+     * The time in milliseconds an entry stays unacked before XAUTOCLAIM hands it to another consumer, default is 60000.
+     */
+    String STREAM_CLAIM_MIN_IDLE_TIME = "eventMesh.server.redis.stream.claimMinIdleTimeInMills";
+
+    /**
+     * The name of this gateway node, which must be stable across restarts and unique in the cluster, a broadcast
+     * consumer reads the stream with a group named after it, default is the host name.
+     */
+    String STREAM_NODE_ID = "eventMesh.server.redis.stream.nodeId";
 }
@@ -46,6 +46,20 @@ public class RedisProperties {
      */
     private Properties redissonProperties;
 
+    private Mode mode = Mode.PUBSUB;
+
+    private int streamMaxLen = 100000;
+
+    private int streamPublishBatchSize = 100;
+
+    private int streamReadBatchSize = 100;
+
+    private long streamReadBlockTimeInMills = 1000L;
+
+    private long streamClaimMinIdleTimeInMills = 60000L;
+
+    private String streamNodeId;
+
     public ServerType getServerType() {
         return serverType;
     }
@@ -86,9 +100,70 @@ public class RedisProperties {
         this.redissonProperties = redissonProperties;
     }
 
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getStreamMaxLen() {
+        return streamMaxLen;
+    }
+
+    public void setStreamMaxLen(int streamMaxLen) {
+        this.streamMaxLen = streamMaxLen;
+    }
+
+    public int getStreamPublishBatchSize() {
+        return streamPublishBatchSize;
+    }
+
+    public void setStreamPublishBatchSize(int streamPublishBatchSize) {
+        this.streamPublishBatchSize = streamPublishBatchSize;
+    }
+
+    public int getStreamReadBatchSize() {
+        return streamReadBatchSize;
+    }
+
+    public void setStreamReadBatchSize(int streamReadBatchSize) {
+        this.streamReadBatchSize = streamReadBatchSize;
+    }
+
+    public long getStreamReadBlockTimeInMills() {
+        return streamReadBlockTimeInMills;
+    }
+
+    public void setStreamReadBlockTimeInMills(long streamReadBlockTimeInMills) {
+        this.streamReadBlockTimeInMills = streamReadBlockTimeInMills;
+    }
+
+    public long getStreamClaimMinIdleTimeInMills() {
+        return streamClaimMinIdleTimeInMills;
+    }
+
+    public void setStreamClaimMinIdleTimeInMills(long streamClaimMinIdleTimeInMills) {
+        this.streamClaimMinIdleTimeInMills = streamClaimMinIdleTimeInMills;
+    }
+
+    public String getStreamNodeId() {
+        return streamNodeId;
+    }
+
+    public void setStreamNodeId(String streamNodeId) {
+        this.streamNodeId = streamNodeId;
+    }
+
     public enum ServerType {
         SINGLE,
         CLUSTER,
         SENTINEL
     }
-}
\ No newline at end of file
+
+    public enum Mode {
+        PUBSUB,
+        STREAM
+    }
+}
@@ -22,10 +22,17 @@ import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.EventMeshAction;
 import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
 import org.apache.eventmesh.api.consumer.Consumer;
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.connector.redis.client.RedissonClient;
+import org.apache.eventmesh.connector.redis.config.RedisProperties;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.redisson.Redisson;
 import org.redisson.api.listener.MessageListener;
@@ -44,6 +51,16 @@ public class RedisConsumer implements Consumer {
 
     private EventMeshMessageListener messageListener;
 
+    private RedisProperties redisProperties;
+
+    private String streamGroup;
+
+    private String streamConsumerName;
+
+    private ExecutorService streamConsumerExecutor;
+
+    private final Map<String, RedisStreamConsumer> streamConsumers = new ConcurrentHashMap<>();
+
     private volatile boolean started = false;
 
     @Override
@@ -66,6 +83,12 @@ public class RedisConsumer implements Consumer {
     @Override
     public synchronized void shutdown() {
         if (started) {
+            streamConsumers.values().forEach(RedisStreamConsumer::shutdown);
+            streamConsumers.clear();
+            if (streamConsumerExecutor != null) {
+                streamConsumerExecutor.shutdownNow();
+                streamConsumerExecutor = null;
+            }
             redisson = null;
             messageListener = null;
             started = false;
@@ -74,13 +97,43 @@ public class RedisConsumer implements Consumer {
 
     @Override
     public void init(Properties keyValue) {
-        // Currently, 'keyValue' does not pass useful configuration information.
         redisson = RedissonClient.INSTANCE;
+        redisProperties = RedissonClient.loadProperties();
+        if (redisProperties.getMode() == RedisProperties.Mode.STREAM) {
+            String instanceName = keyValue.getProperty(Constants.INSTANCE_NAME, "eventmesh");
+            // unique per process, so the entries left pending by a dead gateway can be told apart and claimed
+            String processName = ManagementFactory.getRuntimeMXBean().getName();
+            streamConsumerName = instanceName + "@" + processName;
+            streamGroup = keyValue.getProperty(Constants.CONSUMER_GROUP, instanceName);
+            if (Boolean.parseBoolean(keyValue.getProperty(Constants.IS_BROADCAST))) {
+                // every gateway reads the whole stream with a group of its own, the group outlives restarts, so it is
+                // named after the node instead of the process
+                String nodeId = redisProperties.getStreamNodeId() != null ? redisProperties.getStreamNodeId()
+                    : processName.substring(processName.indexOf('@') + 1);
+                streamGroup = streamGroup + "@" + nodeId;
+            }
+            streamConsumerExecutor = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "redis-stream-consumer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
     }
 
     @Override
     public void updateOffset(List<CloudEvent> cloudEvents, AbstractContext context) {
-
+        if (streamConsumers.isEmpty()) {
+            return;
+        }
+        for (CloudEvent cloudEvent : cloudEvents) {
+            RedisStreamConsumer streamConsumer = cloudEvent.getSubject() == null ? null
+                : streamConsumers.get(cloudEvent.getSubject());
+            if (streamConsumer != null) {
+                streamConsumer.ack(cloudEvent.getId());
+            } else {
+                streamConsumers.values().forEach(consumer -> consumer.ack(cloudEvent.getId()));
+            }
+        }
     }
 
     @Override
@@ -88,6 +141,16 @@ public class RedisConsumer implements Consumer {
         Preconditions.checkNotNull(topic);
         Preconditions.checkNotNull(messageListener);
 
+        if (redisProperties.getMode() == RedisProperties.Mode.STREAM) {
+            streamConsumers.computeIfAbsent(topic, key -> {
+                RedisStreamConsumer streamConsumer = new RedisStreamConsumer(redisson, key, streamGroup,
+                    streamConsumerName, messageListener.listener, redisProperties);
+                streamConsumer.createGroup();
+                streamConsumerExecutor.execute(streamConsumer);
+                return streamConsumer;
+            });
+            return;
+        }
         redisson.getTopic(topic).addListenerAsync(CloudEvent.class, messageListener);
     }
 
@@ -96,6 +159,13 @@ public class RedisConsumer implements Consumer {
         Preconditions.checkNotNull(topic);
         Preconditions.checkNotNull(messageListener);
 
+        if (redisProperties.getMode() == RedisProperties.Mode.STREAM) {
+            RedisStreamConsumer streamConsumer = streamConsumers.remove(topic);
+            if (streamConsumer != null) {
+                streamConsumer.shutdown();
+            }
+            return;
+        }
         redisson.getTopic(topic).removeListenerAsync(messageListener);
     }
 
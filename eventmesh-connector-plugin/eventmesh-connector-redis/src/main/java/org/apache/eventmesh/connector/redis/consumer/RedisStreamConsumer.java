@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.redis.consumer;
+
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.connector.redis.cloudevent.CloudEventCodec;
+import org.apache.eventmesh.connector.redis.config.RedisProperties;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.RedisException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Consumes the stream of one topic as a member of a consumer group.
+ * <ul>
+ *     <li>new entries are read in batches with XREADGROUP</li>
+ *     <li>CommitMessage acks the entry with XACK, ManualAck waits for {@link #ack(String)} from updateOffset,
+ *     ReconsumeLater leaves the entry pending</li>
+ *     <li>entries left pending for longer than the claim idle time, by this consumer or by a dead gateway,
+ *     are taken over with XAUTOCLAIM and delivered again</li>
+ * </ul>
+ */
+public class RedisStreamConsumer implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisStreamConsumer.class);
+
+    private static final StreamMessageId CLAIM_START = new StreamMessageId(0, 0);
+
+    private final RStream<String, CloudEvent> stream;
+
+    private final String topic;
+
+    private final String group;
+
+    private final String consumerName;
+
+    private final EventListener listener;
+
+    private final RedisProperties properties;
+
+    /**
+     * entries handed to the listener and not acked yet, by event id
+     */
+    private final Map<String, StreamMessageId> pendingEntries = new ConcurrentHashMap<>();
+
+    private volatile boolean running = true;
+
+    private StreamMessageId claimCursor = CLAIM_START;
+
+    private long lastClaimTime = System.currentTimeMillis();
+
+    public RedisStreamConsumer(RedissonClient redisson, String topic, String group, String consumerName,
+                               EventListener listener, RedisProperties properties) {
+        this.stream = redisson.getStream(topic, CloudEventCodec.STREAM_INSTANCE);
+        this.topic = topic;
+        this.group = group;
+        this.consumerName = consumerName;
+        this.listener = listener;
+        this.properties = properties;
+    }
+
+    /**
+     * creates the consumer group, starting at the end of the stream, when it does not exist yet
+     */
+    public void createGroup() {
+        try {
+            stream.createGroup(group, StreamMessageId.NEWEST);
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                pollOnce();
+                if (claimCursor != CLAIM_START
+                    || System.currentTimeMillis() - lastClaimTime >= properties.getStreamClaimMinIdleTimeInMills() / 2) {
+                    claimOnce();
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("Failed to consume the stream of topic: {}, group: {}", topic, group, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(properties.getStreamReadBlockTimeInMills());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        logger.info("stream consumer of topic: {}, group: {} exits", topic, group);
+    }
+
+    public void shutdown() {
+        running = false;
+    }
+
+    /**
+     * acks an entry the listener answered with ManualAck
+     */
+    public void ack(String eventId) {
+        StreamMessageId streamMessageId = pendingEntries.remove(eventId);
+        if (streamMessageId != null) {
+            stream.ackAsync(group, streamMessageId);
+        }
+    }
+
+    void pollOnce() {
+        Map<StreamMessageId, Map<String, CloudEvent>> entries = stream.readGroup(group, consumerName,
+            StreamReadGroupArgs.neverDelivered()
+                .count(properties.getStreamReadBatchSize())
+                .timeout(Duration.ofMillis(properties.getStreamReadBlockTimeInMills())));
+        dispatch(entries);
+    }
+
+    void claimOnce() {
+        AutoClaimResult<String, CloudEvent> result = stream.autoClaim(group, consumerName,
+            properties.getStreamClaimMinIdleTimeInMills(), TimeUnit.MILLISECONDS, claimCursor,
+            properties.getStreamReadBatchSize());
+        if (result == null) {
+            claimCursor = CLAIM_START;
+            lastClaimTime = System.currentTimeMillis();
+            return;
+        }
+        if (result.getMessages() != null && !result.getMessages().isEmpty()) {
+            logger.info("claimed {} idle entries of topic: {}, group: {}", result.getMessages().size(), topic, group);
+            dispatch(result.getMessages());
+        }
+        // a next id of 0-0 means the whole pending entries list was scanned
+        claimCursor = result.getNextId() == null || CLAIM_START.equals(result.getNextId()) ? CLAIM_START : result.getNextId();
+        if (claimCursor == CLAIM_START) {
+            lastClaimTime = System.currentTimeMillis();
+        }
+    }
+
+    private void dispatch(Map<StreamMessageId, Map<String, CloudEvent>> entries) {
+        if (entries == null) {
+            return;
+        }
+        entries.forEach((streamMessageId, fields) -> {
+            CloudEvent cloudEvent = fields == null ? null : fields.get(CloudEventCodec.STREAM_FIELD);
+            if (cloudEvent == null) {
+                logger.warn("skip the entry without cloudevent, topic: {}, id: {}", topic, streamMessageId);
+                stream.ackAsync(group, streamMessageId);
+                return;
+            }
+            consume(cloudEvent, streamMessageId);
+        });
+    }
+
+    private void consume(CloudEvent cloudEvent, StreamMessageId streamMessageId) {
+        String eventId = cloudEvent.getId();
+        pendingEntries.put(eventId, streamMessageId);
+        EventMeshAsyncConsumeContext consumeContext = new EventMeshAsyncConsumeContext() {
+            @Override
+            public void commit(EventMeshAction action) {
+                switch (action) {
+                    case CommitMessage:
+                        ack(eventId);
+                        break;
+                    case ReconsumeLater:
+                        // stays in the pending entries list until it is claimed again
+                        pendingEntries.remove(eventId, streamMessageId);
+                        break;
+                    case ManualAck:
+                        // acked by updateOffset once the event was delivered
+                        break;
+                    default:
+                }
+            }
+        };
+        try {
+            listener.consume(cloudEvent, consumeContext);
+        } catch (Exception e) {
+            logger.error("Failed to consume the entry, topic: {}, id: {}", topic, streamMessageId, e);
+            pendingEntries.remove(eventId, streamMessageId);
+        }
+    }
+}
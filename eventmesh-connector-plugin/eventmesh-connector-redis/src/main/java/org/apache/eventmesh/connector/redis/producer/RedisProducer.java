@@ -24,11 +24,14 @@ import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.api.producer.Producer;
 import org.apache.eventmesh.connector.redis.client.RedissonClient;
+import org.apache.eventmesh.connector.redis.config.RedisProperties;
 
 import java.util.Properties;
 
 import org.redisson.Redisson;
 import org.redisson.api.RTopic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 
@@ -36,8 +39,12 @@ import com.google.common.base.Preconditions;
 
 public class RedisProducer implements Producer {
 
+    private static final Logger logger = LoggerFactory.getLogger(RedisProducer.class);
+
     private Redisson redisson;
 
+    private RedisStreamPublisher streamPublisher;
+
     private volatile boolean started = false;
 
     @Override
@@ -61,6 +68,10 @@ public class RedisProducer implements Producer {
     public synchronized void shutdown() {
         if (started) {
             try {
+                if (streamPublisher != null) {
+                    streamPublisher.shutdown();
+                    streamPublisher = null;
+                }
                 redisson = null;
             } finally {
                 started = false;
@@ -72,6 +83,11 @@ public class RedisProducer implements Producer {
     public void init(Properties properties) {
         // Currently, 'properties' does not pass useful configuration information.
         redisson = RedissonClient.INSTANCE;
+        RedisProperties redisProperties = RedissonClient.loadProperties();
+        if (redisProperties.getMode() == RedisProperties.Mode.STREAM) {
+            streamPublisher = new RedisStreamPublisher(redisson, redisProperties.getStreamMaxLen(),
+                redisProperties.getStreamPublishBatchSize());
+        }
     }
 
     @Override
@@ -79,6 +95,10 @@ public class RedisProducer implements Producer {
         Preconditions.checkNotNull(cloudEvent);
         Preconditions.checkNotNull(sendCallback);
 
+        if (streamPublisher != null) {
+            streamPublisher.publish(cloudEvent, sendCallback);
+            return;
+        }
         try {
             RTopic topic = redisson.getTopic(cloudEvent.getSubject());
 
@@ -113,6 +133,20 @@ public class RedisProducer implements Producer {
     public void sendOneway(CloudEvent cloudEvent) {
         Preconditions.checkNotNull(cloudEvent);
 
+        if (streamPublisher != null) {
+            streamPublisher.publish(cloudEvent, new SendCallback() {
+                @Override
+                public void onSuccess(SendResult sendResult) {
+                }
+
+                @Override
+                public void onException(OnExceptionContext context) {
+                    logger.warn("Failed to send oneway event: {} to topic: {}", context.getMessageId(),
+                        context.getTopic(), context.getException());
+                }
+            });
+            return;
+        }
         RTopic topic = redisson.getTopic(cloudEvent.getSubject());
         topic.publish(cloudEvent);
     }
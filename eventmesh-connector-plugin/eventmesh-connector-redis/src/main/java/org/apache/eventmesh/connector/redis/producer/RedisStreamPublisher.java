@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.redis.producer;
+
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.ConnectorRuntimeException;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.connector.redis.cloudevent.CloudEventCodec;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Appends cloudevents to the stream named by their subject with XADD, trimmed with MAXLEN ~.
+ * <p>
+ * Events published while the flusher is busy are queued and sent together as one pipelined batch,
+ * so a single publisher adds no latency and many concurrent publishers share round trips.
+ */
+public class RedisStreamPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisStreamPublisher.class);
+
+    private final RedissonClient redisson;
+
+    private final int maxLen;
+
+    private final int batchSize;
+
+    private final Queue<PendingEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "redis-stream-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisStreamPublisher(RedissonClient redisson, int maxLen, int batchSize) {
+        this.redisson = redisson;
+        this.maxLen = maxLen;
+        this.batchSize = batchSize;
+    }
+
+    public void publish(CloudEvent cloudEvent, SendCallback sendCallback) {
+        pendingEvents.offer(new PendingEvent(cloudEvent, sendCallback));
+        if (flushing.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    public void shutdown() {
+        flushExecutor.shutdown();
+    }
+
+    private void flush() {
+        do {
+            try {
+                while (!pendingEvents.isEmpty()) {
+                    sendBatch();
+                }
+            } finally {
+                flushing.set(false);
+            }
+            // an event may be queued after the last drain but before the flag was cleared
+        } while (!pendingEvents.isEmpty() && flushing.compareAndSet(false, true));
+    }
+
+    private void sendBatch() {
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        int size = 0;
+        PendingEvent pendingEvent;
+        while (size < batchSize && (pendingEvent = pendingEvents.poll()) != null) {
+            PendingEvent current = pendingEvent;
+            CloudEvent cloudEvent = current.cloudEvent;
+            try {
+                RFuture<StreamMessageId> future = batch.<String, CloudEvent>getStream(cloudEvent.getSubject(),
+                        CloudEventCodec.STREAM_INSTANCE)
+                    .addAsync(StreamAddArgs.<String, CloudEvent>entry(CloudEventCodec.STREAM_FIELD, cloudEvent)
+                        .trimNonStrict().maxLen(maxLen).noLimit());
+                future.whenComplete((streamMessageId, throwable) -> complete(current, throwable));
+                size++;
+            } catch (Exception e) {
+                complete(current, e);
+            }
+        }
+        if (size == 0) {
+            return;
+        }
+        batch.executeAsync().whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                logger.warn("Failed to execute the XADD batch", throwable);
+            }
+        });
+    }
+
+    private void complete(PendingEvent pendingEvent, Throwable throwable) {
+        CloudEvent cloudEvent = pendingEvent.cloudEvent;
+        if (throwable != null) {
+            pendingEvent.sendCallback.onException(
+                OnExceptionContext.builder()
+                    .topic(cloudEvent.getSubject())
+                    .messageId(cloudEvent.getId())
+                    .exception(new ConnectorRuntimeException(throwable))
+                    .build()
+            );
+            return;
+        }
+        SendResult sendResult = new SendResult();
+        sendResult.setTopic(cloudEvent.getSubject());
+        sendResult.setMessageId(cloudEvent.getId());
+        pendingEvent.sendCallback.onSuccess(sendResult);
+    }
+
+    private static class PendingEvent {
+
+        private final CloudEvent cloudEvent;
+
+        private final SendCallback sendCallback;
+
+        PendingEvent(CloudEvent cloudEvent, SendCallback sendCallback) {
+            this.cloudEvent = cloudEvent;
+            this.sendCallback = sendCallback;
+        }
+    }
+}
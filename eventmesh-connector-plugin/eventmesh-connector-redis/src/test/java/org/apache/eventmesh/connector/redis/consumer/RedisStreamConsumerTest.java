@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.redis.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.connector.redis.cloudevent.CloudEventCodec;
+import org.apache.eventmesh.connector.redis.config.RedisProperties;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.redisson.api.AutoClaimResult;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamReadGroupArgs;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class RedisStreamConsumerTest {
+
+    private static final String TOPIC = "topic";
+
+    private static final String GROUP = "group";
+
+    private static final String CONSUMER = "consumer";
+
+    private RStream<String, CloudEvent> stream;
+
+    private RedisStreamConsumer streamConsumer;
+
+    private final Map<String, EventMeshAction> actions = new LinkedHashMap<>();
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        stream = mock(RStream.class);
+        RedissonClient redisson = mock(RedissonClient.class);
+        when(redisson.<String, CloudEvent>getStream(TOPIC, CloudEventCodec.STREAM_INSTANCE)).thenReturn(stream);
+
+        RedisProperties properties = new RedisProperties();
+        properties.setStreamReadBatchSize(10);
+        properties.setStreamReadBlockTimeInMills(10);
+        streamConsumer = new RedisStreamConsumer(redisson, TOPIC, GROUP, CONSUMER, (cloudEvent, context) -> {
+            EventMeshAction action = actions.getOrDefault(cloudEvent.getId(), EventMeshAction.CommitMessage);
+            ((EventMeshAsyncConsumeContext) context).commit(action);
+        }, properties);
+    }
+
+    @Test
+    public void testCommitMessageAcksEntry() {
+        StreamMessageId id = new StreamMessageId(1, 0);
+        when(stream.readGroup(eq(GROUP), eq(CONSUMER), any(StreamReadGroupArgs.class)))
+            .thenReturn(Collections.singletonMap(id, entry("1")));
+
+        streamConsumer.pollOnce();
+
+        verify(stream).ackAsync(GROUP, id);
+    }
+
+    @Test
+    public void testManualAckWaitsForUpdateOffset() {
+        StreamMessageId id = new StreamMessageId(1, 0);
+        actions.put("1", EventMeshAction.ManualAck);
+        when(stream.readGroup(eq(GROUP), eq(CONSUMER), any(StreamReadGroupArgs.class)))
+            .thenReturn(Collections.singletonMap(id, entry("1")));
+
+        streamConsumer.pollOnce();
+        verify(stream, never()).ackAsync(GROUP, id);
+
+        streamConsumer.ack("1");
+        verify(stream).ackAsync(GROUP, id);
+    }
+
+    @Test
+    public void testReconsumeLaterLeavesEntryPending() {
+        StreamMessageId id = new StreamMessageId(1, 0);
+        actions.put("1", EventMeshAction.ReconsumeLater);
+        when(stream.readGroup(eq(GROUP), eq(CONSUMER), any(StreamReadGroupArgs.class)))
+            .thenReturn(Collections.singletonMap(id, entry("1")));
+
+        streamConsumer.pollOnce();
+        streamConsumer.ack("1");
+
+        verify(stream, never()).ackAsync(GROUP, id);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClaimIdleEntries() {
+        StreamMessageId id = new StreamMessageId(1, 0);
+        AutoClaimResult<String, CloudEvent> result = mock(AutoClaimResult.class);
+        when(result.getMessages()).thenReturn(Collections.singletonMap(id, entry("1")));
+        when(result.getNextId()).thenReturn(new StreamMessageId(0, 0));
+        when(stream.autoClaim(eq(GROUP), eq(CONSUMER), anyLong(), eq(TimeUnit.MILLISECONDS),
+            any(StreamMessageId.class), anyInt())).thenReturn(result);
+
+        streamConsumer.claimOnce();
+
+        verify(stream).ackAsync(GROUP, id);
+    }
+
+    @Test
+    public void testEntryWithoutCloudEventIsSkipped() {
+        StreamMessageId id = new StreamMessageId(1, 0);
+        when(stream.readGroup(eq(GROUP), eq(CONSUMER), any(StreamReadGroupArgs.class)))
+            .thenReturn(Collections.singletonMap(id, Collections.emptyMap()));
+
+        streamConsumer.pollOnce();
+
+        verify(stream).ackAsync(GROUP, id);
+    }
+
+    private Map<String, CloudEvent> entry(String id) {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("testsource"))
+            .withSubject(TOPIC)
+            .withType(String.class.getCanonicalName())
+            .build();
+        return Collections.singletonMap(CloudEventCodec.STREAM_FIELD, cloudEvent);
+    }
+}
@@ -24,4 +24,8 @@ public class EventMeshConstants {
     public static final int DEFAULT_TIMEOUT_IN_MILLISECONDS = 3000;
 
     public static final String STORE_TIMESTAMP = "storetime";
+
+    public static final String CONSUME_ORDERLY = "CONSUME_ORDERLY";
+
+    public static final String CONSUME_MESSAGE_BATCH_MAX_SIZE = "CONSUME_MESSAGE_BATCH_MAX_SIZE";
 }
@@ -41,6 +41,8 @@ public class ClientConfig implements NonStandardKeys {
     private int rmqPullMessageBatchNums = 32;
     private int rmqPullMessageCacheCapacity = 1000;
     private String messageModel;
+    private boolean consumeOrderly = false;
+    private int consumeMessageBatchMaxSize = 1;
 
     public String getDriverImpl() {
         return driverImpl;
@@ -201,4 +203,20 @@ public class ClientConfig implements NonStandardKeys {
     public void setMessageModel(String messageModel) {
         this.messageModel = messageModel;
     }
+
+    public boolean isConsumeOrderly() {
+        return consumeOrderly;
+    }
+
+    public void setConsumeOrderly(boolean consumeOrderly) {
+        this.consumeOrderly = consumeOrderly;
+    }
+
+    public int getConsumeMessageBatchMaxSize() {
+        return consumeMessageBatchMaxSize;
+    }
+
+    public void setConsumeMessageBatchMaxSize(int consumeMessageBatchMaxSize) {
+        this.consumeMessageBatchMaxSize = consumeMessageBatchMaxSize;
+    }
 }
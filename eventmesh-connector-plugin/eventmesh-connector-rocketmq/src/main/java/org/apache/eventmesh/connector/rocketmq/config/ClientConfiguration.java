@@ -19,6 +19,9 @@ package org.apache.eventmesh.connector.rocketmq.config;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import com.google.common.base.Preconditions;
 
 public class ClientConfiguration {
@@ -39,6 +42,11 @@ public class ClientConfiguration {
     public String clusterName = "";
     public String accessKey = "";
     public String secretKey = "";
+    /**
+     * consumer groups consuming orderly, messages of a queue are delivered one batch at a time
+     */
+    public Set<String> orderlyConsumerGroups = new HashSet<>();
+    public Integer consumeMessageBatchMaxSize = 1;
 
     public void init() {
 
@@ -151,6 +159,24 @@ public class ClientConfiguration {
         if (StringUtils.isNotBlank(sk)) {
             secretKey = sk;
         }
+
+        String orderlyConsumerGroupsStr =
+            ConfigurationWrapper.getProp(ConfKeys.KEYS_EVENTMESH_ROCKETMQ_CLIENT_ORDERLY_CONSUMER_GROUPS);
+        if (StringUtils.isNotBlank(orderlyConsumerGroupsStr)) {
+            for (String group : StringUtils.split(orderlyConsumerGroupsStr, ',')) {
+                if (StringUtils.isNotBlank(group)) {
+                    orderlyConsumerGroups.add(StringUtils.trim(group));
+                }
+            }
+        }
+
+        String consumeMessageBatchMaxSizeStr =
+            ConfigurationWrapper.getProp(ConfKeys.KEYS_EVENTMESH_ROCKETMQ_CLIENT_CONSUME_MESSAGE_BATCH_MAX_SIZE);
+        if (StringUtils.isNotEmpty(consumeMessageBatchMaxSizeStr)) {
+            Preconditions.checkState(StringUtils.isNumeric(consumeMessageBatchMaxSizeStr),
+                String.format("%s error", ConfKeys.KEYS_EVENTMESH_ROCKETMQ_CLIENT_CONSUME_MESSAGE_BATCH_MAX_SIZE));
+            consumeMessageBatchMaxSize = Integer.valueOf(consumeMessageBatchMaxSizeStr);
+        }
     }
 
     static class ConfKeys {
@@ -197,5 +223,11 @@ public class ClientConfiguration {
         public static final String KEYS_EVENTMESH_ROCKETMQ_SECRET_KEY =
             "eventMesh.server.rocketmq.secretKey";
 
+        public static final String KEYS_EVENTMESH_ROCKETMQ_CLIENT_ORDERLY_CONSUMER_GROUPS =
+            "eventMesh.server.rocketmq.client.orderlyConsumerGroups";
+
+        public static final String KEYS_EVENTMESH_ROCKETMQ_CLIENT_CONSUME_MESSAGE_BATCH_MAX_SIZE =
+            "eventMesh.server.rocketmq.client.consumeMessageBatchMaxSize";
+
     }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ import org.apache.eventmesh.connector.rocketmq.config.ClientConfig;
 import org.apache.eventmesh.connector.rocketmq.domain.NonStandardKeys;
 import org.apache.eventmesh.connector.rocketmq.patch.EventMeshConsumeConcurrentlyContext;
 import org.apache.eventmesh.connector.rocketmq.patch.EventMeshConsumeConcurrentlyStatus;
+import org.apache.eventmesh.connector.rocketmq.patch.EventMeshConsumeOrderlyContext;
 import org.apache.eventmesh.connector.rocketmq.patch.EventMeshMessageListenerConcurrently;
 import org.apache.eventmesh.connector.rocketmq.utils.BeanUtils;
 import org.apache.eventmesh.connector.rocketmq.utils.CloudEventUtils;
@@ -36,22 +37,31 @@ import org.apache.eventmesh.connector.rocketmq.utils.OMSUtil;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
+import org.apache.rocketmq.client.consumer.listener.ConsumeOrderlyContext;
+import org.apache.rocketmq.client.consumer.listener.ConsumeOrderlyStatus;
+import org.apache.rocketmq.client.consumer.listener.MessageListenerOrderly;
 import org.apache.rocketmq.client.exception.MQClientException;
 import org.apache.rocketmq.client.impl.consumer.ConsumeMessageConcurrentlyService;
 import org.apache.rocketmq.client.impl.consumer.ConsumeMessageService;
 import org.apache.rocketmq.common.message.MessageConst;
 import org.apache.rocketmq.common.message.MessageExt;
+import org.apache.rocketmq.common.message.MessageQueue;
 import org.apache.rocketmq.common.protocol.heartbeat.MessageModel;
 import org.apache.rocketmq.remoting.protocol.LanguageCode;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public class PushConsumerImpl {
     private final DefaultMQPushConsumer rocketmqPushConsumer;
     private final Properties properties;
@@ -88,7 +98,11 @@ public class PushConsumerImpl {
         properties.put("CONSUMER_ID", consumerId);
         this.rocketmqPushConsumer.setLanguage(LanguageCode.OMS);
 
-        if (clientConfig.getMessageModel().equalsIgnoreCase(MessageModel.BROADCASTING.name())) {
+        if (clientConfig.isConsumeOrderly()) {
+            // the concurrently listeners only handle the first message of a batch
+            this.rocketmqPushConsumer.setConsumeMessageBatchMaxSize(clientConfig.getConsumeMessageBatchMaxSize());
+            rocketmqPushConsumer.registerMessageListener(new OrderlyMessageListener());
+        } else if (clientConfig.getMessageModel().equalsIgnoreCase(MessageModel.BROADCASTING.name())) {
             rocketmqPushConsumer.registerMessageListener(new BroadCastingMessageListener());
         } else {
             rocketmqPushConsumer.registerMessageListener(new ClusteringMessageListener());
@@ -148,6 +162,11 @@ public class PushConsumerImpl {
     }
 
     public void updateOffset(List<CloudEvent> cloudEvents, AbstractContext context) {
+        if (context instanceof EventMeshConsumeOrderlyContext) {
+            // the offset is committed by the orderly service once the blocked batch completes
+            ((EventMeshConsumeOrderlyContext) context).ack();
+            return;
+        }
         ConsumeMessageService consumeMessageService = rocketmqPushConsumer
             .getDefaultMQPushConsumerImpl().getConsumeMessageService();
         List<MessageExt> msgExtList = new ArrayList<>(cloudEvents.size());
@@ -304,6 +323,85 @@ public class PushConsumerImpl {
         }
     }
 
+    /**
+     * Delivers the messages of a queue one at a time and waits for each one to be acked before the next one,
+     * so the messages of a queue are consumed in order. When a message is not acked in time or is to be consumed
+     * later, the queue is suspended and the whole batch is delivered again.
+     */
+    private class OrderlyMessageListener implements MessageListenerOrderly {
+
+        @Override
+        public ConsumeOrderlyStatus consumeMessage(List<MessageExt> msgs, ConsumeOrderlyContext context) {
+            for (MessageExt msg : msgs) {
+                if (!consumeInOrder(msg, context.getMessageQueue())) {
+                    return ConsumeOrderlyStatus.SUSPEND_CURRENT_QUEUE_A_MOMENT;
+                }
+            }
+            return ConsumeOrderlyStatus.SUCCESS;
+        }
+
+        private boolean consumeInOrder(MessageExt msg, MessageQueue messageQueue) {
+            if (eventListener == null) {
+                throw new ConnectorRuntimeException(String.format("The topic/queue %s isn't attached to this consumer",
+                    msg.getTopic()));
+            }
+
+            msg.putUserProperty(Constants.PROPERTY_MESSAGE_BORN_TIMESTAMP,
+                String.valueOf(msg.getBornTimestamp()));
+            msg.putUserProperty(EventMeshConstants.STORE_TIMESTAMP,
+                String.valueOf(msg.getStoreTimestamp()));
+
+            CloudEvent cloudEvent =
+                RocketMQMessageFactory.createReader(CloudEventUtils.msgConvert(msg)).toEvent();
+
+            CloudEventBuilder cloudEventBuilder = null;
+            for (String sysPropKey : MessageConst.STRING_HASH_SET) {
+                if (StringUtils.isNotEmpty(msg.getProperty(sysPropKey))) {
+                    String prop = msg.getProperty(sysPropKey);
+                    sysPropKey = sysPropKey.toLowerCase().replaceAll("_", Constants.MESSAGE_PROP_SEPARATOR);
+                    cloudEventBuilder = CloudEventBuilder.from(cloudEvent).withExtension(sysPropKey, prop);
+                }
+            }
+            if (cloudEventBuilder != null) {
+                cloudEvent = cloudEventBuilder.build();
+            }
+
+            final AtomicReference<EventMeshAction> consumeAction = new AtomicReference<>(EventMeshAction.ReconsumeLater);
+            EventMeshConsumeOrderlyContext orderlyContext = new EventMeshConsumeOrderlyContext(messageQueue);
+            EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext = new EventMeshAsyncConsumeContext() {
+                @Override
+                public void commit(EventMeshAction action) {
+                    consumeAction.set(action);
+                }
+            };
+            eventMeshAsyncConsumeContext.setAbstractContext(orderlyContext);
+
+            try {
+                eventListener.consume(cloudEvent, eventMeshAsyncConsumeContext);
+            } catch (Exception e) {
+                log.warn("consume msg orderly fail, topic:{}, msgId:{}", msg.getTopic(), msg.getMsgId(), e);
+                return false;
+            }
+
+            switch (consumeAction.get()) {
+                case CommitMessage:
+                    return true;
+                case ManualAck:
+                    try {
+                        if (orderlyContext.awaitAck(clientConfig.getRmqMessageConsumeTimeout(), TimeUnit.MINUTES)) {
+                            return true;
+                        }
+                        log.warn("wait ack of orderly msg timeout, topic:{}, msgId:{}", msg.getTopic(), msg.getMsgId());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        }
+    }
+
     public void registerEventListener(EventListener listener) {
         this.eventListener = listener;
     }
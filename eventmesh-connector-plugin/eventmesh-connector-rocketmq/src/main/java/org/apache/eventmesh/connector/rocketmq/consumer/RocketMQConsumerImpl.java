@@ -21,6 +21,7 @@ import org.apache.eventmesh.api.AbstractContext;
 import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.consumer.Consumer;
 import org.apache.eventmesh.common.Constants;
+import org.apache.eventmesh.connector.rocketmq.common.EventMeshConstants;
 import org.apache.eventmesh.connector.rocketmq.config.ClientConfiguration;
 
 import org.apache.rocketmq.common.protocol.heartbeat.MessageModel;
@@ -49,6 +50,7 @@ public class RocketMQConsumerImpl implements Consumer {
         boolean isBroadcast = Boolean.parseBoolean(keyValue.getProperty(Constants.IS_BROADCAST));
 
         String consumerGroup = keyValue.getProperty(Constants.CONSUMER_GROUP);
+        final boolean consumeOrderly = clientConfiguration.orderlyConsumerGroups.contains(consumerGroup);
         if (isBroadcast) {
             consumerGroup = Constants.BROADCAST_PREFIX + consumerGroup;
         }
@@ -65,6 +67,8 @@ public class RocketMQConsumerImpl implements Consumer {
         } else {
             properties.put(Constants.MESSAGE_MODEL, MessageModel.CLUSTERING.name());
         }
+        properties.put(EventMeshConstants.CONSUME_ORDERLY, String.valueOf(consumeOrderly));
+        properties.put(EventMeshConstants.CONSUME_MESSAGE_BATCH_MAX_SIZE, String.valueOf(clientConfiguration.consumeMessageBatchMaxSize));
 
         pushConsumer = new PushConsumerImpl(properties);
     }
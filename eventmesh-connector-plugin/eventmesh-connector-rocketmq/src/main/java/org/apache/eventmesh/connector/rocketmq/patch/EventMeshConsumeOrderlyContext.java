@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.rocketmq.patch;
+
+import org.apache.eventmesh.api.AbstractContext;
+
+import org.apache.rocketmq.client.consumer.listener.ConsumeOrderlyContext;
+import org.apache.rocketmq.common.message.MessageQueue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Context of one message consumed orderly, the queue stays blocked on it until it is acked by updateOffset.
+ */
+public class EventMeshConsumeOrderlyContext extends ConsumeOrderlyContext implements AbstractContext {
+
+    private final CountDownLatch ackLatch = new CountDownLatch(1);
+
+    public EventMeshConsumeOrderlyContext(MessageQueue messageQueue) {
+        super(messageQueue);
+    }
+
+    public void ack() {
+        ackLatch.countDown();
+    }
+
+    public boolean awaitAck(long timeout, TimeUnit unit) throws InterruptedException {
+        return ackLatch.await(timeout, unit);
+    }
+}
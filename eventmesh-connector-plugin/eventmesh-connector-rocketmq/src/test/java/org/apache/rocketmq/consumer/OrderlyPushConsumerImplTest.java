@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.rocketmq.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.connector.rocketmq.cloudevent.RocketMQMessageFactory;
+import org.apache.eventmesh.connector.rocketmq.common.EventMeshConstants;
+import org.apache.eventmesh.connector.rocketmq.consumer.PushConsumerImpl;
+
+import org.apache.rocketmq.client.consumer.listener.ConsumeOrderlyContext;
+import org.apache.rocketmq.client.consumer.listener.ConsumeOrderlyStatus;
+import org.apache.rocketmq.client.consumer.listener.MessageListenerOrderly;
+import org.apache.rocketmq.common.message.Message;
+import org.apache.rocketmq.common.message.MessageAccessor;
+import org.apache.rocketmq.common.message.MessageExt;
+import org.apache.rocketmq.common.message.MessageQueue;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class OrderlyPushConsumerImplTest {
+
+    private PushConsumerImpl consumer;
+
+    private MessageListenerOrderly listener;
+
+    private final List<String> consumed = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void before() {
+        Properties consumerProp = new Properties();
+        consumerProp.setProperty("access_points", "IP1:9876,IP2:9876");
+        consumerProp.setProperty("message.model", "CLUSTERING");
+        consumerProp.put("CONSUMER_ID", "TestGroup");
+        consumerProp.put(EventMeshConstants.CONSUME_ORDERLY, "true");
+        consumerProp.put(EventMeshConstants.CONSUME_MESSAGE_BATCH_MAX_SIZE, "4");
+        consumer = new PushConsumerImpl(consumerProp);
+        listener = (MessageListenerOrderly) consumer.getRocketmqPushConsumer().getMessageListener();
+    }
+
+    @Test
+    public void testBatchSize() {
+        assertThat(consumer.getRocketmqPushConsumer().getConsumeMessageBatchMaxSize()).isEqualTo(4);
+    }
+
+    @Test
+    public void testCommitMessage() {
+        consumer.registerEventListener((cloudEvent, context) -> {
+            consumed.add(cloudEvent.getId());
+            ((EventMeshAsyncConsumeContext) context).commit(EventMeshAction.CommitMessage);
+        });
+
+        ConsumeOrderlyStatus status = listener.consumeMessage(Arrays.asList(message("1"), message("2")), context());
+
+        assertThat(status).isEqualTo(ConsumeOrderlyStatus.SUCCESS);
+        assertThat(consumed).containsExactly("1", "2");
+    }
+
+    @Test
+    public void testReconsumeLaterSuspendsQueue() {
+        consumer.registerEventListener((cloudEvent, context) -> {
+            consumed.add(cloudEvent.getId());
+            ((EventMeshAsyncConsumeContext) context).commit(EventMeshAction.ReconsumeLater);
+        });
+
+        ConsumeOrderlyStatus status = listener.consumeMessage(Arrays.asList(message("1"), message("2")), context());
+
+        assertThat(status).isEqualTo(ConsumeOrderlyStatus.SUSPEND_CURRENT_QUEUE_A_MOMENT);
+        assertThat(consumed).containsExactly("1");
+    }
+
+    @Test
+    public void testManualAckWaitsForUpdateOffset() {
+        consumer.registerEventListener((cloudEvent, context) -> {
+            EventMeshAsyncConsumeContext consumeContext = (EventMeshAsyncConsumeContext) context;
+            consumeContext.commit(EventMeshAction.ManualAck);
+            new Thread(() -> {
+                consumed.add(cloudEvent.getId());
+                consumer.updateOffset(Collections.singletonList(cloudEvent), consumeContext.getAbstractContext());
+            }).start();
+        });
+
+        ConsumeOrderlyStatus status = listener.consumeMessage(Arrays.asList(message("1"), message("2")), context());
+
+        assertThat(status).isEqualTo(ConsumeOrderlyStatus.SUCCESS);
+        assertThat(consumed).containsExactly("1", "2");
+    }
+
+    private ConsumeOrderlyContext context() {
+        return new ConsumeOrderlyContext(new MessageQueue("HELLO_QUEUE", "broker", 0));
+    }
+
+    private MessageExt message(String id) {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+            .withId(id)
+            .withSource(URI.create("testsource"))
+            .withSubject("HELLO_QUEUE")
+            .withType(String.class.getCanonicalName())
+            .withData(new byte[] {'a', 'b'})
+            .build();
+        Message message = RocketMQMessageFactory.createWriter(cloudEvent.getSubject()).writeBinary(cloudEvent);
+        MessageExt msg = new MessageExt();
+        msg.setTopic(message.getTopic());
+        msg.setBody(message.getBody());
+        message.getProperties().forEach((k, v) -> MessageAccessor.putProperty(msg, k, v));
+        msg.setMsgId(id);
+        return msg;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.eventmesh.connector.standalone.broker;
 import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -31,6 +32,13 @@ import com.google.common.base.Preconditions;
  */
 public class MessageQueue {
 
+    public static final String CAPACITY_PROPERTY = "eventmesh.standalone.queueCapacity";
+
+    /**
+     * capacity of the queue of a topic, the puts of a topic wait once it holds this many messages that have not expired
+     */
+    private static final int DEFAULT_CAPACITY = Integer.getInteger(CAPACITY_PROPERTY, 2 << 10);
+
     public MessageEntity[] items;
 
     private int takeIndex;
@@ -45,9 +53,8 @@ public class MessageQueue {
 
     private final Condition notFull;
 
-
     public MessageQueue() {
-        this(2 << 10);
+        this(DEFAULT_CAPACITY);
     }
 
     public MessageQueue(int capacity) {
@@ -61,7 +68,8 @@ public class MessageQueue {
     }
 
     /**
-     * Insert the message at the tail of this queue, waiting for space to become available if the queue is full
+     * Insert the message at the tail of this queue, waiting for space to become available if the queue is full.
+     * Messages are kept until they expire, the space is given back when the expired head is removed.
      *
      * @param messageEntity
      */
@@ -167,10 +175,9 @@ public class MessageQueue {
             if (tail == null || tail.getOffset() < offset) {
                 return null;
             }
-            int offsetDis = (int) (head.getOffset() - offset);
-            int offsetIndex = takeIndex - offsetDis;
-            if (offsetIndex < 0) {
-                offsetIndex += items.length;
+            int offsetIndex = takeIndex + (int) (offset - head.getOffset());
+            if (offsetIndex >= items.length) {
+                offsetIndex -= items.length;
             }
             return itemAt(offsetIndex);
         } finally {
@@ -178,6 +185,35 @@ public class MessageQueue {
         }
     }
 
+    /**
+     * Get the message by offset, waiting for it to be put if the queue does not hold it yet. If the message has
+     * already expired and been removed the oldest message in this queue is returned instead, so check its offset.
+     *
+     * @param offset
+     * @param timeout how long to wait for the message
+     * @param unit    unit of the timeout
+     * @return MessageEntity, or null if the message was not put within the timeout
+     */
+    public MessageEntity getByOffset(long offset, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            MessageEntity tail = getTail();
+            while (tail == null || tail.getOffset() < offset) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+                tail = getTail();
+            }
+            MessageEntity head = getHead();
+            return head.getOffset() > offset ? head : getByOffset(offset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public void removeHead() {
         ReentrantLock lock = this.lock;
         lock.lock();
@@ -185,11 +221,7 @@ public class MessageQueue {
             if (count == 0) {
                 return;
             }
-            items[takeIndex++] = null;
-            if (takeIndex == items.length) {
-                takeIndex = 0;
-            }
-            notFull.signalAll();
+            dropHead();
         } finally {
             lock.unlock();
         }
@@ -218,10 +250,18 @@ public class MessageQueue {
         if (takeIndex == items.length) {
             takeIndex = 0;
         }
-        notFull.signalAll();
         return item;
     }
 
+    private void dropHead() {
+        items[takeIndex++] = null;
+        if (takeIndex == items.length) {
+            takeIndex = 0;
+        }
+        count--;
+        notFull.signalAll();
+    }
+
     public int getTakeIndex() {
         return takeIndex;
     }
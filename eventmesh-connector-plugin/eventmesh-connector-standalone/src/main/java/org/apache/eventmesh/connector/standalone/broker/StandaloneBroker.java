@@ -24,6 +24,7 @@ import org.apache.eventmesh.connector.standalone.broker.task.HistoryMessageClear
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.cloudevents.CloudEvent;
@@ -68,11 +69,13 @@ public class StandaloneBroker {
         AtomicLong topicOffset = pair.getRight();
         MessageQueue messageQueue = pair.getLeft();
 
-        MessageEntity messageEntity = new MessageEntity(
-            new TopicMetadata(topicName), message, topicOffset.getAndIncrement(), System.currentTimeMillis());
-        messageQueue.put(messageEntity);
-
-        return messageEntity;
+        // the queue locates messages by offset, so they have to be put in offset order
+        synchronized (messageQueue) {
+            MessageEntity messageEntity = new MessageEntity(
+                new TopicMetadata(topicName), message, topicOffset.getAndIncrement(), System.currentTimeMillis());
+            messageQueue.put(messageEntity);
+            return messageEntity;
+        }
     }
 
     /**
@@ -115,6 +118,21 @@ public class StandaloneBroker {
         return messageEntity.getMessage();
     }
 
+    /**
+     * Get the message by offset, waiting up to the timeout for it to be put
+     *
+     * @param topicName topic name
+     * @param offset    offset
+     * @param timeout   timeout
+     * @param unit      unit of the timeout
+     * @return the message, or the oldest message of the topic if the one at offset has expired, null on timeout
+     */
+    public MessageEntity getMessage(String topicName, long offset, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        TopicMetadata topicMetadata = new TopicMetadata(topicName);
+        return messageContainer.computeIfAbsent(topicMetadata, k -> new MessageQueue()).getByOffset(offset, timeout, unit);
+    }
+
     private void startHistoryMessageCleanTask() {
         Thread thread = new Thread(new HistoryMessageClearTask(messageContainer));
         thread.setDaemon(true);
@@ -21,7 +21,9 @@ import org.apache.eventmesh.api.EventListener;
 import org.apache.eventmesh.api.EventMeshAction;
 import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
 import org.apache.eventmesh.connector.standalone.broker.StandaloneBroker;
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
@@ -31,6 +33,8 @@ import io.cloudevents.CloudEvent;
 
 public class SubScribeTask implements Runnable {
 
+    private static final long POLL_TIMEOUT_MILLIS = 1000;
+
     private String topicName;
     private StandaloneBroker standaloneBroker;
     private EventListener listener;
@@ -52,6 +56,9 @@ public class SubScribeTask implements Runnable {
     @Override
     public void run() {
         while (isRunning) {
+            // only back off when there is nothing to consume yet or the listener did not ack, a consumer that keeps
+            // up is woken by the next put instead of polling once a second
+            boolean backOff = true;
             try {
                 logger.debug("execute subscribe task, topic: {}, offset: {}", topicName, offset);
                 if (offset == null) {
@@ -67,8 +74,17 @@ public class SubScribeTask implements Runnable {
                     }
                 }
                 if (offset != null) {
-                    CloudEvent message = standaloneBroker.getMessage(topicName, offset.get());
-                    if (message != null) {
+                    MessageEntity messageEntity =
+                        standaloneBroker.getMessage(topicName, offset.get(), POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (messageEntity == null) {
+                        backOff = false;
+                    } else {
+                        if (messageEntity.getOffset() > offset.get()) {
+                            logger.warn("messages expired before being consumed, topic: {}, offset: {} to {}",
+                                topicName, offset.get(), messageEntity.getOffset() - 1);
+                            offset.set((int) messageEntity.getOffset());
+                        }
+                        int consumedOffset = offset.get();
                         EventMeshAsyncConsumeContext consumeContext = new EventMeshAsyncConsumeContext() {
                             @Override
                             public void commit(EventMeshAction action) {
@@ -84,22 +100,31 @@ public class SubScribeTask implements Runnable {
                                     case ManualAck:
                                         // update offset
                                         offset.incrementAndGet();
-                                        logger
-                                            .info("message ack, topic: {}, current offset:{}", topicName, offset.get());
+                                        logger.debug("message ack, topic: {}, current offset:{}", topicName,
+                                            offset.get());
                                         break;
                                     default:
 
                                 }
                             }
                         };
-                        listener.consume(message, consumeContext);
+                        listener.consume(messageEntity.getMessage(), consumeContext);
+                        backOff = offset.get() == consumedOffset;
                     }
                 }
 
+            } catch (InterruptedException e) {
+                logger.error("Thread is interrupted, topic: {}, offset: {} thread name: {}",
+                    topicName, offset == null ? null : offset.get(), Thread.currentThread().getName(), e);
+                Thread.currentThread().interrupt();
+                return;
             } catch (Exception ex) {
                 logger.error("consumer error, topic: {}, offset: {}", topicName, offset == null ? null : offset.get(),
                     ex);
             }
+            if (!backOff) {
+                continue;
+            }
             try {
                 Thread.sleep(1000);
             } catch (InterruptedException e) {
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.connector.standalone.broker;
+
+import org.apache.eventmesh.connector.standalone.broker.model.MessageEntity;
+import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class MessageQueueTest {
+
+    @Test
+    public void testPutWaitsUntilHeadRemovedWhenFull() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(2);
+        for (int offset = 0; offset < 2; offset++) {
+            messageQueue.put(messageEntity(offset));
+        }
+        Thread putThread = new Thread(() -> {
+            try {
+                messageQueue.put(messageEntity(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        putThread.start();
+        putThread.join(100);
+        Assert.assertTrue(putThread.isAlive());
+        Assert.assertEquals(0, messageQueue.getHead().getOffset());
+
+        messageQueue.removeHead();
+        putThread.join(3000);
+        Assert.assertFalse(putThread.isAlive());
+        Assert.assertEquals(2, messageQueue.getSize());
+        Assert.assertEquals(1, messageQueue.getHead().getOffset());
+        Assert.assertEquals(2, messageQueue.getTail().getOffset());
+    }
+
+    @Test
+    public void testGetByOffsetAfterWrapAround() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(4);
+        for (int offset = 0; offset < 6; offset++) {
+            if (messageQueue.getSize() == 4) {
+                messageQueue.removeHead();
+            }
+            messageQueue.put(messageEntity(offset));
+        }
+        for (int offset = 2; offset < 6; offset++) {
+            Assert.assertEquals(offset, messageQueue.getByOffset(offset).getOffset());
+        }
+        Assert.assertNull(messageQueue.getByOffset(6));
+    }
+
+    @Test
+    public void testGetByOffsetWithTimeout() throws InterruptedException {
+        MessageQueue messageQueue = new MessageQueue(2);
+        Assert.assertNull(messageQueue.getByOffset(0, 10, TimeUnit.MILLISECONDS));
+
+        for (int offset = 0; offset < 2; offset++) {
+            messageQueue.put(messageEntity(offset));
+        }
+        messageQueue.removeHead();
+        messageQueue.put(messageEntity(2));
+        // offset 0 has expired, the oldest message left is returned
+        Assert.assertEquals(1, messageQueue.getByOffset(0, 10, TimeUnit.MILLISECONDS).getOffset());
+        Assert.assertEquals(2, messageQueue.getByOffset(2, 10, TimeUnit.MILLISECONDS).getOffset());
+    }
+
+    private MessageEntity messageEntity(long offset) {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+            .withId(String.valueOf(offset))
+            .withSource(URI.create("testsource"))
+            .withType("testType")
+            .build();
+        return new MessageEntity(new TopicMetadata("test-topic"), cloudEvent, offset, System.currentTimeMillis());
+    }
+}
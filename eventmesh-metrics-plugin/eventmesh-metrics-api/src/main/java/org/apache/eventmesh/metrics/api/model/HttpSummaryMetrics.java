@@ -19,9 +19,9 @@ package org.apache.eventmesh.metrics.api.model;
 
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.concurrent.DelayQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,11 +34,11 @@ public class HttpSummaryMetrics implements Metric {
     public HttpSummaryMetrics(final ThreadPoolExecutor batchMsgExecutor,
                               final ThreadPoolExecutor sendMsgExecutor,
                               final ThreadPoolExecutor pushMsgExecutor,
-                              final DelayQueue<?> httpFailedQueue) {
+                              final IntSupplier httpRetryQueueSize) {
         this.batchMsgExecutor = batchMsgExecutor;
         this.sendMsgExecutor = sendMsgExecutor;
         this.pushMsgExecutor = pushMsgExecutor;
-        this.httpFailedQueue = httpFailedQueue;
+        this.httpRetryQueueSize = httpRetryQueueSize;
     }
 
     private float wholeCost = 0f;
@@ -386,7 +386,7 @@ public class HttpSummaryMetrics implements Metric {
 
     private final ThreadPoolExecutor pushMsgExecutor;
 
-    private final DelayQueue<?> httpFailedQueue;
+    private final IntSupplier httpRetryQueueSize;
 
     public int getBatchMsgQueueSize() {
         return batchMsgExecutor.getQueue().size();
@@ -401,7 +401,7 @@ public class HttpSummaryMetrics implements Metric {
     }
 
     public int getHttpRetryQueueSize() {
-        return httpFailedQueue.size();
+        return httpRetryQueueSize.getAsInt();
     }
 
 
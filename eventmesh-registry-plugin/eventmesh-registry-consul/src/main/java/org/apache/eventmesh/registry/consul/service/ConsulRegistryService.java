@@ -22,6 +22,7 @@ import org.apache.eventmesh.api.registry.RegistryService;
 import org.apache.eventmesh.api.registry.dto.EventMeshDataInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshRegisterInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshUnRegisterInfo;
+import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
 
@@ -31,6 +32,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
@@ -38,6 +44,8 @@ import org.slf4j.LoggerFactory;
 
 import com.ecwid.consul.v1.ConsulClient;
 import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
 import com.ecwid.consul.v1.agent.model.NewService;
 import com.ecwid.consul.v1.agent.model.Service;
 import com.ecwid.consul.v1.health.HealthServicesRequest;
@@ -53,6 +61,15 @@ public class ConsulRegistryService implements RegistryService {
 
     private static final AtomicBoolean START_STATUS = new AtomicBoolean(false);
 
+    /**
+     * how long a blocking query waits for a change of the watched service
+     */
+    private static final long WATCH_WAIT_SECONDS = 30L;
+
+    private static final long WATCH_RETRY_DELAY_MILLS = 3000L;
+
+    private static final long AGENT_REFRESH_INTERVAL_MILLS = 5000L;
+
     private String consulHost;
 
     private String consulPort;
@@ -61,6 +78,18 @@ public class ConsulRegistryService implements RegistryService {
 
     private String token;
 
+    /**
+     * Key: service name
+     * Value: passing instances of the service, kept up to date by a blocking query watch
+     */
+    private final Map<String, List<EventMeshDataInfo>> serviceSnapshot = new ConcurrentHashMap<>();
+
+    private volatile List<EventMeshDataInfo> agentServiceSnapshot;
+
+    private ExecutorService watchExecutor;
+
+    private ScheduledExecutorService refreshExecutor;
+
     @Override
     public void init() throws RegistryException {
         if (INIT_STATUS.compareAndSet(false, true)) {
@@ -86,12 +115,26 @@ public class ConsulRegistryService implements RegistryService {
     @Override
     public void start() throws RegistryException {
         consulClient = new ConsulClient(new ConsulRawClient(consulHost, Integer.parseInt(consulPort)));
+        // one thread per watched service, each of them blocks in a consul query most of the time
+        watchExecutor = ThreadPoolFactory.createThreadPoolExecutor(0, Integer.MAX_VALUE, new SynchronousQueue<>(),
+            "ConsulRegistryWatcher-%d", true);
+        refreshExecutor = ThreadPoolFactory.createSingleScheduledExecutor("ConsulRegistryRefresher");
+        refreshExecutor.scheduleWithFixedDelay(this::refreshAgentServicesQuietly,
+            AGENT_REFRESH_INTERVAL_MILLS, AGENT_REFRESH_INTERVAL_MILLS, TimeUnit.MILLISECONDS);
     }
 
     @Override
     public void shutdown() throws RegistryException {
         INIT_STATUS.compareAndSet(true, false);
         START_STATUS.compareAndSet(true, false);
+        if (watchExecutor != null) {
+            watchExecutor.shutdownNow();
+        }
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+        serviceSnapshot.clear();
+        agentServiceSnapshot = null;
         consulClient = null;
     }
 
@@ -108,6 +151,7 @@ public class ConsulRegistryService implements RegistryService {
         } catch (Exception e) {
             throw new RegistryException(e.getMessage());
         }
+        refreshAgentServicesQuietly();
         logger.info("EventMesh successfully registered to consul");
         return true;
     }
@@ -120,31 +164,114 @@ public class ConsulRegistryService implements RegistryService {
         } catch (Exception e) {
             throw new RegistryException(e.getMessage());
         }
+        refreshAgentServicesQuietly();
         logger.info("EventMesh successfully unregistered to consul");
         return true;
     }
 
     @Override
     public List<EventMeshDataInfo> findEventMeshInfoByCluster(String clusterName) throws RegistryException {
-        HealthServicesRequest request = HealthServicesRequest.newBuilder().setPassing(true).setToken(token).build();
-        List<HealthService> healthServices = consulClient.getHealthServices(clusterName, request).getValue();
-        List<EventMeshDataInfo> eventMeshDataInfos = new ArrayList<>();
-        healthServices.forEach(healthService -> {
-            HealthService.Service service = healthService.getService();
-            String[] split = service.getId().split("-");
-            eventMeshDataInfos.add(new EventMeshDataInfo(split[0], split[1], service.getAddress() + ":" + service.getPort(), 0, service.getMeta()));
-        });
-        return eventMeshDataInfos;
+        List<EventMeshDataInfo> snapshot = serviceSnapshot.get(clusterName);
+        if (snapshot == null) {
+            snapshot = watchService(clusterName);
+        }
+        return new ArrayList<>(snapshot);
     }
 
     @Override
     public List<EventMeshDataInfo> findAllEventMeshInfo() throws RegistryException {
+        List<EventMeshDataInfo> snapshot = agentServiceSnapshot;
+        if (snapshot == null) {
+            try {
+                snapshot = refreshAgentServices();
+            } catch (Exception e) {
+                throw new RegistryException(e.getMessage());
+            }
+        }
+        return new ArrayList<>(snapshot);
+    }
+
+    /**
+     * Query the service on its first lookup, then keep its snapshot up to date with blocking queries.
+     */
+    private synchronized List<EventMeshDataInfo> watchService(String serviceName) throws RegistryException {
+        List<EventMeshDataInfo> snapshot = serviceSnapshot.get(serviceName);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        Response<List<HealthService>> response;
+        try {
+            response = queryHealthServices(serviceName, 0L);
+        } catch (Exception e) {
+            throw new RegistryException(e.getMessage());
+        }
+        snapshot = toEventMeshDataInfos(response.getValue());
+        serviceSnapshot.put(serviceName, snapshot);
+
+        long index = response.getConsulIndex() == null ? 0L : response.getConsulIndex();
+        watchExecutor.execute(() -> watchLoop(serviceName, index));
+        return snapshot;
+    }
+
+    private void watchLoop(String serviceName, long index) {
+        long consulIndex = index;
+        while (!watchExecutor.isShutdown()) {
+            try {
+                Response<List<HealthService>> response = queryHealthServices(serviceName, consulIndex);
+                long newIndex = response.getConsulIndex() == null ? 0L : response.getConsulIndex();
+                // the index must only grow, start over if it went backwards
+                consulIndex = newIndex < consulIndex ? 0L : newIndex;
+                serviceSnapshot.put(serviceName, toEventMeshDataInfos(response.getValue()));
+            } catch (Exception e) {
+                if (watchExecutor.isShutdown()) {
+                    return;
+                }
+                logger.warn("watch consul service {} failed, retry in {}ms", serviceName, WATCH_RETRY_DELAY_MILLS, e);
+                try {
+                    Thread.sleep(WATCH_RETRY_DELAY_MILLS);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Response<List<HealthService>> queryHealthServices(String serviceName, long index) {
+        HealthServicesRequest request = HealthServicesRequest.newBuilder()
+            .setPassing(true)
+            .setToken(token)
+            .setQueryParams(index == 0L ? QueryParams.DEFAULT : new QueryParams(WATCH_WAIT_SECONDS, index))
+            .build();
+        return consulClient.getHealthServices(serviceName, request);
+    }
+
+    private List<EventMeshDataInfo> refreshAgentServices() {
         Map<String, Service> agentServices = consulClient.getAgentServices().getValue();
         List<EventMeshDataInfo> eventMeshDataInfos = new ArrayList<>();
         agentServices.forEach((k, v) -> {
             String[] split = v.getId().split("-");
             eventMeshDataInfos.add(new EventMeshDataInfo(split[0], split[1], v.getAddress() + ":" + v.getPort(), 0, v.getMeta()));
         });
+        agentServiceSnapshot = eventMeshDataInfos;
+        return eventMeshDataInfos;
+    }
+
+    private void refreshAgentServicesQuietly() {
+        try {
+            refreshAgentServices();
+        } catch (Exception e) {
+            logger.warn("refresh consul agent services failed", e);
+        }
+    }
+
+    private static List<EventMeshDataInfo> toEventMeshDataInfos(List<HealthService> healthServices) {
+        List<EventMeshDataInfo> eventMeshDataInfos = new ArrayList<>();
+        healthServices.forEach(healthService -> {
+            HealthService.Service service = healthService.getService();
+            String[] split = service.getId().split("-");
+            eventMeshDataInfos.add(new EventMeshDataInfo(split[0], split[1], service.getAddress() + ":" + service.getPort(), 0, service.getMeta()));
+        });
         return eventMeshDataInfos;
     }
 
@@ -24,6 +24,8 @@ import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
 import org.apache.eventmesh.registry.consul.service.ConsulRegistryService;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.After;
@@ -35,6 +37,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.ecwid.consul.v1.ConsulClient;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.health.HealthServicesRequest;
+import com.ecwid.consul.v1.health.model.HealthService;
+
 @RunWith(MockitoJUnitRunner.class)
 public class ConsulRegistryServiceTest {
 
@@ -125,4 +132,46 @@ public class ConsulRegistryServiceTest {
         Assert.assertEquals(1, eventmesh.size());
         consulRegistryService.unRegister(eventMeshUnRegisterInfo);
     }
+
+    @Test
+    public void testLookupServedByWatch() throws Exception {
+        consulRegistryService.init();
+        consulRegistryService.start();
+        ConsulClient consulClient = Mockito.mock(ConsulClient.class);
+        Field consulClientField = ConsulRegistryService.class.getDeclaredField("consulClient");
+        consulClientField.setAccessible(true);
+        consulClientField.set(consulRegistryService, consulClient);
+
+        Response<List<HealthService>> first = new Response<>(Collections.singletonList(healthService("127.0.0.1")), 5L, true, 0L);
+        Response<List<HealthService>> second = new Response<>(
+            Arrays.asList(healthService("127.0.0.1"), healthService("127.0.0.2")), 6L, true, 0L);
+        Mockito.when(consulClient.getHealthServices(Mockito.eq("eventmesh"), Mockito.any(HealthServicesRequest.class)))
+            .thenReturn(first)
+            .thenReturn(second)
+            .thenAnswer(invocation -> {
+                // a blocking query without changes
+                Thread.sleep(50L);
+                return second;
+            });
+
+        Assert.assertEquals(1, consulRegistryService.findEventMeshInfoByCluster("eventmesh").size());
+
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (consulRegistryService.findEventMeshInfoByCluster("eventmesh").size() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        List<EventMeshDataInfo> eventMeshDataInfos = consulRegistryService.findEventMeshInfoByCluster("eventmesh");
+        Assert.assertEquals(2, eventMeshDataInfos.size());
+        Assert.assertEquals("127.0.0.2:8500", eventMeshDataInfos.get(1).getEndpoint());
+    }
+
+    private HealthService healthService(String address) {
+        HealthService.Service service = new HealthService.Service();
+        service.setId("eventmesh-eventmesh");
+        service.setAddress(address);
+        service.setPort(8500);
+        HealthService healthService = new HealthService();
+        healthService.setService(service);
+        return healthService;
+    }
 }
@@ -32,5 +32,7 @@ public class EtcdConstant {
 
     public static final long TTL = 15L;
 
+    public static final long WATCH_RETRY_DELAY_MILLS = 3000L;
+
 
 }
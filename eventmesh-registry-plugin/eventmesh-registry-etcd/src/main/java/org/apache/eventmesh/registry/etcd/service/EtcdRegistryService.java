@@ -38,6 +38,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -49,8 +50,13 @@ import org.slf4j.LoggerFactory;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
+import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
+import io.etcd.jetcd.options.WatchOption;
+import io.etcd.jetcd.watch.WatchEvent;
+import io.etcd.jetcd.watch.WatchResponse;
 
 public class EtcdRegistryService implements RegistryService {
 
@@ -75,13 +81,21 @@ public class EtcdRegistryService implements RegistryService {
 
     private ScheduledExecutorService etcdRegistryMonitorExecutorService;
 
+    /**
+     * Key: etcd key of the instance
+     * Value: EventMeshDataInfo of the instance, kept up to date by the prefix watch
+     */
+    private final Map<String, EventMeshDataInfo> instanceSnapshot = new ConcurrentHashMap<>();
+
+    private volatile Watch.Watcher registryWatcher;
+
     @Override
     public void init() throws RegistryException {
         boolean update = INIT_STATUS.compareAndSet(false, true);
         if (!update) {
             return;
         }
-        eventMeshRegisterInfoMap = new HashMap<>(ConfigurationContextUtil.KEYS.size());
+        eventMeshRegisterInfoMap = new ConcurrentHashMap<>(ConfigurationContextUtil.KEYS.size());
         for (String key : ConfigurationContextUtil.KEYS) {
             CommonConfiguration commonConfiguration = ConfigurationContextUtil.get(key);
             if (null == commonConfiguration) {
@@ -115,6 +129,7 @@ public class EtcdRegistryService implements RegistryService {
 
             etcdRegistryMonitorExecutorService.scheduleAtFixedRate(new EventMeshEtcdRegisterMonitor(),
                     15000L, 15000L, TimeUnit.MILLISECONDS);
+            loadAndWatch();
         } catch (Exception e) {
             logger.error("[EtcdRegistryService][start] error", e);
             throw new RegistryException(e.getMessage());
@@ -126,6 +141,11 @@ public class EtcdRegistryService implements RegistryService {
         INIT_STATUS.compareAndSet(true, false);
         START_STATUS.compareAndSet(true, false);
         try {
+            if (registryWatcher != null) {
+                registryWatcher.close();
+                registryWatcher = null;
+            }
+            instanceSnapshot.clear();
             if (etcdClient != null) {
                 etcdClient.close();
             }
@@ -142,23 +162,10 @@ public class EtcdRegistryService implements RegistryService {
     @Override
     public List<EventMeshDataInfo> findEventMeshInfoByCluster(String clusterName) throws RegistryException {
         List<EventMeshDataInfo> eventMeshDataInfoList = new ArrayList<>();
-
-        try {
-            String keyPrefix = clusterName == null ? KEY_PREFIX : KEY_PREFIX + EtcdConstant.KEY_SEPARATOR + clusterName;
-            ByteSequence keyByteSequence = ByteSequence.from(keyPrefix.getBytes(Constants.DEFAULT_CHARSET));
-            GetOption getOption = GetOption.newBuilder().withPrefix(keyByteSequence).build();
-            List<KeyValue> keyValues = etcdClient.getKVClient().get(keyByteSequence, getOption).get().getKvs();
-
-            if (CollectionUtils.isNotEmpty(keyValues)) {
-                for (KeyValue kv : keyValues) {
-                    EventMeshDataInfo eventMeshDataInfo =
-                        JsonUtils.deserialize(new String(kv.getValue().getBytes(), Constants.DEFAULT_CHARSET), EventMeshDataInfo.class);
-                    eventMeshDataInfoList.add(eventMeshDataInfo);
-                }
+        for (EventMeshDataInfo eventMeshDataInfo : instanceSnapshot.values()) {
+            if (clusterName == null || clusterName.equals(eventMeshDataInfo.getEventMeshClusterName())) {
+                eventMeshDataInfoList.add(eventMeshDataInfo);
             }
-        } catch (Exception e) {
-            logger.error("[EtcdRegistryService][findEventMeshInfoByCluster] error, clusterName: {}", clusterName, e);
-            throw new RegistryException(e.getMessage());
         }
         return eventMeshDataInfoList;
     }
@@ -232,6 +239,73 @@ public class EtcdRegistryService implements RegistryService {
         }
     }
 
+    /**
+     * load the registered instances under the key prefix, then watch the prefix from the next revision so the
+     * snapshot misses no change between the two
+     */
+    void loadAndWatch() {
+        if (registryWatcher != null) {
+            registryWatcher.close();
+            registryWatcher = null;
+        }
+        try {
+            ByteSequence keyPrefix = ByteSequence.from(KEY_PREFIX.getBytes(Constants.DEFAULT_CHARSET));
+            GetResponse getResponse = etcdClient.getKVClient().get(keyPrefix, GetOption.newBuilder().withPrefix(keyPrefix).build()).get();
+
+            Map<String, EventMeshDataInfo> loaded = new HashMap<>();
+            for (KeyValue kv : getResponse.getKvs()) {
+                loaded.put(kv.getKey().toString(Constants.DEFAULT_CHARSET), toEventMeshDataInfo(kv));
+            }
+            instanceSnapshot.keySet().retainAll(loaded.keySet());
+            instanceSnapshot.putAll(loaded);
+
+            WatchOption watchOption = WatchOption.newBuilder()
+                    .withPrefix(keyPrefix)
+                    .withRevision(getResponse.getHeader().getRevision() + 1)
+                    .build();
+            registryWatcher = etcdClient.getWatchClient().watch(keyPrefix, watchOption,
+                    Watch.listener(this::onWatchResponse, this::onWatchError));
+        } catch (Exception e) {
+            logger.error("[EtcdRegistryService][loadAndWatch] error, retry in {}ms", EtcdConstant.WATCH_RETRY_DELAY_MILLS, e);
+            scheduleLoadAndWatch();
+        }
+    }
+
+    private void onWatchResponse(WatchResponse watchResponse) {
+        for (WatchEvent event : watchResponse.getEvents()) {
+            String key = event.getKeyValue().getKey().toString(Constants.DEFAULT_CHARSET);
+            switch (event.getEventType()) {
+                case PUT:
+                    try {
+                        instanceSnapshot.put(key, toEventMeshDataInfo(event.getKeyValue()));
+                    } catch (Exception e) {
+                        logger.warn("[EtcdRegistryService][onWatchResponse] failed for key: {}", key, e);
+                    }
+                    break;
+                case DELETE:
+                    instanceSnapshot.remove(key);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private void onWatchError(Throwable throwable) {
+        logger.warn("[EtcdRegistryService] registry watch failed, reload in {}ms", EtcdConstant.WATCH_RETRY_DELAY_MILLS, throwable);
+        scheduleLoadAndWatch();
+    }
+
+    private void scheduleLoadAndWatch() {
+        if (START_STATUS.get() && !etcdRegistryMonitorExecutorService.isShutdown()) {
+            etcdRegistryMonitorExecutorService.schedule(this::loadAndWatch, EtcdConstant.WATCH_RETRY_DELAY_MILLS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static EventMeshDataInfo toEventMeshDataInfo(KeyValue kv) {
+        return JsonUtils.deserialize(new String(kv.getValue().getBytes(), Constants.DEFAULT_CHARSET), EventMeshDataInfo.class);
+    }
+
     public Client getEtcdClient() {
         return etcdClient;
     }
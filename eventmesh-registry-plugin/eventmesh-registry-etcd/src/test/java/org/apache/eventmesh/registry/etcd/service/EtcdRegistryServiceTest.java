@@ -21,20 +21,39 @@ import org.apache.eventmesh.api.exception.RegistryException;
 import org.apache.eventmesh.api.registry.dto.EventMeshDataInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshRegisterInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshUnRegisterInfo;
+import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
+import org.apache.eventmesh.common.utils.JsonUtils;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import io.etcd.jetcd.ByteSequence;
+import io.etcd.jetcd.Client;
+import io.etcd.jetcd.KV;
+import io.etcd.jetcd.KeyValue;
+import io.etcd.jetcd.Response;
+import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.options.GetOption;
+import io.etcd.jetcd.options.WatchOption;
+import io.etcd.jetcd.watch.WatchEvent;
+import io.etcd.jetcd.watch.WatchResponse;
+
 @RunWith(MockitoJUnitRunner.class)
 public class EtcdRegistryServiceTest {
 
@@ -119,4 +138,55 @@ public class EtcdRegistryServiceTest {
         etcdRegistryService.unRegister(eventMeshUnRegisterInfo);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testLookupServedByWatch() throws Exception {
+        etcdRegistryService.init();
+        Client client = Mockito.mock(Client.class);
+        KV kvClient = Mockito.mock(KV.class);
+        Watch watchClient = Mockito.mock(Watch.class);
+        Mockito.when(client.getKVClient()).thenReturn(kvClient);
+        Mockito.when(client.getWatchClient()).thenReturn(watchClient);
+        Field etcdClientField = EtcdRegistryService.class.getDeclaredField("etcdClient");
+        etcdClientField.setAccessible(true);
+        etcdClientField.set(etcdRegistryService, client);
+
+        Response.Header header = Mockito.mock(Response.Header.class);
+        Mockito.when(header.getRevision()).thenReturn(10L);
+        GetResponse getResponse = Mockito.mock(GetResponse.class);
+        Mockito.when(getResponse.getHeader()).thenReturn(header);
+        List<KeyValue> keyValues = Collections.singletonList(keyValue("cluster1", "127.0.0.1:10000"));
+        Mockito.when(getResponse.getKvs()).thenReturn(keyValues);
+        Mockito.when(kvClient.get(Mockito.any(ByteSequence.class), Mockito.any(GetOption.class)))
+            .thenReturn(CompletableFuture.completedFuture(getResponse));
+
+        etcdRegistryService.loadAndWatch();
+        Assert.assertEquals(1, etcdRegistryService.findEventMeshInfoByCluster("cluster1").size());
+        Assert.assertTrue(etcdRegistryService.findEventMeshInfoByCluster("cluster2").isEmpty());
+
+        ArgumentCaptor<Watch.Listener> listener = ArgumentCaptor.forClass(Watch.Listener.class);
+        Mockito.verify(watchClient).watch(Mockito.any(ByteSequence.class), Mockito.any(WatchOption.class), listener.capture());
+
+        List<WatchEvent> events = Arrays.asList(
+            new WatchEvent(keyValue("cluster2", "127.0.0.2:10000"), null, WatchEvent.EventType.PUT),
+            new WatchEvent(keyValue("cluster1", "127.0.0.1:10000"), null, WatchEvent.EventType.DELETE));
+        WatchResponse watchResponse = Mockito.mock(WatchResponse.class);
+        Mockito.when(watchResponse.getEvents()).thenReturn(events);
+        listener.getValue().onNext(watchResponse);
+
+        Assert.assertTrue(etcdRegistryService.findEventMeshInfoByCluster("cluster1").isEmpty());
+        List<EventMeshDataInfo> eventMeshDataInfoList = etcdRegistryService.findAllEventMeshInfo();
+        Assert.assertEquals(1, eventMeshDataInfoList.size());
+        Assert.assertEquals("127.0.0.2:10000", eventMeshDataInfoList.get(0).getEndpoint());
+        Mockito.verify(kvClient, Mockito.times(1)).get(Mockito.any(ByteSequence.class), Mockito.any(GetOption.class));
+    }
+
+    private KeyValue keyValue(String clusterName, String endPoint) {
+        EventMeshDataInfo eventMeshDataInfo = new EventMeshDataInfo(clusterName, "eventmesh", endPoint, 0L, null);
+        KeyValue keyValue = Mockito.mock(KeyValue.class);
+        Mockito.when(keyValue.getKey()).thenReturn(
+            ByteSequence.from("/eventMesh/registry/" + clusterName + "/eventmesh/" + endPoint, Constants.DEFAULT_CHARSET));
+        Mockito.lenient().when(keyValue.getValue()).thenReturn(
+            ByteSequence.from(JsonUtils.serialize(eventMeshDataInfo), Constants.DEFAULT_CHARSET));
+        return keyValue;
+    }
+}
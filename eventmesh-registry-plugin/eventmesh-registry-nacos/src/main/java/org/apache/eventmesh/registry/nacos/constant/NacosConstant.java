@@ -36,4 +36,6 @@ public class NacosConstant {
 
     public static final String GROUP = "GROUP";
 
+    public static final String SERVICE_GROUP_SEPARATOR = "@";
+
 }
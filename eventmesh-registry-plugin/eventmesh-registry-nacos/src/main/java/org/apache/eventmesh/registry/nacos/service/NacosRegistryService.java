@@ -30,11 +30,11 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
@@ -42,6 +42,8 @@ import org.slf4j.LoggerFactory;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.listener.NamingEvent;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.client.naming.NacosNamingService;
 import com.alibaba.nacos.common.utils.CollectionUtils;
@@ -64,13 +66,21 @@ public class NacosRegistryService implements RegistryService {
 
     private Map<String, EventMeshRegisterInfo> eventMeshRegisterInfoMap;
 
+    /**
+     * Key: serviceName@groupName
+     * Value: healthy instances of the service, kept up to date by the naming subscription
+     */
+    private final Map<String, List<EventMeshDataInfo>> serviceSnapshot = new ConcurrentHashMap<>();
+
+    private final Map<String, EventListener> serviceListeners = new ConcurrentHashMap<>();
+
     @Override
     public void init() throws RegistryException {
         boolean update = INIT_STATUS.compareAndSet(false, true);
         if (!update) {
             return;
         }
-        eventMeshRegisterInfoMap = new HashMap<>(ConfigurationContextUtil.KEYS.size());
+        eventMeshRegisterInfoMap = new ConcurrentHashMap<>(ConfigurationContextUtil.KEYS.size());
         for (String key : ConfigurationContextUtil.KEYS) {
             CommonConfiguration commonConfiguration = ConfigurationContextUtil.get(key);
             if (null == commonConfiguration) {
@@ -109,6 +119,12 @@ public class NacosRegistryService implements RegistryService {
         INIT_STATUS.compareAndSet(true, false);
         START_STATUS.compareAndSet(true, false);
         try {
+            for (Map.Entry<String, EventListener> serviceListener : serviceListeners.entrySet()) {
+                String[] serviceAndGroup = serviceListener.getKey().split(NacosConstant.SERVICE_GROUP_SEPARATOR);
+                namingService.unsubscribe(serviceAndGroup[0], serviceAndGroup[1], serviceListener.getValue());
+            }
+            serviceListeners.clear();
+            serviceSnapshot.clear();
             namingService.shutDown();
         } catch (NacosException e) {
             logger.error("[NacosRegistryService][shutdown] error", e);
@@ -127,19 +143,10 @@ public class NacosRegistryService implements RegistryService {
             }
             String eventMeshName = configuration.getEventMeshName();
             try {
-                List<Instance> instances =
-                        namingService.selectInstances(eventMeshName + "-" + key,
-                                configuration.getEventMeshCluster(), Collections.singletonList(clusterName),
-                                true);
-                if (CollectionUtils.isEmpty(instances)) {
-                    continue;
-                }
-                for (Instance instance : instances) {
-                    EventMeshDataInfo eventMeshDataInfo =
-                            new EventMeshDataInfo(instance.getClusterName(), instance.getServiceName(),
-                                    instance.getIp() + ":"
-                                            + instance.getPort(), 0L, instance.getMetadata());
-                    eventMeshDataInfoList.add(eventMeshDataInfo);
+                for (EventMeshDataInfo eventMeshDataInfo : lookupService(eventMeshName + "-" + key, key + "-" + NacosConstant.GROUP)) {
+                    if (StringUtils.equals(clusterName, eventMeshDataInfo.getEventMeshClusterName())) {
+                        eventMeshDataInfoList.add(eventMeshDataInfo);
+                    }
                 }
             } catch (NacosException e) {
                 logger.error("[NacosRegistryService][findEventMeshInfoByCluster] error", e);
@@ -160,22 +167,9 @@ public class NacosRegistryService implements RegistryService {
             }
             String eventMeshName = configuration.getEventMeshName();
             try {
-                List<Instance> instances =
-                        namingService.selectInstances(eventMeshName + "-"
-                                        + key, key + "-" + NacosConstant.GROUP, null,
-                                true);
-                if (CollectionUtils.isEmpty(instances)) {
-                    continue;
-                }
-                for (Instance instance : instances) {
-                    EventMeshDataInfo eventMeshDataInfo =
-                            new EventMeshDataInfo(instance.getClusterName(), instance.getServiceName(),
-                                    instance.getIp() + ":"
-                                            + instance.getPort(), 0L, instance.getMetadata());
-                    eventMeshDataInfoList.add(eventMeshDataInfo);
-                }
+                eventMeshDataInfoList.addAll(lookupService(eventMeshName + "-" + key, key + "-" + NacosConstant.GROUP));
             } catch (NacosException e) {
-                logger.error("[NacosRegistryService][findEventMeshInfoByCluster] error", e);
+                logger.error("[NacosRegistryService][findAllEventMeshInfo] error", e);
                 throw new RegistryException(e.getMessage());
             }
 
@@ -183,6 +177,49 @@ public class NacosRegistryService implements RegistryService {
         return eventMeshDataInfoList;
     }
 
+    /**
+     * Subscribe the service on its first lookup, afterwards the lookups are served by the snapshot which
+     * the naming events keep up to date.
+     */
+    private List<EventMeshDataInfo> lookupService(String serviceName, String groupName) throws NacosException {
+        String serviceKey = serviceName + NacosConstant.SERVICE_GROUP_SEPARATOR + groupName;
+        List<EventMeshDataInfo> snapshot = serviceSnapshot.get(serviceKey);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (serviceListeners) {
+            snapshot = serviceSnapshot.get(serviceKey);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            EventListener listener = event -> {
+                if (event instanceof NamingEvent) {
+                    serviceSnapshot.put(serviceKey, toEventMeshDataInfos(((NamingEvent) event).getInstances()));
+                }
+            };
+            namingService.subscribe(serviceName, groupName, listener);
+            serviceListeners.put(serviceKey, listener);
+            // a naming event received in the meantime is newer than the query result
+            serviceSnapshot.putIfAbsent(serviceKey, toEventMeshDataInfos(namingService.selectInstances(serviceName, groupName, true)));
+            return serviceSnapshot.get(serviceKey);
+        }
+    }
+
+    private static List<EventMeshDataInfo> toEventMeshDataInfos(List<Instance> instances) {
+        if (CollectionUtils.isEmpty(instances)) {
+            return Collections.emptyList();
+        }
+        List<EventMeshDataInfo> eventMeshDataInfoList = new ArrayList<>(instances.size());
+        for (Instance instance : instances) {
+            if (!instance.isHealthy() || !instance.isEnabled()) {
+                continue;
+            }
+            eventMeshDataInfoList.add(new EventMeshDataInfo(instance.getClusterName(), instance.getServiceName(),
+                    instance.getIp() + ":" + instance.getPort(), 0L, instance.getMetadata()));
+        }
+        return Collections.unmodifiableList(eventMeshDataInfoList);
+    }
+
     @Override
     public Map<String, Map<String, Integer>> findEventMeshClientDistributionData(String clusterName,
                                                                                  String group,
@@ -18,22 +18,32 @@
 package org.apache.eventmesh.registry.nacos.service;
 
 import org.apache.eventmesh.api.exception.RegistryException;
+import org.apache.eventmesh.api.registry.dto.EventMeshDataInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshRegisterInfo;
 import org.apache.eventmesh.api.registry.dto.EventMeshUnRegisterInfo;
 import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.listener.NamingEvent;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
 @RunWith(MockitoJUnitRunner.class)
 public class NacosRegistryServiceTest {
 
@@ -117,4 +127,44 @@ public class NacosRegistryServiceTest {
         nacosRegistryService.unRegister(eventMeshUnRegisterInfo);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testLookupServedBySubscription() throws Exception {
+        nacosRegistryService.init();
+        NamingService namingService = Mockito.mock(NamingService.class);
+        Field namingServiceField = NacosRegistryService.class.getDeclaredField("namingService");
+        namingServiceField.setAccessible(true);
+        namingServiceField.set(nacosRegistryService, namingService);
+
+        String serviceName = ConfigurationContextUtil.get(ConfigurationContextUtil.HTTP).getEventMeshName() + "-" + ConfigurationContextUtil.HTTP;
+        String groupName = ConfigurationContextUtil.HTTP + "-GROUP";
+        Mockito.when(namingService.selectInstances(serviceName, groupName, true))
+            .thenReturn(Collections.singletonList(instance("127.0.0.1", "cluster1")));
+
+        Assert.assertEquals(1, nacosRegistryService.findAllEventMeshInfo().size());
+        Assert.assertEquals(1, nacosRegistryService.findEventMeshInfoByCluster("cluster1").size());
+        Assert.assertTrue(nacosRegistryService.findEventMeshInfoByCluster("cluster2").isEmpty());
+
+        ArgumentCaptor<EventListener> listener = ArgumentCaptor.forClass(EventListener.class);
+        Mockito.verify(namingService).subscribe(Mockito.eq(serviceName), Mockito.eq(groupName), listener.capture());
+        Mockito.verify(namingService, Mockito.times(1)).selectInstances(serviceName, groupName, true);
+
+        Instance unhealthy = instance("127.0.0.3", "cluster2");
+        unhealthy.setHealthy(false);
+        listener.getValue().onEvent(new NamingEvent(serviceName, groupName, "",
+            Arrays.asList(instance("127.0.0.1", "cluster1"), instance("127.0.0.2", "cluster2"), unhealthy)));
+
+        List<EventMeshDataInfo> cluster2 = nacosRegistryService.findEventMeshInfoByCluster("cluster2");
+        Assert.assertEquals(1, cluster2.size());
+        Assert.assertEquals("127.0.0.2:8848", cluster2.get(0).getEndpoint());
+        Assert.assertEquals(2, nacosRegistryService.findAllEventMeshInfo().size());
+        Mockito.verify(namingService, Mockito.times(1)).selectInstances(serviceName, groupName, true);
+    }
+
+    private Instance instance(String ip, String clusterName) {
+        Instance instance = new Instance();
+        instance.setIp(ip);
+        instance.setPort(8848);
+        instance.setClusterName(clusterName);
+        return instance;
+    }
+}
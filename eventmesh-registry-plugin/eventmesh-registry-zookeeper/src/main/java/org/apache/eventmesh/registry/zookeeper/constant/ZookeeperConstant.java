@@ -26,4 +26,11 @@ public class ZookeeperConstant {
 
     public static final String PATH_SEPARATOR = "/";
 
+    /**
+     * clusterName/eventMeshName/ip:port
+     */
+    public static final int INSTANCE_PATH_DEPTH = 3;
+
+    public static final long CACHE_INIT_TIMEOUT_MILLS = 3000L;
+
 }
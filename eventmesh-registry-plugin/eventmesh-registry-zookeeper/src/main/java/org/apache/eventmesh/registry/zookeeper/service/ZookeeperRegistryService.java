@@ -29,21 +29,26 @@ import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.registry.zookeeper.constant.ZookeeperConstant;
 import org.apache.eventmesh.registry.zookeeper.pojo.EventMeshInstance;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.TreeCache;
+import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.zookeeper.CreateMode;
-import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
@@ -64,6 +69,14 @@ public class ZookeeperRegistryService implements RegistryService {
 
     private Map<String, EventMeshRegisterInfo> eventMeshRegisterInfoMap;
 
+    private TreeCache treeCache;
+
+    /**
+     * Key: instance path, clusterName/eventMeshName/ip:port
+     * Value: EventMeshDataInfo of the instance, kept up to date by the watches of the tree cache
+     */
+    private final Map<String, EventMeshDataInfo> instanceSnapshot = new ConcurrentHashMap<>();
+
     @Override
     public void init() throws RegistryException {
         boolean update = INIT_STATUS.compareAndSet(false, true);
@@ -71,7 +84,7 @@ public class ZookeeperRegistryService implements RegistryService {
             logger.warn("[ZookeeperRegistryService] has been init");
             return;
         }
-        eventMeshRegisterInfoMap = new HashMap<>(ConfigurationContextUtil.KEYS.size());
+        eventMeshRegisterInfoMap = new ConcurrentHashMap<>(ConfigurationContextUtil.KEYS.size());
         for (String key : ConfigurationContextUtil.KEYS) {
             CommonConfiguration commonConfiguration = ConfigurationContextUtil.get(key);
             if (null == commonConfiguration) {
@@ -101,6 +114,22 @@ public class ZookeeperRegistryService implements RegistryService {
                 .build();
             zkClient.start();
 
+            final CountDownLatch initialized = new CountDownLatch(1);
+            treeCache = TreeCache.newBuilder(zkClient, ZookeeperConstant.PATH_SEPARATOR)
+                .setMaxDepth(ZookeeperConstant.INSTANCE_PATH_DEPTH)
+                .build();
+            treeCache.getListenable().addListener((client, event) -> {
+                if (event.getType() == TreeCacheEvent.Type.INITIALIZED) {
+                    initialized.countDown();
+                    return;
+                }
+                onTreeCacheEvent(event);
+            });
+            treeCache.start();
+            if (!initialized.await(ZookeeperConstant.CACHE_INIT_TIMEOUT_MILLS, TimeUnit.MILLISECONDS)) {
+                logger.warn("[ZookeeperRegistryService] registry cache is not initialized in {}ms, it keeps loading in background",
+                    ZookeeperConstant.CACHE_INIT_TIMEOUT_MILLS);
+            }
         } catch (Exception e) {
             throw new RegistryException("ZookeeperRegistry starting failed", e);
         }
@@ -111,7 +140,10 @@ public class ZookeeperRegistryService implements RegistryService {
         INIT_STATUS.compareAndSet(true, false);
         START_STATUS.compareAndSet(true, false);
         try (CuratorFramework closedClient = zkClient) {
-            //
+            if (treeCache != null) {
+                treeCache.close();
+            }
+            instanceSnapshot.clear();
         } catch (Exception e) {
             throw new RegistryException("ZookeeperRegistry shutdown failed", e);
         }
@@ -120,50 +152,21 @@ public class ZookeeperRegistryService implements RegistryService {
 
     @Override
     public List<EventMeshDataInfo> findEventMeshInfoByCluster(String clusterName) throws RegistryException {
-        List<EventMeshDataInfo> eventMeshDataInfoList = new ArrayList<>();
+        Set<String> serviceNames = new HashSet<>();
         for (String key : ConfigurationContextUtil.KEYS) {
             CommonConfiguration configuration = ConfigurationContextUtil.get(key);
             if (Objects.isNull(configuration)) {
                 continue;
             }
-            String eventMeshName = configuration.getEventMeshName();
-            try {
-                String serviceName = eventMeshName.concat("-").concat(key);
-                String servicePath = formatServicePath(clusterName, serviceName);
-
-                List<String> instances = zkClient.getChildren()
-                    .forPath(servicePath);
-
-                if (CollectionUtils.isEmpty(instances)) {
-                    continue;
-                }
-
-                for (String endpoint : instances) {
-                    String instancePath = servicePath.concat(ZookeeperConstant.PATH_SEPARATOR).concat(endpoint);
-
-                    Stat stat = new Stat();
-                    byte[] data;
-                    try {
-                        data = zkClient.getData()
-                            .storingStatIn(stat)
-                            .forPath(instancePath);
-                    } catch (Exception e) {
-                        logger.warn("[ZookeeperRegistryService][findEventMeshInfoByCluster] failed for path: {}", instancePath, e);
-                        continue;
-                    }
-
-                    EventMeshInstance eventMeshInstance = JsonUtils.deserialize(new String(data, StandardCharsets.UTF_8), EventMeshInstance.class);
-
-                    EventMeshDataInfo eventMeshDataInfo =
-                        new EventMeshDataInfo(clusterName, serviceName, endpoint, stat.getMtime(), eventMeshInstance.getMetaData());
-
-                    eventMeshDataInfoList.add(eventMeshDataInfo);
-                }
+            serviceNames.add(configuration.getEventMeshName().concat("-").concat(key));
+        }
 
-            } catch (Exception e) {
-                throw new RegistryException("ZookeeperRegistry findEventMeshInfoByCluster failed", e);
+        List<EventMeshDataInfo> eventMeshDataInfoList = new ArrayList<>();
+        for (EventMeshDataInfo eventMeshDataInfo : instanceSnapshot.values()) {
+            if (StringUtils.equals(clusterName, eventMeshDataInfo.getEventMeshClusterName())
+                && serviceNames.contains(eventMeshDataInfo.getEventMeshName())) {
+                eventMeshDataInfoList.add(eventMeshDataInfo);
             }
-
         }
         return eventMeshDataInfoList;
     }
@@ -171,51 +174,51 @@ public class ZookeeperRegistryService implements RegistryService {
     @Override
     public List<EventMeshDataInfo> findAllEventMeshInfo() throws RegistryException {
         List<EventMeshDataInfo> eventMeshDataInfoList = new ArrayList<>();
+        for (EventMeshDataInfo eventMeshDataInfo : instanceSnapshot.values()) {
+            EventMeshRegisterInfo registerInfo = eventMeshRegisterInfoMap.get(eventMeshDataInfo.getEventMeshName());
+            if (registerInfo != null
+                && StringUtils.equals(registerInfo.getEventMeshClusterName(), eventMeshDataInfo.getEventMeshClusterName())) {
+                eventMeshDataInfoList.add(eventMeshDataInfo);
+            }
+        }
+        return eventMeshDataInfoList;
+    }
 
-        for (Map.Entry<String, EventMeshRegisterInfo> entry : eventMeshRegisterInfoMap.entrySet()) {
-
-            String serviceName = entry.getKey();
-            String clusterName = entry.getValue().getEventMeshClusterName();
-            try {
-                String servicePath = formatServicePath(clusterName, serviceName);
-
-                List<String> instances = zkClient.getChildren()
-                    .forPath(servicePath);
+    private void onTreeCacheEvent(TreeCacheEvent event) {
+        ChildData childData = event.getData();
+        if (childData == null) {
+            return;
+        }
+        String instancePath = childData.getPath();
+        // skip the root, cluster and service nodes
+        String[] segments = StringUtils.split(instancePath, ZookeeperConstant.PATH_SEPARATOR);
+        if (segments.length != ZookeeperConstant.INSTANCE_PATH_DEPTH) {
+            return;
+        }
 
-                if (CollectionUtils.isEmpty(instances)) {
-                    continue;
+        switch (event.getType()) {
+            case NODE_ADDED:
+            case NODE_UPDATED:
+                if (childData.getData() == null) {
+                    return;
                 }
-
-                for (String endpoint : instances) {
-                    String instancePath = servicePath.concat(ZookeeperConstant.PATH_SEPARATOR).concat(endpoint);
-
-                    Stat stat = new Stat();
-                    byte[] data;
-                    try {
-                        data = zkClient.getData()
-                            .storingStatIn(stat)
-                            .forPath(instancePath);
-                    } catch (Exception e) {
-                        logger.warn("[ZookeeperRegistryService][findAllEventMeshInfo] failed for path: {}", instancePath, e);
-                        continue;
-                    }
-
-                    EventMeshInstance eventMeshInstance = JsonUtils.deserialize(new String(data, StandardCharsets.UTF_8), EventMeshInstance.class);
-
-                    EventMeshDataInfo eventMeshDataInfo =
-                        new EventMeshDataInfo(clusterName, serviceName, endpoint, stat.getMtime(), eventMeshInstance.getMetaData());
-
-                    eventMeshDataInfoList.add(eventMeshDataInfo);
+                try {
+                    EventMeshInstance eventMeshInstance =
+                        JsonUtils.deserialize(new String(childData.getData(), StandardCharsets.UTF_8), EventMeshInstance.class);
+                    instanceSnapshot.put(instancePath, new EventMeshDataInfo(segments[0], segments[1], segments[2],
+                        childData.getStat().getMtime(), eventMeshInstance.getMetaData()));
+                } catch (Exception e) {
+                    logger.warn("[ZookeeperRegistryService][onTreeCacheEvent] failed for path: {}", instancePath, e);
                 }
-
-            } catch (Exception e) {
-                throw new RegistryException("ZookeeperRegistry findAllEventMeshInfo failed", e);
-            }
+                break;
+            case NODE_REMOVED:
+                instanceSnapshot.remove(instancePath);
+                break;
+            default:
+                break;
         }
-        return eventMeshDataInfoList;
     }
 
-
     @Override
     public Map<String, Map<String, Integer>> findEventMeshClientDistributionData(String clusterName, String group, String purpose)
         throws RegistryException {
@@ -140,6 +140,39 @@ public class ZookeeperRegistryServiceTest {
         Assert.assertNotNull(result);
     }
 
+    @Test
+    public void testRegistryViewFollowsWatches() throws Exception {
+        zkRegistryService.init();
+        zkRegistryService.start();
+        zkRegistryService.register(eventMeshRegisterInfo);
+        String clusterName = eventMeshRegisterInfo.getEventMeshClusterName();
+
+        awaitSize(clusterName, 1);
+        EventMeshDataInfo eventMeshDataInfo = zkRegistryService.findEventMeshInfoByCluster(clusterName).get(0);
+        Assert.assertEquals("127.0.0.1:8848", eventMeshDataInfo.getEndpoint());
+        Assert.assertEquals("a", eventMeshDataInfo.getMetadata().get("test"));
+        Assert.assertEquals(1, zkRegistryService.findAllEventMeshInfo().size());
+        Assert.assertTrue(zkRegistryService.findEventMeshInfoByCluster("otherCluster").isEmpty());
+
+        // an instance registered by another eventmesh node shows up through the watch
+        zkRegistryService.getZkClient().create().creatingParentsIfNeeded()
+            .forPath("/" + clusterName + "/eventmesh-" + ConfigurationContextUtil.HTTP + "/127.0.0.2:8848", "{}".getBytes());
+        awaitSize(clusterName, 2);
+
+        zkRegistryService.unRegister(eventMeshUnRegisterInfo);
+        awaitSize(clusterName, 1);
+        Assert.assertEquals("127.0.0.2:8848", zkRegistryService.findEventMeshInfoByCluster(clusterName).get(0).getEndpoint());
+    }
+
+    private void awaitSize(String clusterName, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (zkRegistryService.findEventMeshInfoByCluster(clusterName).size() != size
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        Assert.assertEquals(size, zkRegistryService.findEventMeshInfoByCluster(clusterName).size());
+    }
+
     @Test
     public void testRegisterMetadata() {
         zkRegistryService.init();
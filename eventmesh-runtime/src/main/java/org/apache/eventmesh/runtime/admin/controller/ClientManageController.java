@@ -18,6 +18,7 @@
 package org.apache.eventmesh.runtime.admin.controller;
 
 import org.apache.eventmesh.admin.rocketmq.controller.AdminController;
+import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.runtime.admin.handler.ConfigurationHandler;
 import org.apache.eventmesh.runtime.admin.handler.DeleteWebHookConfigHandler;
 import org.apache.eventmesh.runtime.admin.handler.EventHandler;
@@ -44,6 +45,7 @@ import org.apache.eventmesh.runtime.admin.handler.UpdateWebHookConfigHandler;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.webhook.admin.AdminWebHookConfigOperationManage;
 import org.apache.eventmesh.webhook.api.WebHookConfigOperation;
@@ -51,6 +53,9 @@ import org.apache.eventmesh.webhook.api.WebHookConfigOperation;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,6 +80,16 @@ public class ClientManageController {
     @Setter
     private AdminWebHookConfigOperationManage adminWebHookConfigOperationManage;
 
+    private HttpServer server;
+
+    private ThreadPoolExecutor dispatchExecutor;
+
+    private ThreadPoolExecutor adminExecutor;
+
+    private ThreadPoolExecutor metricsExecutor;
+
+    private ThreadPoolExecutor blockingExecutor;
+
     public ClientManageController(EventMeshTCPServer eventMeshTCPServer,
                                   EventMeshHTTPServer eventMeshHTTPServer,
                                   EventMeshGrpcServer eventMeshGrpcServer,
@@ -88,8 +103,24 @@ public class ClientManageController {
 
 
     public void start() throws IOException {
-        int port = eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshServerAdminPort;
-        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        EventMeshTCPConfiguration tcpConfiguration = eventMeshTCPServer.getEventMeshTCPConfiguration();
+        int port = tcpConfiguration.eventMeshServerAdminPort;
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+
+        // the server threads only parse the requests and hand them off, so their queue is not bounded: a request
+        // rejected there could not be answered. The handlers run on bounded pools answering 503 when saturated,
+        // the ones waiting on the connector or the registry and the metrics scrapes each on a pool of their own.
+        int adminThreadNum = Math.max(1, tcpConfiguration.eventMeshServerAdminHttpThreadNum);
+        dispatchExecutor = ThreadPoolFactory.createThreadPoolExecutor(adminThreadNum, adminThreadNum,
+            new LinkedBlockingQueue<>(), "eventMesh-admin-dispatch-%d", true);
+        adminExecutor = ThreadPoolFactory.createThreadPoolExecutor(adminThreadNum, adminThreadNum,
+            new ArrayBlockingQueue<>(1000), "eventMesh-admin-%d", true);
+        metricsExecutor = ThreadPoolFactory.createThreadPoolExecutor(1, 1,
+            new ArrayBlockingQueue<>(8), "eventMesh-admin-metrics-%d", true);
+        int blockingThreadNum = Math.max(1, tcpConfiguration.eventMeshServerAdminHttpBlockingThreadNum);
+        blockingExecutor = ThreadPoolFactory.createThreadPoolExecutor(blockingThreadNum, blockingThreadNum,
+            new ArrayBlockingQueue<>(blockingThreadNum * 8), "eventMesh-admin-blocking-%d", true);
+        server.setExecutor(dispatchExecutor);
 
         HttpHandlerManager httpHandlerManager = new HttpHandlerManager();
 
@@ -97,7 +128,7 @@ public class ClientManageController {
         initClientHandler(eventMeshTCPServer, eventMeshHTTPServer,
             eventMeshGrpcServer, eventMeshRegistry, httpHandlerManager);
 
-        httpHandlerManager.registerHttpHandler(server);
+        httpHandlerManager.registerHttpHandler(server, adminExecutor, metricsExecutor, blockingExecutor);
         AdminController adminController = new AdminController();
         adminController.run(server);
 
@@ -105,6 +136,25 @@ public class ClientManageController {
         logger.info("ClientManageController start success, port:{}", port);
     }
 
+    public void shutdown() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (dispatchExecutor != null) {
+            dispatchExecutor.shutdownNow();
+        }
+        if (adminExecutor != null) {
+            adminExecutor.shutdownNow();
+        }
+        if (metricsExecutor != null) {
+            metricsExecutor.shutdownNow();
+        }
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdownNow();
+        }
+        logger.info("ClientManageController shutdown success");
+    }
+
     private void initClientHandler(EventMeshTCPServer eventMeshTCPServer,
                                    EventMeshHTTPServer eventMeshHTTPServer,
                                    EventMeshGrpcServer eventMeshGrpcServer,
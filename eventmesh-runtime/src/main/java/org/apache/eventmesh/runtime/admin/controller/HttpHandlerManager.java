@@ -21,9 +21,16 @@ package org.apache.eventmesh.runtime.admin.controller;
 
 import org.apache.eventmesh.runtime.common.EventHttpHandler;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 
@@ -32,17 +39,63 @@ import com.sun.net.httpserver.HttpServer;
  */
 public class HttpHandlerManager {
 
+    private static final Logger logger = LoggerFactory.getLogger(HttpHandlerManager.class);
+
     private final List<HttpHandler> httpHandlers = new ArrayList<>();
 
     public void register(HttpHandler httpHandler) {
         this.httpHandlers.add(httpHandler);
     }
 
-    public void registerHttpHandler(HttpServer server) {
+    /**
+     * Create a context for every registered handler, handing it off to blockingExecutor when marked as blocking,
+     * to isolatedExecutor when marked as isolated and to adminExecutor otherwise.
+     */
+    public void registerHttpHandler(HttpServer server, Executor adminExecutor, Executor isolatedExecutor,
+                                    Executor blockingExecutor) {
         httpHandlers.forEach(httpHandler -> {
             EventHttpHandler eventHttpHandler = httpHandler.getClass().getAnnotation(EventHttpHandler.class);
-            server.createContext(eventHttpHandler.path(), httpHandler);
+            Executor executor = adminExecutor;
+            if (eventHttpHandler.blocking()) {
+                executor = blockingExecutor;
+            } else if (eventHttpHandler.isolated()) {
+                executor = isolatedExecutor;
+            }
+            server.createContext(eventHttpHandler.path(), new DispatchHttpHandler(httpHandler, executor));
         });
-        
+    }
+
+    /**
+     * Runs a handler on its executor, answering 503 when that executor is saturated instead of queueing the
+     * request on the server threads.
+     */
+    private static class DispatchHttpHandler implements HttpHandler {
+
+        private final HttpHandler httpHandler;
+
+        private final Executor executor;
+
+        DispatchHttpHandler(HttpHandler httpHandler, Executor executor) {
+            this.httpHandler = httpHandler;
+            this.executor = executor;
+        }
+
+        @Override
+        public void handle(HttpExchange httpExchange) throws IOException {
+            try {
+                executor.execute(() -> {
+                    try {
+                        httpHandler.handle(httpExchange);
+                    } catch (Exception e) {
+                        logger.error("admin request {} failed", httpExchange.getRequestURI(), e);
+                        httpExchange.close();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                logger.warn("admin request {} rejected, its handlers are busy", httpExchange.getRequestURI());
+                httpExchange.sendResponseHeaders(503, -1);
+                httpExchange.close();
+            }
+        }
     }
 }
@@ -46,7 +46,7 @@ import com.sun.net.httpserver.HttpExchange;
 /**
  * The event handler
  */
-@EventHttpHandler(path = "/event")
+@EventHttpHandler(path = "/event", blocking = true)
 public class EventHandler extends AbstractHttpHandler {
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationHandler.class);
 
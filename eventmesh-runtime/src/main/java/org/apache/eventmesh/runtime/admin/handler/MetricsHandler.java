@@ -37,7 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import com.sun.net.httpserver.HttpExchange;
 
-@EventHttpHandler(path = "/metrics")
+@EventHttpHandler(path = "/metrics", isolated = true)
 public class MetricsHandler extends AbstractHttpHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationHandler.class);
@@ -40,7 +40,7 @@ import com.sun.net.httpserver.HttpExchange;
 /**
  * query recommend eventmesh
  */
-@EventHttpHandler(path = "/eventMesh/recommend")
+@EventHttpHandler(path = "/eventMesh/recommend", blocking = true)
 public class QueryRecommendEventMeshHandler extends AbstractHttpHandler {
 
     private final Logger logger = LoggerFactory.getLogger(QueryRecommendEventMeshHandler.class);
@@ -38,7 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import com.sun.net.httpserver.HttpExchange;
 
-@EventHttpHandler(path = "/registry")
+@EventHttpHandler(path = "/registry", blocking = true)
 public class RegistryHandler extends AbstractHttpHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationHandler.class);
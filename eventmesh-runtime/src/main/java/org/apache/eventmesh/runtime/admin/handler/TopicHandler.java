@@ -41,7 +41,7 @@ import com.sun.net.httpserver.HttpExchange;
 /**
  * The topic handler
  */
-@EventHttpHandler(path = "/topic")
+@EventHttpHandler(path = "/topic", blocking = true)
 public class TopicHandler extends AbstractHttpHandler {
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationHandler.class);
 
@@ -348,9 +348,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                 final HttpResponseStatus errorStatus = validateHttpRequest(httpRequest);
                 if (errorStatus != null) {
                     sendError(ctx, errorStatus);
-                    span = TraceUtils.prepareServerSpan(headerMap,
-                            EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN, false);
-                    TraceUtils.finishSpanWithException(span, headerMap, errorStatus.reasonPhrase(), null);
+                    traceRequestError(headerMap, errorStatus.reasonPhrase(), null);
                     return;
                 }
                 metrics.getSummaryMetrics().recordHTTPRequest();
@@ -400,10 +398,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                                 requestCommand.createHttpCommandResponse(EventMeshRetCode.EVENTMESH_REQUESTCODE_INVALID);
                         sendResponse(ctx, responseCommand.httpResponse());
 
-                        span = TraceUtils.prepareServerSpan(headerMap,
-                                EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN, false);
-                        TraceUtils.finishSpanWithException(span, headerMap,
-                                EventMeshRetCode.EVENTMESH_REQUESTCODE_INVALID.getErrMsg(), null);
+                        traceRequestError(headerMap, EventMeshRetCode.EVENTMESH_REQUESTCODE_INVALID.getErrMsg(), null);
                         return;
                     }
 
@@ -414,10 +409,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                         responseCommand = requestCommand.createHttpCommandResponse(EventMeshRetCode.EVENTMESH_RUNTIME_ERR);
                         sendResponse(ctx, responseCommand.httpResponse());
 
-                        span = TraceUtils.prepareServerSpan(headerMap,
-                                EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN, false);
-                        TraceUtils.finishSpanWithException(span, headerMap,
-                                EventMeshRetCode.EVENTMESH_RUNTIME_ERR.getErrMsg(), e);
+                        traceRequestError(headerMap, EventMeshRetCode.EVENTMESH_RUNTIME_ERR.getErrMsg(), e);
                         return;
                     }
 
@@ -521,11 +513,7 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                                 if (log.isDebugEnabled()) {
                                     log.debug("{}", asyncContext.getResponse());
                                 }
-                                final Map<String, Object> traceMap = asyncContext.getRequest().getHeader().toMap();
-                                TraceUtils.finishSpanWithException(TraceUtils.prepareServerSpan(traceMap,
-                                                EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN,
-                                                false),
-                                        traceMap,
+                                traceRequestError(asyncContext.getRequest().getHeader().toMap(),
                                         EventMeshRetCode.EVENTMESH_REJECT_BY_PROCESSOR_ERROR.getErrMsg(), null);
                             }
 
@@ -557,21 +545,25 @@ public abstract class AbstractHTTPServer extends AbstractRemotingServer {
                 try {
                     sendResponse(ctx, asyncContext.getResponse().httpResponse());
 
-                    final Map<String, Object> traceMap = asyncContext.getRequest().getHeader().toMap();
-
-                    TraceUtils.finishSpanWithException(
-                            TraceUtils.prepareServerSpan(traceMap,
-                                    EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN,
-                                    false),
-                            traceMap,
-                            EventMeshRetCode.EVENTMESH_RUNTIME_ERR.getErrMsg(),
-                            re);
+                    traceRequestError(asyncContext.getRequest().getHeader().toMap(),
+                            EventMeshRetCode.EVENTMESH_RUNTIME_ERR.getErrMsg(), re);
                 } catch (Exception e) {
                     log.error("processEventMeshRequest fail", re);
                 }
             }
         }
 
+        /**
+         * Trace a request failed before reaching its processor, sampling it first so an unsampled one opens no span.
+         */
+        private void traceRequestError(final Map<String, Object> traceMap, final String errMsg, final Throwable e) {
+            if (!TraceUtils.sample(EventMeshConstants.PROTOCOL_HTTP, traceMap)) {
+                return;
+            }
+            TraceUtils.finishSpanWithException(TraceUtils.prepareServerSpan(traceMap,
+                    EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN, false), traceMap, errMsg, e);
+        }
+
         @Override
         public void channelReadComplete(final ChannelHandlerContext ctx) throws Exception {
             super.channelReadComplete(ctx);
@@ -29,12 +29,14 @@ import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.ConsumerManager;
 import org.apache.eventmesh.runtime.core.protocol.grpc.producer.ProducerManager;
+import org.apache.eventmesh.runtime.core.protocol.grpc.push.MessageHandler;
 import org.apache.eventmesh.runtime.core.protocol.grpc.retry.GrpcRetryer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ConsumerService;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.HeartbeatService;
 import org.apache.eventmesh.runtime.core.protocol.grpc.service.ProducerService;
 import org.apache.eventmesh.runtime.metrics.grpc.EventMeshGrpcMonitor;
 import org.apache.eventmesh.runtime.registry.Registry;
+import org.apache.eventmesh.runtime.util.GracefulShutdownUtil;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -146,19 +148,37 @@ public class EventMeshGrpcServer {
 
     public void shutdown() throws Exception {
         logger.info("---------------EventMeshGRPCServer stopping-------------------");
+        final long deadline = GracefulShutdownUtil.deadlineAfter(eventMeshGrpcConfiguration.getEventMeshServerDrainTimeoutInMills());
 
-        producerManager.shutdown();
-        consumerManager.shutdown();
+        // let clients find other eventmesh first, then take no more calls and stop pulling msgs
+        if (eventMeshGrpcConfiguration.isEventMeshServerRegistryEnable()) {
+            this.unRegister();
+        }
+        server.shutdown();
+        consumerManager.stopFetching();
+
+        // retry the pending pushes now, those failing again are sent back to MQ, then wait for all the pushes
         grpcRetryer.shutdown();
+        if (!GracefulShutdownUtil.awaitDrained(
+                () -> grpcRetryer.size() == 0 && MessageHandler.waitingSize() == 0, deadline)) {
+            logger.warn("drain grpc pushes timeout, {} retries and {} pushes left", grpcRetryer.size(),
+                    MessageHandler.waitingSize());
+        }
 
-        shutdownThreadPools();
-        shutdownHttpClientPool();
+        // wait only for the calls and pushes already accepted, then cancel the remaining streams
+        if (!GracefulShutdownUtil.awaitTermination(deadline, sendMsgExecutor, clientMgmtExecutor, pushMsgExecutor,
+                replyMsgExecutor)) {
+            logger.warn("drain grpc executors timeout");
+        }
+        server.shutdownNow();
 
-        server.shutdown();
+        // the pushes are acked or sent back to MQ by now, the consumers can be closed
+        consumerManager.shutdown();
 
-        if (eventMeshGrpcConfiguration.isEventMeshServerRegistryEnable()) {
-            this.unRegister();
-        }
+        producerManager.shutdown();
+
+        shutdownThreadPools();
+        shutdownHttpClientPool();
 
         eventMeshGrpcMonitor.shutdown();
         logger.info("---------------EventMeshGRPCServer stopped-------------------");
@@ -54,6 +54,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPClientPool;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
 import org.apache.eventmesh.runtime.metrics.http.HTTPMetricsServer;
 import org.apache.eventmesh.runtime.registry.Registry;
+import org.apache.eventmesh.runtime.util.GracefulShutdownUtil;
 import org.apache.eventmesh.webhook.receive.WebHookController;
 
 import org.apache.commons.lang3.StringUtils;
@@ -288,24 +289,42 @@ public class EventMeshHTTPServer extends AbstractHTTPServer {
 
     @Override
     public void shutdown() throws Exception {
+        final long deadline = GracefulShutdownUtil.deadlineAfter(eventMeshHttpConfiguration.getEventMeshServerDrainTimeoutInMills());
 
-        super.shutdown();
+        // let clients find other eventmesh first, then stop pulling msgs and take no more requests
+        if (eventMeshHttpConfiguration.isEventMeshServerRegistryEnable()) {
+            this.unRegister();
+        }
 
-        this.getMetrics().shutdown();
+        consumerManager.stopFetching();
+
+        // retry the pending pushes now, those failing again are sent back to MQ, then wait for all the pushes
+        httpRetryer.shutdown();
+        if (!GracefulShutdownUtil.awaitDrained(
+                () -> httpRetryer.size() == 0 && consumerManager.getPendingPushSize() == 0, deadline)) {
+            LOGGER.warn("drain http pushes timeout, {} retries and {} pushes left", httpRetryer.size(),
+                    consumerManager.getPendingPushSize());
+        }
+
+        // wait only for the requests and pushes already accepted, the channels stay open to write their responses
+        if (!GracefulShutdownUtil.awaitTermination(deadline, batchMsgExecutor, sendMsgExecutor, remoteMsgExecutor,
+                pushMsgExecutor, replyMsgExecutor)) {
+            LOGGER.warn("drain http executors timeout");
+        }
 
+        // the pushes are acked or sent back to MQ by now, the consumers can be closed
         consumerManager.shutdown();
 
+        super.shutdown();
+
+        this.getMetrics().shutdown();
+
         shutdownThreadPool();
 
         httpClientPool.shutdown();
 
         producerManager.shutdown();
 
-        httpRetryer.shutdown();
-
-        if (eventMeshHttpConfiguration.isEventMeshServerRegistryEnable()) {
-            this.unRegister();
-        }
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("-------------EventMeshHTTPServer shutdown-------------");
         }
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.boot;
 
+import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.config.CommonConfiguration;
 import org.apache.eventmesh.common.config.ConfigurationWrapper;
 import org.apache.eventmesh.common.utils.ConfigurationContextUtil;
@@ -27,10 +28,16 @@ import org.apache.eventmesh.runtime.connector.ConnectorResource;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.runtime.trace.Trace;
+import org.apache.eventmesh.runtime.trace.TraceSampler;
+import org.apache.eventmesh.runtime.util.MessageLogSampler;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,7 +70,9 @@ public class EventMeshServer {
         this.configuration = configuration;
         this.acl = new Acl();
         this.registry = new Registry();
-        trace = new Trace(configuration.isEventMeshServerTraceEnable());
+        trace = new Trace(configuration.isEventMeshServerTraceEnable(), new TraceSampler(
+            configuration.getEventMeshTraceSampleRatio(), configuration.getEventMeshTraceSampleRules()));
+        MessageLogSampler.setMaxPerSecondPerTopic(configuration.getEventMeshMessageLogMaxPerSecondPerTopic());
         this.connectorResource = new ConnectorResource();
 
         final List<String> provideServerProtocols = configuration.getEventMeshProvideServerProtocols();
@@ -86,17 +95,20 @@ public class EventMeshServer {
     }
 
     private void init() throws Exception {
+        // plugins do not depend on each other, the protocol servers depend on all of them
         if (Objects.nonNull(configuration)) {
-            connectorResource.init(configuration.getEventMeshConnectorPluginType());
+            final List<StartupTask> pluginTasks = new ArrayList<>();
+            pluginTasks.add(() -> connectorResource.init(configuration.getEventMeshConnectorPluginType()));
             if (configuration.isEventMeshServerSecurityEnable()) {
-                acl.init(configuration.getEventMeshSecurityPluginType());
+                pluginTasks.add(() -> acl.init(configuration.getEventMeshSecurityPluginType()));
             }
             if (configuration.isEventMeshServerRegistryEnable()) {
-                registry.init(configuration.getEventMeshRegistryPluginType());
+                pluginTasks.add(() -> registry.init(configuration.getEventMeshRegistryPluginType()));
             }
             if (configuration.isEventMeshServerTraceEnable()) {
-                trace.init(configuration.getEventMeshTracePluginType());
+                pluginTasks.add(() -> trace.init(configuration.getEventMeshTracePluginType()));
             }
+            runStage("plugin init", pluginTasks);
         }
 
         EventMeshTCPServer eventMeshTCPServer = null;
@@ -106,8 +118,12 @@ public class EventMeshServer {
         EventMeshHTTPServer eventMeshHTTPServer = null;
 
         // server init
+        final List<StartupTask> serverTasks = new ArrayList<>();
+        for (final EventMeshBootstrap eventMeshBootstrap : BOOTSTRAP_LIST) {
+            serverTasks.add(eventMeshBootstrap::init);
+        }
+        runStage("server init", serverTasks);
         for (final EventMeshBootstrap eventMeshBootstrap : BOOTSTRAP_LIST) {
-            eventMeshBootstrap.init();
             if (eventMeshBootstrap instanceof EventMeshTcpBootstrap) {
                 eventMeshTCPServer = ((EventMeshTcpBootstrap) eventMeshBootstrap).getEventMeshTcpServer();
             }
@@ -144,18 +160,22 @@ public class EventMeshServer {
 
     public void start() throws Exception {
         if (Objects.nonNull(configuration)) {
+            final List<StartupTask> pluginTasks = new ArrayList<>();
             if (configuration.isEventMeshServerSecurityEnable()) {
-                acl.start();
+                pluginTasks.add(acl::start);
             }
             // registry start
             if (configuration.isEventMeshServerRegistryEnable()) {
-                registry.start();
+                pluginTasks.add(registry::start);
             }
+            runStage("plugin start", pluginTasks);
         }
-        // server start
+        // server start, the servers register themselves so the registry must be started before
+        final List<StartupTask> serverTasks = new ArrayList<>();
         for (final EventMeshBootstrap eventMeshBootstrap : BOOTSTRAP_LIST) {
-            eventMeshBootstrap.start();
+            serverTasks.add(eventMeshBootstrap::start);
         }
+        runStage("server start", serverTasks);
 
         if (Objects.nonNull(clientManageController)) {
             clientManageController.start();
@@ -175,6 +195,10 @@ public class EventMeshServer {
             LOGGER.info(SERVER_STATE_MSG, serviceState);
         }
 
+        if (Objects.nonNull(clientManageController)) {
+            clientManageController.shutdown();
+        }
+
         for (final EventMeshBootstrap eventMeshBootstrap : BOOTSTRAP_LIST) {
             eventMeshBootstrap.shutdown();
         }
@@ -202,6 +226,54 @@ public class EventMeshServer {
         }
     }
 
+    /**
+     * Run the independent tasks of one startup stage concurrently and wait for all of them,
+     * the first failure is rethrown once every task has finished.
+     */
+    private void runStage(final String stage, final List<StartupTask> tasks) throws Exception {
+        final long startTime = System.currentTimeMillis();
+        if (tasks.size() <= 1) {
+            for (final StartupTask task : tasks) {
+                task.run();
+            }
+        } else {
+            final ThreadPoolExecutor executor = ThreadPoolFactory.createThreadPoolExecutor(tasks.size(), tasks.size(),
+                    "eventMesh-startup-%d");
+            try {
+                final List<Future<?>> futures = new ArrayList<>(tasks.size());
+                for (final StartupTask task : tasks) {
+                    futures.add(executor.submit(() -> {
+                        task.run();
+                        return null;
+                    }));
+                }
+                Exception failure = null;
+                for (final Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        if (failure == null) {
+                            failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                        }
+                    }
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("{} finished, tasks:{}, cost:{}ms", stage, tasks.size(), System.currentTimeMillis() - startTime);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StartupTask {
+        void run() throws Exception;
+    }
+
     public static Trace getTrace() {
         return trace;
     }
@@ -32,12 +32,14 @@ import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpConnect
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpExceptionHandler;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcpMessageDispatcher;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientSessionGroupMapping;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventMeshLoadCollector;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventMeshRebalanceService;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventmeshRebalanceImpl;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry.EventMeshTcpRetryer;
 import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
 import org.apache.eventmesh.runtime.registry.Registry;
 import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
+import org.apache.eventmesh.runtime.util.GracefulShutdownUtil;
 import org.apache.eventmesh.webhook.admin.AdminWebHookConfigOperationManage;
 
 import java.util.List;
@@ -91,6 +93,8 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
 
     private transient EventMeshRebalanceService eventMeshRebalanceService;
 
+    private transient EventMeshLoadCollector eventMeshLoadCollector;
+
     private transient AdminWebHookConfigOperationManage adminWebHookConfigOperationManage;
 
     private transient RateLimiter rateLimiter;
@@ -227,6 +231,9 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         eventMeshTcpMonitor.init();
 
         if (eventMeshTCPConfiguration.isEventMeshServerRegistryEnable()) {
+            if (eventMeshTCPConfiguration.eventMeshTcpRebalanceLoadAwareEnabled) {
+                eventMeshLoadCollector = new EventMeshLoadCollector(this);
+            }
             eventMeshRebalanceService = new EventMeshRebalanceService(this,
                     new EventmeshRebalanceImpl(this));
             eventMeshRebalanceService.init();
@@ -270,11 +277,16 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
             this.unRegister();
         }
 
+        // tell the clients to go elsewhere, then wait only until their in-flight msgs are settled
+        long deadline = GracefulShutdownUtil.deadlineAfter(eventMeshTCPConfiguration.getEventMeshServerDrainTimeoutInMills());
         clientSessionGroupMapping.shutdown();
         try {
-            Thread.sleep(40 * 1000);
+            if (!clientSessionGroupMapping.drain(deadline)) {
+                LOGGER.warn("drain sessions timeout, {} sessions left", clientSessionGroupMapping.getSessionMap().size());
+            }
         } catch (InterruptedException e) {
-            LOGGER.error("interruptedException occurred while sleeping", e);
+            LOGGER.error("interruptedException occurred while draining sessions", e);
+            Thread.currentThread().interrupt();
         }
 
         globalTrafficShapingHandler.release();
@@ -310,6 +322,9 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
             eventMeshRegisterInfo.setEndPoint(endPoints);
             eventMeshRegisterInfo.setEventMeshInstanceNumMap(clientSessionGroupMapping.prepareProxyClientDistributionData());
             eventMeshRegisterInfo.setProtocolType(ConfigurationContextUtil.TCP);
+            if (eventMeshLoadCollector != null) {
+                eventMeshRegisterInfo.setMetadata(eventMeshLoadCollector.collect().toMetadata());
+            }
             registerResult = registry.register(eventMeshRegisterInfo);
         } catch (Exception e) {
             LOGGER.error("eventMesh register to registry failed", e);
@@ -403,6 +418,10 @@ public class EventMeshTCPServer extends AbstractRemotingServer {
         return registry;
     }
 
+    public EventMeshLoadCollector getEventMeshLoadCollector() {
+        return eventMeshLoadCollector;
+    }
+
     public EventMeshRebalanceService getEventMeshRebalanceService() {
         return eventMeshRebalanceService;
     }
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.boot;
 
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.Utils;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -45,9 +46,11 @@ public class HTTPTrace {
     public TraceOperation getTraceOperation(HttpRequest httpRequest, Channel channel, boolean traceEnabled) {
 
         final Map<String, Object> headerMap = Utils.parseHttpHeader(httpRequest);
-        Span span = TraceUtils.prepareServerSpan(headerMap, EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN,
-            false);
-        return new TraceOperation(span, null, traceEnabled);
+        // sample first, an unsampled request opens no span at all
+        final boolean sampled = TraceUtils.sample(EventMeshConstants.PROTOCOL_HTTP, headerMap);
+        Span span = sampled ? TraceUtils.prepareServerSpan(headerMap, EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN,
+            false) : Span.getInvalid();
+        return new TraceOperation(span, null, traceEnabled, sampled);
     }
 
     @AllArgsConstructor
@@ -60,6 +63,11 @@ public class HTTPTrace {
 
         private boolean traceEnabled;
 
+        /**
+         * head sampling decision of the request, followed by the event parsed from it
+         */
+        private boolean sampled;
+
         public void endTrace(CloudEvent ce) {
             if (!HTTPTrace.this.useTrace) {
                 return;
@@ -106,7 +114,14 @@ public class HTTPTrace {
 
         public TraceOperation createClientTraceOperation(Map<String, Object> map, String spanName, boolean isSpanFinishInOtherThread) {
             TraceOperation traceOperation = new TraceOperation(TraceUtils.prepareClientSpan(map, spanName, isSpanFinishInOtherThread),
-                null, this.traceEnabled);
+                null, this.traceEnabled, this.sampled);
+            this.setChildTraceOperation(traceOperation);
+            return traceOperation;
+        }
+
+        public TraceOperation createClientTraceOperation(CloudEvent event, String spanName, boolean isSpanFinishInOtherThread) {
+            TraceOperation traceOperation = new TraceOperation(TraceUtils.prepareClientSpan(event, spanName, isSpanFinishInOtherThread),
+                null, this.traceEnabled, this.sampled);
             this.setChildTraceOperation(traceOperation);
             return traceOperation;
         }
@@ -37,4 +37,20 @@ public @interface EventHttpHandler {
      */
     String path();
 
+    /**
+     * whether the handler waits on the connector or the registry, such handlers are served by a pool of their own
+     * so that they cannot hold up the other admin endpoints
+     *
+     * @return blocking
+     */
+    boolean blocking() default false;
+
+    /**
+     * whether the handler is served by a pool of its own, apart from both the admin workers and the blocking pool,
+     * so that bursts of requests to it, like metrics scrapes, cannot hold up the other admin endpoints
+     *
+     * @return isolated
+     */
+    boolean isolated() default false;
+
 }
@@ -99,6 +99,11 @@ public class EventMeshHTTPConfiguration extends CommonConfiguration {
 
     public int eventMeshEventBatchSize = 10;
 
+    /**
+     * clients without a heartbeat for this long are removed, 0 means they are never removed
+     */
+    public int eventMeshHttpClientExpiredInMills = 0;
+
     public List<IPAddress> eventMeshIpv4BlackList = Collections.emptyList();
 
     public List<IPAddress> eventMeshIpv6BlackList = Collections.emptyList();
@@ -314,6 +319,11 @@ public class EventMeshHTTPConfiguration extends CommonConfiguration {
                 eventMeshEventBatchSize = Integer.parseInt(eventBatchSize);
             }
 
+            String clientExpiredInMills = configurationWrapper.getProp(ConfKeys.KEY_EVENTMESH_SERVER_CLIENT_EXPIRED_TIME);
+            if (StringUtils.isNotEmpty(clientExpiredInMills) && StringUtils.isNumeric(clientExpiredInMills)) {
+                eventMeshHttpClientExpiredInMills = Integer.parseInt(clientExpiredInMills);
+            }
+
             String ipv4BlackList = configurationWrapper.getProp(ConfKeys.KEY_EVENTMESH_SERVER_IPV4_BLACK_LIST);
             if (StringUtils.isNotEmpty(ipv4BlackList)) {
                 eventMeshIpv4BlackList = getBlacklist(ipv4BlackList);
@@ -399,6 +409,8 @@ public class EventMeshHTTPConfiguration extends CommonConfiguration {
 
         public static final String KEY_EVENTMESH_SERVER_EVENT_BATCHSIZE = "eventMesh.server.maxEventBatchSize";
 
+        public static final String KEY_EVENTMESH_SERVER_CLIENT_EXPIRED_TIME = "eventMesh.server.http.client.expiredInMills";
+
         public static final String KEY_EVENTMESH_SERVER_IPV4_BLACK_LIST = "eventMesh.server.blacklist.ipv4";
 
         public static final String KEY_EVENTMESH_SERVER_IPV6_BLACK_LIST = "eventMesh.server.blacklist.ipv6";
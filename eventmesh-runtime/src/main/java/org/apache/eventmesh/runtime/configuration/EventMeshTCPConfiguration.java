@@ -58,10 +58,24 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
 
     public int eventMeshTcpMsgRetryQueueSize = 10000;
 
+    public int eventMeshTcpMsgRetryMaxDelayInMills = 10000;
+
+    /**
+     * send the msgs which can't be pushed after all retries to the dead letter topic of the group
+     */
+    public boolean eventMeshTcpMsgDeadLetterEnable = false;
+
     public Integer eventMeshTcpRebalanceIntervalInMills = 30 * 1000;
 
     public int eventMeshServerAdminPort = 10106;
 
+    public int eventMeshServerAdminHttpThreadNum = 4;
+
+    /**
+     * threads of the admin handlers that wait on the connector or the registry, kept apart from the other handlers
+     */
+    public int eventMeshServerAdminHttpBlockingThreadNum = 2;
+
 
     public boolean eventMeshTcpSendBackEnabled = Boolean.TRUE;
 
@@ -69,10 +83,37 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
 
     public int eventMeshTcpPushFailIsolateTimeInMills = 30 * 1000;
 
+    /**
+     * upper bound of the msgs waiting behind the in-flight msg of an ordering key, the msgs over it are sent back to MQ
+     */
+    public int eventMeshTcpOrderingKeyMaxWaiting = 1000;
+
+    /**
+     * strategy to choose the session to push a msg to, freePriority or loadAware
+     */
+    public String eventMeshTcpDownstreamDispatchStrategy = "freePriority";
+
     public int gracefulShutdownSleepIntervalInMills = 1000;
 
     public int sleepIntervalInRebalanceRedirectMills = 200;
 
+    /**
+     * publish the tcp load to the registry and weigh rebalance and recommend decisions by it
+     */
+    public boolean eventMeshTcpRebalanceLoadAwareEnabled = true;
+
+    public int eventMeshTcpLoadReportIntervalInMills = 10 * 1000;
+
+    /**
+     * clients are redirected only when the local instance holds this many percent more than its load-weighted share
+     */
+    public int eventMeshTcpRebalanceHysteresisPercent = 20;
+
+    /**
+     * minimum interval between two redirects of the same group and purpose
+     */
+    public int eventMeshTcpRebalanceCooldownInMills = 120 * 1000;
+
     public int eventMeshEventSize = 1000;
 
     public int eventMeshEventBatchSize = 10;
@@ -135,24 +176,54 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
         eventMeshTcpMsgRetryQueueSize = configurationWrapper.getIntProp(
                 ConfKeys.KEYS_EVENTMESH_SERVER_RETRY_PUSH_RETRY_QUEUE_SIZE, eventMeshTcpMsgRetryQueueSize);
 
+        eventMeshTcpMsgRetryMaxDelayInMills = configurationWrapper.getIntProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_RETRY_PUSH_RETRY_MAX_DELAY, eventMeshTcpMsgRetryMaxDelayInMills);
+
+        eventMeshTcpMsgDeadLetterEnable = configurationWrapper.getBoolProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_RETRY_DEAD_LETTER_ENABLE, eventMeshTcpMsgDeadLetterEnable);
+
         eventMeshTcpRebalanceIntervalInMills = configurationWrapper.getIntProp(
                 ConfKeys.KEYS_EVENTMESH_SERVER_TCP_REBALANCE_INTERVAL, eventMeshTcpRebalanceIntervalInMills);
 
         eventMeshServerAdminPort = configurationWrapper.getIntProp(
                 ConfKeys.KEYS_EVENTMESH_SERVER_ADMIN_HTTP_PORT, eventMeshServerAdminPort);
 
+        eventMeshServerAdminHttpThreadNum = configurationWrapper.getIntProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_ADMIN_HTTP_THREAD_NUM, eventMeshServerAdminHttpThreadNum);
+
+        eventMeshServerAdminHttpBlockingThreadNum = configurationWrapper.getIntProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_ADMIN_HTTP_BLOCKING_THREAD_NUM, eventMeshServerAdminHttpBlockingThreadNum);
+
         eventMeshTcpSendBackEnabled = configurationWrapper.getBoolProp(
                 ConfKeys.KEYS_EVENTMESH_TCP_SEND_BACK_ENABLED, eventMeshTcpSendBackEnabled);
 
         eventMeshTcpPushFailIsolateTimeInMills = configurationWrapper.getIntProp(
                 ConfKeys.KEYS_EVENTMESH_SERVER_PUSH_FAIL_ISOLATE_TIME, eventMeshTcpPushFailIsolateTimeInMills);
 
+        eventMeshTcpOrderingKeyMaxWaiting = configurationWrapper.getIntProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_TCP_ORDERING_KEY_MAX_WAITING, eventMeshTcpOrderingKeyMaxWaiting);
+
+        eventMeshTcpDownstreamDispatchStrategy = configurationWrapper.getProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_TCP_DOWNSTREAM_DISPATCH_STRATEGY, eventMeshTcpDownstreamDispatchStrategy);
+
         gracefulShutdownSleepIntervalInMills = configurationWrapper.getIntProp(
                 ConfKeys.KEYS_EVENTMESH_SERVER_GRACEFUL_SHUTDOWN_SLEEP_TIME, gracefulShutdownSleepIntervalInMills);
 
         sleepIntervalInRebalanceRedirectMills = configurationWrapper.getIntProp(
                 ConfKeys.KEYS_EVENTMESH_SERVER_REBALANCE_REDIRECT_SLEEP_TIME, sleepIntervalInRebalanceRedirectMills);
 
+        eventMeshTcpRebalanceLoadAwareEnabled = configurationWrapper.getBoolProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_TCP_REBALANCE_LOAD_AWARE_ENABLED, eventMeshTcpRebalanceLoadAwareEnabled);
+
+        eventMeshTcpLoadReportIntervalInMills = configurationWrapper.getIntProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_TCP_LOAD_REPORT_INTERVAL, eventMeshTcpLoadReportIntervalInMills);
+
+        eventMeshTcpRebalanceHysteresisPercent = configurationWrapper.getIntProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_TCP_REBALANCE_HYSTERESIS_PERCENT, eventMeshTcpRebalanceHysteresisPercent);
+
+        eventMeshTcpRebalanceCooldownInMills = configurationWrapper.getIntProp(
+                ConfKeys.KEYS_EVENTMESH_SERVER_TCP_REBALANCE_COOLDOWN, eventMeshTcpRebalanceCooldownInMills);
+
         eventMeshEventSize = configurationWrapper.getIntProp(ConfKeys.KEYS_EVENTMESH_SERVER_EVENTSIZE, eventMeshEventSize);
 
         eventMeshEventBatchSize = configurationWrapper.getIntProp(
@@ -187,11 +258,21 @@ public class EventMeshTCPConfiguration extends CommonConfiguration {
         public static final String KEYS_EVENTMESH_SERVER_RETRY_ASYNC_PUSH_RETRY_DELAY = "eventMesh.server.retry.async.pushRetryDelayInMills";
         public static final String KEYS_EVENTMESH_SERVER_RETRY_SYNC_PUSH_RETRY_DELAY = "eventMesh.server.retry.sync.pushRetryDelayInMills";
         public static final String KEYS_EVENTMESH_SERVER_RETRY_PUSH_RETRY_QUEUE_SIZE = "eventMesh.server.retry.pushRetryQueueSize";
+        public static final String KEYS_EVENTMESH_SERVER_RETRY_PUSH_RETRY_MAX_DELAY = "eventMesh.server.retry.pushRetryMaxDelayInMills";
+        public static final String KEYS_EVENTMESH_SERVER_RETRY_DEAD_LETTER_ENABLE = "eventMesh.server.retry.deadLetter.enabled";
         public static final String KEYS_EVENTMESH_SERVER_ADMIN_HTTP_PORT = "eventMesh.server.admin.http.port";
+        public static final String KEYS_EVENTMESH_SERVER_ADMIN_HTTP_THREAD_NUM = "eventMesh.server.admin.http.threads.num";
+        public static final String KEYS_EVENTMESH_SERVER_ADMIN_HTTP_BLOCKING_THREAD_NUM = "eventMesh.server.admin.http.blockingThreads.num";
         public static final String KEYS_EVENTMESH_TCP_SEND_BACK_ENABLED = "eventMesh.server.tcp.sendBack.enabled";
         public static final String KEYS_EVENTMESH_SERVER_PUSH_FAIL_ISOLATE_TIME = "eventMesh.server.tcp.pushFailIsolateTimeInMills";
+        public static final String KEYS_EVENTMESH_SERVER_TCP_ORDERING_KEY_MAX_WAITING = "eventMesh.server.tcp.orderingKey.maxWaiting";
+        public static final String KEYS_EVENTMESH_SERVER_TCP_DOWNSTREAM_DISPATCH_STRATEGY = "eventMesh.server.tcp.downstreamDispatchStrategy";
         public static final String KEYS_EVENTMESH_SERVER_GRACEFUL_SHUTDOWN_SLEEP_TIME = "eventMesh.server.gracefulShutdown.sleepIntervalInMills";
         public static final String KEYS_EVENTMESH_SERVER_REBALANCE_REDIRECT_SLEEP_TIME = "eventMesh.server.rebalanceRedirect.sleepIntervalInM";
+        public static final String KEYS_EVENTMESH_SERVER_TCP_REBALANCE_LOAD_AWARE_ENABLED = "eventMesh.server.tcp.rebalance.loadAware.enabled";
+        public static final String KEYS_EVENTMESH_SERVER_TCP_LOAD_REPORT_INTERVAL = "eventMesh.server.tcp.loadReportIntervalInMills";
+        public static final String KEYS_EVENTMESH_SERVER_TCP_REBALANCE_HYSTERESIS_PERCENT = "eventMesh.server.tcp.rebalance.hysteresisPercent";
+        public static final String KEYS_EVENTMESH_SERVER_TCP_REBALANCE_COOLDOWN = "eventMesh.server.tcp.rebalance.cooldownInMills";
         public static final String KEYS_EVENTMESH_SERVER_EVENTSIZE = "eventMesh.server.maxEventSize";
         public static final String KEYS_EVENTMESH_SERVER_EVENT_BATCHSIZE = "eventMesh.server.maxEventBatchSize";
     }
@@ -55,6 +55,8 @@ public class EventMeshConstants {
     public static final String RSP_SEND_EVENTMESH_IP = "rspsendeventmeship";
     public static final String RSP_RECEIVE_EVENTMESH_IP = "rspreceiveeventmeship";
 
+    public static final String TRACE_SAMPLED = "tracesampled";
+
     public static final String RSP_SYS = "rsp0sys";
     public static final String RSP_IP = "rsp0ip";
     public static final String RSP_IDC = "rsp0idc";
@@ -77,6 +79,8 @@ public class EventMeshConstants {
 
     public static final int DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS = 3000;
 
+    public static final int DEFAULT_PUSH_RETRY_MAX_DELAY_IN_MILLSECONDS = 30000;
+
     public static final String PURPOSE_PUB = "pub";
     public static final String PURPOSE_PUB_UPPER_CASE = "PUB";
     public static final String PURPOSE_SUB = "sub";
@@ -113,6 +117,10 @@ public class EventMeshConstants {
 
     public static final String EVENTMESH_SEND_BACK_IP = "eventmeshsendbackip";
 
+    public static final String DEAD_LETTER_TOPIC_PREFIX = "DLQ-";
+
+    public static final String DEAD_LETTER_ORIGIN_TOPIC = "eventmeshdlqorigintopic";
+
     public static final String EVENTMESH_REGISTRY_ADDR_KEY = "eventMeshRegistryAddr";
 
     public static final int DEFAULT_TIME_OUT_MILLS = 5 * 1000;
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.consumer;
+
+import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+
+/**
+ * Expire the clients which have not sent a heartbeat for a while.
+ *
+ * <p>Every tracked client has one timeout in a timer wheel, set to the time it would expire. A heartbeat
+ * only updates the last up time of the client. When the timeout fires, the client is expired if it has not
+ * been up since, otherwise the timeout is set again for the remaining time, so neither a heartbeat nor
+ * the expiry check ever walks through all the clients.
+ *
+ * <p>The expired listener is called in the timer thread and must not block.
+ */
+public class ClientExpiryTimer<K> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientExpiryTimer.class);
+
+    private static final Timer TIMER = new HashedWheelTimer(
+        new EventMeshThreadFactoryImpl("eventMesh-client-expiry-timer", true), 100, TimeUnit.MILLISECONDS, 512);
+
+    private final String name;
+
+    private final long expiredInMills;
+
+    private final Consumer<K> expiredListener;
+
+    private final Map<K, Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private volatile boolean shutdown = false;
+
+    public ClientExpiryTimer(String name, long expiredInMills, Consumer<K> expiredListener) {
+        this.name = name;
+        this.expiredInMills = expiredInMills;
+        this.expiredListener = expiredListener;
+    }
+
+    /**
+     * Start tracking the client, nothing is done if it is tracked already.
+     *
+     * @param lastUpTime supplies the last time in millis the client was up
+     */
+    public void track(K client, LongSupplier lastUpTime) {
+        if (shutdown) {
+            return;
+        }
+        timeouts.computeIfAbsent(client, key -> newTimeout(key, lastUpTime, expiredInMills));
+    }
+
+    public void untrack(K client) {
+        Timeout timeout = timeouts.remove(client);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public boolean isTracked(K client) {
+        return timeouts.containsKey(client);
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        timeouts.values().forEach(Timeout::cancel);
+        timeouts.clear();
+    }
+
+    private Timeout newTimeout(K client, LongSupplier lastUpTime, long delayInMills) {
+        return TIMER.newTimeout(timeout -> check(client, lastUpTime, timeout), delayInMills, TimeUnit.MILLISECONDS);
+    }
+
+    private void check(K client, LongSupplier lastUpTime, Timeout current) {
+        if (shutdown || timeouts.get(client) != current) {
+            return;
+        }
+        long remaining = lastUpTime.getAsLong() + expiredInMills - System.currentTimeMillis();
+        if (remaining > 0) {
+            // up since the timeout was set, wait for the rest of the time
+            timeouts.replace(client, current, newTimeout(client, lastUpTime, remaining));
+            return;
+        }
+        if (!timeouts.remove(client, current)) {
+            return;
+        }
+        try {
+            expiredListener.accept(client);
+        } catch (Exception e) {
+            LOGGER.error("[{}] handle expired client {} error", name, client, e);
+        }
+    }
+}
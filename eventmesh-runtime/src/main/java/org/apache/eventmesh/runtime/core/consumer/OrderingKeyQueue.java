@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.consumer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keep at most one in-flight msg per ordering key, the following msgs of the same key wait here
+ * until the in-flight one is acked.
+ */
+public class OrderingKeyQueue<T> {
+
+    public enum OfferResult {
+        /**
+         * no msg of the key is in flight, dispatch the msg now
+         */
+        DISPATCHABLE,
+        /**
+         * the msg waits behind the in-flight msg of the key
+         */
+        QUEUED,
+        /**
+         * too many msgs of the key are waiting, the msg is not accepted
+         */
+        FULL
+    }
+
+    /**
+     * a key is in flight as long as it is contained, the deque holds the msgs waiting behind it
+     */
+    private final ConcurrentHashMap<String /* ordering key */, Deque<T>> waitingMsgs = new ConcurrentHashMap<>();
+
+    private final int maxWaitingPerKey;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    public OrderingKeyQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public OrderingKeyQueue(int maxWaitingPerKey) {
+        this.maxWaitingPerKey = maxWaitingPerKey;
+    }
+
+    public OfferResult offer(String key, T msg) {
+        AtomicReference<OfferResult> result = new AtomicReference<>();
+        waitingMsgs.compute(key, (k, msgs) -> {
+            if (msgs == null) {
+                result.set(OfferResult.DISPATCHABLE);
+                return new ArrayDeque<>();
+            }
+            if (msgs.size() >= maxWaitingPerKey) {
+                result.set(OfferResult.FULL);
+                return msgs;
+            }
+            msgs.addLast(msg);
+            size.incrementAndGet();
+            result.set(OfferResult.QUEUED);
+            return msgs;
+        });
+        return result.get();
+    }
+
+    /**
+     * called when the in-flight msg of the key is acked
+     *
+     * @return the next msg of the key which should be dispatched now, or null if no msg is waiting
+     */
+    public T release(String key) {
+        AtomicReference<T> next = new AtomicReference<>();
+        waitingMsgs.computeIfPresent(key, (k, msgs) -> {
+            next.set(msgs.pollFirst());
+            if (next.get() == null) {
+                return null;
+            }
+            size.decrementAndGet();
+            return msgs;
+        });
+        return next.get();
+    }
+
+    /**
+     * called when the in-flight msg of the key is given up, the key is freed
+     *
+     * @return all msgs waiting behind it in order
+     */
+    public List<T> releaseAll(String key) {
+        Deque<T> msgs = waitingMsgs.remove(key);
+        if (msgs == null) {
+            return new ArrayList<>();
+        }
+        size.addAndGet(-msgs.size());
+        return new ArrayList<>(msgs);
+    }
+
+    /**
+     * @return the number of waiting msgs, not including the in-flight ones
+     */
+    public int size() {
+        return size.get();
+    }
+
+    public void clear() {
+        waitingMsgs.clear();
+        size.set(0);
+    }
+}
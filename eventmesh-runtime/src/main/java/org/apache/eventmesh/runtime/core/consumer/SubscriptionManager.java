@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +42,14 @@ public class SubscriptionManager {
     private final ConcurrentHashMap<String /**group@topic*/, List<Client>> localClientInfoMapping =
             new ConcurrentHashMap<>();
 
+    /**
+     * index of the clients in localClientInfoMapping, so that a heartbeat finds its client at once
+     */
+    private final ConcurrentHashMap<String /**group@topic@url*/, Client> localClientIndex =
+            new ConcurrentHashMap<>();
+
+    private volatile ClientExpiryTimer<Client> clientExpiryTimer;
+
     public ConcurrentHashMap<String, ConsumerGroupConf> getLocalConsumerGroupMapping() {
         return localConsumerGroupMapping;
     }
@@ -72,7 +81,7 @@ public class SubscriptionManager {
             }
 
             if (!isContains) {
-                Client client = new Client();
+                final Client client = new Client();
                 client.setEnv(clientInfo.getEnv());
                 client.setIdc(clientInfo.getIdc());
                 client.setSys(clientInfo.getSys());
@@ -83,10 +92,116 @@ public class SubscriptionManager {
                 client.setUrl(url);
                 client.setLastUpTime(new Date());
                 localClients.add(client);
+                addIndex(client);
+            }
+        }
+    }
+
+    /**
+     * Refresh the last up time of the client of a heartbeat, the client is registered if it is unknown.
+     */
+    public void heartbeat(final Client client) {
+        final Client indexedClient = localClientIndex.get(clientKey(client));
+        if (indexedClient != null) {
+            indexedClient.setLastUpTime(client.getLastUpTime());
+            return;
+        }
+
+        synchronized (localClientInfoMapping) {
+            final List<Client> localClients = localClientInfoMapping.computeIfAbsent(
+                    client.getConsumerGroup() + "@" + client.getTopic(), key -> new ArrayList<>());
+            for (final Client localClient : localClients) {
+                // registered by a subscription, not indexed yet
+                if (StringUtils.equals(localClient.getUrl(), client.getUrl())) {
+                    localClient.setLastUpTime(client.getLastUpTime());
+                    addIndex(localClient);
+                    return;
+                }
+            }
+            localClients.add(client);
+            addIndex(client);
+        }
+    }
+
+    /**
+     * Must be called when a client is removed from localClientInfoMapping.
+     */
+    public void removeClient(final Client client) {
+        localClientIndex.remove(clientKey(client), client);
+        final ClientExpiryTimer<Client> timer = clientExpiryTimer;
+        if (timer != null) {
+            timer.untrack(client);
+        }
+    }
+
+    /**
+     * Remove the clients of the consumer group from localClientInfoMapping.
+     */
+    public void removeConsumerGroupClients(final String consumerGroup) {
+        localClientInfoMapping.keySet().removeIf(s -> StringUtils.contains(s, consumerGroup));
+        localClientIndex.values().removeIf(client -> {
+            if (StringUtils.contains(client.getConsumerGroup() + "@" + client.getTopic(), consumerGroup)) {
+                removeClient(client);
+                return true;
             }
+            return false;
+        });
+    }
+
+    /**
+     * Remove an expired client from localClientInfoMapping.
+     *
+     * @return false if the client was up again before it is removed
+     */
+    public boolean removeExpiredClient(final Client client) {
+        synchronized (localClientInfoMapping) {
+            if (localClientIndex.containsKey(clientKey(client))) {
+                return false;
+            }
+            final List<Client> localClients =
+                    localClientInfoMapping.get(client.getConsumerGroup() + "@" + client.getTopic());
+            return localClients != null && localClients.removeIf(localClient -> localClient == client);
         }
     }
 
+    /**
+     * Expire the clients which have not sent a heartbeat in the given time, the listener is called
+     * in the timer thread.
+     */
+    public synchronized void startClientExpiry(final long expiredInMills, final Consumer<Client> expiredListener) {
+        if (clientExpiryTimer != null) {
+            return;
+        }
+        clientExpiryTimer = new ClientExpiryTimer<>("http", expiredInMills, client -> {
+            localClientIndex.remove(clientKey(client), client);
+            expiredListener.accept(client);
+        });
+        localClientIndex.values().forEach(this::track);
+    }
+
+    public void shutdownClientExpiry() {
+        final ClientExpiryTimer<Client> timer = clientExpiryTimer;
+        if (timer != null) {
+            timer.shutdown();
+        }
+    }
+
+    private void addIndex(final Client client) {
+        localClientIndex.put(clientKey(client), client);
+        track(client);
+    }
+
+    private void track(final Client client) {
+        final ClientExpiryTimer<Client> timer = clientExpiryTimer;
+        if (timer != null) {
+            timer.track(client, () -> client.getLastUpTime().getTime());
+        }
+    }
+
+    private static String clientKey(final Client client) {
+        return client.getConsumerGroup() + "@" + client.getTopic() + "@" + client.getUrl();
+    }
+
     public void updateSubscription(ClientInfo clientInfo, String consumerGroup,
                                    String url, List<SubscriptionItem> subscriptionList) {
         for (final SubscriptionItem subscription : subscriptionList) {
@@ -21,6 +21,7 @@ import org.apache.eventmesh.api.RequestReplyCallback;
 import org.apache.eventmesh.api.SendCallback;
 import org.apache.eventmesh.api.factory.ConnectorPluginFactory;
 import org.apache.eventmesh.api.producer.Producer;
+import org.apache.eventmesh.common.config.CommonConfiguration;
 
 import java.util.Properties;
 
@@ -35,12 +36,25 @@ public class MQProducerWrapper extends MQWrapper {
 
     protected Producer meshMQProducer;
 
+    protected TopicMetadataCache topicMetadataCache;
+
     public MQProducerWrapper(String connectorPluginType) {
+        this(connectorPluginType, TopicMetadataCache.DEFAULT_TTL_IN_MILLS, TopicMetadataCache.DEFAULT_NEGATIVE_TTL_IN_MILLS);
+    }
+
+    public MQProducerWrapper(CommonConfiguration configuration) {
+        this(configuration.getEventMeshConnectorPluginType(), configuration.getEventMeshTopicCacheTtlInMills(),
+                configuration.getEventMeshTopicCacheNegativeTtlInMills());
+    }
+
+    public MQProducerWrapper(String connectorPluginType, long topicCacheTtlInMills, long topicCacheNegativeTtlInMills) {
         this.meshMQProducer = ConnectorPluginFactory.getMeshMQProducer(connectorPluginType);
         if (meshMQProducer == null) {
             logger.error("can't load the meshMQProducer plugin, please check.");
             throw new RuntimeException("doesn't load the meshMQProducer plugin, please check.");
         }
+        this.topicMetadataCache = TopicMetadataCache.getInstance(connectorPluginType, topicCacheTtlInMills,
+                topicCacheNegativeTtlInMills);
     }
 
     public synchronized void init(Properties keyValue) throws Exception {
@@ -90,6 +104,10 @@ public class MQProducerWrapper extends MQWrapper {
         return meshMQProducer.reply(cloudEvent, sendCallback);
     }
 
+    public void checkTopicExist(String topic) throws Exception {
+        topicMetadataCache.checkTopicExist(topic, meshMQProducer::checkTopicExist);
+    }
+
     public Producer getMeshMQProducer() {
         return meshMQProducer;
     }
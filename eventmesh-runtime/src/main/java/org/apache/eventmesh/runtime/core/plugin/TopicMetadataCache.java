@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.plugin;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the result of {@code Producer#checkTopicExist} per connector, so that subscribing
+ * does not hit the broker admin api for every subscription item.
+ * <ul>
+ *     <li>existing topics are cached for {@code ttlInMills}</li>
+ *     <li>missing topics (or failed lookups) are cached for {@code negativeTtlInMills}</li>
+ *     <li>concurrent lookups of the same topic share a single broker call</li>
+ * </ul>
+ */
+public class TopicMetadataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicMetadataCache.class);
+
+    public static final long DEFAULT_TTL_IN_MILLS = 30_000L;
+
+    public static final long DEFAULT_NEGATIVE_TTL_IN_MILLS = 5_000L;
+
+    private static final Map<String, TopicMetadataCache> CACHES = new ConcurrentHashMap<>();
+
+    private final long ttlInMills;
+
+    private final long negativeTtlInMills;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public TopicMetadataCache(long ttlInMills, long negativeTtlInMills) {
+        this.ttlInMills = ttlInMills;
+        this.negativeTtlInMills = negativeTtlInMills;
+    }
+
+    /**
+     * the cache shared by all producers of the given connector plugin, the ttl of the first caller wins
+     */
+    public static TopicMetadataCache getInstance(String connectorPluginType, long ttlInMills, long negativeTtlInMills) {
+        return CACHES.computeIfAbsent(connectorPluginType, k -> new TopicMetadataCache(ttlInMills, negativeTtlInMills));
+    }
+
+    public void checkTopicExist(String topic, TopicChecker checker) throws Exception {
+        if (ttlInMills <= 0) {
+            checker.check(topic);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Entry[] loading = new Entry[1];
+        Entry entry = entries.compute(topic, (k, old) -> {
+            if (old != null && !old.isExpired(now)) {
+                return old;
+            }
+            loading[0] = new Entry();
+            return loading[0];
+        });
+
+        if (loading[0] != null) {
+            load(topic, loading[0], checker);
+        }
+
+        try {
+            entry.result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    private void load(String topic, Entry entry, TopicChecker checker) {
+        try {
+            checker.check(topic);
+            entry.expireAt = System.currentTimeMillis() + ttlInMills;
+            entry.result.complete(null);
+        } catch (Throwable e) {
+            logger.warn("check topic exist failed, topic:{}, cached for {}ms", topic, negativeTtlInMills);
+            entry.expireAt = System.currentTimeMillis() + negativeTtlInMills;
+            entry.result.completeExceptionally(e);
+        }
+    }
+
+    public void invalidate(String topic) {
+        entries.remove(topic);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * the lookup against the broker, usually {@code Producer#checkTopicExist}
+     */
+    @FunctionalInterface
+    public interface TopicChecker {
+
+        /**
+         * throws an exception when the topic does not exist
+         */
+        void check(String topic) throws Exception;
+    }
+
+    private static class Entry {
+
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        /**
+         * never expires while the lookup is still in flight
+         */
+        private volatile long expireAt = Long.MAX_VALUE;
+
+        private boolean isExpired(long now) {
+            return now >= expireAt;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.Subscriptio
 import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.common.ServiceState;
+import org.apache.eventmesh.runtime.core.consumer.ClientExpiryTimer;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.ConsumerGroupClient;
 import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.GrpcType;
 
@@ -29,9 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,6 +47,8 @@ public class ConsumerManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ConsumerManager.class);
 
+    private static final long RESTART_DELAY_IN_MILLS = 1000L;
+
     private final transient EventMeshGrpcServer eventMeshGrpcServer;
 
     private final transient ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
@@ -58,6 +59,16 @@ public class ConsumerManager {
     // key: ConsumerGroup
     private final transient Map<String, EventMeshConsumer> consumerTable = new ConcurrentHashMap<>();
 
+    // key: ConsumerGroup@Topic@GrpcType@SubscriptionMode@(url or ip@pid)
+    private final transient Map<String, ConsumerGroupClient> clientIndex = new ConcurrentHashMap<>();
+
+    // key: ConsumerGroup@Topic@ip@pid@sys
+    private final transient Map<String, Set<ConsumerGroupClient>> heartbeatIndex = new ConcurrentHashMap<>();
+
+    private final transient Set<String> consumerGroupsToRestart = ConcurrentHashMap.newKeySet();
+
+    private transient ClientExpiryTimer<ConsumerGroupClient> clientExpiryTimer;
+
     public ConsumerManager(final EventMeshGrpcServer eventMeshGrpcServer) {
         this.eventMeshGrpcServer = eventMeshGrpcServer;
     }
@@ -67,23 +78,44 @@ public class ConsumerManager {
     }
 
     public void init() throws Exception {
+        final int clientTimeout = eventMeshGrpcServer.getEventMeshGrpcConfiguration().eventMeshSessionExpiredInMills;
+        if (clientTimeout > 0) {
+            clientExpiryTimer = new ClientExpiryTimer<>("grpc", clientTimeout,
+                client -> scheduledExecutorService.execute(() -> expireClient(client)));
+        }
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Grpc ConsumerManager initialized.");
         }
     }
 
     public void start() throws Exception {
-        startClientCheck();
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Grpc ConsumerManager started.");
         }
     }
 
+    /**
+     * Stop expiring clients and fetching msgs from MQ, the msgs already fetched can still be acked until
+     * {@link #shutdown()}.
+     */
+    public void stopFetching() {
+        if (clientExpiryTimer != null) {
+            clientExpiryTimer.shutdown();
+        }
+        scheduledExecutorService.shutdown();
+        for (final EventMeshConsumer consumer : consumerTable.values()) {
+            consumer.stopFetching();
+        }
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Grpc ConsumerManager stopped fetching.");
+        }
+    }
+
     public void shutdown() throws Exception {
+        stopFetching();
         for (final EventMeshConsumer consumer : consumerTable.values()) {
             consumer.shutdown();
         }
-        scheduledExecutorService.shutdown();
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Grpc ConsumerManager shutdown.");
         }
@@ -99,61 +131,34 @@ public class ConsumerManager {
     }
 
     public synchronized void registerClient(final ConsumerGroupClient newClient) {
-        final String consumerGroup = newClient.getConsumerGroup();
-        final String topic = newClient.getTopic();
-        final GrpcType grpcType = newClient.getGrpcType();
-        final String url = newClient.getUrl();
-        final String ip = newClient.getIp();
-        final String pid = newClient.getPid();
-        final SubscriptionMode subscriptionMode = newClient.getSubscriptionMode();
-
-        List<ConsumerGroupClient> localClients = clientTable.get(consumerGroup);
-        if (localClients == null) {
-            localClients = new ArrayList<>();
-            localClients.add(newClient);
-            clientTable.putIfAbsent(consumerGroup, localClients);
-        } else {
-            boolean isContains = false;
-            for (final ConsumerGroupClient localClient : localClients) {
-                if (GrpcType.WEBHOOK == grpcType && StringUtils.equals(localClient.getTopic(), topic)
-                        && StringUtils.equals(localClient.getUrl(), url)
-                        && localClient.getSubscriptionMode() == subscriptionMode) {
-                    isContains = true;
-                    localClient.setUrl(newClient.getUrl());
-                    localClient.setLastUpTime(newClient.getLastUpTime());
-                    break;
-                } else if (GrpcType.STREAM == grpcType && StringUtils.equals(localClient.getTopic(), topic)
-                        && StringUtils.equals(localClient.getIp(), ip) && StringUtils.equals(localClient.getPid(), pid)
-                        && localClient.getSubscriptionMode() == subscriptionMode) {
-                    isContains = true;
-                    localClient.setEventEmitter(newClient.getEventEmitter());
-                    localClient.setLastUpTime(newClient.getLastUpTime());
-                    break;
-                }
-            }
-            if (!isContains) {
-                localClients.add(newClient);
+        final ConsumerGroupClient localClient = clientIndex.get(registrationKey(newClient));
+        if (localClient != null) {
+            if (GrpcType.WEBHOOK == newClient.getGrpcType()) {
+                localClient.setUrl(newClient.getUrl());
+            } else {
+                localClient.setEventEmitter(newClient.getEventEmitter());
             }
+            localClient.setLastUpTime(newClient.getLastUpTime());
+            return;
+        }
+
+        clientTable.computeIfAbsent(newClient.getConsumerGroup(), k -> new ArrayList<>()).add(newClient);
+        clientIndex.put(registrationKey(newClient), newClient);
+        heartbeatIndex.computeIfAbsent(heartbeatKey(newClient), k -> ConcurrentHashMap.newKeySet()).add(newClient);
+        if (clientExpiryTimer != null) {
+            clientExpiryTimer.track(newClient, () -> newClient.getLastUpTime().getTime());
         }
     }
 
     public boolean updateClientTime(final ConsumerGroupClient client) {
-        final List<ConsumerGroupClient> localClients = clientTable.get(client.getConsumerGroup());
+        final Set<ConsumerGroupClient> localClients = heartbeatIndex.get(heartbeatKey(client));
         if (CollectionUtils.isEmpty(localClients)) {
             return false;
         }
 
-        for (final ConsumerGroupClient localClient : localClients) {
-            if (StringUtils.equals(localClient.getIp(), client.getIp())
-                    && StringUtils.equals(localClient.getPid(), client.getPid())
-                    && StringUtils.equals(localClient.getSys(), client.getSys())
-                    && StringUtils.equals(localClient.getTopic(), client.getTopic())) {
-                localClient.setLastUpTime(new Date());
-                return true;
-            }
-        }
-
-        return false;
+        final Date lastUpTime = new Date();
+        localClients.forEach(localClient -> localClient.setLastUpTime(lastUpTime));
+        return true;
     }
 
     public synchronized void deregisterClient(final ConsumerGroupClient client) {
@@ -172,6 +177,7 @@ public class ConsumerManager {
                     // close the GRPC client stream before removing it
                     closeEventStream(localClient);
                     iterator.remove();
+                    removeIndex(localClient);
                 }
             }
         }
@@ -182,6 +188,35 @@ public class ConsumerManager {
 
     }
 
+    private void removeIndex(final ConsumerGroupClient client) {
+        clientIndex.remove(registrationKey(client), client);
+        heartbeatIndex.computeIfPresent(heartbeatKey(client), (key, clients) -> {
+            clients.remove(client);
+            return clients.isEmpty() ? null : clients;
+        });
+        if (clientExpiryTimer != null) {
+            clientExpiryTimer.untrack(client);
+        }
+    }
+
+    /**
+     * a webhook client is identified by its url, a stream client by its ip and pid
+     */
+    private static String registrationKey(final ConsumerGroupClient client) {
+        final String instance = GrpcType.WEBHOOK == client.getGrpcType()
+                ? client.getUrl() : client.getIp() + "@" + client.getPid();
+        return client.getConsumerGroup() + "@" + client.getTopic() + "@" + client.getGrpcType()
+                + "@" + client.getSubscriptionMode() + "@" + instance;
+    }
+
+    /**
+     * a heartbeat carries the ip, pid and sys of the client
+     */
+    private static String heartbeatKey(final ConsumerGroupClient client) {
+        return client.getConsumerGroup() + "@" + client.getTopic() + "@" + client.getIp()
+                + "@" + client.getPid() + "@" + client.getSys();
+    }
+
     private void closeEventStream(final ConsumerGroupClient client) {
         if (client.getEventEmitter() != null) {
             client.getEventEmitter().onCompleted();
@@ -207,54 +242,48 @@ public class ConsumerManager {
         }
     }
 
-    private void startClientCheck() {
-        final int clientTimeout = eventMeshGrpcServer.getEventMeshGrpcConfiguration().eventMeshSessionExpiredInMills;
-        if (clientTimeout > 0) {
-            scheduledExecutorService.scheduleAtFixedRate(() -> {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("grpc client info check");
-                }
-
-                final List<ConsumerGroupClient> clientList = new LinkedList<>();
-                clientTable.values().forEach(clients -> {
-                    clientList.addAll(clients);
-                });
+    /**
+     * runs under the lock of registerClient, so a client which re-registered or sent a heartbeat after the timer
+     * fired is kept
+     */
+    private synchronized void expireClient(final ConsumerGroupClient client) {
+        if (clientIndex.get(registrationKey(client)) != client) {
+            return;
+        }
+        final long clientTimeout = eventMeshGrpcServer.getEventMeshGrpcConfiguration().eventMeshSessionExpiredInMills;
+        if (System.currentTimeMillis() - client.getLastUpTime().getTime() < clientTimeout) {
+            clientExpiryTimer.track(client, () -> client.getLastUpTime().getTime());
+            return;
+        }
 
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("total number of ConsumerGroupClients: {}", clientList.size());
-                }
+        if (LOGGER.isWarnEnabled()) {
+            LOGGER.warn("client {} lastUpdate time {} over three heartbeat cycles. Removing it",
+                    JsonUtils.serialize(client), client.getLastUpTime());
+        }
 
-                if (CollectionUtils.isEmpty(clientList)) {
-                    return;
-                }
+        deregisterClient(client);
+        if (getEventMeshConsumer(client.getConsumerGroup()).deregisterClient(client)) {
+            scheduleRestart(client.getConsumerGroup());
+        }
+    }
 
-                final Set<String> consumerGroupRestart = new HashSet<>();
-                clientList.forEach(client -> {
-                    if (System.currentTimeMillis() - client.getLastUpTime().getTime() > clientTimeout) {
-                        if (LOGGER.isWarnEnabled()) {
-                            LOGGER.warn("client {} lastUpdate time {} over three heartbeat cycles. Removing it",
-                                    JsonUtils.serialize(client), client.getLastUpTime());
-                        }
-
-                        deregisterClient(client);
-                        if (getEventMeshConsumer(client.getConsumerGroup()).deregisterClient(client)) {
-                            consumerGroupRestart.add(client.getConsumerGroup());
-                        }
-                    }
-                });
-
-                // restart EventMeshConsumer for the group
-                consumerGroupRestart.forEach(consumerGroup -> {
-                    try {
-                        restartEventMeshConsumer(consumerGroup);
-                    } catch (Exception e) {
-                        if (LOGGER.isErrorEnabled()) {
-                            LOGGER.error("Error in restarting EventMeshConsumer [{}]", consumerGroup, e);
-                        }
-                    }
-                });
-            }, 10_000, 10_000, TimeUnit.MILLISECONDS);
+    /**
+     * clients of a group often expire together, restart the EventMeshConsumer of the group once for them
+     */
+    private void scheduleRestart(final String consumerGroup) {
+        if (!consumerGroupsToRestart.add(consumerGroup)) {
+            return;
         }
+        scheduledExecutorService.schedule(() -> {
+            consumerGroupsToRestart.remove(consumerGroup);
+            try {
+                restartEventMeshConsumer(consumerGroup);
+            } catch (Exception e) {
+                if (LOGGER.isErrorEnabled()) {
+                    LOGGER.error("Error in restarting EventMeshConsumer [{}]", consumerGroup, e);
+                }
+            }
+        }, RESTART_DELAY_IN_MILLS, TimeUnit.MILLISECONDS);
     }
 
     public List<String> getAllConsumerTopic() {
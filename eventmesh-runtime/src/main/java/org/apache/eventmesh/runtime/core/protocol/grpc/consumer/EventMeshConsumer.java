@@ -45,6 +45,7 @@ import org.apache.eventmesh.runtime.core.protocol.grpc.producer.SendMessageConte
 import org.apache.eventmesh.runtime.core.protocol.grpc.push.HandleMsgContext;
 import org.apache.eventmesh.runtime.core.protocol.grpc.push.MessageHandler;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
 
 import org.apache.commons.collections4.MapUtils;
 
@@ -55,7 +56,6 @@ import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -74,7 +74,7 @@ public class EventMeshConsumer {
 
     private final transient MessageHandler messageHandler;
 
-    private transient ServiceState serviceState;
+    private transient volatile ServiceState serviceState;
 
     /**
      * Key: topic
@@ -83,19 +83,27 @@ public class EventMeshConsumer {
     private final transient Map<String, ConsumerGroupTopicConfig> consumerGroupTopicConfig = new ConcurrentHashMap<>();
 
     public EventMeshConsumer(final EventMeshGrpcServer eventMeshGrpcServer, final String consumerGroup) {
+        this(eventMeshGrpcServer, consumerGroup,
+                new MQConsumerWrapper(eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshConnectorPluginType()),
+                new MQConsumerWrapper(eventMeshGrpcServer.getEventMeshGrpcConfiguration().getEventMeshConnectorPluginType()));
+    }
+
+    EventMeshConsumer(final EventMeshGrpcServer eventMeshGrpcServer, final String consumerGroup,
+                      final MQConsumerWrapper persistentMqConsumer, final MQConsumerWrapper broadcastMqConsumer) {
         this.eventMeshGrpcServer = eventMeshGrpcServer;
         this.eventMeshGrpcConfiguration = eventMeshGrpcServer.getEventMeshGrpcConfiguration();
         this.consumerGroup = consumerGroup;
         this.messageHandler = new MessageHandler(consumerGroup, eventMeshGrpcServer.getPushMsgExecutor());
-        this.persistentMqConsumer = new MQConsumerWrapper(eventMeshGrpcConfiguration.getEventMeshConnectorPluginType());
-        this.broadcastMqConsumer = new MQConsumerWrapper(eventMeshGrpcConfiguration.getEventMeshConnectorPluginType());
+        this.persistentMqConsumer = persistentMqConsumer;
+        this.broadcastMqConsumer = broadcastMqConsumer;
     }
 
     /**
-     * Register client's topic information and return true if this EventMeshConsumer required restart because of the topic changes
+     * Register client's topic information. A new topic is subscribed on the running connector consumer in place,
+     * so the clients already attached to the group keep receiving messages.
      *
      * @param client ConsumerGroupClient
-     * @return true if the underlining EventMeshConsumer needs to restart later; false otherwise
+     * @return true if the underlining EventMeshConsumer needs to (re)start later; false otherwise
      */
     public synchronized boolean registerClient(final ConsumerGroupClient client) {
         boolean requireRestart = false;
@@ -104,16 +112,20 @@ public class EventMeshConsumer {
         if (topicConfig == null) {
             topicConfig = ConsumerGroupTopicConfig.buildTopicConfig(consumerGroup, client.getTopic(),
                     client.getSubscriptionMode(), client.getGrpcType());
+            // register the client before subscribing, the first message of the topic must find its emitter
+            topicConfig.registerClient(client);
             consumerGroupTopicConfig.put(client.getTopic(), topicConfig);
-            requireRestart = true;
+            requireRestart = !applySubscribe(client.getTopic(), client.getSubscriptionMode());
+        } else {
+            topicConfig.registerClient(client);
         }
-        topicConfig.registerClient(client);
 
         return requireRestart;
     }
 
     /**
-     * Deregister client's topic information and return true if this EventMeshConsumer required restart because of the topic changes
+     * Deregister client's topic information. A topic without clients is unsubscribed from the running connector
+     * consumer in place, the EventMeshConsumer only needs a restart when its last topic is gone.
      *
      * @param client ConsumerGroupClient
      * @return true if the underlining EventMeshConsumer needs to restart later; false otherwise
@@ -126,13 +138,58 @@ public class EventMeshConsumer {
             topicConfig.deregisterClient(client);
             if (topicConfig.getSize() == 0) {
                 consumerGroupTopicConfig.remove(client.getTopic());
-                requireRestart = true;
+                requireRestart = consumerGroupTopicConfig.isEmpty()
+                        || !applyUnsubscribe(client.getTopic(), topicConfig.getSubscriptionMode());
             }
         }
 
         return requireRestart;
     }
 
+    /**
+     * @return true if the topic is subscribed on the running consumer, false if the consumer has to be (re)started
+     */
+    private boolean applySubscribe(final String topic, final SubscriptionMode subscriptionMode) {
+        if (ServiceState.RUNNING != serviceState) {
+            return false;
+        }
+        try {
+            subscribe(topic, subscriptionMode);
+            if (log.isInfoEnabled()) {
+                log.info("EventMeshConsumer [{}] subscribed topic {} in place", consumerGroup, topic);
+            }
+            return true;
+        } catch (Exception e) {
+            if (log.isWarnEnabled()) {
+                log.warn("EventMeshConsumer [{}] failed to subscribe topic {} in place, fall back to restart",
+                        consumerGroup, topic, e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the topic is unsubscribed from the running consumer, false if the consumer has to be restarted
+     */
+    private boolean applyUnsubscribe(final String topic, final SubscriptionMode subscriptionMode) {
+        if (ServiceState.RUNNING != serviceState) {
+            return false;
+        }
+        try {
+            unsubscribe(topic, subscriptionMode);
+            if (log.isInfoEnabled()) {
+                log.info("EventMeshConsumer [{}] unsubscribed topic {} in place", consumerGroup, topic);
+            }
+            return true;
+        } catch (Exception e) {
+            if (log.isWarnEnabled()) {
+                log.warn("EventMeshConsumer [{}] failed to unsubscribe topic {} in place, fall back to restart",
+                        consumerGroup, topic, e);
+            }
+            return false;
+        }
+    }
+
     public synchronized void init() throws Exception {
         if (MapUtils.isEmpty(consumerGroupTopicConfig)) {
             // no topics, don't init the consumer
@@ -187,6 +244,24 @@ public class EventMeshConsumer {
         }
     }
 
+    /**
+     * Unsubscribe all the topics so that no more msgs are fetched, the consumers stay open to update the offsets
+     * of the msgs still being pushed and to send them back.
+     */
+    public synchronized void stopFetching() {
+        if (serviceState != ServiceState.RUNNING) {
+            return;
+        }
+        consumerGroupTopicConfig.forEach((topic, topicConfig) -> {
+            try {
+                unsubscribe(topic, topicConfig.getSubscriptionMode());
+            } catch (Exception e) {
+                log.warn("EventMeshConsumer [{}] failed to stop fetching topic {}", consumerGroup, topic, e);
+            }
+        });
+        serviceState = ServiceState.STOPING;
+    }
+
     public synchronized void shutdown() throws Exception {
         persistentMqConsumer.shutdown();
         broadcastMqConsumer.shutdown();
@@ -213,8 +288,10 @@ public class EventMeshConsumer {
     }
 
     public void unsubscribe(final Subscription.SubscriptionItem subscriptionItem) throws Exception {
-        final SubscriptionMode mode = subscriptionItem.getMode();
-        final String topic = subscriptionItem.getTopic();
+        unsubscribe(subscriptionItem.getTopic(), subscriptionItem.getMode());
+    }
+
+    public void unsubscribe(final String topic, final SubscriptionMode mode) throws Exception {
         if (SubscriptionMode.CLUSTERING == mode) {
             persistentMqConsumer.unsubscribe(topic);
         } else if (SubscriptionMode.BROADCASTING == mode) {
@@ -237,10 +314,9 @@ public class EventMeshConsumer {
 
     private EventListener createEventListener(final SubscriptionMode subscriptionMode) {
         return (event, context) -> {
-            event = CloudEventBuilder.from(event)
+            event = ExtensionOverlayCloudEvent.from(event)
                     .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
-                            String.valueOf(System.currentTimeMillis()))
-                    .build();
+                            String.valueOf(System.currentTimeMillis()));
 
             final String topic = event.getSubject();
             final String bizSeqNo = Optional.ofNullable(
@@ -295,6 +371,26 @@ public class EventMeshConsumer {
 
     public void sendMessageBack(final String consumerGroup, final CloudEvent event,
                                 final String uniqueId, final String bizSeqNo) throws Exception {
+        sendMessageBack(consumerGroup, event, uniqueId, bizSeqNo, new SendCallback() {
+            @Override
+            public void onSuccess(final SendResult sendResult) {
+            }
+
+            @Override
+            public void onException(final OnExceptionContext context) {
+                if (log.isWarnEnabled()) {
+                    log.warn("consumer:{} consume fail, sendMessageBack, bizSeqNo:{}, uniqueId:{}", consumerGroup,
+                            bizSeqNo, uniqueId);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return false if the group has no producer to send the msg back, the callback is not invoked then
+     */
+    public boolean sendMessageBack(final String consumerGroup, final CloudEvent event, final String uniqueId,
+                                   final String bizSeqNo, final SendCallback sendCallback) throws Exception {
         final EventMeshProducer producer
                 = eventMeshGrpcServer.getProducerManager().getEventMeshProducer(consumerGroup);
 
@@ -303,24 +399,13 @@ public class EventMeshConsumer {
                 log.warn("consumer:{} consume fail, sendMessageBack, bizSeqNo:{}, uniqueId:{}",
                         consumerGroup, bizSeqNo, uniqueId);
             }
-            return;
+            return false;
         }
 
         final SendMessageContext sendMessageBackContext = new SendMessageContext(bizSeqNo, event,
                 producer, eventMeshGrpcServer);
 
-        producer.send(sendMessageBackContext, new SendCallback() {
-            @Override
-            public void onSuccess(final SendResult sendResult) {
-            }
-
-            @Override
-            public void onException(final OnExceptionContext context) {
-                if (log.isWarnEnabled()) {
-                    log.warn("consumer:{} consume fail, sendMessageBack, bizSeqNo:{}, uniqueId:{}", consumerGroup,
-                            bizSeqNo, uniqueId);
-                }
-            }
-        });
+        producer.send(sendMessageBackContext, sendCallback);
+        return true;
     }
 }
@@ -47,9 +47,9 @@ public class StreamTopicConfig extends ConsumerGroupTopicConfig {
      * Key: IDC
      * Value: list of emitters
      */
-    private transient Map<String, List<EventEmitter<SimpleMessage>>> idcEmitters = new ConcurrentHashMap<>();
+    private transient volatile Map<String, List<EventEmitter<SimpleMessage>>> idcEmitters = new ConcurrentHashMap<>();
 
-    private transient List<EventEmitter<SimpleMessage>> totalEmitters = new ArrayList<>();
+    private transient volatile List<EventEmitter<SimpleMessage>> totalEmitters = new ArrayList<>();
 
     public StreamTopicConfig(final String consumerGroup, final String topic, final SubscriptionMode subscriptionMode) {
         super(consumerGroup, topic, subscriptionMode, GrpcType.STREAM);
@@ -75,7 +75,7 @@ public class StreamTopicConfig extends ConsumerGroupTopicConfig {
     }
 
     @Override
-    public void deregisterClient(final ConsumerGroupClient client) {
+    public synchronized void deregisterClient(final ConsumerGroupClient client) {
         final String idc = client.getIdc();
         final String clientIp = client.getIp();
         final String clientPid = client.getPid();
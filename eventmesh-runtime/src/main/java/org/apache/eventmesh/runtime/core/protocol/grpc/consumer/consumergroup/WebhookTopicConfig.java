@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,7 +42,7 @@ public class WebhookTopicConfig extends ConsumerGroupTopicConfig {
      */
     private final Map<String, List<String>> idcUrls = new ConcurrentHashMap<>();
 
-    private List<String> totalUrls = new LinkedList<>();
+    private volatile List<String> totalUrls = new LinkedList<>();
 
     public WebhookTopicConfig(String consumerGroup, String topic, SubscriptionMode subscriptionMode) {
         super(consumerGroup, topic, subscriptionMode, GrpcType.WEBHOOK);
@@ -56,7 +57,7 @@ public class WebhookTopicConfig extends ConsumerGroupTopicConfig {
         }
         String idc = client.getIdc();
         String url = client.getUrl();
-        List<String> urls = idcUrls.computeIfAbsent(idc, k -> new LinkedList<>());
+        List<String> urls = idcUrls.computeIfAbsent(idc, k -> new CopyOnWriteArrayList<>());
         if (!urls.contains(url)) {
             urls.add(url);
         }
@@ -64,7 +65,7 @@ public class WebhookTopicConfig extends ConsumerGroupTopicConfig {
     }
 
     @Override
-    public void deregisterClient(ConsumerGroupClient client) {
+    public synchronized void deregisterClient(ConsumerGroupClient client) {
         String idc = client.getIdc();
         String url = client.getUrl();
 
@@ -112,15 +112,15 @@ public class SubscribeProcessor {
             }
         }
 
-        // restart consumer group if required
+        // start or restart consumer group if required, topic changes of a running consumer are applied in place
         if (requireRestart) {
             if (log.isInfoEnabled()) {
                 log.info("ConsumerGroup {} topic info changed, restart EventMesh Consumer", consumerGroup);
             }
             consumerManager.restartEventMeshConsumer(consumerGroup);
         } else {
-            if (log.isWarnEnabled()) {
-                log.warn("EventMesh consumer [{}] didn't restart.", consumerGroup);
+            if (log.isDebugEnabled()) {
+                log.debug("EventMesh consumer [{}] topic changes applied in place", consumerGroup);
             }
         }
 
@@ -98,12 +98,12 @@ public class UnsubscribeProcessor {
             }
         }
 
-        // restart consumer group if required
+        // start or restart consumer group if required, topic changes of a running consumer are applied in place
         if (requireRestart) {
             logger.info("ConsumerGroup {} topic info changed, restart EventMesh Consumer", consumerGroup);
             consumerManager.restartEventMeshConsumer(consumerGroup);
         } else {
-            logger.warn("EventMesh consumer [{}] didn't restart.", consumerGroup);
+            logger.debug("EventMesh consumer [{}] topic changes applied in place", consumerGroup);
         }
 
         ServiceUtils.sendRespAndDone(StatusCode.SUCCESS, "unsubscribe success", emitter);
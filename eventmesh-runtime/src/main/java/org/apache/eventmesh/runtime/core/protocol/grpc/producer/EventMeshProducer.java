@@ -66,8 +66,7 @@ public class EventMeshProducer {
 
         //TODO for defibus
         keyValue.put(EventMeshConstants.EVENT_MESH_IDC, eventMeshGrpcConfiguration.getEventMeshIDC());
-        mqProducerWrapper = new MQProducerWrapper(
-                eventMeshGrpcConfiguration.getEventMeshConnectorPluginType());
+        mqProducerWrapper = new MQProducerWrapper(eventMeshGrpcConfiguration);
         mqProducerWrapper.init(keyValue);
         serviceState = ServiceState.INITED;
         logger.info("EventMeshProducer [{}] inited...........", producerGroupConfig.getGroupName());
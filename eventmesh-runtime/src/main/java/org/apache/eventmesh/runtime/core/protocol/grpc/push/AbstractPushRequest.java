@@ -18,6 +18,9 @@
 package org.apache.eventmesh.runtime.core.protocol.grpc.push;
 
 import org.apache.eventmesh.api.AbstractContext;
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.protocol.ProtocolTransportObject;
 import org.apache.eventmesh.common.protocol.grpc.common.SimpleMessageWrapper;
@@ -104,20 +107,53 @@ public abstract class AbstractPushRequest extends RetryContext {
 
     @Override
     public boolean retry() {
+        if (isComplete()) {
+            return true;
+        }
         tryPushRequest();
         return true;
     }
 
     protected void delayRetry() {
-        if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES) {
+        if (grpcRetryer.getPushRetryPolicy().canRetry(retryTimes)) {
             retryTimes++;
-            delay((long) retryTimes * EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS);
-            grpcRetryer.pushRetry(this);
+            delay(grpcRetryer.getPushRetryPolicy().backoff(retryTimes));
+            if (!grpcRetryer.pushRetry(this)) {
+                sendBackToBroker();
+            }
         } else {
             complete();
         }
     }
 
+    /**
+     * the retry is rejected, hand the msg off to the broker and ack it only after the broker accepted it, the request
+     * is rearmed and retried after the ttl if it can not be sent back
+     */
+    private void sendBackToBroker() {
+        lastPushTime = System.currentTimeMillis();
+        SendCallback sendCallback = new SendCallback() {
+            @Override
+            public void onSuccess(SendResult sendResult) {
+                complete();
+            }
+
+            @Override
+            public void onException(OnExceptionContext context) {
+                addToWaitingMap(AbstractPushRequest.this);
+            }
+        };
+        try {
+            if (eventMeshConsumer == null || !eventMeshConsumer.sendMessageBack(handleMsgContext.getConsumerGroup(),
+                    handleMsgContext.getEvent(), simpleMessage.getUniqueId(), simpleMessage.getSeqNum(), sendCallback)) {
+                addToWaitingMap(this);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error in sending msg back to broker", e);
+            addToWaitingMap(this);
+        }
+    }
+
     protected boolean isComplete() {
         return complete.get();
     }
@@ -136,12 +172,17 @@ public abstract class AbstractPushRequest extends RetryContext {
     }
 
     protected void complete() {
-        complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
-        finish();
+        if (complete.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+            finish();
+        }
+    }
+
+    protected boolean isTimeout() {
+        return simpleMessage != null && System.currentTimeMillis() - lastPushTime >= Long.parseLong(simpleMessage.getTtl());
     }
 
     protected void timeout() {
-        if (!isComplete() && System.currentTimeMillis() - lastPushTime >= Long.parseLong(simpleMessage.getTtl())) {
+        if (!isComplete() && isTimeout()) {
             delayRetry();
         }
     }
@@ -150,7 +191,7 @@ public abstract class AbstractPushRequest extends RetryContext {
         return handleMsgContext;
     }
 
-    protected void addToWaitingMap(WebhookPushRequest request) {
+    protected void addToWaitingMap(AbstractPushRequest request) {
         if (waitingRequests.containsKey(handleMsgContext.getConsumerGroup())) {
             waitingRequests.get(handleMsgContext.getConsumerGroup()).add(request);
             return;
@@ -159,7 +200,7 @@ public abstract class AbstractPushRequest extends RetryContext {
         waitingRequests.get(handleMsgContext.getConsumerGroup()).add(request);
     }
 
-    protected void removeWaitingMap(WebhookPushRequest request) {
+    protected void removeWaitingMap(AbstractPushRequest request) {
         if (waitingRequests.containsKey(handleMsgContext.getConsumerGroup())) {
             waitingRequests.get(handleMsgContext.getConsumerGroup()).remove(request);
         }
@@ -53,11 +53,19 @@ public class MessageHandler {
         SCHEDULER.scheduleAtFixedRate(this::checkTimeout, 0, 1000, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * @return the number of pushes of all the consumer groups waiting for the response of the clients
+     */
+    public static int waitingSize() {
+        return waitingRequests.values().stream().mapToInt(Set::size).sum();
+    }
+
     private void checkTimeout() {
         waitingRequests.forEach((key, value) -> {
             for (AbstractPushRequest request : value) {
-                request.timeout();
-                waitingRequests.get(request.getHandleMsgContext().getConsumerGroup()).remove(request);
+                if (request.isTimeout() && value.remove(request)) {
+                    request.timeout();
+                }
             }
         });
     }
@@ -19,13 +19,11 @@ package org.apache.eventmesh.runtime.core.protocol.grpc.retry;
 
 import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.retry.RetryPolicy;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,79 +36,57 @@ public class GrpcRetryer {
 
     private EventMeshGrpcConfiguration grpcConfiguration;
 
+    private final RetryPolicy pushRetryPolicy = new RetryPolicy(
+        EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS,
+        EventMeshConstants.DEFAULT_PUSH_RETRY_MAX_DELAY_IN_MILLSECONDS,
+        EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES);
+
     public GrpcRetryer(EventMeshGrpcServer eventMeshGrpcServer) {
         this.grpcConfiguration = eventMeshGrpcServer.getEventMeshGrpcConfiguration();
     }
 
-    private DelayQueue<DelayRetryable> failed = new DelayQueue<DelayRetryable>();
-
-    private ThreadPoolExecutor pool;
+    private RetryScheduler retryScheduler;
 
-    private Thread dispatcher;
-
-    public void pushRetry(DelayRetryable delayRetryable) {
-        if (failed.size() >= grpcConfiguration.eventMeshServerRetryBlockQueueSize) {
+    /**
+     * @return false if the retry is rejected because too many retries are pending
+     */
+    public boolean pushRetry(DelayRetryable delayRetryable) {
+        boolean scheduled = retryScheduler.schedule(() -> {
+            try {
+                delayRetryable.retry();
+                if (retryLogger.isDebugEnabled()) {
+                    retryLogger.debug("retryObj : {}", delayRetryable);
+                }
+            } catch (Exception e) {
+                retryLogger.error("grpc-retry error!", e);
+            }
+        }, delayRetryable.getDelay(TimeUnit.MILLISECONDS));
+        if (!scheduled) {
             retryLogger.error("[RETRY-QUEUE] is full!");
-            return;
         }
-        failed.offer(delayRetryable);
+        return scheduled;
     }
 
-    public void init() {
-        pool = new ThreadPoolExecutor(grpcConfiguration.eventMeshServerRetryThreadNum,
-            grpcConfiguration.eventMeshServerRetryThreadNum,
-            60000,
-            TimeUnit.MILLISECONDS,
-            new ArrayBlockingQueue<>(grpcConfiguration.eventMeshServerRetryBlockQueueSize),
-            new ThreadFactory() {
-                private AtomicInteger count = new AtomicInteger();
-
-                @Override
-                public Thread newThread(Runnable r) {
-                    Thread thread = new Thread(r, "grpc-retry-" + count.incrementAndGet());
-                    thread.setPriority(Thread.NORM_PRIORITY);
-                    thread.setDaemon(true);
-                    return thread;
-                }
-            }, new ThreadPoolExecutor.AbortPolicy());
+    public RetryPolicy getPushRetryPolicy() {
+        return pushRetryPolicy;
+    }
 
-        dispatcher = new Thread(() -> {
-            try {
-                DelayRetryable retryObj = null;
-                while (!Thread.currentThread().isInterrupted()
-                    && (retryObj = failed.take()) != null) {
-                    final DelayRetryable delayRetryable = retryObj;
-                    pool.execute(() -> {
-                        try {
-                            delayRetryable.retry();
-                            if (retryLogger.isDebugEnabled()) {
-                                retryLogger.debug("retryObj : {}", delayRetryable);
-                            }
-                        } catch (Exception e) {
-                            retryLogger.error("grpc-retry-dispatcher error!", e);
-                        }
-                    });
-                }
-            } catch (Exception e) {
-                retryLogger.error("grpc-retry-dispatcher error!", e);
-            }
-        }, "grpc-retry-dispatcher");
-        dispatcher.setDaemon(true);
+    public void init() {
+        retryScheduler = new RetryScheduler("grpc-retry", grpcConfiguration.eventMeshServerRetryThreadNum,
+            grpcConfiguration.eventMeshServerRetryBlockQueueSize);
         logger.info("GrpcRetryer inited......");
     }
 
     public int size() {
-        return failed.size();
+        return retryScheduler.size();
     }
 
     public void shutdown() {
-        dispatcher.interrupt();
-        pool.shutdown();
+        retryScheduler.flushAndShutdown();
         logger.info("GrpcRetryer shutdown......");
     }
 
     public void start() throws Exception {
-        dispatcher.start();
         logger.info("GrpcRetryer started......");
     }
 }
@@ -62,6 +62,12 @@ public class ConsumerGroupManager {
         }
     }
 
+    public synchronized void stopFetching() {
+        if (started.get()) {
+            eventMeshConsumer.stopFetching();
+        }
+    }
+
     public synchronized void shutdown() throws Exception {
         eventMeshConsumer.shutdown();
         started.compareAndSet(true, false);
@@ -83,6 +89,10 @@ public class ConsumerGroupManager {
         start();
     }
 
+    public int getPendingPushSize() {
+        return eventMeshConsumer.getPendingPushSize();
+    }
+
     public ConsumerGroupConf getConsumerGroupConfig() {
         return consumerGroupConfig;
     }
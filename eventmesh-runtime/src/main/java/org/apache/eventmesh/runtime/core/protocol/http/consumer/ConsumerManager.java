@@ -19,6 +19,7 @@ package org.apache.eventmesh.runtime.core.protocol.http.consumer;
 
 import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.core.consumer.SubscriptionManager;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupConf;
 import org.apache.eventmesh.runtime.core.consumergroup.ConsumerGroupTopicConf;
 import org.apache.eventmesh.runtime.core.consumergroup.event.ConsumerGroupStateEvent;
@@ -29,9 +30,9 @@ import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,7 +40,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,10 +57,10 @@ public class ConsumerManager {
     private ConcurrentHashMap<String, ConsumerGroupManager> consumerTable =
             new ConcurrentHashMap<>();
 
-    private static final int DEFAULT_UPDATE_TIME = 3 * 30 * 1000;
-
     public Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private final AtomicBoolean fetching = new AtomicBoolean(Boolean.TRUE);
+
     private ScheduledExecutorService scheduledExecutorService =
             Executors.newSingleThreadScheduledExecutor();
 
@@ -75,102 +76,11 @@ public class ConsumerManager {
     public void start() throws Exception {
         logger.info("consumerManager started......");
 
-        //        scheduledExecutorService.scheduleAtFixedRate(() -> {
-        //            logger.info("clientInfo check start.....");
-        //            synchronized (eventMeshHTTPServer.localClientInfoMapping) {
-        //                Map<String, List<Client>> clientInfoMap =
-        //                    eventMeshHTTPServer.localClientInfoMapping;
-        //                if (clientInfoMap.size() > 0) {
-        //                    for (String key : clientInfoMap.keySet()) {
-        //                        String consumerGroup = key.split("@")[0];
-        //                        String topic = key.split("@")[1];
-        //                        List<Client> clientList = clientInfoMap.get(key);
-        //                        Iterator<Client> clientIterator = clientList.iterator();
-        //                        boolean isChange = false;
-        //                        while (clientIterator.hasNext()) {
-        //                            Client client = clientIterator.next();
-        //                            //The time difference is greater than 3 heartbeat cycles
-        //                            if (System.currentTimeMillis() - client.lastUpTime.getTime()
-        //                                > DEFAULT_UPDATE_TIME) {
-        //                                logger.warn(
-        //                                    "client {} lastUpdate time {} over three heartbeat cycles",
-        //                                    JsonUtils.serialize(client), client.lastUpTime);
-        //                                clientIterator.remove();
-        //                                isChange = true;
-        //                            }
-        //                        }
-        //                        if (isChange) {
-        //                            if (clientList.size() > 0) {
-        //                                //change url
-        //                                logger.info("consumerGroup {} client info changing",
-        //                                    consumerGroup);
-        //                                Map<String, List<String>> idcUrls = new HashMap<>();
-        //                                Set<String> clientUrls = new HashSet<>();
-        //                                for (Client client : clientList) {
-        //                                    clientUrls.add(client.url);
-        //                                    if (idcUrls.containsKey(client.idc)) {
-        //                                        idcUrls.get(client.idc)
-        //                                            .add(StringUtils.deleteWhitespace(client.url));
-        //                                    } else {
-        //                                        List<String> urls = new ArrayList<>();
-        //                                        urls.add(client.url);
-        //                                        idcUrls.put(client.idc, urls);
-        //                                    }
-        //                                }
-        //                                synchronized (eventMeshHTTPServer.localConsumerGroupMapping) {
-        //                                    ConsumerGroupConf consumerGroupConf =
-        //                                        eventMeshHTTPServer.localConsumerGroupMapping
-        //                                            .get(consumerGroup);
-        //                                    Map<String, ConsumerGroupTopicConf> map =
-        //                                        consumerGroupConf.getConsumerGroupTopicConf();
-        //                                    for (String topicKey : map.keySet()) {
-        //                                        if (StringUtils.equals(topic, topicKey)) {
-        //                                            ConsumerGroupTopicConf latestTopicConf =
-        //                                                new ConsumerGroupTopicConf();
-        //                                            latestTopicConf.setConsumerGroup(consumerGroup);
-        //                                            latestTopicConf.setTopic(topic);
-        //                                            latestTopicConf.setSubscriptionItem(
-        //                                                map.get(topicKey).getSubscriptionItem());
-        //                                            latestTopicConf.setUrls(clientUrls);
-        //
-        //                                            latestTopicConf.setIdcUrls(idcUrls);
-        //
-        //                                            map.put(topic, latestTopicConf);
-        //                                        }
-        //                                    }
-        //                                    eventMeshHTTPServer.localConsumerGroupMapping
-        //                                        .put(consumerGroup, consumerGroupConf);
-        //                                    logger.info(
-        //                                        "consumerGroup {} client info changed, "
-        //                                            + "consumerGroupConf {}", consumerGroup,
-        //                                        JsonUtils.serialize(consumerGroupConf));
-        //
-        //                                    try {
-        //                                        notifyConsumerManager(consumerGroup, consumerGroupConf);
-        //                                    } catch (Exception e) {
-        //                                        logger.error("notifyConsumerManager error", e);
-        //                                    }
-        //                                }
-        //
-        //                            } else {
-        //                                logger.info("consumerGroup {} client info removed",
-        //                                    consumerGroup);
-        //                                //remove
-        //                                try {
-        //                                    notifyConsumerManager(consumerGroup, null);
-        //                                } catch (Exception e) {
-        //                                    logger.error("notifyConsumerManager error", e);
-        //                                }
-        //
-        //                                eventMeshHTTPServer.localConsumerGroupMapping.keySet()
-        //                                    .removeIf(s -> StringUtils.equals(consumerGroup, s));
-        //                            }
-        //                        }
-        //
-        //                    }
-        //                }
-        //            }
-        //        }, 10000, 10000, TimeUnit.MILLISECONDS);
+        final int clientExpiredInMills = eventMeshHTTPServer.getEventMeshHttpConfiguration().eventMeshHttpClientExpiredInMills;
+        if (clientExpiredInMills > 0) {
+            eventMeshHTTPServer.getSubscriptionManager().startClientExpiry(clientExpiredInMills,
+                client -> scheduledExecutorService.execute(() -> expireClient(client)));
+        }
         //TODO: update the subscription periodically from registry
     }
 
@@ -209,8 +119,25 @@ public class ConsumerManager {
         }
     }
 
-    public void shutdown() {
+    /**
+     * Stop fetching msgs from MQ and stop reacting to the subscription changes, the msgs already fetched can still
+     * be acked until {@link #shutdown()}.
+     */
+    public void stopFetching() {
+        if (!fetching.compareAndSet(true, false)) {
+            return;
+        }
+        eventMeshHTTPServer.getSubscriptionManager().shutdownClientExpiry();
+        scheduledExecutorService.shutdown();
         eventMeshHTTPServer.getEventBus().unregister(this);
+        for (ConsumerGroupManager consumerGroupManager : consumerTable.values()) {
+            consumerGroupManager.stopFetching();
+        }
+        logger.info("consumerManager stopped fetching......");
+    }
+
+    public void shutdown() {
+        stopFetching();
         for (ConsumerGroupManager consumerGroupManager : consumerTable.values()) {
             try {
                 consumerGroupManager.shutdown();
@@ -221,6 +148,72 @@ public class ConsumerManager {
         logger.info("consumerManager shutdown......");
     }
 
+    /**
+     * @return the number of msgs of all the consumer groups being pushed to the clients or waiting to be pushed
+     */
+    public int getPendingPushSize() {
+        return consumerTable.values().stream().mapToInt(ConsumerGroupManager::getPendingPushSize).sum();
+    }
+
+    /**
+     * remove the url of the expired client from the subscription of its topic
+     */
+    private void expireClient(Client client) {
+        SubscriptionManager subscriptionManager = eventMeshHTTPServer.getSubscriptionManager();
+        String consumerGroup = client.getConsumerGroup();
+        String topic = client.getTopic();
+        ConsumerGroupConf consumerGroupConf;
+        synchronized (subscriptionManager.getLocalClientInfoMapping()) {
+            if (!subscriptionManager.removeExpiredClient(client)) {
+                return;
+            }
+            logger.warn("client {} lastUpdate time {} over three heartbeat cycles, removed",
+                    JsonUtils.serialize(client), client.getLastUpTime());
+
+            List<Client> clientList = subscriptionManager.getLocalClientInfoMapping()
+                    .getOrDefault(consumerGroup + "@" + topic, Collections.emptyList());
+            synchronized (subscriptionManager.getLocalConsumerGroupMapping()) {
+                consumerGroupConf = subscriptionManager.getLocalConsumerGroupMapping().get(consumerGroup);
+                if (consumerGroupConf == null) {
+                    return;
+                }
+                Map<String, ConsumerGroupTopicConf> topicConfMap = consumerGroupConf.getConsumerGroupTopicConf();
+                ConsumerGroupTopicConf topicConf = topicConfMap.get(topic);
+                if (topicConf == null) {
+                    return;
+                }
+                if (clientList.isEmpty()) {
+                    topicConfMap.remove(topic);
+                } else {
+                    Map<String, List<String>> idcUrls = new HashMap<>();
+                    Set<String> clientUrls = new HashSet<>();
+                    for (Client remainingClient : clientList) {
+                        clientUrls.add(remainingClient.getUrl());
+                        idcUrls.computeIfAbsent(remainingClient.getIdc(), idc -> new ArrayList<>())
+                                .add(StringUtils.deleteWhitespace(remainingClient.getUrl()));
+                    }
+                    ConsumerGroupTopicConf latestTopicConf = new ConsumerGroupTopicConf();
+                    latestTopicConf.setConsumerGroup(consumerGroup);
+                    latestTopicConf.setTopic(topic);
+                    latestTopicConf.setSubscriptionItem(topicConf.getSubscriptionItem());
+                    latestTopicConf.setUrls(clientUrls);
+                    latestTopicConf.setIdcUrls(idcUrls);
+                    topicConfMap.put(topic, latestTopicConf);
+                }
+                if (topicConfMap.isEmpty()) {
+                    subscriptionManager.getLocalConsumerGroupMapping().remove(consumerGroup);
+                    consumerGroupConf = null;
+                }
+            }
+        }
+
+        try {
+            notifyConsumerManager(consumerGroup, consumerGroupConf);
+        } catch (Exception e) {
+            logger.error("notifyConsumerManager error", e);
+        }
+    }
+
     public boolean contains(String consumerGroup) {
         return consumerTable.containsKey(consumerGroup);
     }
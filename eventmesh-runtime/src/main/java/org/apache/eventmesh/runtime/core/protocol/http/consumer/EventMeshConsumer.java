@@ -43,11 +43,14 @@ import org.apache.eventmesh.runtime.core.protocol.http.push.HTTPMessageHandler;
 import org.apache.eventmesh.runtime.core.protocol.http.push.MessageHandler;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
+import org.apache.eventmesh.runtime.util.MessageLogSampler;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
 import org.apache.commons.collections4.MapUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -56,7 +59,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.opentelemetry.api.trace.Span;
 
 public class EventMeshConsumer {
@@ -103,25 +105,23 @@ public class EventMeshConsumer {
         persistentMqConsumer.init(keyValue);
 
         EventListener clusterEventListener = (event, context) -> {
-            String protocolVersion =
-                    Objects.requireNonNull(event.getSpecVersion()).toString();
+            event = TraceUtils.sample(EventMeshConstants.PROTOCOL_HTTP, event);
 
             Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+                    event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
             try {
                 String topic = event.getSubject();
                 String bizSeqNo = Objects.requireNonNull(event.getExtension(ProtocolKey.ClientInstanceKey.BIZSEQNO)).toString();
                 String uniqueId = Objects.requireNonNull(event.getExtension(ProtocolKey.ClientInstanceKey.UNIQUEID)).toString();
 
-                event = CloudEventBuilder.from(event)
+                event = ExtensionOverlayCloudEvent.from(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp())
-                        .build();
+                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp());
                 if (messageLogger.isDebugEnabled()) {
                     messageLogger.debug("message|mq2eventMesh|topic={}|event={}", topic, event);
-                } else {
+                } else if (MessageLogSampler.isInfoEnabled(messageLogger, topic)) {
                     messageLogger.info("message|mq2eventMesh|topic={}|bizSeqNo={}|uniqueId={}", topic, bizSeqNo, uniqueId);
                 }
 
@@ -177,20 +177,18 @@ public class EventMeshConsumer {
 
         EventListener broadcastEventListener = (event, context) -> {
 
-            String protocolVersion =
-                    Objects.requireNonNull(event.getSpecVersion()).toString();
+            event = TraceUtils.sample(EventMeshConstants.PROTOCOL_HTTP, event);
 
             Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+                    event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
             try {
 
-                event = CloudEventBuilder.from(event)
+                event = ExtensionOverlayCloudEvent.from(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp())
-                        .build();
+                                eventMeshHTTPServer.getEventMeshHttpConfiguration().getEventMeshServerIp());
 
                 String topic = event.getSubject();
                 String bizSeqNo = getEventExtension(event, ProtocolKey.ClientInstanceKey.BIZSEQNO, "");
@@ -198,7 +196,7 @@ public class EventMeshConsumer {
 
                 if (messageLogger.isDebugEnabled()) {
                     messageLogger.debug("message|mq2eventMesh|topic={}|msg={}", topic, event);
-                } else {
+                } else if (MessageLogSampler.isInfoEnabled(messageLogger, topic)) {
                     messageLogger.info("message|mq2eventMesh|topic={}|bizSeqNo={}|uniqueId={}",
                             topic, bizSeqNo,
                             uniqueId);
@@ -281,6 +279,21 @@ public class EventMeshConsumer {
         }
     }
 
+    /**
+     * Unsubscribe all the topics so that no more msgs are fetched, the consumers stay open to update the offsets
+     * of the msgs still being pushed and to send them back.
+     */
+    public synchronized void stopFetching() {
+        for (Map.Entry<String, ConsumerGroupTopicConf> conf : consumerGroupConf.getConsumerGroupTopicConf().entrySet()) {
+            try {
+                unsubscribe(conf.getKey(), conf.getValue().getSubscriptionItem().getMode());
+            } catch (Exception e) {
+                logger.warn("stop fetching topic {} of consumerGroup {} failed", conf.getKey(),
+                        consumerGroupConf.getConsumerGroup(), e);
+            }
+        }
+    }
+
     public synchronized void shutdown() throws Exception {
         persistentMqConsumer.shutdown();
         started4Persistent.compareAndSet(true, false);
@@ -288,6 +301,13 @@ public class EventMeshConsumer {
         started4Broadcast.compareAndSet(true, false);
     }
 
+    /**
+     * @return the number of msgs being pushed to the clients or waiting to be pushed
+     */
+    public int getPendingPushSize() {
+        return httpMessageHandler.pendingSize();
+    }
+
     public void updateOffset(String topic, SubscriptionMode subscriptionMode, List<CloudEvent> events,
                              AbstractContext context) {
         if (SubscriptionMode.BROADCASTING.equals(subscriptionMode)) {
@@ -310,6 +330,24 @@ public class EventMeshConsumer {
     }
 
     public void sendMessageBack(final CloudEvent event, final String uniqueId, String bizSeqNo) throws Exception {
+        sendMessageBack(event, uniqueId, bizSeqNo, new SendCallback() {
+            @Override
+            public void onSuccess(SendResult sendResult) {
+            }
+
+            @Override
+            public void onException(OnExceptionContext context) {
+                logger.warn("consumer:{} consume fail, sendMessageBack, bizSeqno:{}, uniqueId:{}",
+                        consumerGroupConf.getConsumerGroup(), bizSeqNo, uniqueId);
+            }
+        });
+    }
+
+    /**
+     * @return false if the group has no producer to send the msg back, the callback is not invoked then
+     */
+    public boolean sendMessageBack(final CloudEvent event, final String uniqueId, String bizSeqNo,
+                                   SendCallback sendCallback) throws Exception {
 
         EventMeshProducer sendMessageBack
                 = eventMeshHTTPServer.getProducerManager().getEventMeshProducer(consumerGroupConf.getConsumerGroup());
@@ -317,22 +355,13 @@ public class EventMeshConsumer {
         if (sendMessageBack == null) {
             logger.warn("consumer:{} consume fail, sendMessageBack, bizSeqNo:{}, uniqueId:{}",
                     consumerGroupConf.getConsumerGroup(), bizSeqNo, uniqueId);
-            return;
+            return false;
         }
 
         final SendMessageContext sendMessageBackContext = new SendMessageContext(bizSeqNo, event, sendMessageBack,
                 eventMeshHTTPServer);
 
-        sendMessageBack.send(sendMessageBackContext, new SendCallback() {
-            @Override
-            public void onSuccess(SendResult sendResult) {
-            }
-
-            @Override
-            public void onException(OnExceptionContext context) {
-                logger.warn("consumer:{} consume fail, sendMessageBack, bizSeqno:{}, uniqueId:{}",
-                        consumerGroupConf.getConsumerGroup(), bizSeqNo, uniqueId);
-            }
-        });
+        sendMessageBack.send(sendMessageBackContext, sendCallback);
+        return true;
     }
 }
@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +73,8 @@ public class HandleMsgContext {
 
     private Map<String, String> props;
 
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+
     public HandleMsgContext(final String msgRandomNo,
                             final String consumerGroup,
                             final EventMeshConsumer eventMeshConsumer,
@@ -204,7 +207,13 @@ public class HandleMsgContext {
         return eventMeshHTTPServer;
     }
 
+    /**
+     * ack the msg, only the first call takes effect
+     */
     public void finish() {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
         if (Objects.nonNull(eventMeshConsumer) && Objects.nonNull(context) && Objects.nonNull(event)) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("messageAcked|topic={}|event={}", topic, event);
@@ -41,6 +41,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequestProcessor;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -59,7 +60,6 @@ import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelHandlerContext;
 
 public class BatchSendMessageProcessor implements HttpRequestProcessor {
@@ -249,10 +249,9 @@ public class BatchSendMessageProcessor implements HttpRequestProcessor {
                 String ttl = Objects.requireNonNull(cloudEvent.getExtension(SendMessageRequestBody.TTL)).toString();
 
                 if (StringUtils.isBlank(ttl) || !StringUtils.isNumeric(ttl)) {
-                    cloudEvent = CloudEventBuilder.from(cloudEvent)
+                    cloudEvent = ExtensionOverlayCloudEvent.from(cloudEvent)
                             .withExtension(SendMessageRequestBody.TTL, String.valueOf(EventMeshConstants.DEFAULT_MSG_TTL_MILLS))
-                            .withExtension("msgtype", "persistent")
-                            .build();
+                            .withExtension("msgtype", "persistent");
                 }
 
                 if (topicBatchMessageMappings.containsKey(cloudEvent.getSubject())) {
@@ -41,6 +41,7 @@ import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequest
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.lang3.StringUtils;
@@ -53,7 +54,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelHandlerContext;
 
 public class BatchSendMessageV2Processor implements HttpRequestProcessor {
@@ -224,18 +224,16 @@ public class BatchSendMessageV2Processor implements HttpRequestProcessor {
         // todo: use hashmap to avoid copy
         String ttlValue = getExtension(event, SendMessageRequestBody.TTL);
         if (StringUtils.isBlank(ttlValue) && !StringUtils.isNumeric(ttlValue)) {
-            event = CloudEventBuilder.from(event).withExtension(SendMessageRequestBody.TTL, defaultTTL)
-                .build();
+            event = ExtensionOverlayCloudEvent.from(event).withExtension(SendMessageRequestBody.TTL, defaultTTL);
         }
 
         try {
-            event = CloudEventBuilder.from(event)
+            event = ExtensionOverlayCloudEvent.from(event)
                 .withExtension("msgtype", "persistent")
                 .withExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP,
                     String.valueOf(System.currentTimeMillis()))
                 .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP,
-                    String.valueOf(System.currentTimeMillis()))
-                .build();
+                    String.valueOf(System.currentTimeMillis()));
             if (batchMessageLogger.isDebugEnabled()) {
                 batchMessageLogger.debug("msg2MQMsg suc, topic:{}, msg:{}", topic, event.getData());
             }
@@ -43,9 +43,6 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 import io.netty.channel.ChannelHandlerContext;
 
@@ -105,7 +102,7 @@ public class HeartBeatProcessor implements HttpRequestProcessor {
             asyncContext.onComplete(responseEventMeshCommand);
             return;
         }
-        final ConcurrentHashMap<String, List<Client>> tmpMap = new ConcurrentHashMap<>();
+        final List<Client> clients = new ArrayList<>();
         final List<HeartbeatRequestBody.HeartbeatEntity> heartbeatEntities = heartbeatRequestBody.getHeartbeatEntities();
 
         for (final HeartbeatRequestBody.HeartbeatEntity heartbeatEntity : heartbeatEntities) {
@@ -151,32 +148,11 @@ public class HeartBeatProcessor implements HttpRequestProcessor {
                 continue;
             }
 
-            final String groupTopicKey = client.getConsumerGroup() + "@" + client.getTopic();
-            List<Client> clients = tmpMap.get(groupTopicKey);
-            if (clients == null) {
-                clients = new ArrayList<>();
-                tmpMap.put(groupTopicKey, clients);
-            }
-
             clients.add(client);
-
         }
 
-        synchronized (eventMeshHTTPServer.getSubscriptionManager().getLocalClientInfoMapping()) {
-            for (final Map.Entry<String, List<Client>> groupTopicClientMapping : tmpMap.entrySet()) {
-                final List<Client> localClientList =
-                        eventMeshHTTPServer.getSubscriptionManager().getLocalClientInfoMapping().get(groupTopicClientMapping.getKey());
-                if (CollectionUtils.isEmpty(localClientList)) {
-                    eventMeshHTTPServer.getSubscriptionManager().getLocalClientInfoMapping()
-                            .put(groupTopicClientMapping.getKey(), groupTopicClientMapping.getValue());
-                } else {
-                    final List<Client> tmpClientList = groupTopicClientMapping.getValue();
-                    supplyClientInfoList(tmpClientList, localClientList);
-                    eventMeshHTTPServer.getSubscriptionManager().getLocalClientInfoMapping().put(groupTopicClientMapping.getKey(), localClientList);
-                }
-
-            }
-        }
+        // a known client is only touched, without any lock
+        clients.forEach(eventMeshHTTPServer.getSubscriptionManager()::heartbeat);
 
         final long startTime = System.currentTimeMillis();
         try {
@@ -215,25 +191,6 @@ public class HeartBeatProcessor implements HttpRequestProcessor {
 
     }
 
-    private void supplyClientInfoList(final List<Client> tmpClientList, final List<Client> localClientList) {
-        Objects.requireNonNull(tmpClientList, "tmpClientList can not be null");
-        Objects.requireNonNull(localClientList, "localClientList can not be null");
-
-        for (final Client tmpClient : tmpClientList) {
-            boolean isContains = false;
-            for (final Client localClient : localClientList) {
-                if (StringUtils.equals(localClient.getUrl(), tmpClient.getUrl())) {
-                    isContains = true;
-                    localClient.setLastUpTime(tmpClient.getLastUpTime());
-                    break;
-                }
-            }
-            if (!isContains) {
-                localClientList.add(tmpClient);
-            }
-        }
-    }
-
     @Override
     public boolean rejectRequest() {
         return false;
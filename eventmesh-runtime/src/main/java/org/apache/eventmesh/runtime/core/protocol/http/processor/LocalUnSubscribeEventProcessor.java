@@ -144,6 +144,7 @@ public class LocalUnSubscribeEventProcessor extends AbstractEventProcessor {
                             log.warn("client {} start unsubscribe", JsonUtils.serialize(client));
                         }
                         clientIterator.remove();
+                        eventMeshHTTPServer.getSubscriptionManager().removeClient(client);
                     }
                 }
 
@@ -221,8 +222,7 @@ public class LocalUnSubscribeEventProcessor extends AbstractEventProcessor {
 
                     handlerSpecific.sendResponse(responseHeaderMap, responseBodyMap);
                     // clean ClientInfo
-                    eventMeshHTTPServer.getSubscriptionManager().getLocalClientInfoMapping().keySet()
-                            .removeIf(s -> StringUtils.contains(s, consumerGroup));
+                    eventMeshHTTPServer.getSubscriptionManager().removeConsumerGroupClients(consumerGroup);
                     // clean ConsumerGroupInfo
                     eventMeshHTTPServer.getSubscriptionManager().getLocalConsumerGroupMapping().keySet()
                             .removeIf(s -> StringUtils.equals(consumerGroup, s));
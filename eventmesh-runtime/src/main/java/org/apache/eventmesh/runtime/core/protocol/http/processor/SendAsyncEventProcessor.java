@@ -37,7 +37,10 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.async.AsyncContext;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
+import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
+import org.apache.eventmesh.runtime.util.MessageLogSampler;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
@@ -51,7 +54,6 @@ import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpRequest;
 
@@ -124,6 +126,7 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
                 ProtocolPluginFactory.getProtocolAdaptor(protocolType);
 
         CloudEvent event = httpProtocolAdaptor.toCloudEvent(requestWrapper);
+        event = TraceUtils.sample(event, handlerSpecific.getTraceOperation().isSampled());
 
         //validate event
         if (event == null
@@ -209,11 +212,10 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
         }
 
         try {
-            event = CloudEventBuilder.from(event)
+            event = ExtensionOverlayCloudEvent.from(event)
                     .withExtension(EventMeshConstants.MSG_TYPE, EventMeshConstants.PERSISTENT)
                     .withExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
-                    .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
-                    .build();
+                    .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()));
 
             if (log.isDebugEnabled()) {
                 log.debug("msg2MQMsg suc, bizSeqNo={}, topic={}", bizNo, topic);
@@ -234,10 +236,9 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
         final long startTime = System.currentTimeMillis();
 
         try {
-            event = CloudEventBuilder.from(sendMessageContext.getEvent())
-                    .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
-                    .build();
-            handlerSpecific.getTraceOperation().createClientTraceOperation(EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), event),
+            event = ExtensionOverlayCloudEvent.from(sendMessageContext.getEvent())
+                    .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()));
+            handlerSpecific.getTraceOperation().createClientTraceOperation(event,
                     EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
             eventMeshProducer.send(sendMessageContext, new SendCallback() {
@@ -247,7 +248,7 @@ public class SendAsyncEventProcessor implements AsyncHttpProcessor {
                     responseBodyMap.put(EventMeshConstants.RET_CODE, EventMeshRetCode.SUCCESS.getRetCode());
                     responseBodyMap.put(EventMeshConstants.RET_MSG, EventMeshRetCode.SUCCESS.getErrMsg() + sendResult.toString());
 
-                    if (log.isInfoEnabled()) {
+                    if (MessageLogSampler.isInfoEnabled(log, topic)) {
                         log.info("message|eventMesh2mq|REQ|ASYNC|send2MQCost={}ms|topic={}|bizSeqNo={}|uniqueId={}",
                                 System.currentTimeMillis() - startTime, topic, bizNo, uniqueId);
                     }
@@ -40,6 +40,8 @@ import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.HttpRequest
 import org.apache.eventmesh.runtime.core.protocol.http.producer.EventMeshProducer;
 import org.apache.eventmesh.runtime.core.protocol.http.producer.SendMessageContext;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
+import org.apache.eventmesh.runtime.util.MessageLogSampler;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.lang3.StringUtils;
@@ -49,7 +51,6 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelHandlerContext;
 
 import lombok.extern.slf4j.Slf4j;
@@ -222,11 +223,10 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
 
         CloudEvent newEevent;
         try {
-            newEevent = CloudEventBuilder.from(event)
+            newEevent = ExtensionOverlayCloudEvent.from(event)
                     .withExtension(EventMeshConstants.MSG_TYPE, EventMeshConstants.PERSISTENT)
                     .withExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
-                    .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
-                    .build();
+                    .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP, String.valueOf(System.currentTimeMillis()));
 
             if (log.isDebugEnabled()) {
                 log.debug("msg2MQMsg suc, bizSeqNo={}, topic={}", bizNo, topic);
@@ -275,19 +275,18 @@ public class SendSyncMessageProcessor implements HttpRequestProcessor {
             eventMeshProducer.request(sendMessageContext, new RequestReplyCallback() {
                 @Override
                 public void onSuccess(final CloudEvent event) {
-                    if (log.isInfoEnabled()) {
+                    if (MessageLogSampler.isInfoEnabled(log, topic)) {
                         log.info("message|mq2eventMesh|RSP|SYNC|rrCost={}ms|topic={}"
                                         + "|bizSeqNo={}|uniqueId={}", System.currentTimeMillis() - startTime,
                                 topic, bizNo, uniqueId);
                     }
 
                     try {
-                        final CloudEvent newEvent = CloudEventBuilder.from(event)
+                        final CloudEvent newEvent = ExtensionOverlayCloudEvent.from(event)
                                 .withExtension(EventMeshConstants.RSP_EVENTMESH2C_TIMESTAMP,
                                         String.valueOf(System.currentTimeMillis()))
                                 .withExtension(EventMeshConstants.RSP_MQ2EVENTMESH_TIMESTAMP,
-                                        String.valueOf(System.currentTimeMillis()))
-                                .build();
+                                        String.valueOf(System.currentTimeMillis()));
 
                         final String rtnMsg = new String(Objects.requireNonNull(newEvent.getData()).toBytes(),
                                 StandardCharsets.UTF_8);
@@ -154,6 +154,7 @@ public class UnSubscribeProcessor implements HttpRequestProcessor {
                             LOGGER.warn("client {} start unsubscribe", JsonUtils.serialize(client));
                         }
                         clientIterator.remove();
+                        eventMeshHTTPServer.getSubscriptionManager().removeClient(client);
                     }
                 }
                 if (CollectionUtils.isNotEmpty(groupTopicClients)) {
@@ -239,8 +240,7 @@ public class UnSubscribeProcessor implements HttpRequestProcessor {
                             asyncContext.getRequest().createHttpCommandResponse(EventMeshRetCode.SUCCESS);
                     asyncContext.onComplete(responseEventMeshCommand, handler);
                     // clean ClientInfo
-                    eventMeshHTTPServer.getSubscriptionManager().getLocalClientInfoMapping().keySet()
-                            .removeIf(s -> StringUtils.contains(s, consumerGroup));
+                    eventMeshHTTPServer.getSubscriptionManager().removeConsumerGroupClients(consumerGroup);
                     // clean ConsumerGroupInfo
                     eventMeshHTTPServer.getSubscriptionManager().getLocalConsumerGroupMapping().keySet()
                             .removeIf(s -> StringUtils.equals(consumerGroup, s));
@@ -41,7 +41,7 @@ public class Client {
 
     private String hostname;
 
-    private Date lastUpTime;
+    private volatile Date lastUpTime;
 
     public void setEnv(String env) {
         this.env = env;
@@ -17,12 +17,17 @@
 
 package org.apache.eventmesh.runtime.core.protocol.http.push;
 
+import org.apache.eventmesh.api.SendCallback;
+import org.apache.eventmesh.api.SendResult;
+import org.apache.eventmesh.api.exception.OnExceptionContext;
+import org.apache.eventmesh.common.utils.ConsistentHashUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshHTTPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.HttpRetryer;
 import org.apache.eventmesh.runtime.core.protocol.http.retry.RetryContext;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -32,6 +37,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import com.google.common.collect.Lists;
 
@@ -57,6 +63,15 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
 
     public HandleMsgContext handleMsgContext;
 
+    /**
+     * ordering key of the msg, msgs with the same key are always pushed to the same url
+     */
+    public String orderingKey;
+
+    private Runnable completeCallback;
+
+    private volatile boolean sentBack;
+
     private AtomicBoolean complete = new AtomicBoolean(Boolean.FALSE);
 
     public AbstractHTTPPushRequest(HandleMsgContext handleMsgContext) {
@@ -68,36 +83,76 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         this.retryer = handleMsgContext.getEventMeshHTTPServer().getHttpRetryer();
         this.ttl = handleMsgContext.getTtl();
         this.startIdx = RandomUtils.nextInt(0, totalUrls.size());
+        this.orderingKey = EventMeshUtil.getOrderingKey(handleMsgContext.getSubscriptionItem(), handleMsgContext.getEvent());
     }
 
     public void tryHTTPRequest() {
     }
 
     public void delayRetry(long delayTime) {
-        if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES && delayTime > 0) {
+        if (retryer.getPushRetryPolicy().canRetry(retryTimes) && delayTime > 0) {
             retryTimes++;
             delay(delayTime);
-            retryer.pushRetry(this);
+            if (!retryer.pushRetry(this)) {
+                sendBackToBroker();
+            }
         } else {
-            complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
+            complete();
         }
     }
 
     public void delayRetry() {
-        if (retryTimes < EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES) {
+        if (retryer.getPushRetryPolicy().canRetry(retryTimes)) {
             retryTimes++;
-            delay(retryTimes * EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS);
-            retryer.pushRetry(this);
+            delay(retryer.getPushRetryPolicy().backoff(retryTimes));
+            if (!retryer.pushRetry(this)) {
+                sendBackToBroker();
+            }
         } else {
-            complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
+            complete();
         }
     }
 
+    /**
+     * the retry is rejected, hand the msg off to the broker and ack it only after the broker accepted it, the request
+     * is rearmed and retried after the ttl if it can not be sent back
+     */
+    void sendBackToBroker() {
+        lastPushTime = System.currentTimeMillis();
+        SendCallback sendCallback = new SendCallback() {
+            @Override
+            public void onSuccess(SendResult sendResult) {
+                sentBack = true;
+                complete();
+                handleMsgContext.finish();
+            }
+
+            @Override
+            public void onException(OnExceptionContext context) {
+                rearm();
+            }
+        };
+        try {
+            if (!handleMsgContext.getEventMeshConsumer().sendMessageBack(handleMsgContext.getEvent(),
+                    handleMsgContext.getUniqueId(), handleMsgContext.getBizSeqNo(), sendCallback)) {
+                rearm();
+            }
+        } catch (Exception e) {
+            rearm();
+        }
+    }
+
+    /**
+     * keep the request waiting, so it is retried when it times out
+     */
+    protected void rearm() {
+    }
+
     public String getUrl() {
         List<String> localIDCUrl = MapUtils.getObject(urls,
                 eventMeshHttpConfiguration.getEventMeshIDC(), null);
         if (CollectionUtils.isNotEmpty(localIDCUrl)) {
-            return localIDCUrl.get((startIdx + retryTimes) % localIDCUrl.size());
+            return selectUrl(localIDCUrl);
         }
 
         List<String> otherIDCUrl = new ArrayList<String>();
@@ -106,22 +161,50 @@ public abstract class AbstractHTTPPushRequest extends RetryContext {
         }
 
         if (CollectionUtils.isNotEmpty(otherIDCUrl)) {
-            return otherIDCUrl.get((startIdx + retryTimes) % otherIDCUrl.size());
+            return selectUrl(otherIDCUrl);
         }
 
         return null;
     }
 
+    private String selectUrl(List<String> candidateUrls) {
+        if (orderingKey != null) {
+            // retry on the same url, otherwise msgs with the same key may be consumed out of order
+            return ConsistentHashUtils.select(orderingKey, candidateUrls, Function.identity());
+        }
+        return candidateUrls.get((startIdx + retryTimes) % candidateUrls.size());
+    }
+
+    /**
+     * @return true if the request is completed by sending the msg back to the broker instead of pushing it
+     */
+    public boolean isSentBack() {
+        return sentBack;
+    }
+
     public boolean isComplete() {
         return complete.get();
     }
 
     public void complete() {
-        complete.compareAndSet(Boolean.FALSE, Boolean.TRUE);
+        if (complete.compareAndSet(Boolean.FALSE, Boolean.TRUE) && completeCallback != null) {
+            completeCallback.run();
+        }
+    }
+
+    /**
+     * the callback runs once when the request is completed, whether the push succeeds or not
+     */
+    public void setCompleteCallback(Runnable completeCallback) {
+        this.completeCallback = completeCallback;
+    }
+
+    public boolean isTimeout() {
+        return System.currentTimeMillis() - lastPushTime >= ttl;
     }
 
     public void timeout() {
-        if (!isComplete() && System.currentTimeMillis() - lastPushTime >= ttl) {
+        if (!isComplete() && isTimeout()) {
             delayRetry();
         }
     }
@@ -36,6 +36,8 @@ import org.apache.eventmesh.protocol.api.ProtocolPluginFactory;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
+import org.apache.eventmesh.runtime.util.MessageLogSampler;
 import org.apache.eventmesh.runtime.util.WebhookUtil;
 
 import org.apache.commons.lang3.StringUtils;
@@ -66,7 +68,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.Sets;
@@ -94,6 +95,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         currPushUrl = getUrl();
 
         if (StringUtils.isBlank(currPushUrl)) {
+            complete();
             return;
         }
 
@@ -118,12 +120,11 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         builder.addHeader(ProtocolKey.EventMeshInstanceKey.EVENTMESHIDC,
             handleMsgContext.getEventMeshHTTPServer().getEventMeshHttpConfiguration().getEventMeshIDC());
 
-        CloudEvent event = CloudEventBuilder.from(handleMsgContext.getEvent())
+        CloudEvent event = ExtensionOverlayCloudEvent.from(handleMsgContext.getEvent())
             .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP,
                 String.valueOf(System.currentTimeMillis()))
             .withExtension(EventMeshConstants.RSP_URL, currPushUrl)
-            .withExtension(EventMeshConstants.RSP_GROUP, handleMsgContext.getConsumerGroup())
-            .build();
+            .withExtension(EventMeshConstants.RSP_GROUP, handleMsgContext.getConsumerGroup());
         handleMsgContext.setEvent(event);
 
         String content = "";
@@ -150,6 +151,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
 
         } catch (Exception ex) {
             LOGGER.error("Failed to convert EventMeshMessage from CloudEvent", ex);
+            complete();
             return;
         }
 
@@ -216,11 +218,12 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
                             res = EntityUtils.toString(response.getEntity(),
                                 Charset.forName(EventMeshConstants.DEFAULT_CHARSET));
                         } catch (IOException e) {
+                            complete();
                             handleMsgContext.finish();
                             return new Object();
                         }
                         ClientRetCode result = processResponseContent(res);
-                        if (MESSAGE_LOGGER.isInfoEnabled()) {
+                        if (MessageLogSampler.isInfoEnabled(MESSAGE_LOGGER, handleMsgContext.getTopic())) {
                             MESSAGE_LOGGER.info(
                                 "message|eventMesh2client|{}|url={}|topic={}|bizSeqNo={}"
                                     + "|uniqueId={}|cost={}",
@@ -270,7 +273,7 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
                     handleMsgContext.getTopic(),
                     handleMsgContext.getEvent());
             } else {
-                if (MESSAGE_LOGGER.isInfoEnabled()) {
+                if (MessageLogSampler.isInfoEnabled(MESSAGE_LOGGER, handleMsgContext.getTopic())) {
                     MESSAGE_LOGGER
                         .info("message|eventMesh2client|url={}|topic={}|bizSeqNo={}|uniqueId={}",
                             currPushUrl, handleMsgContext.getTopic(),
@@ -317,10 +320,13 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
             Optional<Header> optHeader = Arrays.stream(httpResponse.getHeaders("Retry-After")).findAny();
             if (optHeader.isPresent() && StringUtils.isNumeric(optHeader.get().getValue())) {
                 delayRetry(Long.parseLong(optHeader.get().getValue()));
+            } else {
+                delayRetry();
             }
             return false;
         } else if (httpStatus == HttpStatus.SC_GONE || httpStatus == HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE) {
             // failed with no retry
+            complete();
             return false;
         }
 
@@ -381,8 +387,17 @@ public class AsyncHTTPPushRequest extends AbstractHTTPPushRequest {
         }
     }
 
+    @Override
+    protected void rearm() {
+        addToWaitingMap(this);
+    }
+
     @Override
     public boolean retry() {
+        if (isComplete()) {
+            // completed by the response of a push which timed out before
+            return true;
+        }
         tryHTTPRequest();
         return true;
     }
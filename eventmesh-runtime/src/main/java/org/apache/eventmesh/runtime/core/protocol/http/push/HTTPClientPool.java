@@ -87,7 +87,7 @@ public class HTTPClientPool {
             }
         }
 
-        if (this.connectionManager == null) {
+        if (this.connectionManager != null) {
             this.connectionManager.close();
         }
     }
@@ -19,10 +19,11 @@ package org.apache.eventmesh.runtime.core.protocol.http.push;
 
 import org.apache.eventmesh.common.Constants;
 import org.apache.eventmesh.common.ThreadPoolFactory;
+import org.apache.eventmesh.runtime.core.consumer.OrderingKeyQueue;
+import org.apache.eventmesh.runtime.core.consumer.OrderingKeyQueue.OfferResult;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.EventMeshConsumer;
 import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
-import org.apache.eventmesh.runtime.util.EventMeshUtil;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
 import org.apache.commons.collections4.MapUtils;
@@ -54,15 +55,24 @@ public class HTTPMessageHandler implements MessageHandler {
 
     private static final Integer CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD = 10000;
 
+    private static final Integer ORDERING_KEY_WAITING_REQUEST_THRESHOLD = 1000;
+
     public static final transient Map<String, Set<AbstractHTTPPushRequest>> waitingRequests = Maps.newConcurrentMap();
 
     private transient ThreadPoolExecutor pushExecutor;
 
+    private final transient OrderingKeyQueue<AsyncHTTPPushRequest> orderingKeyQueue =
+            new OrderingKeyQueue<>(ORDERING_KEY_WAITING_REQUEST_THRESHOLD);
+
     private void checkTimeout() {
         waitingRequests.forEach((key, value) -> {
             value.forEach(r -> {
-                r.timeout();
-                waitingRequests.get(r.handleMsgContext.getConsumerGroup()).remove(r);
+                if (r.isTimeout() && value.remove(r)) {
+                    r.timeout();
+                    if (r.isComplete()) {
+                        r.handleMsgContext.finish();
+                    }
+                }
             });
         });
 
@@ -78,34 +88,91 @@ public class HTTPMessageHandler implements MessageHandler {
 
     @Override
     public boolean handle(final HandleMsgContext handleMsgContext) {
+        // the requests waiting behind an ordering key are counted as well
         if (MapUtils.getObject(waitingRequests, handleMsgContext.getConsumerGroup(), Sets.newConcurrentHashSet()).size()
-                > CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD) {
+                + orderingKeyQueue.size() > CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD) {
             LOGGER.warn("waitingRequests is too many, so reject, this message will be send back to MQ, "
                             + "consumerGroup:{}, threshold:{}",
                     handleMsgContext.getConsumerGroup(), CONSUMER_GROUP_WAITING_REQUEST_THRESHOLD);
             return false;
         }
 
-        try {
-            pushExecutor.submit(() -> {
-                String protocolVersion = Objects.requireNonNull(handleMsgContext.getEvent().getSpecVersion()).toString();
-
-                Span span = TraceUtils.prepareClientSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersion,
-                                handleMsgContext.getEvent()),
-                        EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
-
-                try {
-                    new AsyncHTTPPushRequest(handleMsgContext, waitingRequests).tryHTTPRequest();
-                } finally {
-                    TraceUtils.finishSpan(span, handleMsgContext.getEvent());
-                }
+        AsyncHTTPPushRequest pushRequest = new AsyncHTTPPushRequest(handleMsgContext, waitingRequests);
+        String orderingKey = pushRequest.orderingKey;
+        if (orderingKey != null) {
+            pushRequest.setCompleteCallback(() -> onOrderedRequestComplete(pushRequest));
+            OfferResult offerResult = orderingKeyQueue.offer(orderingKey, pushRequest);
+            if (offerResult == OfferResult.FULL) {
+                LOGGER.warn("orderingKey waitingRequests is too many, so reject, this message will be send back to MQ, "
+                                + "consumerGroup:{}, orderingKey:{}, threshold:{}",
+                        handleMsgContext.getConsumerGroup(), orderingKey, ORDERING_KEY_WAITING_REQUEST_THRESHOLD);
+                return false;
+            }
+            if (offerResult == OfferResult.QUEUED) {
+                // pushed after the previous msg with the same key completes
+                return true;
+            }
+        }
 
-            });
+        try {
+            submitPushRequest(pushRequest);
             return true;
         } catch (RejectedExecutionException e) {
             LOGGER.warn("pushMsgThreadPoolQueue is full, so reject, current task size {}",
                     handleMsgContext.getEventMeshHTTPServer().getPushMsgExecutor().getQueue().size(), e);
+            if (orderingKey != null) {
+                // the key stays held by this msg, so the msgs queued behind it are not pushed ahead of it
+                pushRequest.delayRetry();
+                return true;
+            }
             return false;
         }
     }
+
+    @Override
+    public int pendingSize() {
+        return MapUtils.getObject(waitingRequests, eventMeshConsumer.getConsumerGroupConf().getConsumerGroup(),
+                Sets.newConcurrentHashSet()).size() + orderingKeyQueue.size();
+    }
+
+    private void submitPushRequest(final AsyncHTTPPushRequest pushRequest) {
+        final HandleMsgContext handleMsgContext = pushRequest.handleMsgContext;
+        pushExecutor.submit(() -> {
+            Span span = TraceUtils.prepareClientSpan(handleMsgContext.getEvent(),
+                    EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
+
+            try {
+                pushRequest.tryHTTPRequest();
+            } finally {
+                TraceUtils.finishSpan(span, handleMsgContext.getEvent());
+            }
+
+        });
+    }
+
+    private void onOrderedRequestComplete(final AsyncHTTPPushRequest pushRequest) {
+        if (!pushRequest.isSentBack()) {
+            pushNextOrderedRequest(pushRequest.orderingKey);
+            return;
+        }
+        // the msg is sent back to MQ, send the msgs queued behind it back in order as well
+        for (AsyncHTTPPushRequest queued : orderingKeyQueue.releaseAll(pushRequest.orderingKey)) {
+            queued.setCompleteCallback(null);
+            queued.sendBackToBroker();
+        }
+    }
+
+    private void pushNextOrderedRequest(final String orderingKey) {
+        AsyncHTTPPushRequest next = orderingKeyQueue.release(orderingKey);
+        if (next == null) {
+            return;
+        }
+        try {
+            submitPushRequest(next);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("pushMsgThreadPoolQueue is full, retry ordered msg later, topic:{}, bizSeqNo:{}",
+                    next.handleMsgContext.getTopic(), next.handleMsgContext.getBizSeqNo(), e);
+            next.delayRetry();
+        }
+    }
 }
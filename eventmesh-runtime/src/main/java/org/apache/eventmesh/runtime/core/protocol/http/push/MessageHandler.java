@@ -24,4 +24,9 @@ import org.apache.eventmesh.runtime.core.protocol.http.consumer.HandleMsgContext
  */
 public interface MessageHandler {
     boolean handle(HandleMsgContext handleMsgContext);
+
+    /**
+     * @return the number of msgs accepted by the handler but not completed yet
+     */
+    int pendingSize();
 }
\ No newline at end of file
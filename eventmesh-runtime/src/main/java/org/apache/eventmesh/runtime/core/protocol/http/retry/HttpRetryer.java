@@ -18,13 +18,11 @@
 package org.apache.eventmesh.runtime.core.protocol.http.retry;
 
 import org.apache.eventmesh.runtime.boot.EventMeshHTTPServer;
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.retry.RetryPolicy;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,86 +35,58 @@ public class HttpRetryer {
 
     private EventMeshHTTPServer eventMeshHTTPServer;
 
+    private final RetryPolicy pushRetryPolicy = new RetryPolicy(
+            EventMeshConstants.DEFAULT_PUSH_RETRY_TIME_DISTANCE_IN_MILLSECONDS,
+            EventMeshConstants.DEFAULT_PUSH_RETRY_MAX_DELAY_IN_MILLSECONDS,
+            EventMeshConstants.DEFAULT_PUSH_RETRY_TIMES);
+
     public HttpRetryer(EventMeshHTTPServer eventMeshHTTPServer) {
         this.eventMeshHTTPServer = eventMeshHTTPServer;
     }
 
-    private DelayQueue<DelayRetryable> failed = new DelayQueue<>();
-
-    private ThreadPoolExecutor pool;
-
-    private Thread dispatcher;
+    private RetryScheduler retryScheduler;
 
-    public void pushRetry(DelayRetryable delayRetryable) {
-        if (failed.size() >= eventMeshHTTPServer.getEventMeshHttpConfiguration().eventMeshServerRetryBlockQSize) {
+    /**
+     * @return false if the retry is rejected because too many retries are pending
+     */
+    public boolean pushRetry(DelayRetryable delayRetryable) {
+        boolean scheduled = retryScheduler.schedule(() -> {
+            try {
+                delayRetryable.retry();
+                if (retryLogger.isDebugEnabled()) {
+                    retryLogger.debug("retryObj : {}", delayRetryable);
+                }
+            } catch (Exception e) {
+                retryLogger.error("http-retry error!", e);
+            }
+        }, delayRetryable.getDelay(TimeUnit.MILLISECONDS));
+        if (!scheduled) {
             retryLogger.error("[RETRY-QUEUE] is full!");
-            return;
         }
-        failed.offer(delayRetryable);
+        return scheduled;
+    }
+
+    public RetryPolicy getPushRetryPolicy() {
+        return pushRetryPolicy;
     }
 
     public void init() {
-        pool = new ThreadPoolExecutor(eventMeshHTTPServer.getEventMeshHttpConfiguration().eventMeshServerRetryThreadNum,
+        retryScheduler = new RetryScheduler("http-retry",
                 eventMeshHTTPServer.getEventMeshHttpConfiguration().eventMeshServerRetryThreadNum,
-                60000,
-                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(
-                    eventMeshHTTPServer.getEventMeshHttpConfiguration().eventMeshServerRetryBlockQSize),
-                new ThreadFactory() {
-                    private AtomicInteger count = new AtomicInteger();
-
-                    @Override
-                    public Thread newThread(Runnable r) {
-                        Thread thread = new Thread(r, "http-retry-" + count.incrementAndGet());
-                        thread.setPriority(Thread.NORM_PRIORITY);
-                        thread.setDaemon(true);
-                        return thread;
-                    }
-                },
-                new ThreadPoolExecutor.AbortPolicy());
-
-        dispatcher = new Thread(() -> {
-            try {
-                DelayRetryable retryObj;
-                while (!Thread.currentThread().isInterrupted() && (retryObj = failed.take()) != null) {
-                    final DelayRetryable delayRetryable = retryObj;
-                    pool.execute(() -> {
-                        try {
-                            delayRetryable.retry();
-                            if (retryLogger.isDebugEnabled()) {
-                                retryLogger.debug("retryObj : {}", delayRetryable);
-                            }
-                        } catch (Exception e) {
-                            retryLogger.error("http-retry-dispatcher error!", e);
-                        }
-                    });
-                }
-            } catch (Exception e) {
-                retryLogger.error("http-retry-dispatcher error!", e);
-            }
-        }, "http-retry-dispatcher");
-        dispatcher.setDaemon(true);
+                eventMeshHTTPServer.getEventMeshHttpConfiguration().eventMeshServerRetryBlockQSize);
         logger.info("HttpRetryer inited......");
     }
 
     public int size() {
-        return failed.size();
-    }
-
-    /**
-     * Get failed queue, this method is just used for metrics.
-     */
-    public DelayQueue<DelayRetryable> getFailedQueue() {
-        return failed;
+        return retryScheduler.size();
     }
 
     public void shutdown() {
-        dispatcher.interrupt();
-        pool.shutdown();
+        retryScheduler.flushAndShutdown();
         logger.info("HttpRetryer shutdown......");
     }
 
     public void start() throws Exception {
-        dispatcher.start();
         logger.info("HttpRetryer started......");
     }
 }
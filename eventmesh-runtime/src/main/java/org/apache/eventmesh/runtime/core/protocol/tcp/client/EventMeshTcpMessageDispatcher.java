@@ -67,15 +67,15 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
                 .getClient2eventMeshMsgNum().incrementAndGet();
 
         Command cmd = pkg.getHeader().getCmd();
+        Session session = eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx);
         try {
             Runnable task;
 
-            if (isNeedTrace(cmd)) {
+            if (isNeedTrace(cmd) && session != null) {
                 pkg.getHeader().getProperties()
                         .put(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP, startTime);
                 pkg.getHeader().getProperties().put(EventMeshConstants.REQ_SEND_EVENTMESH_IP,
                         eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp());
-                Session session = eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx);
 
                 pkg.getHeader().getProperties().put(EventMeshConstants.REQ_SYS, session.getClient().getSubsystem());
                 pkg.getHeader().getProperties().put(EventMeshConstants.REQ_IP, session.getClient().getHost());
@@ -101,17 +101,16 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
                 return;
             }
 
-            if (eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx) == null) {
+            if (session == null) {
                 if (MESSAGE_LOGGER.isInfoEnabled()) {
                     MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={},no session is found", cmd, pkg);
                 }
                 throw new Exception("no session is found");
             }
 
-            logMessageFlow(ctx, pkg, cmd);
+            logMessageFlow(session, pkg, cmd);
 
-            if (eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx)
-                    .getSessionState() == SessionState.CLOSED) {
+            if (session.getSessionState() == SessionState.CLOSED) {
                 throw new Exception(
                         "this eventMesh tcp session will be closed, may be reboot or version change!");
             }
@@ -180,17 +179,15 @@ public class EventMeshTcpMessageDispatcher extends SimpleChannelInboundHandler<P
         }
     }
 
-    private void logMessageFlow(ChannelHandlerContext ctx, Package pkg, Command cmd) {
+    private void logMessageFlow(Session session, Package pkg, Command cmd) {
         if (pkg.getBody() instanceof EventMeshMessage) {
             if (MESSAGE_LOGGER.isInfoEnabled()) {
                 MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|Msg={}|user={}", cmd,
-                        EventMeshUtil.printMqMessage((EventMeshMessage) pkg.getBody()),
-                        eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx).getClient());
+                        EventMeshUtil.printMqMessage((EventMeshMessage) pkg.getBody()), session.getClient());
             }
         } else {
             if (MESSAGE_LOGGER.isInfoEnabled()) {
-                MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={}|user={}", cmd, pkg,
-                        eventMeshTCPServer.getClientSessionGroupMapping().getSession(ctx).getClient());
+                MESSAGE_LOGGER.info("pkg|c2eventMesh|cmd={}|pkg={}|user={}", cmd, pkg, session.getClient());
             }
         }
     }
@@ -27,10 +27,13 @@ import org.apache.eventmesh.api.SendResult;
 import org.apache.eventmesh.api.exception.OnExceptionContext;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.utils.ConsistentHashUtils;
 import org.apache.eventmesh.common.utils.JsonUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.core.consumer.OrderingKeyQueue;
+import org.apache.eventmesh.runtime.core.consumer.OrderingKeyQueue.OfferResult;
 import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
 import org.apache.eventmesh.runtime.core.plugin.MQProducerWrapper;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
@@ -41,6 +44,7 @@ import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStre
 import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
 import org.apache.eventmesh.runtime.util.HttpTinyClient;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
@@ -49,6 +53,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -72,6 +77,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ClientGroupWrapper {
     
+    private static final long HAND_OFF_RETRY_DELAY_IN_MILLS = 1000L;
+
     private final String sysId;
 
     private String group;
@@ -107,8 +114,16 @@ public class ClientGroupWrapper {
     private final ConcurrentHashMap<String, Set<Session>> topic2sessionInGroupMapping =
             new ConcurrentHashMap<String, Set<Session>>();
 
+    /**
+     * topic -> consumer sessions which have subscribed the topic and are listening, rebuilt under the write lock
+     * whenever a subscription or a consumer session changes, so dispatching a message does not need to walk the group
+     */
+    private final ConcurrentHashMap<String, List<Session>> topic2sessionSnapshot = new ConcurrentHashMap<>();
+
     private final ConcurrentHashMap<String, SubscriptionItem> subscriptions = new ConcurrentHashMap<>();
 
+    private final OrderingKeyQueue<DownStreamMsgContext> orderingKeyQueue;
+
     public AtomicBoolean producerStarted = new AtomicBoolean(Boolean.FALSE);
 
     private final MQProducerWrapper mqProducerWrapper;
@@ -124,12 +139,12 @@ public class ClientGroupWrapper {
         this.eventMeshTcpMonitor =
                 Preconditions.checkNotNull(eventMeshTCPServer.getEventMeshTcpMonitor());
         this.downstreamDispatchStrategy = downstreamDispatchStrategy;
+        this.orderingKeyQueue = new OrderingKeyQueue<>(eventMeshTCPConfiguration.eventMeshTcpOrderingKeyMaxWaiting);
         this.persistentMsgConsumer = new MQConsumerWrapper(
                 eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshConnectorPluginType());
         this.broadCastMsgConsumer = new MQConsumerWrapper(
                 eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshConnectorPluginType());
-        this.mqProducerWrapper = new MQProducerWrapper(
-                eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshConnectorPluginType());
+        this.mqProducerWrapper = new MQProducerWrapper(eventMeshTCPServer.getEventMeshTCPConfiguration());
 
     }
 
@@ -207,6 +222,7 @@ public class ClientGroupWrapper {
                 topic2sessionInGroupMapping.put(topic, sessions);
             }
             r = topic2sessionInGroupMapping.get(topic).add(session);
+            refreshTopicSessionSnapshot(topic);
             if (r) {
 
                 if (log.isInfoEnabled()) {
@@ -263,8 +279,10 @@ public class ClientGroupWrapper {
                     }
                 }
             }
+            refreshTopicSessionSnapshot(topic);
             if (CollectionUtils.size(topic2sessionInGroupMapping.get(topic)) == 0) {
                 topic2sessionInGroupMapping.remove(topic);
+                topic2sessionSnapshot.remove(topic);
                 subscriptions.remove(topic);
 
                 log.info("removeSubscription remove topic success, group:{} topic:{}",
@@ -279,6 +297,91 @@ public class ClientGroupWrapper {
         return r;
     }
 
+    /**
+     * Get the consumer sessions which can receive msg of the topic, the returned list must not be modified.
+     */
+    public List<Session> getTopicSessionSnapshot(String topic) {
+        List<Session> sessions = topic2sessionSnapshot.get(topic);
+        return sessions == null ? Collections.emptyList() : sessions;
+    }
+
+    private void refreshTopicSessionSnapshot(Session session) {
+        for (String topic : session.getSessionContext().subscribeTopics.keySet()) {
+            refreshTopicSessionSnapshot(topic);
+        }
+    }
+
+    /**
+     * must be called with the write lock of groupLock held
+     */
+    private void refreshTopicSessionSnapshot(String topic) {
+        Set<Session> subscribedSessions = topic2sessionInGroupMapping.get(topic);
+        if (CollectionUtils.isEmpty(subscribedSessions)) {
+            topic2sessionSnapshot.remove(topic);
+            return;
+        }
+        List<Session> sessions = new ArrayList<>(subscribedSessions.size());
+        for (Session session : subscribedSessions) {
+            if (groupConsumerSessions.contains(session)) {
+                sessions.add(session);
+            }
+        }
+        topic2sessionSnapshot.put(topic, Collections.unmodifiableList(sessions));
+    }
+
+    /**
+     * select the session to push a msg of the topic, msgs with the same ordering key go to the same session
+     * as long as it is available
+     */
+    public Session selectDownstreamSession(String topic, String orderingKey) {
+        List<Session> sessions = getTopicSessionSnapshot(topic);
+        if (orderingKey == null) {
+            return downstreamDispatchStrategy.select(group, topic, sessions);
+        }
+        Session session = ConsistentHashUtils.select(orderingKey, sessions, this::getSessionId,
+                s -> s.isAvailable(topic) && !s.isIsolated());
+        if (session == null) {
+            session = ConsistentHashUtils.select(orderingKey, sessions, this::getSessionId,
+                    s -> s.isAvailable(topic));
+        }
+        return session;
+    }
+
+    private String getSessionId(Session session) {
+        return EventMeshUtil.buildUserAgentClientId(session.getClient());
+    }
+
+    /**
+     * called when an ordered msg is acked, push the next msg with the same ordering key
+     */
+    public void releaseOrderingKey(DownStreamMsgContext ackedMsg) {
+        DownStreamMsgContext next = orderingKeyQueue.release(ackedMsg.orderingKey);
+        while (next != null) {
+            String topic = next.event.getSubject();
+            Session session = selectDownstreamSession(topic, next.orderingKey);
+            if (session != null) {
+                next.session = session;
+                next.lastPushTime = System.currentTimeMillis();
+                session.getPusher().unAckMsg(next.seq, next);
+                session.downstreamMsg(next);
+                return;
+            }
+
+            String bizSeqNo = EventMeshUtil.getMessageBizSeq(next.event);
+            log.warn("found no session to downstream ordered msg,groupName:{}, topic:{}, bizSeqNo:{}",
+                    group, topic, bizSeqNo);
+            try {
+                sendMsgBackToBroker(next.event, bizSeqNo);
+            } catch (Exception e) {
+                log.warn("send ordered msg back to broker failed, bizSeqNo:{}", bizSeqNo, e);
+            }
+            // the key is released here, so that the following msgs are not pushed recursively
+            next.markOrderingKeyReleased();
+            next.ackMsg();
+            next = orderingKeyQueue.release(next.orderingKey);
+        }
+    }
+
     public synchronized void startClientGroupProducer() throws Exception {
         if (producerStarted.get()) {
             return;
@@ -329,6 +432,7 @@ public class ClientGroupWrapper {
         try {
             this.groupLock.writeLock().lockInterruptibly();
             r = groupConsumerSessions.add(session);
+            refreshTopicSessionSnapshot(session);
             if (r) {
 
                 if (log.isInfoEnabled()) {
@@ -385,6 +489,7 @@ public class ClientGroupWrapper {
         try {
             this.groupLock.writeLock().lockInterruptibly();
             r = groupConsumerSessions.remove(session);
+            refreshTopicSessionSnapshot(session);
             if (r) {
 
                 if (log.isInfoEnabled()) {
@@ -444,27 +549,27 @@ public class ClientGroupWrapper {
         persistentMsgConsumer.init(keyValue);
 
         EventListener listener = (CloudEvent event, AsyncConsumeContext context) -> {
-            String protocolVersion =
-                    Objects.requireNonNull(event.getSpecVersion()).toString();
+            event = TraceUtils.sample(EventMeshConstants.PROTOCOL_TCP, event);
 
             Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+                    event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
 
             try {
                 eventMeshTcpMonitor.getTcpSummaryMetrics().getMq2eventMeshMsgNum()
                         .incrementAndGet();
-                event = CloudEventBuilder.from(event)
+                event = ExtensionOverlayCloudEvent.from(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshTCPConfiguration.getEventMeshServerIp()).build();
+                                eventMeshTCPConfiguration.getEventMeshServerIp());
                 String topic = event.getSubject();
 
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
                         (EventMeshAsyncConsumeContext) context;
-                Session session = downstreamDispatchStrategy
-                        .select(group, topic, groupConsumerSessions);
+                SubscriptionItem subscriptionItem = subscriptions.get(topic);
+                String orderingKey = EventMeshUtil.getOrderingKey(subscriptionItem, event);
+                Session session = selectDownstreamSession(topic, orderingKey);
                 String bizSeqNo = EventMeshUtil.getMessageBizSeq(event);
                 if (session == null) {
                     try {
@@ -497,11 +602,11 @@ public class ClientGroupWrapper {
                                     group, topic, bizSeqNo);
                         } else {
                             sendBackTimes++;
-                            event = CloudEventBuilder.from(event)
+                            event = ExtensionOverlayCloudEvent.from(event)
                                     .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_TIMES,
                                             sendBackTimes.toString())
                                     .withExtension(EventMeshConstants.EVENTMESH_SEND_BACK_IP,
-                                            eventMeshTCPConfiguration.getEventMeshServerIp()).build();
+                                            eventMeshTCPConfiguration.getEventMeshServerIp());
                             sendMsgBackToBroker(event, bizSeqNo);
                         }
                     } catch (Exception e) {
@@ -512,14 +617,26 @@ public class ClientGroupWrapper {
                     return;
                 }
 
-                SubscriptionItem subscriptionItem = subscriptions.get(topic);
                 DownStreamMsgContext downStreamMsgContext =
                         new DownStreamMsgContext(event, session, persistentMsgConsumer,
                                 eventMeshAsyncConsumeContext.getAbstractContext(), false,
                                 subscriptionItem);
-                //msg put in eventmesh,waiting client ack
-                session.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
-                session.downstreamMsg(downStreamMsgContext);
+                downStreamMsgContext.orderingKey = orderingKey;
+                // an ordered msg waits until the previous msg with the same key is acked
+                OfferResult offerResult = orderingKey == null
+                        ? OfferResult.DISPATCHABLE : orderingKeyQueue.offer(orderingKey, downStreamMsgContext);
+                if (offerResult == OfferResult.DISPATCHABLE) {
+                    //msg put in eventmesh,waiting client ack
+                    session.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
+                    session.downstreamMsg(downStreamMsgContext);
+                } else if (offerResult == OfferResult.FULL) {
+                    log.warn("orderingKey waiting msgs is too many, so reject, this msg will be send back to MQ, "
+                                    + "groupName:{}, orderingKey:{}, threshold:{}, bizSeqNo:{}", group, orderingKey,
+                            eventMeshTCPConfiguration.eventMeshTcpOrderingKeyMaxWaiting, bizSeqNo);
+                    // the msg does not hold the key, acking it must not release the msgs waiting for the key
+                    downStreamMsgContext.markOrderingKeyReleased();
+                    sendBackToBroker(downStreamMsgContext);
+                }
                 eventMeshAsyncConsumeContext.commit(EventMeshAction.ManualAck);
             } finally {
                 TraceUtils.finishSpan(span, event);
@@ -559,20 +676,19 @@ public class ClientGroupWrapper {
         broadCastMsgConsumer.init(keyValue);
 
         EventListener listener = (event, context) -> {
-            String protocolVersion =
-                    Objects.requireNonNull(event.getSpecVersion()).toString();
+            event = TraceUtils.sample(EventMeshConstants.PROTOCOL_TCP, event);
 
             Span span = TraceUtils.prepareServerSpan(
-                    EventMeshUtil.getCloudEventExtensionMap(protocolVersion, event),
+                    event,
                     EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_SERVER_SPAN, false);
             try {
                 eventMeshTcpMonitor.getTcpSummaryMetrics().getMq2eventMeshMsgNum()
                         .incrementAndGet();
-                event = CloudEventBuilder.from(event)
+                event = ExtensionOverlayCloudEvent.from(event)
                         .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP,
                                 String.valueOf(System.currentTimeMillis()))
                         .withExtension(EventMeshConstants.REQ_RECEIVE_EVENTMESH_IP,
-                                eventMeshTCPConfiguration.getEventMeshServerIp()).build();
+                                eventMeshTCPConfiguration.getEventMeshServerIp());
                 String topic = event.getSubject();
 
                 EventMeshAsyncConsumeContext eventMeshAsyncConsumeContext =
@@ -680,6 +796,8 @@ public class ClientGroupWrapper {
         started4Persistent.compareAndSet(true, false);
         inited4Persistent.compareAndSet(true, false);
         persistentMsgConsumer = null;
+        // waiting ordered msgs are not acked, they will be consumed again
+        orderingKeyQueue.clear();
     }
 
     public Set<Session> getGroupConsumerSessions() {
@@ -767,6 +885,73 @@ public class ClientGroupWrapper {
         return persistentMsgConsumer;
     }
 
+    /**
+     * send the msg which can't be pushed to any client to the dead letter topic of the group, and ack it
+     * when the dead letter is sent successfully
+     */
+    public void sendToDeadLetterTopic(DownStreamMsgContext downStreamMsgContext) {
+        String deadLetterTopic = EventMeshConstants.DEAD_LETTER_TOPIC_PREFIX + group;
+        CloudEvent event = CloudEventBuilder.from(downStreamMsgContext.event)
+                .withSubject(deadLetterTopic)
+                .withExtension(EventMeshConstants.DEAD_LETTER_ORIGIN_TOPIC, downStreamMsgContext.event.getSubject())
+                .build();
+        handOffToBroker(downStreamMsgContext, event);
+    }
+
+    /**
+     * send a msg which can not be retried locally back to its own topic, the msg is acked only after the broker
+     * accepted it, so it is redelivered instead of dropped
+     */
+    public void sendBackToBroker(DownStreamMsgContext downStreamMsgContext) {
+        handOffToBroker(downStreamMsgContext, downStreamMsgContext.event);
+    }
+
+    private void handOffToBroker(DownStreamMsgContext downStreamMsgContext, CloudEvent event) {
+        String topic = event.getSubject();
+        String bizSeqNo = EventMeshUtil.getMessageBizSeq(downStreamMsgContext.event);
+        try {
+            startClientGroupProducer();
+            long startTime = System.currentTimeMillis();
+            send(new UpStreamMsgContext(null, event, null, startTime, startTime),
+                    new SendCallback() {
+                        @Override
+                        public void onSuccess(SendResult sendResult) {
+                            log.info("hand off msg to broker success, group:{}, topic:{}, bizSeqno:{}",
+                                    group, topic, bizSeqNo);
+                            if (downStreamMsgContext.session != null) {
+                                downStreamMsgContext.session.getPusher().getUnAckMsg().remove(downStreamMsgContext.seq);
+                            }
+                            downStreamMsgContext.ackMsg();
+                        }
+
+                        @Override
+                        public void onException(OnExceptionContext context) {
+                            log.warn("hand off msg to broker fail, group:{}, topic:{}, bizSeqno:{}",
+                                    group, topic, bizSeqNo, context.getException());
+                            retryHandOff(downStreamMsgContext, event);
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("hand off msg to broker fail, group:{}, topic:{}, bizSeqno:{}",
+                    group, topic, bizSeqNo, e);
+            retryHandOff(downStreamMsgContext, event);
+        }
+    }
+
+    /**
+     * the msg stays unacked until the hand off succeeds, if the retry is rejected as well it is left unacked for
+     * the broker to redeliver
+     */
+    private void retryHandOff(DownStreamMsgContext downStreamMsgContext, CloudEvent event) {
+        if (eventMeshTcpRetryer.schedule(() -> handOffToBroker(downStreamMsgContext, event),
+                HAND_OFF_RETRY_DELAY_IN_MILLS)) {
+            return;
+        }
+        log.error("retry hand off msg to broker is rejected, leave it unacked for the broker to redeliver, "
+                        + "group:{}, topic:{}, bizSeqno:{}", group, event.getSubject(),
+                EventMeshUtil.getMessageBizSeq(downStreamMsgContext.event));
+    }
+
     private void sendMsgBackToBroker(CloudEvent event, String bizSeqNo) throws Exception {
         try {
             String topic = event.getSubject();
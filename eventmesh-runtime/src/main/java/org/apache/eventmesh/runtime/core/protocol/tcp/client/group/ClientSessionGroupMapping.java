@@ -20,16 +20,17 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.group;
 import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
-import org.apache.eventmesh.common.utils.ThreadUtils;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.EventMeshTcp2Client;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.DownstreamDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.FreePriorityDispatchStrategy;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch.LoadAwareDispatchStrategy;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.SessionState;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.GracefulShutdownUtil;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 
 import org.apache.commons.collections4.MapUtils;
@@ -47,14 +48,23 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class ClientSessionGroupMapping {
 
+    /**
+     * The session is bound to its channel, so the per-packet lookup does not need to hash the remote address.
+     */
+    public static final AttributeKey<Session> SESSION_ATTRIBUTE_KEY = AttributeKey.valueOf("eventmesh.tcp.session");
+
     private static final Logger SESSION_LOGGER = LoggerFactory.getLogger("sessionLogger");
 
+    /**
+     * All sessions by remote address, only used to enumerate the sessions (admin, cleaners, shutdown).
+     */
     private final ConcurrentHashMap<InetSocketAddress, Session> sessionTable = new ConcurrentHashMap<>();
 
     private final ConcurrentHashMap<String /** subsystem eg . 5109 or 5109-1A0 */, ClientGroupWrapper> clientGroupMap =
@@ -82,7 +92,7 @@ public class ClientSessionGroupMapping {
     }
 
     public Session getSession(ChannelHandlerContext ctx) {
-        return getSession((InetSocketAddress) ctx.channel().remoteAddress());
+        return ctx.channel().attr(SESSION_ATTRIBUTE_KEY).get();
     }
 
     public Session getSession(InetSocketAddress address) {
@@ -99,6 +109,7 @@ public class ClientSessionGroupMapping {
             session = new Session(user, ctx, eventMeshTCPServer.getEventMeshTCPConfiguration());
             initClientGroupWrapper(user, session);
             sessionTable.put(addr, session);
+            ctx.channel().attr(SESSION_ATTRIBUTE_KEY).set(session);
             SESSION_LOGGER.info("session|open|succeed|user={}", user);
         } else {
             session = sessionTable.get(addr);
@@ -117,7 +128,7 @@ public class ClientSessionGroupMapping {
     public synchronized void closeSession(ChannelHandlerContext ctx) throws Exception {
 
         InetSocketAddress addr = (InetSocketAddress) ctx.channel().remoteAddress();
-        Session session = MapUtils.getObject(sessionTable, addr, null);
+        Session session = getSession(ctx);
         if (session == null) {
             final String remoteAddress = RemotingHelper.parseChannelRemoteAddr(ctx.channel());
             log.info("begin to close channel to remote address[{}]", remoteAddress);
@@ -132,6 +143,7 @@ public class ClientSessionGroupMapping {
 
         //remove session from sessionTable
         sessionTable.remove(addr);
+        ctx.channel().attr(SESSION_ATTRIBUTE_KEY).set(null);
 
         SESSION_LOGGER.info("session|close|succeed|user={}", session.getClient());
     }
@@ -177,6 +189,17 @@ public class ClientSessionGroupMapping {
                 downstreamDispatchStrategy);
     }
 
+    private DownstreamDispatchStrategy newDownstreamDispatchStrategy() {
+        String strategy = eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpDownstreamDispatchStrategy;
+        if (LoadAwareDispatchStrategy.NAME.equals(strategy)) {
+            return new LoadAwareDispatchStrategy();
+        }
+        if (!FreePriorityDispatchStrategy.NAME.equals(strategy)) {
+            log.warn("unknown downstream dispatch strategy:{}, use {}", strategy, FreePriorityDispatchStrategy.NAME);
+        }
+        return new FreePriorityDispatchStrategy();
+    }
+
     private void initClientGroupWrapper(UserAgent user, Session session) throws Exception {
         if (!lockMap.containsKey(user.getGroup())) {
             Object obj = lockMap.putIfAbsent(user.getGroup(), new Object());
@@ -187,7 +210,7 @@ public class ClientSessionGroupMapping {
         synchronized (lockMap.get(user.getGroup())) {
             if (!clientGroupMap.containsKey(user.getGroup())) {
                 ClientGroupWrapper cgw = constructClientGroupWrapper(user.getSubsystem(), user.getGroup(),
-                        eventMeshTCPServer, new FreePriorityDispatchStrategy());
+                        eventMeshTCPServer, newDownstreamDispatchStrategy());
                 clientGroupMap.put(user.getGroup(), cgw);
                 log.info("create new ClientGroupWrapper, group:{}", user.getGroup());
             }
@@ -302,10 +325,8 @@ public class ClientSessionGroupMapping {
                             session.getClient());
                     continue;
                 }
-                Session reChooseSession = clientGroupWrapper.getDownstreamDispatchStrategy()
-                        .select(clientGroupWrapper.getGroup(),
-                                downStreamMsgContext.event.getSubject(),
-                                clientGroupWrapper.groupConsumerSessions);
+                String topic = downStreamMsgContext.event.getSubject();
+                Session reChooseSession = clientGroupWrapper.selectDownstreamSession(topic, downStreamMsgContext.orderingKey);
                 if (reChooseSession != null) {
                     downStreamMsgContext.session = reChooseSession;
                     reChooseSession.getPusher().unAckMsg(downStreamMsgContext.seq, downStreamMsgContext);
@@ -411,6 +432,9 @@ public class ClientSessionGroupMapping {
     public void shutdown() throws Exception {
         log.info("begin to close sessions gracefully");
         for (ClientGroupWrapper clientGroupWrapper : clientGroupMap.values()) {
+            if (clientGroupWrapper.getGroupConsumerSessions().isEmpty() && clientGroupWrapper.getGroupProducerSessions().isEmpty()) {
+                continue;
+            }
             for (Session subSession : clientGroupWrapper.getGroupConsumerSessions()) {
                 try {
                     EventMeshTcp2Client.serverGoodby2Client(eventMeshTCPServer, subSession, this);
@@ -433,12 +457,6 @@ public class ClientSessionGroupMapping {
             }
         }
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            log.warn("Thread.sleep occur InterruptedException", e);
-        }
-
         sessionTable.values().parallelStream().forEach(itr -> {
             try {
                 EventMeshTcp2Client.serverGoodby2Client(this.eventMeshTCPServer, itr, this);
@@ -446,10 +464,36 @@ public class ClientSessionGroupMapping {
                 log.error("say goodbye to session error! {}", itr, e);
             }
         });
-        ThreadUtils.randomSleep(50);
         log.info("ClientSessionGroupMapping shutdown......");
     }
 
+    /**
+     * Close the sessions which have been told to leave as soon as they have no upstream msg in flight and
+     * no downstream msg unacked, until all sessions are closed or the deadline passes.
+     *
+     * @return true if all sessions are closed before the deadline
+     */
+    public boolean drain(long deadline) throws InterruptedException {
+        return GracefulShutdownUtil.awaitDrained(() -> {
+            for (Session session : sessionTable.values()) {
+                if (isSettled(session)) {
+                    try {
+                        closeSession(session.getContext());
+                    } catch (Exception e) {
+                        log.warn("close settled session error! {}", session, e);
+                    }
+                }
+            }
+            return sessionTable.isEmpty();
+        }, deadline);
+    }
+
+    private boolean isSettled(Session session) {
+        return session.getPusher().getUnAckMsg().isEmpty()
+                && session.getSender().getUpstreamBuff().availablePermits()
+                >= eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpSessionUpstreamBufferSize;
+    }
+
     public ConcurrentHashMap<InetSocketAddress, Session> getSessionMap() {
         return sessionTable;
     }
@@ -20,7 +20,7 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
 
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 
-import java.util.Set;
+import java.util.List;
 
 /**
  * DownstreamDispatchStrategy
@@ -30,8 +30,10 @@ public interface DownstreamDispatchStrategy {
      * select a SESSION
      *
      * @param group
-     * @param consumeSessions
+     * @param topic
+     * @param consumeSessions snapshot of the consumer sessions in the group which subscribe the topic,
+     *                        it is immutable and only rebuilt on subscribe/unsubscribe
      * @return client session
      */
-    Session select(String group, String topic, Set<Session> consumeSessions);
+    Session select(String group, String topic, List<Session> consumeSessions);
 }
@@ -25,17 +25,18 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class FreePriorityDispatchStrategy implements DownstreamDispatchStrategy {
 
+    public static final String NAME = "freePriority";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(FreePriorityDispatchStrategy.class);
 
     @Override
-    public Session select(final String group, final String topic, final Set<Session> groupConsumerSessions) {
+    public Session select(final String group, final String topic, final List<Session> groupConsumerSessions) {
         if (CollectionUtils.isEmpty(groupConsumerSessions)
                 || StringUtils.isBlank(topic)
                 || StringUtils.isBlank(group)) {
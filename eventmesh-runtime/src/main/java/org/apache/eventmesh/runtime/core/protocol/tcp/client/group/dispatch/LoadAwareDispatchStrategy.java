@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
+
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pick two random sessions and dispatch to the less loaded one (power of two choices).
+ * A session whose channel is not writable is always considered more loaded than a writable one,
+ * otherwise the session with fewer unacked msgs wins.
+ */
+public class LoadAwareDispatchStrategy implements DownstreamDispatchStrategy {
+
+    public static final String NAME = "loadAware";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadAwareDispatchStrategy.class);
+
+    @Override
+    public Session select(final String group, final String topic, final List<Session> consumeSessions) {
+        if (CollectionUtils.isEmpty(consumeSessions)
+                || StringUtils.isBlank(topic)
+                || StringUtils.isBlank(group)) {
+            return null;
+        }
+
+        final int size = consumeSessions.size();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(size);
+        Session candidate = consumeSessions.get(first);
+        if (size > 1) {
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            candidate = lessLoaded(candidate, consumeSessions.get(second), topic);
+        }
+        if (isSelectable(candidate, topic)) {
+            return candidate;
+        }
+
+        // both choices are unavailable, walk the snapshot from the random start point
+        Session isolatedSession = null;
+        for (int i = 0; i < size; i++) {
+            final Session session = consumeSessions.get((first + i) % size);
+            if (!session.isAvailable(topic)) {
+                continue;
+            }
+            if (!session.isIsolated()) {
+                return session;
+            }
+            if (isolatedSession == null) {
+                isolatedSession = session;
+            }
+        }
+
+        if (isolatedSession == null) {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("all sessions can't downstream msg");
+            }
+        } else {
+            if (LOGGER.isWarnEnabled()) {
+                LOGGER.warn("all sessions are isolated,group:{},topic:{}", group, topic);
+            }
+        }
+        return isolatedSession;
+    }
+
+    private Session lessLoaded(final Session first, final Session second, final String topic) {
+        final boolean firstSelectable = isSelectable(first, topic);
+        final boolean secondSelectable = isSelectable(second, topic);
+        if (firstSelectable != secondSelectable) {
+            return firstSelectable ? first : second;
+        }
+
+        final boolean firstWritable = isWritable(first);
+        final boolean secondWritable = isWritable(second);
+        if (firstWritable != secondWritable) {
+            return firstWritable ? first : second;
+        }
+
+        return second.getPusher().getTotalUnackMsgs() < first.getPusher().getTotalUnackMsgs() ? second : first;
+    }
+
+    private boolean isSelectable(final Session session, final String topic) {
+        return session.isAvailable(topic) && !session.isIsolated();
+    }
+
+    private boolean isWritable(final Session session) {
+        return session.getContext() != null && session.getContext().channel().isWritable();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance;
+
+import org.apache.eventmesh.api.registry.dto.EventMeshDataInfo;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The load an eventmesh tcp instance publishes through its registry metadata, so that peers can weigh
+ * rebalance and recommend decisions by it instead of by the number of connected clients only.
+ */
+public class EventMeshLoad {
+
+    public static final String DOWNSTREAM_TPS = "tcp.load.downstreamTps";
+
+    public static final String UNACK_BACKLOG = "tcp.load.unackBacklog";
+
+    public static final String EVENT_LOOP_LAG = "tcp.load.eventLoopLagInMills";
+
+    private final long downstreamTps;
+
+    private final long unackBacklog;
+
+    private final long eventLoopLagInMills;
+
+    public EventMeshLoad(long downstreamTps, long unackBacklog, long eventLoopLagInMills) {
+        this.downstreamTps = downstreamTps;
+        this.unackBacklog = unackBacklog;
+        this.eventLoopLagInMills = eventLoopLagInMills;
+    }
+
+    public long getDownstreamTps() {
+        return downstreamTps;
+    }
+
+    public long getUnackBacklog() {
+        return unackBacklog;
+    }
+
+    public long getEventLoopLagInMills() {
+        return eventLoopLagInMills;
+    }
+
+    public Map<String, String> toMetadata() {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(DOWNSTREAM_TPS, String.valueOf(downstreamTps));
+        metadata.put(UNACK_BACKLOG, String.valueOf(unackBacklog));
+        metadata.put(EVENT_LOOP_LAG, String.valueOf(eventLoopLagInMills));
+        return metadata;
+    }
+
+    /**
+     * @return the load carried by the metadata, or null if the instance does not publish one
+     */
+    public static EventMeshLoad fromMetadata(Map<String, String> metadata) {
+        if (MapUtils.isEmpty(metadata)) {
+            return null;
+        }
+        String tps = metadata.get(DOWNSTREAM_TPS);
+        String backlog = metadata.get(UNACK_BACKLOG);
+        String lag = metadata.get(EVENT_LOOP_LAG);
+        if (!NumberUtils.isDigits(tps) || !NumberUtils.isDigits(backlog) || !NumberUtils.isDigits(lag)) {
+            return null;
+        }
+        return new EventMeshLoad(Long.parseLong(tps), Long.parseLong(backlog), Long.parseLong(lag));
+    }
+
+    /**
+     * @return eventMeshName to load of the instances which publish one
+     */
+    public static Map<String, EventMeshLoad> loadsOf(List<EventMeshDataInfo> eventMeshDataInfoList) {
+        if (CollectionUtils.isEmpty(eventMeshDataInfoList)) {
+            return Collections.emptyMap();
+        }
+        Map<String, EventMeshLoad> loads = new HashMap<>();
+        for (EventMeshDataInfo eventMeshDataInfo : eventMeshDataInfoList) {
+            EventMeshLoad load = fromMetadata(eventMeshDataInfo.getMetadata());
+            if (load != null) {
+                loads.put(eventMeshDataInfo.getEventMeshName(), load);
+            }
+        }
+        return loads;
+    }
+
+    /**
+     * Score every instance in [0, 1]: each dimension is normalized by the most loaded instance and the
+     * three dimensions are weighted equally. Scores are only comparable within one call.
+     */
+    public static Map<String, Double> scoresOf(Map<String, EventMeshLoad> loads) {
+        if (MapUtils.isEmpty(loads)) {
+            return Collections.emptyMap();
+        }
+        long maxTps = 0;
+        long maxBacklog = 0;
+        long maxLag = 0;
+        for (EventMeshLoad load : loads.values()) {
+            maxTps = Math.max(maxTps, load.downstreamTps);
+            maxBacklog = Math.max(maxBacklog, load.unackBacklog);
+            maxLag = Math.max(maxLag, load.eventLoopLagInMills);
+        }
+        Map<String, Double> scores = new HashMap<>();
+        for (Map.Entry<String, EventMeshLoad> entry : loads.entrySet()) {
+            EventMeshLoad load = entry.getValue();
+            double score = (ratio(load.downstreamTps, maxTps) + ratio(load.unackBacklog, maxBacklog)
+                    + ratio(load.eventLoopLagInMills, maxLag)) / 3;
+            scores.put(entry.getKey(), score);
+        }
+        return scores;
+    }
+
+    /**
+     * The relative number of clients an instance should hold: an idle instance takes up to twice as many
+     * clients as the most loaded one. Instances without a score count as idle.
+     */
+    public static double capacityOf(Double score) {
+        return 1 / (1 + (score == null ? 0 : score));
+    }
+
+    /**
+     * @return the client count scaled by the load score, comparable across instances
+     */
+    public static double weightedClientNum(int clientNum, Double score) {
+        return clientNum / capacityOf(score);
+    }
+
+    private static double ratio(long value, long max) {
+        return max <= 0 ? 0 : (double) value / max;
+    }
+
+    @Override
+    public String toString() {
+        return "EventMeshLoad{downstreamTps=" + downstreamTps
+                + ",unackBacklog=" + unackBacklog
+                + ",eventLoopLagInMills=" + eventLoopLagInMills + "}";
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance;
+
+import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.metrics.tcp.EventMeshTcpMonitor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Collects the load of the local tcp server. Netty does not expose how busy an event loop is, so the
+ * time a probe task waits in the event loop queue stands in for its utilization.
+ */
+public class EventMeshLoadCollector {
+
+    private final Logger logger = LoggerFactory.getLogger(EventMeshLoadCollector.class);
+
+    private final EventMeshTCPServer eventMeshTCPServer;
+
+    private final Map<EventExecutor, Long> pendingProbes = new ConcurrentHashMap<>();
+
+    private final AtomicLong maxProbeLagNanos = new AtomicLong();
+
+    public EventMeshLoadCollector(EventMeshTCPServer eventMeshTCPServer) {
+        this.eventMeshTCPServer = eventMeshTCPServer;
+    }
+
+    public EventMeshLoad collect() {
+        EventMeshTcpMonitor monitor = eventMeshTCPServer.getEventMeshTcpMonitor();
+        final long downstreamTps = monitor == null ? 0 : monitor.getTcpSummaryMetrics().getEventMesh2clientTPS();
+
+        long unackBacklog = 0;
+        for (Session session : eventMeshTCPServer.getClientSessionGroupMapping().getSessionMap().values()) {
+            unackBacklog += session.getPusher().getUnAckMsg().size();
+        }
+
+        long lagNanos = maxProbeLagNanos.getAndSet(0);
+        long now = System.nanoTime();
+        for (Long submitted : pendingProbes.values()) {
+            lagNanos = Math.max(lagNanos, now - submitted);
+        }
+        probe(eventMeshTCPServer.getIoGroup());
+        probe(eventMeshTCPServer.getWorkerGroup());
+
+        return new EventMeshLoad(downstreamTps, unackBacklog, TimeUnit.NANOSECONDS.toMillis(lagNanos));
+    }
+
+    private void probe(EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup == null || eventLoopGroup.isShuttingDown()) {
+            return;
+        }
+        for (EventExecutor executor : eventLoopGroup) {
+            final long submitted = System.nanoTime();
+            if (pendingProbes.putIfAbsent(executor, submitted) != null) {
+                // the previous probe is still queued, its wait is accounted in collect
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    pendingProbes.remove(executor);
+                    long lag = System.nanoTime() - submitted;
+                    maxProbeLagNanos.accumulateAndGet(lag, Math::max);
+                });
+            } catch (Exception e) {
+                pendingProbes.remove(executor);
+                logger.warn("probe event loop failed", e);
+            }
+        }
+    }
+}
@@ -60,6 +60,12 @@ public class EventMeshRebalanceService {
                 logger.error("RebalanceByService failed", ex);
             }
         }, rebalanceIntervalMills, rebalanceIntervalMills, TimeUnit.MILLISECONDS);
+        if (eventMeshTCPServer.getEventMeshLoadCollector() != null) {
+            // re-register periodically so that peers see the current load in the registry metadata
+            int loadReportIntervalMills = eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpLoadReportIntervalInMills;
+            serviceRebalanceScheduler.scheduleAtFixedRate(eventMeshTCPServer::register,
+                    loadReportIntervalMills, loadReportIntervalMills, TimeUnit.MILLISECONDS);
+        }
         logger.info("rebalance service started......");
     }
 
@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,11 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
 
     private EventMeshTCPServer eventMeshTCPServer;
 
+    /**
+     * group@purpose to the time of its last load-aware redirect
+     */
+    private final Map<String, Long> lastRedirectTimeMap = new ConcurrentHashMap<>();
+
     public EventmeshRebalanceImpl(EventMeshTCPServer eventMeshTCPServer) {
         this.eventMeshTCPServer = eventMeshTCPServer;
     }
@@ -62,20 +68,29 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
 
         final String cluster = eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshCluster();
         //get eventmesh of local idc
-        Map<String, String> localEventMeshMap = queryLocalEventMeshMap(cluster);
-        if (MapUtils.isEmpty(localEventMeshMap)) {
+        List<EventMeshDataInfo> localEventMeshList = queryLocalEventMeshList(cluster);
+        if (CollectionUtils.isEmpty(localEventMeshList)) {
             return;
         }
+        Map<String, String> localEventMeshMap = new HashMap<>();
+        for (EventMeshDataInfo eventMeshDataInfo : localEventMeshList) {
+            localEventMeshMap.put(eventMeshDataInfo.getEventMeshName(), eventMeshDataInfo.getEndpoint());
+        }
+        Map<String, Double> loadScores = Collections.emptyMap();
+        if (eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpRebalanceLoadAwareEnabled) {
+            loadScores = EventMeshLoad.scoresOf(EventMeshLoad.loadsOf(localEventMeshList));
+            logger.info("doRebalance loadScores:{}", loadScores);
+        }
 
         for (String group : groupSet) {
-            doRebalanceByGroup(cluster, group, EventMeshConstants.PURPOSE_SUB, localEventMeshMap);
-            doRebalanceByGroup(cluster, group, EventMeshConstants.PURPOSE_PUB, localEventMeshMap);
+            doRebalanceByGroup(cluster, group, EventMeshConstants.PURPOSE_SUB, localEventMeshMap, loadScores);
+            doRebalanceByGroup(cluster, group, EventMeshConstants.PURPOSE_PUB, localEventMeshMap, loadScores);
         }
         logger.info("doRebalance end===========startTime:{}, cost:{}", startTime, System.currentTimeMillis() - startTime);
     }
 
-    private Map<String, String> queryLocalEventMeshMap(String cluster) {
-        Map<String, String> localEventMeshMap = null;
+    private List<EventMeshDataInfo> queryLocalEventMeshList(String cluster) {
+        List<EventMeshDataInfo> localEventMeshList = null;
         List<EventMeshDataInfo> eventMeshDataInfoList = null;
         try {
             eventMeshDataInfoList = eventMeshTCPServer.getRegistry().findEventMeshInfoByCluster(cluster);
@@ -84,16 +99,16 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
                 logger.warn("doRebalance failed,query eventmesh instances is null from registry,cluster:{}", cluster);
                 return null;
             }
-            localEventMeshMap = new HashMap<>();
+            localEventMeshList = new ArrayList<>();
             String localIdc = eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshIDC();
             for (EventMeshDataInfo eventMeshDataInfo : eventMeshDataInfoList) {
                 String idc = eventMeshDataInfo.getEventMeshName().split("-")[0];
                 if (StringUtils.isNotBlank(idc) && StringUtils.equals(idc, localIdc)) {
-                    localEventMeshMap.put(eventMeshDataInfo.getEventMeshName(), eventMeshDataInfo.getEndpoint());
+                    localEventMeshList.add(eventMeshDataInfo);
                 }
             }
 
-            if (0 == localEventMeshMap.size()) {
+            if (0 == localEventMeshList.size()) {
                 logger.warn("doRebalance failed,query eventmesh instances of localIDC is null from registry,localIDC:{},cluster:{}",
                         localIdc, cluster);
                 return null;
@@ -103,11 +118,11 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
             return null;
         }
 
-        return localEventMeshMap;
+        return localEventMeshList;
     }
 
     private void doRebalanceByGroup(String cluster, String group, String purpose, Map<String,
-            String> eventMeshMap) throws Exception {
+            String> eventMeshMap, Map<String, Double> loadScores) throws Exception {
         logger.info("doRebalanceByGroup start, cluster:{}, group:{}, purpose:{}", cluster, group, purpose);
 
         //query distribute data of loacl idc
@@ -118,25 +133,35 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
         }
 
         doRebalanceRedirect(eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshName(), group, purpose,
-                eventMeshMap, clientDistributionMap);
+                eventMeshMap, clientDistributionMap, loadScores);
         logger.info("doRebalanceByGroup end, cluster:{}, group:{}, purpose:{}", cluster, group, purpose);
 
     }
 
     private void doRebalanceRedirect(String currEventMeshName, String group, String purpose, Map<String, String> eventMeshMap,
-                                     Map<String, Integer> clientDistributionMap) throws Exception {
+                                     Map<String, Integer> clientDistributionMap, Map<String, Double> loadScores) throws Exception {
         if (MapUtils.isEmpty(clientDistributionMap)) {
             return;
         }
 
+        //weigh by load only when every eventmesh in the distribution publishes it
+        boolean loadAware = loadScores.keySet().containsAll(clientDistributionMap.keySet());
+        String redirectKey = group + "@" + purpose;
+        if (loadAware && isInRedirectCooldown(redirectKey)) {
+            logger.info("rebalance skipped in redirect cooldown,group:{}, purpose:{}", group, purpose);
+            return;
+        }
+
         //caculate client num need to redirect in currEventMesh
-        int judge = caculateRedirectNum(currEventMeshName, group, purpose, clientDistributionMap);
+        int judge = loadAware
+                ? caculateLoadAwareRedirectNum(currEventMeshName, group, purpose, clientDistributionMap, loadScores)
+                : caculateRedirectNum(currEventMeshName, group, purpose, clientDistributionMap);
 
         if (judge > 0) {
 
             //select redirect target eventmesh lisg
             List<String> eventMeshRecommendResult = selectRedirectEventMesh(group, eventMeshMap, clientDistributionMap,
-                    judge, currEventMeshName);
+                    loadAware ? loadScores : Collections.emptyMap(), judge, currEventMeshName);
             if (eventMeshRecommendResult == null || eventMeshRecommendResult.size() != judge) {
                 logger.warn("doRebalance failed,recommendEventMeshNum is not consistent,recommendResult:{},judge:{}",
                         eventMeshRecommendResult, judge);
@@ -145,6 +170,9 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
 
             //do redirect
             doRedirect(group, purpose, judge, eventMeshRecommendResult);
+            if (loadAware) {
+                lastRedirectTimeMap.put(redirectKey, System.currentTimeMillis());
+            }
         } else {
             logger.info("rebalance condition not satisfy,group:{}, purpose:{},judge:{}", group, purpose, judge);
         }
@@ -179,12 +207,18 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
         logger.info("doRebalance redirect end---------------------group:{}", group);
     }
 
+    private boolean isInRedirectCooldown(String redirectKey) {
+        Long lastRedirectTime = lastRedirectTimeMap.get(redirectKey);
+        return lastRedirectTime != null && System.currentTimeMillis() - lastRedirectTime
+                < eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpRebalanceCooldownInMills;
+    }
+
     private List<String> selectRedirectEventMesh(String group, Map<String, String> eventMeshMap,
-                                                 Map<String, Integer> clientDistributionMap, int judge,
-                                                 String eventMeshName) throws Exception {
+                                                 Map<String, Integer> clientDistributionMap, Map<String, Double> loadScores,
+                                                 int judge, String eventMeshName) throws Exception {
         EventMeshRecommendStrategy eventMeshRecommendStrategy = new EventMeshRecommendImpl(eventMeshTCPServer);
         return eventMeshRecommendStrategy.calculateRedirectRecommendEventMesh(eventMeshMap, clientDistributionMap,
-                group, judge, eventMeshName);
+                loadScores, group, judge, eventMeshName);
     }
 
     public int caculateRedirectNum(String eventMeshName, String group, String purpose,
@@ -222,6 +256,35 @@ public class EventmeshRebalanceImpl implements EventMeshRebalanceStrategy {
         return currentNum - rebalanceResult;
     }
 
+    /**
+     * Each eventmesh should hold a share of the clients in proportion to its capacity, which shrinks as its load
+     * score grows. Clients are only redirected once the local eventmesh exceeds its share by the hysteresis ratio,
+     * and then down to its share, so that small load fluctuations do not bounce clients between instances.
+     */
+    public int caculateLoadAwareRedirectNum(String eventMeshName, String group, String purpose,
+                                            Map<String, Integer> clientDistributionMap,
+                                            Map<String, Double> loadScores) {
+        int sum = 0;
+        double capacitySum = 0;
+        for (Map.Entry<String, Integer> entry : clientDistributionMap.entrySet()) {
+            sum += entry.getValue();
+            capacitySum += EventMeshLoad.capacityOf(loadScores.get(entry.getKey()));
+        }
+        int currentNum = 0;
+        if (clientDistributionMap.get(eventMeshName) != null) {
+            currentNum = clientDistributionMap.get(eventMeshName);
+        }
+        double share = sum * EventMeshLoad.capacityOf(loadScores.get(eventMeshName)) / capacitySum;
+        int hysteresisPercent = eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpRebalanceHysteresisPercent;
+        double threshold = share * (100 + hysteresisPercent) / 100;
+        int rebalanceResult = (int) Math.ceil(share);
+        int judge = currentNum > threshold ? currentNum - rebalanceResult : 0;
+        logger.info("rebalance caculateLoadAwareRedirectNum,group:{}, purpose:{},sum:{},loadScores:{},share:{},"
+                + "threshold:{}, currentNum:{}, rebalanceResult:{}", group, purpose, sum, loadScores, share,
+                threshold, currentNum, rebalanceResult);
+        return judge;
+    }
+
     private Map<String, Integer> queryLocalEventMeshDistributeData(String cluster, String group, String purpose,
                                                                    Map<String, String> eventMeshMap) {
         Map<String, Integer> localEventMeshDistributeData = null;
@@ -19,7 +19,7 @@ package org.apache.eventmesh.runtime.core.protocol.tcp.client.recommend;
 
 import org.apache.eventmesh.api.registry.dto.EventMeshDataInfo;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
-import org.apache.eventmesh.runtime.util.ValueComparator;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance.EventMeshLoad;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -91,12 +91,19 @@ public class EventMeshRecommendImpl implements EventMeshRecommendStrategy {
             }
         }
 
+        Map<String, EventMeshLoad> loads = Collections.emptyMap();
+        if (eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpRebalanceLoadAwareEnabled) {
+            loads = EventMeshLoad.loadsOf(eventMeshDataInfoList);
+        }
+
         if (MapUtils.isNotEmpty(localEventMeshMap)) {
             //recommend eventmesh of local idc
-            return recommendProxyByDistributeData(cluster, group, purpose, localEventMeshMap, true);
+            return recommendProxyByDistributeData(cluster, group, purpose, localEventMeshMap, loadScoresOf(localEventMeshMap, loads),
+                    true);
         } else if (MapUtils.isNotEmpty(remoteEventMeshMap)) {
             //recommend eventmesh of other idc
-            return recommendProxyByDistributeData(cluster, group, purpose, remoteEventMeshMap, false);
+            return recommendProxyByDistributeData(cluster, group, purpose, remoteEventMeshMap, loadScoresOf(remoteEventMeshMap, loads),
+                    false);
         } else {
             log.error("localEventMeshMap or remoteEventMeshMap size error");
             return null;
@@ -109,38 +116,40 @@ public class EventMeshRecommendImpl implements EventMeshRecommendStrategy {
                                                             final String group,
                                                             final int recommendProxyNum,
                                                             final String eventMeshName) throws Exception {
+        return calculateRedirectRecommendEventMesh(eventMeshMap, clientDistributedMap, Collections.emptyMap(), group,
+                recommendProxyNum, eventMeshName);
+    }
+
+    @Override
+    public List<String> calculateRedirectRecommendEventMesh(final Map<String, String> eventMeshMap,
+                                                            final Map<String, Integer> clientDistributedMap,
+                                                            final Map<String, Double> loadScores,
+                                                            final String group,
+                                                            final int recommendProxyNum,
+                                                            final String eventMeshName) throws Exception {
         Objects.requireNonNull(eventMeshMap, "eventMeshMap can not be null");
         Objects.requireNonNull(clientDistributedMap, "clientDistributedMap can not be null");
+        Objects.requireNonNull(loadScores, "loadScores can not be null");
 
         if (recommendProxyNum < DEFAULT_PROXY_NUM || MapUtils.isEmpty(clientDistributedMap)) {
             return new ArrayList<String>();
         }
 
         if (log.isInfoEnabled()) {
-            log.info("eventMeshMap:{},clientDistributionMap:{},group:{},recommendNum:{},currEventMeshName:{}",
-                    eventMeshMap, clientDistributedMap, group, recommendProxyNum, eventMeshName);
-        }
-
-        //find eventmesh with least client
-        final List<Map.Entry<String, Integer>> clientDistributedList = new ArrayList<>();
-        final ValueComparator vc = new ValueComparator();
-        clientDistributedMap.entrySet().forEach(clientDistributedList::add);
-        Collections.sort(clientDistributedList, vc);
-
-        if (log.isInfoEnabled()) {
-            log.info("clientDistributedLists after sort:{}", clientDistributedList);
+            log.info("eventMeshMap:{},clientDistributionMap:{},loadScores:{},group:{},recommendNum:{},currEventMeshName:{}",
+                    eventMeshMap, clientDistributedMap, loadScores, group, recommendProxyNum, eventMeshName);
         }
 
+        //find eventmesh with least client weighted by load
         final List<String> recommendProxyList = new ArrayList<>(recommendProxyNum);
         while (recommendProxyList.size() < recommendProxyNum) {
-            final Map.Entry<String, Integer> minProxyItem = clientDistributedList.get(0);
+            final String minProxy = selectLeastLoaded(clientDistributedMap, loadScores);
             final int currProxyNum = clientDistributedMap.get(eventMeshName);
-            recommendProxyList.add(eventMeshMap.get(minProxyItem.getKey()));
-            clientDistributedMap.put(minProxyItem.getKey(), minProxyItem.getValue() + 1);
+            recommendProxyList.add(eventMeshMap.get(minProxy));
+            clientDistributedMap.put(minProxy, clientDistributedMap.get(minProxy) + 1);
             clientDistributedMap.put(eventMeshName, currProxyNum - 1);
-            Collections.sort(clientDistributedList, vc);
             if (log.isInfoEnabled()) {
-                log.info("clientDistributedList after sort:{}", clientDistributedList);
+                log.info("clientDistributedMap after choose {}:{}", minProxy, clientDistributedMap);
             }
         }
 
@@ -151,8 +160,35 @@ public class EventMeshRecommendImpl implements EventMeshRecommendStrategy {
         return recommendProxyList;
     }
 
+    private Map<String, Double> loadScoresOf(final Map<String, String> eventMeshMap, final Map<String, EventMeshLoad> loads) {
+        //weigh by load only when every candidate publishes it
+        if (!loads.keySet().containsAll(eventMeshMap.keySet())) {
+            return Collections.emptyMap();
+        }
+        final Map<String, EventMeshLoad> candidateLoads = new HashMap<>();
+        eventMeshMap.keySet().forEach(eventMeshName -> candidateLoads.put(eventMeshName, loads.get(eventMeshName)));
+        return EventMeshLoad.scoresOf(candidateLoads);
+    }
+
+    /**
+     * @return the eventmesh which is the least loaded after taking one more client, ties broken by name
+     */
+    private String selectLeastLoaded(final Map<String, Integer> clientDistributionMap, final Map<String, Double> loadScores) {
+        String minProxy = null;
+        double minWeightedNum = Double.MAX_VALUE;
+        for (final Map.Entry<String, Integer> entry : clientDistributionMap.entrySet()) {
+            final double weightedNum = EventMeshLoad.weightedClientNum(entry.getValue() + 1, loadScores.get(entry.getKey()));
+            if (weightedNum < minWeightedNum || weightedNum == minWeightedNum && entry.getKey().compareTo(minProxy) < 0) {
+                minProxy = entry.getKey();
+                minWeightedNum = weightedNum;
+            }
+        }
+        return minProxy;
+    }
+
     private String recommendProxyByDistributeData(final String cluster, final String group, final String purpose,
-                                                  final Map<String, String> eventMeshMap, final boolean caculateLocal) {
+                                                  final Map<String, String> eventMeshMap, final Map<String, Double> loadScores,
+                                                  final boolean caculateLocal) {
         Objects.requireNonNull(eventMeshMap, "eventMeshMap can not be null");
 
         if (log.isInfoEnabled()) {
@@ -172,7 +208,16 @@ public class EventMeshRecommendImpl implements EventMeshRecommendStrategy {
         }
 
         String recommendProxyAddr;
-        if (MapUtils.isEmpty(eventMeshClientDistributionDataMap)) {
+        if (MapUtils.isEmpty(eventMeshClientDistributionDataMap) && MapUtils.isNotEmpty(loadScores)) {
+            final Map<String, Integer> noDistributionMap = new HashMap<>();
+            eventMeshMap.keySet().forEach(eventMeshName -> noDistributionMap.put(eventMeshName, 0));
+            recommendProxyAddr = eventMeshMap.get(selectLeastLoaded(noDistributionMap, loadScores));
+            if (log.isInfoEnabled()) {
+                log.info("No distribute data in registry,cluster:{}, group:{},purpose:{}, loadScores:{}, recommendProxyAddr:{}",
+                        cluster, group, purpose, loadScores, recommendProxyAddr);
+            }
+            return recommendProxyAddr;
+        } else if (MapUtils.isEmpty(eventMeshClientDistributionDataMap)) {
             final List<String> tmpProxyAddrList = new ArrayList<>(eventMeshMap.values());
             if (CollectionUtils.isEmpty(tmpProxyAddrList)) {
                 return null;
@@ -206,7 +251,7 @@ public class EventMeshRecommendImpl implements EventMeshRecommendStrategy {
         });
 
         recommendProxyAddr = recommendProxy(eventMeshMap, (caculateLocal == true) ? localClientDistributionMap
-                : remoteClientDistributionMap, group);
+                : remoteClientDistributionMap, loadScores, group);
 
         if (log.isInfoEnabled()) {
             log.info("eventMeshMap:{},group:{},purpose:{},caculateLocal:{},recommendProxyAddr:{}", eventMeshMap,
@@ -218,6 +263,7 @@ public class EventMeshRecommendImpl implements EventMeshRecommendStrategy {
 
     private String recommendProxy(final Map<String, String> eventMeshMap,
                                   final Map<String, Integer> clientDistributionMap,
+                                  final Map<String, Double> loadScores,
                                   final String group) {
         Objects.requireNonNull(eventMeshMap, "eventMeshMap can not be null");
         Objects.requireNonNull(clientDistributionMap, "clientDistributionMap can not be null");
@@ -236,20 +282,18 @@ public class EventMeshRecommendImpl implements EventMeshRecommendStrategy {
 
         eventMeshMap.keySet().forEach(proxy -> clientDistributionMap.putIfAbsent(proxy, 0));
 
-        //select the eventmesh with least instances
+        //select the eventmesh with least instances weighted by load
         if (MapUtils.isEmpty(clientDistributionMap)) {
             if (log.isErrorEnabled()) {
                 log.error("no legal distribute data,check eventMeshMap and distributeData, group:{}", group);
             }
             return null;
         } else {
-            final List<Map.Entry<String, Integer>> list = new ArrayList<>();
-            clientDistributionMap.entrySet().forEach(list::add);
-            Collections.sort(list, new ValueComparator());
+            final String minProxy = selectLeastLoaded(clientDistributionMap, loadScores);
             if (log.isInfoEnabled()) {
-                log.info("clientDistributionMap after sort:{}", list);
+                log.info("clientDistributionMap:{},loadScores:{},choose:{}", clientDistributionMap, loadScores, minProxy);
             }
-            return eventMeshMap.get(list.get(0).getKey());
+            return eventMeshMap.get(minProxy);
         }
     }
 
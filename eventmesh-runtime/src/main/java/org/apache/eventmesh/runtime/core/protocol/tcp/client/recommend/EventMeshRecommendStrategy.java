@@ -29,4 +29,12 @@ public interface EventMeshRecommendStrategy {
     List<String> calculateRedirectRecommendEventMesh(Map<String, String> eventMeshMap,
                                                      Map<String, Integer> clientDistributeMap, String group,
                                                      int recommendNum, String eventMeshName) throws Exception;
+
+    /**
+     * Same as above, but prefers the eventmesh with the least clients weighted by its load score.
+     */
+    List<String> calculateRedirectRecommendEventMesh(Map<String, String> eventMeshMap,
+                                                     Map<String, Integer> clientDistributeMap,
+                                                     Map<String, Double> loadScores, String group,
+                                                     int recommendNum, String eventMeshName) throws Exception;
 }
@@ -22,6 +22,7 @@ import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientGroupWrapper;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry.RetryContext;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
@@ -33,6 +34,7 @@ import org.apache.commons.lang3.time.DateFormatUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,6 +61,13 @@ public class DownStreamMsgContext extends RetryContext {
 
     public boolean msgFromOtherEventMesh;
 
+    /**
+     * ordering key of the msg, null if the msg is not ordered
+     */
+    public String orderingKey;
+
+    private final AtomicBoolean orderingKeyReleased = new AtomicBoolean(false);
+
     public DownStreamMsgContext(CloudEvent event, Session session, MQConsumerWrapper consumer,
                                 AbstractContext consumeConcurrentlyContext, boolean msgFromOtherEventMesh,
                                 SubscriptionItem subscriptionItem) {
@@ -92,6 +101,24 @@ public class DownStreamMsgContext extends RetryContext {
             logger.warn("ackMsg seq:{} failed,consumer is null:{}, context is null:{} , msgs is null:{}", seq,
                 consumer == null, consumeConcurrentlyContext == null, event == null);
         }
+        releaseOrderingKey();
+    }
+
+    /**
+     * @return false if the ordering key has been released already
+     */
+    public boolean markOrderingKeyReleased() {
+        return orderingKeyReleased.compareAndSet(false, true);
+    }
+
+    private void releaseOrderingKey() {
+        if (orderingKey == null || session == null || !markOrderingKeyReleased()) {
+            return;
+        }
+        ClientGroupWrapper clientGroupWrapper = session.getClientGroupWrapper().get();
+        if (clientGroupWrapper != null) {
+            clientGroupWrapper.releaseOrderingKey(this);
+        }
     }
 
     @Override
@@ -134,9 +161,8 @@ public class DownStreamMsgContext extends RetryContext {
             Session rechoosen;
             String topic = this.event.getSubject();
             if (SubscriptionMode.BROADCASTING != this.subscriptionItem.getMode()) {
-                rechoosen = Objects.requireNonNull(this.session.getClientGroupWrapper().get())
-                    .getDownstreamDispatchStrategy().select(Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getSysId(),
-                        topic, Objects.requireNonNull(this.session.getClientGroupWrapper().get()).getGroupConsumerSessions());
+                ClientGroupWrapper clientGroupWrapper = Objects.requireNonNull(this.session.getClientGroupWrapper().get());
+                rechoosen = clientGroupWrapper.selectDownstreamSession(topic, this.orderingKey);
             } else {
                 rechoosen = this.session;
             }
@@ -190,6 +216,7 @@ public class DownStreamMsgContext extends RetryContext {
         logger.warn("eventMeshAckMsg topic:{}, seq:{}, bizSeq:{}", downStreamMsgContext.event.getSubject(),
             downStreamMsgContext.seq, downStreamMsgContext.event.getExtension(EventMeshConstants.PROPERTY_MESSAGE_KEYS));
         downStreamMsgContext.consumer.updateOffset(msgExts, downStreamMsgContext.consumeConcurrentlyContext);
+        downStreamMsgContext.releaseOrderingKey();
     }
 
 }
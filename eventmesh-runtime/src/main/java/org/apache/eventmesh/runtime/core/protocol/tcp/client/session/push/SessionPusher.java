@@ -31,6 +31,8 @@ import org.apache.eventmesh.runtime.constants.EventMeshConstants;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
+import org.apache.eventmesh.runtime.util.MessageLogSampler;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -43,7 +45,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelFutureListener;
 import io.opentelemetry.api.trace.Span;
 
@@ -92,18 +93,19 @@ public class SessionPusher {
 
         Package pkg = new Package();
 
-        downStreamMsgContext.event = CloudEventBuilder.from(downStreamMsgContext.event)
+        downStreamMsgContext.event = ExtensionOverlayCloudEvent.from(downStreamMsgContext.event)
             .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, String.valueOf(System.currentTimeMillis()))
             .withExtension(EventMeshConstants.RSP_SYS, session.getClient().getSubsystem())
             .withExtension(EventMeshConstants.RSP_GROUP, session.getClient().getGroup())
             .withExtension(EventMeshConstants.RSP_IDC, session.getClient().getIdc())
-            .withExtension(EventMeshConstants.RSP_IP, session.getClient().getHost())
-            .build();
+            .withExtension(EventMeshConstants.RSP_IP, session.getClient().getHost());
         try {
             pkg = (Package) protocolAdaptor.fromCloudEvent(downStreamMsgContext.event);
             pkg.setHeader(new Header(cmd, OPStatus.SUCCESS.getCode(), null, downStreamMsgContext.seq));
             pkg.getHeader().putProperty(Constants.PROTOCOL_TYPE, protocolType);
-            messageLogger.info("pkg|mq2eventMesh|cmd={}|mqMsg={}|user={}", cmd, pkg, session.getClient());
+            if (MessageLogSampler.isInfoEnabled(messageLogger, downStreamMsgContext.event.getSubject())) {
+                messageLogger.info("pkg|mq2eventMesh|cmd={}|mqMsg={}|user={}", cmd, pkg, session.getClient());
+            }
         } catch (Exception e) {
             pkg.setHeader(new Header(cmd, OPStatus.FAIL.getCode(), Arrays.toString(e.getStackTrace()), downStreamMsgContext.seq));
         } finally {
@@ -114,9 +116,7 @@ public class SessionPusher {
                 .incrementAndGet();
 
             //TODO uploadTrace
-            String protocolVersion = Objects.requireNonNull(downStreamMsgContext.event.getSpecVersion()).toString();
-
-            Span span = TraceUtils.prepareClientSpan(EventMeshUtil.getCloudEventExtensionMap(protocolVersion, downStreamMsgContext.event),
+            Span span = TraceUtils.prepareClientSpan(downStreamMsgContext.event,
                 EventMeshTraceConstants.TRACE_DOWNSTREAM_EVENTMESH_CLIENT_SPAN, false);
 
             try {
@@ -133,11 +133,7 @@ public class SessionPusher {
                             session.setIsolateTime(isolateTime);
                             logger.warn("isolate client:{},isolateTime:{}", session.getClient(), isolateTime);
 
-                            //retry
-                            long delayTime = SubscriptionType.SYNC == downStreamMsgContext.subscriptionItem.getType()
-                                ? session.getEventMeshTCPConfiguration().eventMeshTcpMsgRetrySyncDelayInMills
-                                : session.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryAsyncDelayInMills;
-                            downStreamMsgContext.delay(delayTime);
+                            //retry, the delay is decided by the retry policy of the retryer
                             Objects.requireNonNull(session.getClientGroupWrapper().get()).getEventMeshTcpRetryer().pushRetry(downStreamMsgContext);
                         } else {
                             deliveredMsgsCount.incrementAndGet();
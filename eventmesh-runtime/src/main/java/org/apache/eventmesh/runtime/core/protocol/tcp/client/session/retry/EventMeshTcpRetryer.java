@@ -17,15 +17,16 @@
 
 package org.apache.eventmesh.runtime.core.protocol.tcp.client.session.retry;
 
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.group.ClientGroupWrapper;
 import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.DownStreamMsgContext;
-import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
+import org.apache.eventmesh.runtime.core.retry.RetryPolicy;
+import org.apache.eventmesh.runtime.core.retry.RetryScheduler;
 import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -37,16 +38,11 @@ public class EventMeshTcpRetryer {
 
     private EventMeshTCPServer eventMeshTCPServer;
 
-    private DelayQueue<RetryContext> retrys = new DelayQueue<RetryContext>();
+    private RetryScheduler retryScheduler;
 
-    private ThreadPoolExecutor pool = new ThreadPoolExecutor(3,
-        3,
-        60000,
-        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1000),
-        new EventMeshThreadFactoryImpl("eventMesh-tcp-retry", true),
-        new ThreadPoolExecutor.AbortPolicy());
+    private RetryPolicy syncPushRetryPolicy;
 
-    private Thread dispatcher;
+    private RetryPolicy asyncPushRetryPolicy;
 
     public EventMeshTcpRetryer(EventMeshTCPServer eventMeshTCPServer) {
         this.eventMeshTCPServer = eventMeshTCPServer;
@@ -61,59 +57,111 @@ public class EventMeshTcpRetryer {
     }
 
     public void pushRetry(RetryContext retryContext) {
-        if (retrys.size() >= eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryQueueSize) {
+        if (retryContext instanceof DownStreamMsgContext) {
+            // the delay of a push retry is decided by the policy, backoff exponentially
+            RetryPolicy retryPolicy = getPushRetryPolicy((DownStreamMsgContext) retryContext);
+            if (!retryPolicy.canRetry(retryContext.retryTimes)) {
+                logger.warn("pushRetry fail,retry over maxRetryTimes:{}, retryTimes:{}, seq:{}, bizSeq:{}",
+                    retryPolicy.getMaxRetryTimes(), retryContext.retryTimes, retryContext.seq,
+                    EventMeshUtil.getMessageBizSeq(retryContext.event));
+                sendToDeadLetterTopic((DownStreamMsgContext) retryContext);
+                return;
+            }
+            retryContext.executeTime = System.currentTimeMillis() + retryPolicy.backoff(retryContext.retryTimes + 1);
+        } else {
+            int maxRetryTimes = eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgAsyncRetryTimes;
+            if (retryContext.retryTimes >= maxRetryTimes) {
+                logger.warn("pushRetry fail,retry over maxRetryTimes:{}, retryTimes:{}, seq:{}, bizSeq:{}", maxRetryTimes,
+                    retryContext.retryTimes, retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
+                return;
+            }
+        }
+
+        if (!retryScheduler.schedule(retryContext::retry, retryContext.getDelay(TimeUnit.MILLISECONDS))) {
             logger.error("pushRetry fail,retrys is too much,allow max retryQueueSize:{}, retryTimes:{}, seq:{}, bizSeq:{}",
                 eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgRetryQueueSize, retryContext.retryTimes,
                 retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
+            if (retryContext instanceof DownStreamMsgContext) {
+                handOffToBroker((DownStreamMsgContext) retryContext);
+            }
             return;
         }
+        logger.info("pushRetry success,seq:{}, retryTimes:{}, bizSeq:{}", retryContext.seq, retryContext.retryTimes,
+            EventMeshUtil.getMessageBizSeq(retryContext.event));
+    }
 
-        int maxRetryTimes = eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgAsyncRetryTimes;
-        if (retryContext instanceof DownStreamMsgContext) {
-            DownStreamMsgContext downStreamMsgContext = (DownStreamMsgContext) retryContext;
-            maxRetryTimes = SubscriptionType.SYNC == downStreamMsgContext.subscriptionItem.getType()
-                ? eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgSyncRetryTimes :
-                eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgAsyncRetryTimes;
-        }
+    /**
+     * schedule a task other than a push retry, such as handing a msg off to the broker again
+     *
+     * @return false if the task is rejected because too many retries are pending or the retryer is shutdown
+     */
+    public boolean schedule(Runnable task, long delayInMills) {
+        return retryScheduler.schedule(task, delayInMills);
+    }
 
-        if (retryContext.retryTimes >= maxRetryTimes) {
-            logger.warn("pushRetry fail,retry over maxRetryTimes:{}, retryTimes:{}, seq:{}, bizSeq:{}", maxRetryTimes,
-                retryContext.retryTimes, retryContext.seq, EventMeshUtil.getMessageBizSeq(retryContext.event));
+    private RetryPolicy getPushRetryPolicy(DownStreamMsgContext downStreamMsgContext) {
+        return SubscriptionType.SYNC == downStreamMsgContext.subscriptionItem.getType()
+            ? syncPushRetryPolicy : asyncPushRetryPolicy;
+    }
+
+    private void sendToDeadLetterTopic(DownStreamMsgContext downStreamMsgContext) {
+        if (!eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgDeadLetterEnable
+            || SubscriptionMode.BROADCASTING == downStreamMsgContext.subscriptionItem.getMode()
+            || downStreamMsgContext.session == null) {
             return;
         }
+        ClientGroupWrapper clientGroupWrapper = downStreamMsgContext.session.getClientGroupWrapper().get();
+        if (clientGroupWrapper != null) {
+            clientGroupWrapper.sendToDeadLetterTopic(downStreamMsgContext);
+        }
+    }
 
-        retrys.offer(retryContext);
-        logger.info("pushRetry success,seq:{}, retryTimes:{}, bizSeq:{}", retryContext.seq, retryContext.retryTimes,
-            EventMeshUtil.getMessageBizSeq(retryContext.event));
+    /**
+     * a msg whose retry is rejected is handed off to the broker instead of being dropped, to the dead letter
+     * topic of the group if it is enabled, or back to its own topic otherwise
+     */
+    private void handOffToBroker(DownStreamMsgContext downStreamMsgContext) {
+        if (downStreamMsgContext.session == null) {
+            return;
+        }
+        ClientGroupWrapper clientGroupWrapper = downStreamMsgContext.session.getClientGroupWrapper().get();
+        if (clientGroupWrapper == null) {
+            return;
+        }
+        if (eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshTcpMsgDeadLetterEnable
+            && SubscriptionMode.BROADCASTING != downStreamMsgContext.subscriptionItem.getMode()) {
+            clientGroupWrapper.sendToDeadLetterTopic(downStreamMsgContext);
+        } else {
+            clientGroupWrapper.sendBackToBroker(downStreamMsgContext);
+        }
     }
 
     public void init() {
-        dispatcher = new Thread(() -> {
-            try {
-                RetryContext retryContext;
-                while ((retryContext = retrys.take()) != null) {
-                    pool.execute(retryContext::retry);
-                }
-            } catch (Exception e) {
-                logger.error("retry-dispatcher error!", e);
-            }
-        }, "retry-dispatcher");
-        dispatcher.setDaemon(true);
+        EventMeshTCPConfiguration eventMeshTCPConfiguration = eventMeshTCPServer.getEventMeshTCPConfiguration();
+        syncPushRetryPolicy = new RetryPolicy(eventMeshTCPConfiguration.eventMeshTcpMsgRetrySyncDelayInMills,
+            Math.max(eventMeshTCPConfiguration.eventMeshTcpMsgRetrySyncDelayInMills,
+                eventMeshTCPConfiguration.eventMeshTcpMsgRetryMaxDelayInMills),
+            eventMeshTCPConfiguration.eventMeshTcpMsgSyncRetryTimes);
+        asyncPushRetryPolicy = new RetryPolicy(eventMeshTCPConfiguration.eventMeshTcpMsgRetryAsyncDelayInMills,
+            Math.max(eventMeshTCPConfiguration.eventMeshTcpMsgRetryAsyncDelayInMills,
+                eventMeshTCPConfiguration.eventMeshTcpMsgRetryMaxDelayInMills),
+            eventMeshTCPConfiguration.eventMeshTcpMsgAsyncRetryTimes);
+        retryScheduler = new RetryScheduler("eventMesh-tcp-retry", 3,
+            eventMeshTCPConfiguration.eventMeshTcpMsgRetryQueueSize);
         logger.info("EventMeshTcpRetryer inited......");
     }
 
     public void start() throws Exception {
-        dispatcher.start();
         logger.info("EventMeshTcpRetryer started......");
     }
 
     public void shutdown() {
-        pool.shutdown();
+        retryScheduler.shutdown();
         logger.info("EventMeshTcpRetryer shutdown......");
     }
 
     public int getRetrySize() {
-        return retrys.size();
+        return retryScheduler.size();
     }
 
     public void printRetryThreadPoolState() {
@@ -39,6 +39,8 @@ import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.send.UpStre
 import org.apache.eventmesh.runtime.trace.AttributeKeys;
 import org.apache.eventmesh.runtime.trace.SpanKey;
 import org.apache.eventmesh.runtime.trace.TraceUtils;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
+import org.apache.eventmesh.runtime.util.MessageLogSampler;
 import org.apache.eventmesh.runtime.util.RemotingHelper;
 import org.apache.eventmesh.runtime.util.Utils;
 import org.apache.eventmesh.trace.api.common.EventMeshTraceConstants;
@@ -53,7 +55,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
-import io.cloudevents.core.builder.CloudEventBuilder;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -77,22 +78,6 @@ public class MessageTransferTask extends AbstractTask {
         long taskExecuteTime = System.currentTimeMillis();
         Command cmd = pkg.getHeader().getCmd();
 
-        try {
-            if (eventMeshTCPServer.getEventMeshTCPConfiguration().isEventMeshServerTraceEnable()
-                    && RESPONSE_TO_SERVER != cmd) {
-                //attach the span to the server context
-                Span span = TraceUtils.prepareServerSpan(pkg.getHeader().getProperties(),
-                        EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN,
-                        startTime, TimeUnit.MILLISECONDS, true);
-                Context context = Context.current().with(SpanKey.SERVER_KEY, span);
-                //put the context in channel
-                ctx.channel().attr(AttributeKeys.SERVER_CONTEXT).set(context);
-            }
-        } catch (Throwable ex) {
-            LOGGER.warn("upload trace fail in MessageTransferTask[server-span-start]", ex);
-        }
-
-
         Command replyCmd = getReplyCmd(cmd);
         Package msg = new Package();
 
@@ -112,6 +97,8 @@ public class MessageTransferTask extends AbstractTask {
             if (event == null) {
                 throw new Exception("event is null");
             }
+            event = TraceUtils.sample(EventMeshConstants.PROTOCOL_TCP, event);
+            startServerSpan(cmd, event);
 
             String content = new String(Objects.requireNonNull(event.getData()).toBytes(), StandardCharsets.UTF_8);
             if (content.length() > eventMeshTCPServer.getEventMeshTCPConfiguration().eventMeshEventSize) {
@@ -162,9 +149,11 @@ public class MessageTransferTask extends AbstractTask {
 
                 if (StringUtils.equals(EventMeshTcpSendStatus.SUCCESS.name(),
                         sendStatus.getSendStatus().name())) {
-                    MESSAGE_LOGGER.info("pkg|eventMesh2mq|cmd={}|Msg={}|user={}|wait={}ms|cost={}ms",
-                            cmd, event,
-                            session.getClient(), taskExecuteTime - startTime, sendTime - startTime);
+                    if (MessageLogSampler.isInfoEnabled(MESSAGE_LOGGER, event.getSubject())) {
+                        MESSAGE_LOGGER.info("pkg|eventMesh2mq|cmd={}|Msg={}|user={}|wait={}ms|cost={}ms",
+                                cmd, event,
+                                session.getClient(), taskExecuteTime - startTime, sendTime - startTime);
+                    }
                 } else {
                     throw new Exception(sendStatus.getDetail());
                 }
@@ -188,25 +177,40 @@ public class MessageTransferTask extends AbstractTask {
         }
     }
 
+    private void startServerSpan(Command cmd, CloudEvent event) {
+        try {
+            if (eventMeshTCPServer.getEventMeshTCPConfiguration().isEventMeshServerTraceEnable()
+                    && RESPONSE_TO_SERVER != cmd && TraceUtils.isSampled(event)) {
+                //attach the span to the server context
+                Span span = TraceUtils.prepareServerSpan(pkg.getHeader().getProperties(),
+                        EventMeshTraceConstants.TRACE_UPSTREAM_EVENTMESH_SERVER_SPAN,
+                        startTime, TimeUnit.MILLISECONDS, true);
+                Context context = Context.current().with(SpanKey.SERVER_KEY, span);
+                //put the context in channel
+                ctx.channel().attr(AttributeKeys.SERVER_CONTEXT).set(context);
+            }
+        } catch (Throwable ex) {
+            LOGGER.warn("upload trace fail in MessageTransferTask[server-span-start]", ex);
+        }
+    }
+
     private CloudEvent addTimestamp(CloudEvent event, Command cmd, long sendTime) {
         if (cmd == RESPONSE_TO_SERVER) {
-            event = CloudEventBuilder.from(event)
+            event = ExtensionOverlayCloudEvent.from(event)
                     .withExtension(EventMeshConstants.RSP_C2EVENTMESH_TIMESTAMP,
                             String.valueOf(startTime))
                     .withExtension(EventMeshConstants.RSP_EVENTMESH2MQ_TIMESTAMP,
                             String.valueOf(sendTime))
                     .withExtension(EventMeshConstants.RSP_SEND_EVENTMESH_IP,
-                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp())
-                    .build();
+                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp());
         } else {
-            event = CloudEventBuilder.from(event)
+            event = ExtensionOverlayCloudEvent.from(event)
                     .withExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP,
                             String.valueOf(startTime))
                     .withExtension(EventMeshConstants.REQ_EVENTMESH2MQ_TIMESTAMP,
                             String.valueOf(sendTime))
                     .withExtension(EventMeshConstants.REQ_SEND_EVENTMESH_IP,
-                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp())
-                    .build();
+                            eventMeshTCPServer.getEventMeshTCPConfiguration().getEventMeshServerIp());
         }
         return event;
     }
@@ -233,9 +237,11 @@ public class MessageTransferTask extends AbstractTask {
             @Override
             public void onSuccess(SendResult sendResult) {
                 session.getSender().getUpstreamBuff().release();
-                MESSAGE_LOGGER.info("upstreamMsg message success|user={}|callback cost={}",
-                        session.getClient(),
-                        System.currentTimeMillis() - createTime);
+                if (MessageLogSampler.isInfoEnabled(MESSAGE_LOGGER, event.getSubject())) {
+                    MESSAGE_LOGGER.info("upstreamMsg message success|user={}|callback cost={}",
+                            session.getClient(),
+                            System.currentTimeMillis() - createTime);
+                }
                 if (replyCmd == Command.BROADCAST_MESSAGE_TO_SERVER_ACK
                         || replyCmd == Command.ASYNC_MESSAGE_TO_SERVER_ACK) {
                     msg.setHeader(
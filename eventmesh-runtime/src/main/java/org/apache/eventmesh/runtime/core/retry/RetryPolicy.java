@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter and a limit of retry times.
+ */
+public class RetryPolicy {
+
+    private static final double DEFAULT_JITTER = 0.2;
+
+    private final long baseDelayInMills;
+
+    private final long maxDelayInMills;
+
+    private final int maxRetryTimes;
+
+    private final double jitter;
+
+    public RetryPolicy(long baseDelayInMills, long maxDelayInMills, int maxRetryTimes) {
+        this(baseDelayInMills, maxDelayInMills, maxRetryTimes, DEFAULT_JITTER);
+    }
+
+    /**
+     * @param jitter at most this ratio of the delay is randomly cut off, so that msgs failed together
+     *               are not retried at the same time
+     */
+    public RetryPolicy(long baseDelayInMills, long maxDelayInMills, int maxRetryTimes, double jitter) {
+        if (baseDelayInMills < 0 || maxDelayInMills < baseDelayInMills) {
+            throw new IllegalArgumentException("illegal retry delay, base:" + baseDelayInMills + ", max:" + maxDelayInMills);
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("illegal retry jitter:" + jitter);
+        }
+        this.baseDelayInMills = baseDelayInMills;
+        this.maxDelayInMills = maxDelayInMills;
+        this.maxRetryTimes = maxRetryTimes;
+        this.jitter = jitter;
+    }
+
+    /**
+     * @param retryTimes the retry times including this one, starts from 1
+     * @return delay before this retry
+     */
+    public long backoff(int retryTimes) {
+        long delay = baseDelayInMills;
+        for (int i = 1; i < retryTimes && delay < maxDelayInMills; i++) {
+            delay <<= 1;
+        }
+        delay = Math.min(delay, maxDelayInMills);
+        if (jitter == 0 || delay == 0) {
+            return delay;
+        }
+        return delay - (long) (ThreadLocalRandom.current().nextDouble() * jitter * delay);
+    }
+
+    /**
+     * @param retryTimes the retry times already done
+     */
+    public boolean canRetry(int retryTimes) {
+        return retryTimes < maxRetryTimes;
+    }
+
+    public int getMaxRetryTimes() {
+        return maxRetryTimes;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{"
+            + "baseDelayInMills=" + baseDelayInMills
+            + ", maxDelayInMills=" + maxDelayInMills
+            + ", maxRetryTimes=" + maxRetryTimes
+            + ", jitter=" + jitter
+            + '}';
+    }
+}
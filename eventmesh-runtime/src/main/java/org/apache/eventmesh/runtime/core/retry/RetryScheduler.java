@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import org.apache.eventmesh.runtime.util.EventMeshThreadFactoryImpl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+
+/**
+ * Schedule retries of one protocol.
+ *
+ * <p>All the protocols share one timer wheel, which only hands due retries over to the worker pool of
+ * the protocol, so a slow retry never blocks the others. The number of pending retries is limited,
+ * {@link #schedule} returns false instead of silently dropping the retry when the limit is reached.
+ */
+public class RetryScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("retry");
+
+    private static final Timer TIMER = new HashedWheelTimer(
+        new EventMeshThreadFactoryImpl("eventMesh-retry-timer", true), 10, TimeUnit.MILLISECONDS, 512);
+
+    private final String name;
+
+    private final int maxPendingSize;
+
+    private final AtomicInteger pendingSize = new AtomicInteger();
+
+    /**
+     * retries waiting in the timer wheel, kept so they can be flushed on shutdown
+     */
+    private final Set<RetryTask> waitingRetries = ConcurrentHashMap.newKeySet();
+
+    private final ThreadPoolExecutor workers;
+
+    private volatile boolean shutdown = false;
+
+    public RetryScheduler(String name, int threadNum, int maxPendingSize) {
+        this.name = name;
+        this.maxPendingSize = maxPendingSize;
+        // pending retries are limited, so the queue never rejects a due retry
+        this.workers = new ThreadPoolExecutor(threadNum, threadNum, 60000, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new EventMeshThreadFactoryImpl(name, true));
+    }
+
+    /**
+     * @return false if the retry is rejected because too many retries are pending or the scheduler is shutdown
+     */
+    public boolean schedule(Runnable retry, long delayInMills) {
+        if (shutdown) {
+            return false;
+        }
+        if (pendingSize.incrementAndGet() > maxPendingSize) {
+            pendingSize.decrementAndGet();
+            LOGGER.error("[{}] too many pending retries, allow max size:{}", name, maxPendingSize);
+            return false;
+        }
+        RetryTask retryTask = new RetryTask(retry);
+        waitingRetries.add(retryTask);
+        try {
+            TIMER.newTimeout(retryTask, Math.max(0, delayInMills), TimeUnit.MILLISECONDS);
+        } catch (IllegalStateException e) {
+            waitingRetries.remove(retryTask);
+            pendingSize.decrementAndGet();
+            LOGGER.error("[{}] schedule retry fail", name, e);
+            return false;
+        }
+        return true;
+    }
+
+    private void dispatch(Runnable retry) {
+        try {
+            workers.execute(() -> {
+                pendingSize.decrementAndGet();
+                try {
+                    retry.run();
+                } catch (Exception e) {
+                    LOGGER.error("[{}] retry error!", name, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingSize.decrementAndGet();
+            LOGGER.warn("[{}] retry is discarded because the scheduler is shutdown", name);
+        }
+    }
+
+    public int size() {
+        return pendingSize.get();
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        workers.shutdown();
+    }
+
+    /**
+     * Take no more retries and run the waiting ones now instead of dropping them, a retry which fails again is
+     * rejected by {@link #schedule} and handled as such by the caller.
+     */
+    public void flushAndShutdown() {
+        shutdown = true;
+        for (RetryTask retryTask : waitingRetries) {
+            if (waitingRetries.remove(retryTask)) {
+                dispatch(retryTask.retry);
+            }
+        }
+        workers.shutdown();
+    }
+
+    private class RetryTask implements TimerTask {
+
+        private final Runnable retry;
+
+        RetryTask(Runnable retry) {
+            this.retry = retry;
+        }
+
+        @Override
+        public void run(Timeout timeout) {
+            if (waitingRetries.remove(this)) {
+                dispatch(retry);
+            }
+        }
+    }
+}
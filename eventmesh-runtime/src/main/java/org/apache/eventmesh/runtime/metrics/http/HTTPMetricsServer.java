@@ -53,7 +53,7 @@ public class HTTPMetricsServer {
                 eventMeshHTTPServer.batchMsgExecutor,
                 eventMeshHTTPServer.sendMsgExecutor,
                 eventMeshHTTPServer.pushMsgExecutor,
-                eventMeshHTTPServer.getHttpRetryer().getFailedQueue());
+                eventMeshHTTPServer.getHttpRetryer()::size);
 
         init();
     }
@@ -37,10 +37,16 @@ public class Trace {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final boolean useTrace;
+    private final TraceSampler traceSampler;
     private EventMeshTraceService eventMeshTraceService;
 
     public Trace(boolean useTrace) {
+        this(useTrace, new TraceSampler(1.0, null));
+    }
+
+    public Trace(boolean useTrace, TraceSampler traceSampler) {
         this.useTrace = useTrace;
+        this.traceSampler = traceSampler;
     }
 
     public void init(String tracePluginType) throws Exception {
@@ -50,6 +56,37 @@ public class Trace {
         }
     }
 
+    /**
+     * Stamp the head sampling decision on an event entering the mesh, does nothing when trace is disabled.
+     */
+    public CloudEvent sample(String protocol, CloudEvent event) {
+        if (!useTrace || event == null) {
+            return event;
+        }
+        return traceSampler.sample(protocol, event);
+    }
+
+    /**
+     * Make the head sampling decision for a request from its headers, always false when trace is disabled.
+     */
+    public boolean sample(String protocol, Map<String, Object> headers) {
+        return useTrace && traceSampler.sample(protocol, headers);
+    }
+
+    /**
+     * Stamp the decision made for the request on its event, does nothing when trace is disabled.
+     */
+    public CloudEvent sample(CloudEvent event, boolean requestSampled) {
+        if (!useTrace || event == null) {
+            return event;
+        }
+        return TraceSampler.sample(event, requestSampled);
+    }
+
+    public boolean isSampled(CloudEvent event) {
+        return useTrace && (event == null || TraceSampler.isSampled(event));
+    }
+
     public Span createSpan(String spanName, SpanKind spanKind, long startTime, TimeUnit timeUnit,
                            Context context, boolean isSpanFinishInOtherThread) {
         if (!useTrace) {
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.trace;
+
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+import org.apache.eventmesh.runtime.util.ExtensionOverlayCloudEvent;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.cloudevents.CloudEvent;
+
+/**
+ * Head-based trace sampler.
+ *
+ * <p>The decision is made once, where a message enters the mesh, and is carried in the
+ * {@link EventMeshConstants#TRACE_SAMPLED} extension so every later hop (and every other eventmesh the event
+ * reaches through the broker) agrees with it. Messages without the extension are treated as sampled.
+ *
+ * <p>Ratios are resolved from the rules in the order {@code protocol:topic}, {@code protocol:*}, {@code *:topic},
+ * {@code *:*}, then the default ratio. Rules are written as {@code http:order-topic=0.01,tcp:*=0.1}.
+ */
+public class TraceSampler {
+
+    public static final String WILDCARD = "*";
+
+    private static final Logger logger = LoggerFactory.getLogger(TraceSampler.class);
+
+    private final double defaultRatio;
+
+    /**
+     * protocol -> topic -> ratio
+     */
+    private final Map<String, Map<String, Double>> rules = new HashMap<>();
+
+    public TraceSampler(double defaultRatio, String rules) {
+        this.defaultRatio = defaultRatio;
+        parseRules(rules);
+    }
+
+    private void parseRules(String config) {
+        if (StringUtils.isBlank(config)) {
+            return;
+        }
+        for (String rule : StringUtils.split(config, ',')) {
+            int protocolEnd = rule.indexOf(':');
+            int ratioStart = rule.lastIndexOf('=');
+            if (protocolEnd <= 0 || ratioStart <= protocolEnd + 1 || ratioStart == rule.length() - 1) {
+                logger.warn("ignore invalid trace sample rule: {}", rule);
+                continue;
+            }
+            String protocol = StringUtils.lowerCase(rule.substring(0, protocolEnd).trim());
+            String topic = rule.substring(protocolEnd + 1, ratioStart).trim();
+            double ratio;
+            try {
+                ratio = Double.parseDouble(rule.substring(ratioStart + 1).trim());
+            } catch (NumberFormatException e) {
+                logger.warn("ignore invalid trace sample rule: {}", rule);
+                continue;
+            }
+            if (ratio < 0 || ratio > 1) {
+                logger.warn("ignore trace sample rule with ratio out of [0, 1]: {}", rule);
+                continue;
+            }
+            rules.computeIfAbsent(protocol, k -> new HashMap<>()).put(topic, ratio);
+        }
+    }
+
+    public double ratioOf(String protocol, String topic) {
+        Double ratio = lookup(rules.get(protocol), topic);
+        if (ratio == null) {
+            ratio = lookup(rules.get(WILDCARD), topic);
+        }
+        return ratio == null ? defaultRatio : ratio;
+    }
+
+    private Double lookup(Map<String, Double> topicRules, String topic) {
+        if (topicRules == null) {
+            return null;
+        }
+        Double ratio = topic == null ? null : topicRules.get(topic);
+        return ratio == null ? topicRules.get(WILDCARD) : ratio;
+    }
+
+    public boolean shouldSample(String protocol, String topic) {
+        double ratio = ratioOf(protocol, topic);
+        if (ratio >= 1) {
+            return true;
+        }
+        return ratio > 0 && ThreadLocalRandom.current().nextDouble() < ratio;
+    }
+
+    /**
+     * Make the sampling decision for an event entering the mesh, unless an upstream hop already made it.
+     *
+     * @return the event carrying the {@link EventMeshConstants#TRACE_SAMPLED} extension
+     */
+    public CloudEvent sample(String protocol, CloudEvent event) {
+        if (event.getExtension(EventMeshConstants.TRACE_SAMPLED) != null) {
+            return event;
+        }
+        return ExtensionOverlayCloudEvent.from(event)
+            .withExtension(EventMeshConstants.TRACE_SAMPLED, String.valueOf(shouldSample(protocol, event.getSubject())));
+    }
+
+    /**
+     * Make the sampling decision for a request before its event is parsed, following the
+     * {@link EventMeshConstants#TRACE_SAMPLED} header of an upstream hop if any.
+     */
+    public boolean sample(String protocol, Map<String, Object> headers) {
+        if (headers != null) {
+            for (Map.Entry<String, Object> header : headers.entrySet()) {
+                if (EventMeshConstants.TRACE_SAMPLED.equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                    return Boolean.parseBoolean(header.getValue().toString());
+                }
+            }
+        }
+        return shouldSample(protocol, null);
+    }
+
+    /**
+     * Stamp the decision already made for the request on its event, unless an upstream hop made one for the event.
+     */
+    public static CloudEvent sample(CloudEvent event, boolean requestSampled) {
+        if (event.getExtension(EventMeshConstants.TRACE_SAMPLED) != null) {
+            return event;
+        }
+        return ExtensionOverlayCloudEvent.from(event)
+            .withExtension(EventMeshConstants.TRACE_SAMPLED, String.valueOf(requestSampled));
+    }
+
+    public static boolean isSampled(CloudEvent event) {
+        Object sampled = event.getExtension(EventMeshConstants.TRACE_SAMPLED);
+        return sampled == null || Boolean.parseBoolean(sampled.toString());
+    }
+}
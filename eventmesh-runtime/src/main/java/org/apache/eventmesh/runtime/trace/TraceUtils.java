@@ -18,8 +18,10 @@
 package org.apache.eventmesh.runtime.trace;
 
 import org.apache.eventmesh.runtime.boot.EventMeshServer;
+import org.apache.eventmesh.runtime.util.EventMeshUtil;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -35,6 +37,39 @@ import io.opentelemetry.context.Context;
 public class TraceUtils {
     private static Logger logger = LoggerFactory.getLogger(TraceUtils.class);
 
+    /**
+     * Make the head sampling decision for an event entering the mesh through the given protocol.
+     */
+    public static CloudEvent sample(String protocol, CloudEvent event) {
+        Trace trace = EventMeshServer.getTrace();
+        return trace == null ? event : trace.sample(protocol, event);
+    }
+
+    /**
+     * Make the head sampling decision for a request entering the mesh before its event is parsed.
+     */
+    public static boolean sample(String protocol, Map<String, Object> headers) {
+        Trace trace = EventMeshServer.getTrace();
+        return trace != null && trace.sample(protocol, headers);
+    }
+
+    /**
+     * Make the event follow the decision already made for its request.
+     */
+    public static CloudEvent sample(CloudEvent event, boolean requestSampled) {
+        Trace trace = EventMeshServer.getTrace();
+        return trace == null ? event : trace.sample(event, requestSampled);
+    }
+
+    public static boolean isSampled(CloudEvent event) {
+        Trace trace = EventMeshServer.getTrace();
+        return trace != null && trace.isSampled(event);
+    }
+
+    private static Map<String, Object> traceMapOf(CloudEvent event) {
+        return EventMeshUtil.getCloudEventExtensionMap(Objects.requireNonNull(event.getSpecVersion()).toString(), event);
+    }
+
     public static Span prepareClientSpan(Map<String, Object> map, String spanName,
                                          boolean isSpanFinishInOtherThread) {
         Span span = null;
@@ -48,6 +83,17 @@ public class TraceUtils {
         return span;
     }
 
+    /**
+     * Same as {@link #prepareClientSpan(Map, String, boolean)}, but unsampled events neither create a span nor
+     * copy their extensions.
+     */
+    public static Span prepareClientSpan(CloudEvent event, String spanName, boolean isSpanFinishInOtherThread) {
+        if (!isSampled(event)) {
+            return Span.getInvalid();
+        }
+        return prepareClientSpan(traceMapOf(event), spanName, isSpanFinishInOtherThread);
+    }
+
     public static Span prepareServerSpan(Map<String, Object> map, String spanName,
                                          boolean isSpanFinishInOtherThread) {
         Span span = null;
@@ -80,11 +126,27 @@ public class TraceUtils {
         return span;
     }
 
+    /**
+     * Same as {@link #prepareServerSpan(Map, String, boolean)}, but unsampled events neither create a span nor
+     * copy their extensions.
+     */
+    public static Span prepareServerSpan(CloudEvent event, String spanName, boolean isSpanFinishInOtherThread) {
+        if (!isSampled(event)) {
+            return Span.getInvalid();
+        }
+        return prepareServerSpan(traceMapOf(event), spanName, isSpanFinishInOtherThread);
+    }
 
     public static void finishSpan(Span span, CloudEvent event) {
+        if (span != null && !span.isRecording()) {
+            return;
+        }
         try {
             logger.debug("finishSpan with event:{}", event);
-            EventMeshServer.getTrace().addTraceInfoToSpan(span, event);
+            // a span opened before the sampling decision is ended without copying the unsampled event
+            if (isSampled(event)) {
+                EventMeshServer.getTrace().addTraceInfoToSpan(span, event);
+            }
             EventMeshServer.getTrace().finishSpan(span, StatusCode.OK);
         } catch (Throwable ex) {
             logger.warn("upload trace fail when finishSpan", ex);
@@ -93,6 +155,9 @@ public class TraceUtils {
     }
 
     public static void finishSpan(ChannelHandlerContext ctx, CloudEvent event) {
+        if (!isSampled(event)) {
+            return;
+        }
         try {
             logger.debug("finishSpan with event:{}", event);
             EventMeshServer.getTrace().addTraceInfoToSpan(ctx, event);
@@ -105,6 +170,9 @@ public class TraceUtils {
 
     public static void finishSpanWithException(ChannelHandlerContext ctx, CloudEvent event,
                                                String errMsg, Throwable e) {
+        if (!isSampled(event)) {
+            return;
+        }
         try {
             logger.debug("finishSpanWithException with event:{}", event);
             EventMeshServer.getTrace().addTraceInfoToSpan(ctx, event);
@@ -116,6 +184,9 @@ public class TraceUtils {
 
     public static void finishSpanWithException(Span span, Map<String, Object> map, String errMsg,
                                                Throwable e) {
+        if (span != null && !span.isRecording()) {
+            return;
+        }
         try {
             logger.debug("finishSpanWithException with map:{}", map);
             EventMeshServer.getTrace().addTraceInfoToSpan(span, map);
@@ -124,4 +195,12 @@ public class TraceUtils {
             logger.warn("upload trace fail when finishSpanWithException", ex);
         }
     }
+
+    public static void finishSpanWithException(Span span, CloudEvent event, String errMsg, Throwable e) {
+        if (span != null && !span.isRecording()) {
+            return;
+        }
+        // a span opened before the sampling decision is ended without copying the unsampled event
+        finishSpanWithException(span, isSampled(event) ? traceMapOf(event) : null, errMsg, e);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.eventmesh.runtime.util;
 
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
 import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.common.utils.RandomStringUtils;
@@ -50,6 +51,7 @@ import org.slf4j.LoggerFactory;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.SpecVersion;
+import io.cloudevents.core.CloudEventUtils;
 import io.cloudevents.core.v03.CloudEventV03;
 import io.cloudevents.core.v1.CloudEventV1;
 
@@ -169,6 +171,21 @@ public class EventMeshUtil {
         return keys;
     }
 
+    /**
+     * get the ordering key of the event, null if the subscription is not ordered or the event has no ordering key
+     */
+    public static String getOrderingKey(final SubscriptionItem subscriptionItem, final CloudEvent event) {
+        if (subscriptionItem == null || StringUtils.isBlank(subscriptionItem.getOrderingKey())) {
+            return null;
+        }
+        final String attributeName = subscriptionItem.getOrderingKey();
+        Object value = event.getExtension(attributeName);
+        if (value == null && event.getAttributeNames().contains(attributeName)) {
+            value = event.getAttribute(attributeName);
+        }
+        return value == null ? null : value.toString();
+    }
+
     public static Map<String, String> getEventProp(final CloudEvent event) {
         final Map<String, String> propMap = new HashMap<>();
         for (final String extensionKey : event.getExtensionNames()) {
@@ -326,12 +343,12 @@ public class EventMeshUtil {
     public static Map<String, Object> getCloudEventExtensionMap(final String protocolVersion,
                                                                 final CloudEvent cloudEvent) {
         final EventMeshCloudEventWriter eventMeshCloudEventWriter = new EventMeshCloudEventWriter();
-        if (StringUtils.equals(SpecVersion.V1.toString(), protocolVersion)
-                && cloudEvent instanceof CloudEventV1) {
-            ((CloudEventV1) cloudEvent).readContext(eventMeshCloudEventWriter);
-        } else if (StringUtils.equals(SpecVersion.V03.toString(), protocolVersion)
-                && cloudEvent instanceof CloudEventV03) {
-            ((CloudEventV03) cloudEvent).readContext(eventMeshCloudEventWriter);
+        // an overlay exposes the stamped extensions on top of the spec event it wraps
+        final CloudEvent specEvent = cloudEvent instanceof ExtensionOverlayCloudEvent
+                ? ((ExtensionOverlayCloudEvent) cloudEvent).getDelegate() : cloudEvent;
+        if ((StringUtils.equals(SpecVersion.V1.toString(), protocolVersion) && specEvent instanceof CloudEventV1)
+                || (StringUtils.equals(SpecVersion.V03.toString(), protocolVersion) && specEvent instanceof CloudEventV03)) {
+            CloudEventUtils.toContextReader(cloudEvent).readContext(eventMeshCloudEventWriter);
         }
 
         return eventMeshCloudEventWriter.getExtensionMap();
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.CloudEventData;
+import io.cloudevents.SpecVersion;
+
+/**
+ * A {@link CloudEvent} that stamps extensions on top of an existing event without copying it.
+ *
+ * <p>The runtime adds one or two extensions (timestamps, ip, group...) to every event on each hop. Rebuilding the
+ * event with {@code CloudEventBuilder.from(event)} copies all attributes and the whole extension map every time, so
+ * the hot paths wrap the event instead and only keep the stamped extensions in a small overlay.
+ *
+ * <p>{@link #from(CloudEvent)} always returns a new instance, so an event shared between several sessions is never
+ * mutated; {@link #withExtension} mutates that new instance and should only be called before it is published.
+ */
+public final class ExtensionOverlayCloudEvent implements CloudEvent {
+
+    private static final int DEFAULT_OVERLAY_SIZE = 4;
+
+    private final CloudEvent delegate;
+
+    private String[] names;
+
+    private Object[] values;
+
+    private int size;
+
+    private Set<String> extensionNames;
+
+    private ExtensionOverlayCloudEvent(CloudEvent delegate, String[] names, Object[] values, int size) {
+        this.delegate = delegate;
+        this.names = names;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Wrap the given event. If it is already an overlay, the delegate is reused and only the overlay is copied,
+     * so chained hops never nest wrappers.
+     */
+    public static ExtensionOverlayCloudEvent from(CloudEvent event) {
+        Objects.requireNonNull(event, "event can not be null");
+        if (event instanceof ExtensionOverlayCloudEvent) {
+            ExtensionOverlayCloudEvent overlay = (ExtensionOverlayCloudEvent) event;
+            int capacity = Math.max(overlay.size + DEFAULT_OVERLAY_SIZE, DEFAULT_OVERLAY_SIZE);
+            return new ExtensionOverlayCloudEvent(overlay.delegate, Arrays.copyOf(overlay.names, capacity),
+                Arrays.copyOf(overlay.values, capacity), overlay.size);
+        }
+        return new ExtensionOverlayCloudEvent(event, new String[DEFAULT_OVERLAY_SIZE],
+            new Object[DEFAULT_OVERLAY_SIZE], 0);
+    }
+
+    public ExtensionOverlayCloudEvent withExtension(String name, String value) {
+        return putExtension(name, value);
+    }
+
+    public ExtensionOverlayCloudEvent withExtension(String name, Number value) {
+        return putExtension(name, value);
+    }
+
+    private ExtensionOverlayCloudEvent putExtension(String name, Object value) {
+        Objects.requireNonNull(name, "extension name can not be null");
+        int index = indexOf(name);
+        if (index >= 0) {
+            values[index] = value;
+            return this;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+        names[size] = name;
+        values[size] = value;
+        size++;
+        extensionNames = null;
+        return this;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public CloudEvent getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public CloudEventData getData() {
+        return delegate.getData();
+    }
+
+    @Override
+    public SpecVersion getSpecVersion() {
+        return delegate.getSpecVersion();
+    }
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public URI getSource() {
+        return delegate.getSource();
+    }
+
+    @Override
+    public String getDataContentType() {
+        return delegate.getDataContentType();
+    }
+
+    @Override
+    public URI getDataSchema() {
+        return delegate.getDataSchema();
+    }
+
+    @Override
+    public String getSubject() {
+        return delegate.getSubject();
+    }
+
+    @Override
+    public OffsetDateTime getTime() {
+        return delegate.getTime();
+    }
+
+    @Override
+    public Object getAttribute(String attributeName) throws IllegalArgumentException {
+        return delegate.getAttribute(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return delegate.getAttributeNames();
+    }
+
+    @Override
+    public Object getExtension(String extensionName) {
+        int index = indexOf(extensionName);
+        return index >= 0 ? values[index] : delegate.getExtension(extensionName);
+    }
+
+    @Override
+    public Set<String> getExtensionNames() {
+        if (extensionNames == null) {
+            Set<String> delegateNames = delegate.getExtensionNames();
+            Set<String> merged = new HashSet<>(delegateNames.size() + size);
+            merged.addAll(delegateNames);
+            merged.addAll(Arrays.asList(names).subList(0, size));
+            extensionNames = Collections.unmodifiableSet(merged);
+        }
+        return extensionNames;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CloudEvent)) {
+            return false;
+        }
+        CloudEvent that = (CloudEvent) o;
+        if (!Objects.equals(getSpecVersion(), that.getSpecVersion())
+            || !Objects.equals(getId(), that.getId())
+            || !Objects.equals(getType(), that.getType())
+            || !Objects.equals(getSource(), that.getSource())
+            || !Objects.equals(getDataContentType(), that.getDataContentType())
+            || !Objects.equals(getDataSchema(), that.getDataSchema())
+            || !Objects.equals(getSubject(), that.getSubject())
+            || !Objects.equals(getTime(), that.getTime())
+            || !Objects.equals(getData(), that.getData())
+            || !getExtensionNames().equals(that.getExtensionNames())) {
+            return false;
+        }
+        for (String name : getExtensionNames()) {
+            if (!Objects.equals(getExtension(name), that.getExtension(name))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId(), getSource(), getType(), getSubject());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ExtensionOverlayCloudEvent{delegate=").append(delegate)
+            .append(", overlay={");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(names[i]).append('=').append(values[i]);
+        }
+        return sb.append("}}").toString();
+    }
+}
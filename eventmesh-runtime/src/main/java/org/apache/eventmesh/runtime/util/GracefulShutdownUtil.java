@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Helpers to wait for the real outstanding work in a graceful shutdown instead of sleeping for a fixed time.
+ * The deadlines are absolute {@link System#currentTimeMillis()} values shared by the steps of one shutdown.
+ */
+public final class GracefulShutdownUtil {
+
+    private static final long POLL_INTERVAL_MILLS = 100;
+
+    private GracefulShutdownUtil() {
+
+    }
+
+    public static long deadlineAfter(long timeoutMills) {
+        return System.currentTimeMillis() + timeoutMills;
+    }
+
+    /**
+     * @return true if drained before the deadline
+     */
+    public static boolean awaitDrained(BooleanSupplier drained, long deadline) throws InterruptedException {
+        while (!drained.getAsBoolean()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            Thread.sleep(Math.min(POLL_INTERVAL_MILLS, remaining));
+        }
+        return true;
+    }
+
+    /**
+     * Stop the executors from taking new tasks and wait for the queued and running ones to finish.
+     *
+     * @return true if all executors terminated before the deadline
+     */
+    public static boolean awaitTermination(long deadline, ExecutorService... executors) throws InterruptedException {
+        for (ExecutorService executor : executors) {
+            executor.shutdown();
+        }
+        boolean terminated = true;
+        for (ExecutorService executor : executors) {
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            terminated &= executor.awaitTermination(remaining, TimeUnit.MILLISECONDS);
+        }
+        return terminated;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+/**
+ * Limits the per-message INFO lines (the {@code message} logger) to a number of lines per second for each topic.
+ *
+ * <p>Call sites guard the whole log statement with {@link #isInfoEnabled(Logger, String)}, so nothing is rendered
+ * for a line that is dropped. Failure lines are not meant to go through this sampler.
+ */
+public final class MessageLogSampler {
+
+    private static final ConcurrentMap<String, Window> WINDOWS = new ConcurrentHashMap<>();
+
+    /**
+     * lines per second per topic, {@code <= 0} means unlimited
+     */
+    private static volatile int maxPerSecondPerTopic = 0;
+
+    private MessageLogSampler() {
+    }
+
+    public static void setMaxPerSecondPerTopic(int maxPerSecondPerTopic) {
+        MessageLogSampler.maxPerSecondPerTopic = maxPerSecondPerTopic;
+        WINDOWS.clear();
+    }
+
+    public static boolean isInfoEnabled(Logger logger, String topic) {
+        return logger.isInfoEnabled() && tryAcquire(topic, System.currentTimeMillis());
+    }
+
+    static boolean tryAcquire(String topic, long now) {
+        int max = maxPerSecondPerTopic;
+        if (max <= 0) {
+            return true;
+        }
+        String key = topic == null ? "" : topic;
+        Window window = WINDOWS.get(key);
+        if (window == null) {
+            Window created = new Window();
+            window = WINDOWS.putIfAbsent(key, created);
+            if (window == null) {
+                window = created;
+            }
+        }
+        return window.tryAcquire(now / 1000, max);
+    }
+
+    private static final class Window {
+
+        private volatile long second = -1;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long currentSecond, int max) {
+            if (second != currentSecond) {
+                synchronized (this) {
+                    if (second != currentSecond) {
+                        count.set(0);
+                        second = currentSecond;
+                    }
+                }
+            }
+            return count.incrementAndGet() <= max;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.cloudevents.CloudEvent;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -113,6 +114,9 @@ public class Utils {
      * @param startTime
      */
     public static void logSucceedMessageFlow(Package pkg, UserAgent user, long startTime, long taskExecuteTime) {
+        if (!MessageLogSampler.isInfoEnabled(MESSAGE_LOGGER, topicOf(pkg))) {
+            return;
+        }
         if (pkg.getBody() instanceof EventMeshMessage) {
             MESSAGE_LOGGER.info("pkg|eventMesh2c|cmd={}|mqMsg={}|user={}|wait={}ms|cost={}ms", pkg.getHeader().getCmd(),
                     EventMeshUtil.printMqMessage((EventMeshMessage) pkg.getBody()), user, taskExecuteTime - startTime,
@@ -125,6 +129,17 @@ public class Utils {
         }
     }
 
+    private static String topicOf(Package pkg) {
+        Object body = pkg.getBody();
+        if (body instanceof EventMeshMessage) {
+            return ((EventMeshMessage) body).getTopic();
+        }
+        if (body instanceof CloudEvent) {
+            return ((CloudEvent) body).getSubject();
+        }
+        return null;
+    }
+
     /**
      * get serviceId according to topic
      */
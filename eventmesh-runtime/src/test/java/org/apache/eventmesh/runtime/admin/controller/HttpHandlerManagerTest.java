@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.admin.controller;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.apache.eventmesh.runtime.common.EventHttpHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpHandlerManagerTest {
+
+    private HttpServer server;
+
+    private HttpHandlerManager httpHandlerManager;
+
+    @Before
+    public void setUp() {
+        server = mock(HttpServer.class);
+        httpHandlerManager = new HttpHandlerManager();
+    }
+
+    @Test
+    public void testHandlerRunsOnAdminExecutor() throws Exception {
+        FastHandler handler = new FastHandler();
+        httpHandlerManager.register(handler);
+        List<Runnable> submitted = new ArrayList<>();
+        httpHandlerManager.registerHttpHandler(server, submitted::add, this::fail, this::fail);
+
+        registeredHandler("/fast").handle(mock(HttpExchange.class));
+        Assert.assertEquals(0, handler.handled);
+        Assert.assertEquals(1, submitted.size());
+
+        submitted.get(0).run();
+        Assert.assertEquals(1, handler.handled);
+    }
+
+    @Test
+    public void testIsolatedHandlerRunsOnIsolatedExecutor() throws Exception {
+        IsolatedHandler handler = new IsolatedHandler();
+        httpHandlerManager.register(handler);
+        List<Runnable> submitted = new ArrayList<>();
+        httpHandlerManager.registerHttpHandler(server, this::fail, submitted::add, this::fail);
+
+        registeredHandler("/isolated").handle(mock(HttpExchange.class));
+        Assert.assertEquals(1, submitted.size());
+
+        submitted.get(0).run();
+        Assert.assertEquals(1, handler.handled);
+    }
+
+    @Test
+    public void testBlockingHandlerRunsOnExecutor() throws Exception {
+        BlockingHandler handler = new BlockingHandler();
+        httpHandlerManager.register(handler);
+        List<Runnable> submitted = new ArrayList<>();
+        httpHandlerManager.registerHttpHandler(server, this::fail, this::fail, submitted::add);
+
+        HttpExchange httpExchange = mock(HttpExchange.class);
+        registeredHandler("/blocking").handle(httpExchange);
+        Assert.assertEquals(0, handler.handled);
+        Assert.assertEquals(1, submitted.size());
+
+        submitted.get(0).run();
+        Assert.assertEquals(1, handler.handled);
+    }
+
+    @Test
+    public void testHandlerRejected() throws Exception {
+        FastHandler handler = new FastHandler();
+        httpHandlerManager.register(handler);
+        httpHandlerManager.registerHttpHandler(server, command -> {
+            throw new RejectedExecutionException();
+        }, this::fail, this::fail);
+
+        HttpExchange httpExchange = mock(HttpExchange.class);
+        registeredHandler("/fast").handle(httpExchange);
+        Assert.assertEquals(0, handler.handled);
+        verify(httpExchange).sendResponseHeaders(503, -1);
+        verify(httpExchange).close();
+    }
+
+    private void fail(Runnable command) {
+        Assert.fail("handed off to the wrong executor");
+    }
+
+    private HttpHandler registeredHandler(String path) {
+        ArgumentCaptor<HttpHandler> captor = ArgumentCaptor.forClass(HttpHandler.class);
+        verify(server).createContext(eq(path), captor.capture());
+        verify(server, never()).createContext(eq(path));
+        return captor.getValue();
+    }
+
+    @EventHttpHandler(path = "/fast")
+    private static class FastHandler implements HttpHandler {
+
+        private int handled;
+
+        @Override
+        public void handle(HttpExchange httpExchange) {
+            handled++;
+        }
+    }
+
+    @EventHttpHandler(path = "/isolated", isolated = true)
+    private static class IsolatedHandler implements HttpHandler {
+
+        private int handled;
+
+        @Override
+        public void handle(HttpExchange httpExchange) {
+            handled++;
+        }
+    }
+
+    @EventHttpHandler(path = "/blocking", blocking = true)
+    private static class BlockingHandler implements HttpHandler {
+
+        private int handled;
+
+        @Override
+        public void handle(HttpExchange httpExchange) {
+            handled++;
+        }
+    }
+}
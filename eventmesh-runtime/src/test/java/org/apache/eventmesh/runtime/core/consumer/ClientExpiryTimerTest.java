@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.consumer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ClientExpiryTimerTest {
+
+    private ClientExpiryTimer<String> clientExpiryTimer;
+
+    @After
+    public void tearDown() {
+        if (clientExpiryTimer != null) {
+            clientExpiryTimer.shutdown();
+        }
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        clientExpiryTimer = new ClientExpiryTimer<>("test", 200, client -> expired.countDown());
+        long lastUpTime = System.currentTimeMillis();
+        clientExpiryTimer.track("client", () -> lastUpTime);
+        Assert.assertTrue(clientExpiryTimer.isTracked("client"));
+
+        Assert.assertTrue(expired.await(3, TimeUnit.SECONDS));
+        Assert.assertTrue(System.currentTimeMillis() - lastUpTime >= 200);
+        Assert.assertFalse(clientExpiryTimer.isTracked("client"));
+    }
+
+    @Test
+    public void testHeartbeatDelaysExpiry() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        clientExpiryTimer = new ClientExpiryTimer<>("test", 300, client -> expired.countDown());
+        AtomicLong lastUpTime = new AtomicLong(System.currentTimeMillis());
+        clientExpiryTimer.track("client", lastUpTime::get);
+
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(100);
+            lastUpTime.set(System.currentTimeMillis());
+        }
+        Assert.assertEquals(1, expired.getCount());
+        Assert.assertTrue(clientExpiryTimer.isTracked("client"));
+
+        Assert.assertTrue(expired.await(3, TimeUnit.SECONDS));
+        Assert.assertTrue(System.currentTimeMillis() - lastUpTime.get() >= 300);
+    }
+
+    @Test
+    public void testUntrack() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        clientExpiryTimer = new ClientExpiryTimer<>("test", 100, client -> expired.countDown());
+        clientExpiryTimer.track("client", System::currentTimeMillis);
+        clientExpiryTimer.untrack("client");
+
+        Assert.assertEquals(0, clientExpiryTimer.size());
+        Assert.assertFalse(expired.await(500, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.consumer;
+
+import org.apache.eventmesh.runtime.core.consumer.OrderingKeyQueue.OfferResult;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OrderingKeyQueueTest {
+
+    @Test
+    public void testMsgsOfSameKeyAreReleasedInOrder() {
+        OrderingKeyQueue<String> queue = new OrderingKeyQueue<>();
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key", "msg-1"));
+        Assert.assertEquals(OfferResult.QUEUED, queue.offer("key", "msg-2"));
+        Assert.assertEquals(OfferResult.QUEUED, queue.offer("key", "msg-3"));
+
+        Assert.assertEquals("msg-2", queue.release("key"));
+        Assert.assertEquals("msg-3", queue.release("key"));
+        Assert.assertNull(queue.release("key"));
+
+        // key is free again after all msgs are acked
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key", "msg-4"));
+    }
+
+    @Test
+    public void testDifferentKeysAreIndependent() {
+        OrderingKeyQueue<String> queue = new OrderingKeyQueue<>();
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key-1", "msg-1"));
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key-2", "msg-2"));
+        Assert.assertEquals(OfferResult.QUEUED, queue.offer("key-1", "msg-3"));
+
+        Assert.assertNull(queue.release("key-2"));
+        Assert.assertEquals("msg-3", queue.release("key-1"));
+    }
+
+    @Test
+    public void testClear() {
+        OrderingKeyQueue<String> queue = new OrderingKeyQueue<>();
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key", "msg-1"));
+        Assert.assertEquals(OfferResult.QUEUED, queue.offer("key", "msg-2"));
+        queue.clear();
+        Assert.assertNull(queue.release("key"));
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key", "msg-3"));
+    }
+
+    @Test
+    public void testWaitingMsgsAreBoundedPerKey() {
+        OrderingKeyQueue<String> queue = new OrderingKeyQueue<>(1);
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key", "msg-1"));
+        Assert.assertEquals(OfferResult.QUEUED, queue.offer("key", "msg-2"));
+        Assert.assertEquals(OfferResult.FULL, queue.offer("key", "msg-3"));
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key-2", "msg-4"));
+        Assert.assertEquals(1, queue.size());
+
+        Assert.assertEquals("msg-2", queue.release("key"));
+        Assert.assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testReleaseAll() {
+        OrderingKeyQueue<String> queue = new OrderingKeyQueue<>();
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key", "msg-1"));
+        Assert.assertEquals(OfferResult.QUEUED, queue.offer("key", "msg-2"));
+        Assert.assertEquals(OfferResult.QUEUED, queue.offer("key", "msg-3"));
+        Assert.assertEquals(2, queue.size());
+
+        Assert.assertEquals(Arrays.asList("msg-2", "msg-3"), queue.releaseAll("key"));
+        Assert.assertEquals(0, queue.size());
+        Assert.assertEquals(OfferResult.DISPATCHABLE, queue.offer("key", "msg-4"));
+    }
+}
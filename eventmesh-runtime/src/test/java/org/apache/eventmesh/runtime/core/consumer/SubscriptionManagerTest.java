@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.consumer;
+
+import org.apache.eventmesh.runtime.core.protocol.http.processor.inf.Client;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SubscriptionManagerTest {
+
+    private final SubscriptionManager subscriptionManager = new SubscriptionManager();
+
+    @After
+    public void tearDown() {
+        subscriptionManager.shutdownClientExpiry();
+    }
+
+    @Test
+    public void testHeartbeatRegistersOnce() {
+        subscriptionManager.heartbeat(client("url1", new Date(1000L)));
+        subscriptionManager.heartbeat(client("url2", new Date(1000L)));
+        subscriptionManager.heartbeat(client("url1", new Date(2000L)));
+
+        List<Client> clients = subscriptionManager.getLocalClientInfoMapping().get("group@topic");
+        Assert.assertEquals(2, clients.size());
+        Assert.assertEquals(2000L, clients.get(0).getLastUpTime().getTime());
+        Assert.assertEquals(1000L, clients.get(1).getLastUpTime().getTime());
+    }
+
+    @Test
+    public void testHeartbeatAfterRemove() {
+        subscriptionManager.heartbeat(client("url1", new Date()));
+        List<Client> clients = subscriptionManager.getLocalClientInfoMapping().get("group@topic");
+        Client removed = clients.remove(0);
+        subscriptionManager.removeClient(removed);
+
+        subscriptionManager.heartbeat(client("url1", new Date()));
+        Assert.assertEquals(1, clients.size());
+
+        subscriptionManager.removeConsumerGroupClients("group");
+        Assert.assertNull(subscriptionManager.getLocalClientInfoMapping().get("group@topic"));
+        subscriptionManager.heartbeat(client("url1", new Date()));
+        Assert.assertEquals(1, subscriptionManager.getLocalClientInfoMapping().get("group@topic").size());
+    }
+
+    @Test
+    public void testClientExpiry() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        subscriptionManager.startClientExpiry(200, client -> {
+            if (subscriptionManager.removeExpiredClient(client)) {
+                expired.countDown();
+            }
+        });
+        subscriptionManager.heartbeat(client("url1", new Date()));
+
+        Assert.assertTrue(expired.await(3, TimeUnit.SECONDS));
+        Assert.assertTrue(subscriptionManager.getLocalClientInfoMapping().get("group@topic").isEmpty());
+    }
+
+    private Client client(String url, Date lastUpTime) {
+        Client client = new Client();
+        client.setConsumerGroup("group");
+        client.setTopic("topic");
+        client.setUrl(url);
+        client.setIdc("idc");
+        client.setLastUpTime(lastUpTime);
+        return client;
+    }
+}
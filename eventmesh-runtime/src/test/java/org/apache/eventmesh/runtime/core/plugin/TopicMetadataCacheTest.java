@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.plugin;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TopicMetadataCacheTest {
+
+    @Test
+    public void testCacheExistingTopic() throws Exception {
+        TopicMetadataCache cache = new TopicMetadataCache(60_000, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            cache.checkTopicExist("topic", topic -> calls.incrementAndGet());
+        }
+        Assert.assertEquals(1, calls.get());
+
+        cache.invalidate("topic");
+        cache.checkTopicExist("topic", topic -> calls.incrementAndGet());
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testCacheMissingTopic() throws Exception {
+        TopicMetadataCache cache = new TopicMetadataCache(60_000, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+        TopicMetadataCache.TopicChecker checker = topic -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("topic:" + topic + " is not exist");
+        };
+        for (int i = 0; i < 3; i++) {
+            try {
+                cache.checkTopicExist("missing", checker);
+                Assert.fail("should throw when the topic is missing");
+            } catch (IllegalStateException e) {
+                Assert.assertEquals("topic:missing is not exist", e.getMessage());
+            }
+        }
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        TopicMetadataCache cache = new TopicMetadataCache(50, 50);
+        AtomicInteger calls = new AtomicInteger();
+        cache.checkTopicExist("topic", topic -> calls.incrementAndGet());
+        TimeUnit.MILLISECONDS.sleep(100);
+        cache.checkTopicExist("topic", topic -> calls.incrementAndGet());
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        TopicMetadataCache cache = new TopicMetadataCache(0, 0);
+        AtomicInteger calls = new AtomicInteger();
+        cache.checkTopicExist("topic", topic -> calls.incrementAndGet());
+        cache.checkTopicExist("topic", topic -> calls.incrementAndGet());
+        Assert.assertEquals(2, calls.get());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCoalesceConcurrentLookups() throws Exception {
+        TopicMetadataCache cache = new TopicMetadataCache(60_000, 60_000);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        TopicMetadataCache.TopicChecker checker = topic -> {
+            calls.incrementAndGet();
+            release.await(3, TimeUnit.SECONDS);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = executor.submit(() -> {
+                    cache.checkTopicExist("topic", checker);
+                    return null;
+                });
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(3, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, calls.get());
+    }
+}
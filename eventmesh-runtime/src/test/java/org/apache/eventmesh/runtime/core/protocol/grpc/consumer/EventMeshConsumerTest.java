@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.grpc.consumer;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.eventmesh.api.AbstractContext;
+import org.apache.eventmesh.api.EventListener;
+import org.apache.eventmesh.api.EventMeshAction;
+import org.apache.eventmesh.api.EventMeshAsyncConsumeContext;
+import org.apache.eventmesh.common.protocol.grpc.protos.Subscription.SubscriptionItem.SubscriptionMode;
+import org.apache.eventmesh.runtime.boot.EventMeshGrpcServer;
+import org.apache.eventmesh.runtime.common.ServiceState;
+import org.apache.eventmesh.runtime.configuration.EventMeshGrpcConfiguration;
+import org.apache.eventmesh.runtime.core.plugin.MQConsumerWrapper;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.ConsumerGroupClient;
+import org.apache.eventmesh.runtime.core.protocol.grpc.consumer.consumergroup.GrpcType;
+import org.apache.eventmesh.runtime.metrics.grpc.EventMeshGrpcMonitor;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class EventMeshConsumerTest {
+
+    private MQConsumerWrapper persistentMqConsumer;
+
+    private MQConsumerWrapper broadcastMqConsumer;
+
+    private EventMeshConsumer eventMeshConsumer;
+
+    @Before
+    public void setUp() {
+        EventMeshGrpcConfiguration configuration = mock(EventMeshGrpcConfiguration.class);
+        when(configuration.getEventMeshIDC()).thenReturn("FT");
+        when(configuration.getEventMeshCluster()).thenReturn("LS");
+
+        EventMeshGrpcServer eventMeshGrpcServer = mock(EventMeshGrpcServer.class);
+        when(eventMeshGrpcServer.getEventMeshGrpcConfiguration()).thenReturn(configuration);
+        when(eventMeshGrpcServer.getPushMsgExecutor()).thenReturn(mock(ThreadPoolExecutor.class));
+        when(eventMeshGrpcServer.getMetricsMonitor()).thenReturn(mock(EventMeshGrpcMonitor.class));
+
+        persistentMqConsumer = mock(MQConsumerWrapper.class);
+        broadcastMqConsumer = mock(MQConsumerWrapper.class);
+        eventMeshConsumer = new EventMeshConsumer(eventMeshGrpcServer, "group", persistentMqConsumer, broadcastMqConsumer);
+    }
+
+    @Test
+    public void testRegisterBeforeStartRequiresStart() throws Exception {
+        Assert.assertTrue(eventMeshConsumer.registerClient(client("topic1", "url1", SubscriptionMode.CLUSTERING)));
+        Assert.assertFalse(eventMeshConsumer.registerClient(client("topic1", "url2", SubscriptionMode.CLUSTERING)));
+        verify(persistentMqConsumer, never()).subscribe(anyString());
+    }
+
+    @Test
+    public void testClientChurnDoesNotRestart() throws Exception {
+        eventMeshConsumer.registerClient(client("topic1", "url1", SubscriptionMode.CLUSTERING));
+        eventMeshConsumer.init();
+        eventMeshConsumer.start();
+        Assert.assertEquals(ServiceState.RUNNING, eventMeshConsumer.getStatus());
+
+        ArgumentCaptor<EventListener> listener = ArgumentCaptor.forClass(EventListener.class);
+        verify(persistentMqConsumer).registerEventListener(listener.capture());
+
+        int rounds = 50;
+        for (int i = 0; i < rounds; i++) {
+            ConsumerGroupClient topic2Client = client("topic2", "url1", SubscriptionMode.CLUSTERING);
+            ConsumerGroupClient broadcastClient = client("topic3", "url1", SubscriptionMode.BROADCASTING);
+            ConsumerGroupClient topic1Client = client("topic1", "url2", SubscriptionMode.CLUSTERING);
+            Assert.assertFalse(eventMeshConsumer.registerClient(topic2Client));
+            Assert.assertFalse(eventMeshConsumer.registerClient(broadcastClient));
+            Assert.assertFalse(eventMeshConsumer.registerClient(topic1Client));
+
+            Assert.assertEquals(EventMeshAction.ManualAck, deliver(listener.getValue(), "topic1"));
+            Assert.assertEquals(EventMeshAction.ManualAck, deliver(listener.getValue(), "topic2"));
+
+            Assert.assertFalse(eventMeshConsumer.deregisterClient(topic1Client));
+            Assert.assertFalse(eventMeshConsumer.deregisterClient(broadcastClient));
+            Assert.assertFalse(eventMeshConsumer.deregisterClient(topic2Client));
+
+            // the remaining client of topic1 is served all along
+            Assert.assertEquals(EventMeshAction.ManualAck, deliver(listener.getValue(), "topic1"));
+            Assert.assertEquals(EventMeshAction.CommitMessage, deliver(listener.getValue(), "topic2"));
+        }
+
+        verify(persistentMqConsumer, times(1)).subscribe("topic1");
+        verify(persistentMqConsumer, times(rounds)).subscribe("topic2");
+        verify(persistentMqConsumer, times(rounds)).unsubscribe("topic2");
+        verify(broadcastMqConsumer, times(rounds)).subscribe("topic3");
+        verify(broadcastMqConsumer, times(rounds)).unsubscribe("topic3");
+        verify(persistentMqConsumer, never()).unsubscribe("topic1");
+        verify(persistentMqConsumer, times(1)).start();
+        verify(persistentMqConsumer, never()).shutdown();
+        verify(broadcastMqConsumer, never()).shutdown();
+    }
+
+    @Test
+    public void testLastTopicRemovedRequiresRestart() throws Exception {
+        ConsumerGroupClient client = client("topic1", "url1", SubscriptionMode.CLUSTERING);
+        eventMeshConsumer.registerClient(client);
+        eventMeshConsumer.init();
+        eventMeshConsumer.start();
+
+        Assert.assertTrue(eventMeshConsumer.deregisterClient(client));
+        verify(persistentMqConsumer, never()).unsubscribe(anyString());
+    }
+
+    @Test
+    public void testSubscribeFailureFallsBackToRestart() throws Exception {
+        eventMeshConsumer.registerClient(client("topic1", "url1", SubscriptionMode.CLUSTERING));
+        eventMeshConsumer.init();
+        eventMeshConsumer.start();
+
+        doThrow(new RuntimeException("subscribe failed")).when(persistentMqConsumer).subscribe("topic2");
+        Assert.assertTrue(eventMeshConsumer.registerClient(client("topic2", "url1", SubscriptionMode.CLUSTERING)));
+    }
+
+    @Test
+    public void testAckDuringDrainReachesConsumer() throws Exception {
+        eventMeshConsumer.registerClient(client("topic1", "url1", SubscriptionMode.CLUSTERING));
+        eventMeshConsumer.registerClient(client("topic2", "url1", SubscriptionMode.BROADCASTING));
+        eventMeshConsumer.init();
+        eventMeshConsumer.start();
+
+        eventMeshConsumer.stopFetching();
+        verify(persistentMqConsumer).unsubscribe("topic1");
+        verify(broadcastMqConsumer).unsubscribe("topic2");
+
+        AbstractContext context = mock(AbstractContext.class);
+        List<CloudEvent> events = Collections.singletonList(event("topic1"));
+        eventMeshConsumer.updateOffset(SubscriptionMode.CLUSTERING, events, context);
+        verify(persistentMqConsumer).updateOffset(events, context);
+        verify(persistentMqConsumer, never()).shutdown();
+        verify(broadcastMqConsumer, never()).shutdown();
+
+        eventMeshConsumer.shutdown();
+        verify(persistentMqConsumer).shutdown();
+        verify(broadcastMqConsumer).shutdown();
+    }
+
+    private EventMeshAction deliver(EventListener listener, String topic) {
+        EventMeshAction[] action = new EventMeshAction[1];
+        EventMeshAsyncConsumeContext context = new EventMeshAsyncConsumeContext() {
+            @Override
+            public void commit(EventMeshAction eventMeshAction) {
+                action[0] = eventMeshAction;
+            }
+        };
+        listener.consume(event(topic), context);
+        return action[0];
+    }
+
+    private CloudEvent event(String topic) {
+        return CloudEventBuilder.v1()
+            .withId(UUID.randomUUID().toString())
+            .withSource(URI.create("/"))
+            .withType("eventmesh")
+            .withSubject(topic)
+            .build();
+    }
+
+    private ConsumerGroupClient client(String topic, String url, SubscriptionMode subscriptionMode) {
+        return ConsumerGroupClient.builder()
+            .env("env")
+            .idc("FT")
+            .consumerGroup("group")
+            .topic(topic)
+            .grpcType(GrpcType.WEBHOOK)
+            .url(url)
+            .subscriptionMode(subscriptionMode)
+            .sys("sys")
+            .ip("127.0.0.1")
+            .pid("1")
+            .lastUpTime(new Date())
+            .build();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.group.dispatch;
+
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.Session;
+import org.apache.eventmesh.runtime.core.protocol.tcp.client.session.push.SessionPusher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+
+public class LoadAwareDispatchStrategyTest {
+
+    private static final String GROUP = "group";
+
+    private static final String TOPIC = "topic";
+
+    private final LoadAwareDispatchStrategy strategy = new LoadAwareDispatchStrategy();
+
+    @Test
+    public void testSelectWithoutSessions() {
+        Assert.assertNull(strategy.select(GROUP, TOPIC, Collections.emptyList()));
+        Assert.assertNull(strategy.select(GROUP, TOPIC, null));
+        Assert.assertNull(strategy.select(GROUP, "", Collections.singletonList(mockSession(true, false, true, 0))));
+    }
+
+    @Test
+    public void testSelectLessLoadedSession() {
+        Session idle = mockSession(true, false, true, 0);
+        Session busy = mockSession(true, false, true, 100);
+        List<Session> sessions = Arrays.asList(idle, busy);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(idle, strategy.select(GROUP, TOPIC, sessions));
+        }
+    }
+
+    @Test
+    public void testSelectWritableSession() {
+        Session writable = mockSession(true, false, true, 100);
+        Session unwritable = mockSession(true, false, false, 0);
+        List<Session> sessions = Arrays.asList(writable, unwritable);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(writable, strategy.select(GROUP, TOPIC, sessions));
+        }
+    }
+
+    @Test
+    public void testSkipUnavailableSessions() {
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            sessions.add(mockSession(false, false, true, 0));
+        }
+        Session available = mockSession(true, false, true, 1000);
+        sessions.add(available);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(available, strategy.select(GROUP, TOPIC, sessions));
+        }
+    }
+
+    @Test
+    public void testFallbackToIsolatedSession() {
+        Session isolated = mockSession(true, true, true, 0);
+        Session unavailable = mockSession(false, false, true, 0);
+        List<Session> sessions = Arrays.asList(isolated, unavailable);
+        Assert.assertSame(isolated, strategy.select(GROUP, TOPIC, sessions));
+
+        Assert.assertNull(strategy.select(GROUP, TOPIC, Collections.singletonList(unavailable)));
+    }
+
+    private Session mockSession(boolean available, boolean isolated, boolean writable, int unackMsgs) {
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.isAvailable(TOPIC)).thenReturn(available);
+        Mockito.when(session.isIsolated()).thenReturn(isolated);
+
+        Channel channel = Mockito.mock(Channel.class);
+        Mockito.when(channel.isWritable()).thenReturn(writable);
+        ChannelHandlerContext context = Mockito.mock(ChannelHandlerContext.class);
+        Mockito.when(context.channel()).thenReturn(channel);
+        Mockito.when(session.getContext()).thenReturn(context);
+
+        SessionPusher pusher = Mockito.mock(SessionPusher.class);
+        Mockito.when(pusher.getTotalUnackMsgs()).thenReturn(unackMsgs);
+        Mockito.when(session.getPusher()).thenReturn(pusher);
+        return session;
+    }
+}
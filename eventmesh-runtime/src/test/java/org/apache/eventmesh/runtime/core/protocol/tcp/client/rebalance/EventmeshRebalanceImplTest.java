@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.protocol.tcp.client.rebalance;
+
+import org.apache.eventmesh.api.registry.dto.EventMeshDataInfo;
+import org.apache.eventmesh.runtime.boot.EventMeshTCPServer;
+import org.apache.eventmesh.runtime.configuration.EventMeshTCPConfiguration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class EventmeshRebalanceImplTest {
+
+    private static final String LOCAL = "LTS-eventmesh-a";
+
+    private static final String PEER = "LTS-eventmesh-b";
+
+    private EventmeshRebalanceImpl rebalance;
+
+    @Before
+    public void setUp() {
+        EventMeshTCPConfiguration configuration = Mockito.mock(EventMeshTCPConfiguration.class);
+        configuration.eventMeshTcpRebalanceHysteresisPercent = 20;
+        EventMeshTCPServer server = Mockito.mock(EventMeshTCPServer.class);
+        Mockito.when(server.getEventMeshTCPConfiguration()).thenReturn(configuration);
+        rebalance = new EventmeshRebalanceImpl(server);
+    }
+
+    @Test
+    public void testLoadMetadata() {
+        EventMeshLoad load = new EventMeshLoad(100, 20, 3);
+        EventMeshLoad parsed = EventMeshLoad.fromMetadata(load.toMetadata());
+        Assert.assertNotNull(parsed);
+        Assert.assertEquals(100, parsed.getDownstreamTps());
+        Assert.assertEquals(20, parsed.getUnackBacklog());
+        Assert.assertEquals(3, parsed.getEventLoopLagInMills());
+
+        Assert.assertNull(EventMeshLoad.fromMetadata(null));
+        Assert.assertNull(EventMeshLoad.fromMetadata(Collections.singletonMap(EventMeshLoad.DOWNSTREAM_TPS, "100")));
+
+        EventMeshDataInfo withLoad = new EventMeshDataInfo("cluster", LOCAL, "127.0.0.1:10000", 0L, load.toMetadata());
+        EventMeshDataInfo withoutLoad = new EventMeshDataInfo("cluster", PEER, "127.0.0.2:10000", 0L,
+                Collections.singletonMap("group", "{}"));
+        Map<String, EventMeshLoad> loads = EventMeshLoad.loadsOf(Arrays.asList(withLoad, withoutLoad));
+        Assert.assertEquals(Collections.singleton(LOCAL), loads.keySet());
+    }
+
+    @Test
+    public void testLoadScores() {
+        Map<String, EventMeshLoad> loads = new HashMap<>();
+        loads.put(LOCAL, new EventMeshLoad(1000, 500, 10));
+        loads.put(PEER, new EventMeshLoad(0, 0, 0));
+        Map<String, Double> scores = EventMeshLoad.scoresOf(loads);
+        Assert.assertEquals(1.0d, scores.get(LOCAL), 0.0001d);
+        Assert.assertEquals(0.0d, scores.get(PEER), 0.0001d);
+
+        loads.put(PEER, new EventMeshLoad(500, 0, 10));
+        scores = EventMeshLoad.scoresOf(loads);
+        Assert.assertEquals(0.5d, scores.get(PEER), 0.0001d);
+    }
+
+    @Test
+    public void testRedirectTowardsLessLoaded() {
+        Map<String, Double> scores = new HashMap<>();
+        scores.put(LOCAL, 1.0d);
+        scores.put(PEER, 0.0d);
+
+        // evenly spread by count, but the local eventmesh is twice as loaded: its share is 10 of 30
+        Assert.assertEquals(5, rebalance.caculateLoadAwareRedirectNum(LOCAL, "group", "sub", distribution(15, 15), scores));
+        // the peer holds less than its share, nothing to redirect
+        Assert.assertEquals(0, rebalance.caculateLoadAwareRedirectNum(PEER, "group", "sub", distribution(15, 15), scores));
+    }
+
+    @Test
+    public void testHysteresis() {
+        Map<String, Double> scores = new HashMap<>();
+        scores.put(LOCAL, 0.1d);
+        scores.put(PEER, 0.0d);
+
+        // the local share is about 47.6 of 100, 52 clients stay within the 20 percent hysteresis
+        Assert.assertEquals(0, rebalance.caculateLoadAwareRedirectNum(LOCAL, "group", "sub", distribution(52, 48), scores));
+        // beyond the hysteresis the local eventmesh gives up clients down to its share
+        Assert.assertEquals(12, rebalance.caculateLoadAwareRedirectNum(LOCAL, "group", "sub", distribution(60, 40), scores));
+    }
+
+    private Map<String, Integer> distribution(int local, int peer) {
+        Map<String, Integer> distribution = new HashMap<>();
+        distribution.put(LOCAL, local);
+        distribution.put(PEER, peer);
+        return distribution;
+    }
+}
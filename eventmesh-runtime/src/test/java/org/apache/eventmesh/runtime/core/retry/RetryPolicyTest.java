@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void testBackoffWithoutJitter() {
+        RetryPolicy retryPolicy = new RetryPolicy(100, 1000, 5, 0);
+        Assert.assertEquals(100, retryPolicy.backoff(1));
+        Assert.assertEquals(200, retryPolicy.backoff(2));
+        Assert.assertEquals(400, retryPolicy.backoff(3));
+        Assert.assertEquals(800, retryPolicy.backoff(4));
+        Assert.assertEquals(1000, retryPolicy.backoff(5));
+        Assert.assertEquals(1000, retryPolicy.backoff(100));
+    }
+
+    @Test
+    public void testBackoffWithJitter() {
+        RetryPolicy retryPolicy = new RetryPolicy(1000, 10000, 5, 0.2);
+        for (int i = 0; i < 100; i++) {
+            long delay = retryPolicy.backoff(2);
+            Assert.assertTrue(delay > 1600 && delay <= 2000);
+        }
+    }
+
+    @Test
+    public void testCanRetry() {
+        RetryPolicy retryPolicy = new RetryPolicy(100, 1000, 3);
+        Assert.assertTrue(retryPolicy.canRetry(0));
+        Assert.assertTrue(retryPolicy.canRetry(2));
+        Assert.assertFalse(retryPolicy.canRetry(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalDelay() {
+        new RetryPolicy(1000, 100, 3);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.core.retry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RetrySchedulerTest {
+
+    private RetryScheduler retryScheduler;
+
+    @Before
+    public void setUp() {
+        retryScheduler = new RetryScheduler("test-retry", 1, 2);
+    }
+
+    @After
+    public void tearDown() {
+        retryScheduler.shutdown();
+    }
+
+    @Test
+    public void testScheduleWithDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long startTime = System.currentTimeMillis();
+        Assert.assertTrue(retryScheduler.schedule(latch::countDown, 100));
+        Assert.assertEquals(1, retryScheduler.size());
+        Assert.assertTrue(latch.await(3, TimeUnit.SECONDS));
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= 100);
+    }
+
+    @Test
+    public void testRejectWhenTooManyPending() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        Assert.assertTrue(retryScheduler.schedule(latch::countDown, 200));
+        Assert.assertTrue(retryScheduler.schedule(latch::countDown, 200));
+        Assert.assertFalse(retryScheduler.schedule(latch::countDown, 200));
+        Assert.assertTrue(latch.await(3, TimeUnit.SECONDS));
+
+        // pending retries are released after they run
+        waitUntilNoPending();
+        Assert.assertTrue(retryScheduler.schedule(() -> {
+        }, 0));
+    }
+
+    @Test
+    public void testFailedRetryDoesNotBreakScheduler() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Assert.assertTrue(retryScheduler.schedule(() -> {
+            throw new IllegalStateException("retry fail");
+        }, 0));
+        Assert.assertTrue(retryScheduler.schedule(latch::countDown, 50));
+        Assert.assertTrue(latch.await(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRejectAfterShutdown() {
+        retryScheduler.shutdown();
+        Assert.assertFalse(retryScheduler.schedule(() -> {
+        }, 0));
+    }
+
+    @Test
+    public void testFlushWaitingRetriesOnShutdown() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Assert.assertTrue(retryScheduler.schedule(latch::countDown, 60_000));
+        retryScheduler.flushAndShutdown();
+        Assert.assertTrue(latch.await(3, TimeUnit.SECONDS));
+        waitUntilNoPending();
+        Assert.assertFalse(retryScheduler.schedule(() -> {
+        }, 0));
+    }
+
+    private void waitUntilNoPending() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (retryScheduler.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(0, retryScheduler.size());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.trace;
+
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class TraceSamplerTest {
+
+    private static final String RULES = "http:order-topic=0.5, http:*=0.1,*:audit-topic=1,tcp:bad,grpc:x=2";
+
+    @Test
+    public void testRatioOf() {
+        TraceSampler sampler = new TraceSampler(0.01, RULES);
+        Assert.assertEquals(0.5, sampler.ratioOf(EventMeshConstants.PROTOCOL_HTTP, "order-topic"), 0);
+        Assert.assertEquals(0.1, sampler.ratioOf(EventMeshConstants.PROTOCOL_HTTP, "audit-topic"), 0);
+        Assert.assertEquals(1, sampler.ratioOf(EventMeshConstants.PROTOCOL_TCP, "audit-topic"), 0);
+        Assert.assertEquals(0.01, sampler.ratioOf(EventMeshConstants.PROTOCOL_TCP, "order-topic"), 0);
+        // invalid rules are ignored
+        Assert.assertEquals(0.01, sampler.ratioOf(EventMeshConstants.PROTOCOL_GRPC, "x"), 0);
+    }
+
+    @Test
+    public void testSampleStampsDecision() {
+        TraceSampler sampler = new TraceSampler(1, "tcp:quiet-topic=0");
+
+        CloudEvent sampled = sampler.sample(EventMeshConstants.PROTOCOL_TCP, event("loud-topic"));
+        Assert.assertEquals("true", sampled.getExtension(EventMeshConstants.TRACE_SAMPLED));
+        Assert.assertTrue(TraceSampler.isSampled(sampled));
+
+        CloudEvent unsampled = sampler.sample(EventMeshConstants.PROTOCOL_TCP, event("quiet-topic"));
+        Assert.assertEquals("false", unsampled.getExtension(EventMeshConstants.TRACE_SAMPLED));
+        Assert.assertFalse(TraceSampler.isSampled(unsampled));
+    }
+
+    @Test
+    public void testUpstreamDecisionIsKept() {
+        TraceSampler sampler = new TraceSampler(0, null);
+        CloudEvent upstream = CloudEventBuilder.from(event("topic"))
+            .withExtension(EventMeshConstants.TRACE_SAMPLED, "true")
+            .build();
+
+        Assert.assertSame(upstream, sampler.sample(EventMeshConstants.PROTOCOL_HTTP, upstream));
+        Assert.assertTrue(TraceSampler.isSampled(event("topic")));
+    }
+
+    @Test
+    public void testSampleRequestHeaders() {
+        TraceSampler sampler = new TraceSampler(1, "http:*=0");
+        Assert.assertFalse(sampler.sample(EventMeshConstants.PROTOCOL_HTTP, new HashMap<>()));
+        Assert.assertTrue(sampler.sample(EventMeshConstants.PROTOCOL_TCP, (Map<String, Object>) null));
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("TraceSampled", "true");
+        Assert.assertTrue(sampler.sample(EventMeshConstants.PROTOCOL_HTTP, headers));
+    }
+
+    @Test
+    public void testEventFollowsRequestDecision() {
+        CloudEvent unsampled = TraceSampler.sample(event("topic"), false);
+        Assert.assertFalse(TraceSampler.isSampled(unsampled));
+
+        CloudEvent upstream = CloudEventBuilder.from(event("topic"))
+            .withExtension(EventMeshConstants.TRACE_SAMPLED, "true")
+            .build();
+        Assert.assertSame(upstream, TraceSampler.sample(upstream, false));
+    }
+
+    @Test
+    public void testDisabledTraceNeverSamples() {
+        Trace trace = new Trace(false, new TraceSampler(1, null));
+        CloudEvent event = event("topic");
+
+        Assert.assertSame(event, trace.sample(EventMeshConstants.PROTOCOL_TCP, event));
+        Assert.assertFalse(trace.isSampled(event));
+    }
+
+    private CloudEvent event(String topic) {
+        return CloudEventBuilder.v1()
+            .withId("id")
+            .withSource(URI.create("source"))
+            .withType("type")
+            .withSubject(topic)
+            .build();
+    }
+}
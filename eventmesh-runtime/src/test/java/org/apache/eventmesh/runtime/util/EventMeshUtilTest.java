@@ -19,6 +19,9 @@ package org.apache.eventmesh.runtime.util;
 
 import org.apache.eventmesh.common.ThreadPoolFactory;
 import org.apache.eventmesh.common.exception.EventMeshException;
+import org.apache.eventmesh.common.protocol.SubscriptionItem;
+import org.apache.eventmesh.common.protocol.SubscriptionMode;
+import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.UserAgent;
 import org.apache.eventmesh.connector.standalone.broker.model.TopicMetadata;
@@ -193,4 +196,22 @@ public class EventMeshUtilTest {
         Map<String, Object> map = EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V03.toString(), cloudEventV1);
         Assert.assertTrue(map.isEmpty());
     }
+
+    @Test
+    public void testGetOrderingKey() {
+        CloudEvent event = CloudEventBuilder.v1().withId("V1").withSource(URI.create("uri")).withType(TYPE)
+                .withSubject("topic").withExtension("partitionkey", "order-1").build();
+        SubscriptionItem subscriptionItem = new SubscriptionItem("topic", SubscriptionMode.CLUSTERING, SubscriptionType.ASYNC);
+        Assert.assertNull(EventMeshUtil.getOrderingKey(subscriptionItem, event));
+        Assert.assertNull(EventMeshUtil.getOrderingKey(null, event));
+
+        subscriptionItem.setOrderingKey("partitionkey");
+        Assert.assertEquals("order-1", EventMeshUtil.getOrderingKey(subscriptionItem, event));
+
+        subscriptionItem.setOrderingKey("subject");
+        Assert.assertEquals("topic", EventMeshUtil.getOrderingKey(subscriptionItem, event));
+
+        subscriptionItem.setOrderingKey("userid");
+        Assert.assertNull(EventMeshUtil.getOrderingKey(subscriptionItem, event));
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import org.apache.eventmesh.runtime.constants.EventMeshConstants;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.SpecVersion;
+import io.cloudevents.core.builder.CloudEventBuilder;
+
+public class ExtensionOverlayCloudEventTest {
+
+    private final CloudEvent event = CloudEventBuilder.v1()
+        .withId("id")
+        .withSource(URI.create("source"))
+        .withType("type")
+        .withSubject("topic")
+        .withData("data".getBytes(StandardCharsets.UTF_8))
+        .withExtension("protocoltype", "cloudevents")
+        .build();
+
+    @Test
+    public void testOverlayDoesNotTouchOriginal() {
+        CloudEvent overlay = ExtensionOverlayCloudEvent.from(event)
+            .withExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP, "1")
+            .withExtension("protocoltype", "tcp");
+
+        Assert.assertEquals("1", overlay.getExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP));
+        Assert.assertEquals("tcp", overlay.getExtension("protocoltype"));
+        Assert.assertEquals(2, overlay.getExtensionNames().size());
+        Assert.assertEquals("topic", overlay.getSubject());
+        Assert.assertSame(event.getData(), overlay.getData());
+
+        Assert.assertNull(event.getExtension(EventMeshConstants.REQ_C2EVENTMESH_TIMESTAMP));
+        Assert.assertEquals("cloudevents", event.getExtension("protocoltype"));
+    }
+
+    @Test
+    public void testChainedOverlayKeepsSingleDelegate() {
+        ExtensionOverlayCloudEvent first = ExtensionOverlayCloudEvent.from(event)
+            .withExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP, "1");
+        ExtensionOverlayCloudEvent second = ExtensionOverlayCloudEvent.from(first);
+        for (int i = 0; i < 10; i++) {
+            second.withExtension("ext" + i, String.valueOf(i));
+        }
+
+        Assert.assertSame(event, second.getDelegate());
+        Assert.assertEquals("1", second.getExtension(EventMeshConstants.REQ_MQ2EVENTMESH_TIMESTAMP));
+        Assert.assertEquals("9", second.getExtension("ext9"));
+        Assert.assertEquals(12, second.getExtensionNames().size());
+        Assert.assertNull(first.getExtension("ext0"));
+    }
+
+    @Test
+    public void testEquivalentToRebuiltEvent() {
+        CloudEvent overlay = ExtensionOverlayCloudEvent.from(event)
+            .withExtension(EventMeshConstants.RSP_IP, "127.0.0.1");
+        CloudEvent rebuilt = CloudEventBuilder.from(event)
+            .withExtension(EventMeshConstants.RSP_IP, "127.0.0.1")
+            .build();
+
+        Assert.assertEquals(overlay, rebuilt);
+        Assert.assertEquals(rebuilt, CloudEventBuilder.from(overlay).build());
+    }
+
+    @Test
+    public void testGetCloudEventExtensionMap() {
+        CloudEvent overlay = ExtensionOverlayCloudEvent.from(event)
+            .withExtension(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP, "1");
+
+        Map<String, Object> map = EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V1.toString(), overlay);
+        Assert.assertEquals("id", map.get("id"));
+        Assert.assertEquals("cloudevents", map.get("protocoltype"));
+        Assert.assertEquals("1", map.get(EventMeshConstants.REQ_EVENTMESH2C_TIMESTAMP));
+
+        Assert.assertTrue(EventMeshUtil.getCloudEventExtensionMap(SpecVersion.V03.toString(), overlay).isEmpty());
+    }
+}
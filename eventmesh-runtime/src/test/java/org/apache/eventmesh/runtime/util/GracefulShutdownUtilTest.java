@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GracefulShutdownUtilTest {
+
+    @Test
+    public void testAwaitDrained() throws Exception {
+        AtomicInteger outstanding = new AtomicInteger(3);
+        long startTime = System.currentTimeMillis();
+        Assert.assertTrue(GracefulShutdownUtil.awaitDrained(() -> outstanding.decrementAndGet() <= 0,
+                GracefulShutdownUtil.deadlineAfter(10_000)));
+        Assert.assertTrue(System.currentTimeMillis() - startTime < 5_000);
+    }
+
+    @Test
+    public void testAwaitDrainedTimeout() throws Exception {
+        long startTime = System.currentTimeMillis();
+        Assert.assertFalse(GracefulShutdownUtil.awaitDrained(() -> false, GracefulShutdownUtil.deadlineAfter(300)));
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= 300);
+    }
+
+    @Test
+    public void testAwaitTermination() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger finished = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.incrementAndGet();
+            });
+        }
+        Assert.assertTrue(GracefulShutdownUtil.awaitTermination(GracefulShutdownUtil.deadlineAfter(10_000), executor));
+        Assert.assertEquals(5, finished.get());
+        Assert.assertTrue(executor.isShutdown());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.runtime.util;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MessageLogSamplerTest {
+
+    @After
+    public void tearDown() {
+        MessageLogSampler.setMaxPerSecondPerTopic(0);
+    }
+
+    @Test
+    public void testUnlimited() {
+        MessageLogSampler.setMaxPerSecondPerTopic(0);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(MessageLogSampler.tryAcquire("topic", 1_000L));
+        }
+    }
+
+    @Test
+    public void testLimitPerTopic() {
+        MessageLogSampler.setMaxPerSecondPerTopic(2);
+        Assert.assertTrue(MessageLogSampler.tryAcquire("a", 1_000L));
+        Assert.assertTrue(MessageLogSampler.tryAcquire("a", 1_500L));
+        Assert.assertFalse(MessageLogSampler.tryAcquire("a", 1_999L));
+        Assert.assertTrue(MessageLogSampler.tryAcquire("b", 1_999L));
+        Assert.assertTrue(MessageLogSampler.tryAcquire(null, 1_999L));
+    }
+
+    @Test
+    public void testWindowRollsOver() {
+        MessageLogSampler.setMaxPerSecondPerTopic(1);
+        Assert.assertTrue(MessageLogSampler.tryAcquire("a", 1_000L));
+        Assert.assertFalse(MessageLogSampler.tryAcquire("a", 1_100L));
+        Assert.assertTrue(MessageLogSampler.tryAcquire("a", 2_000L));
+    }
+}
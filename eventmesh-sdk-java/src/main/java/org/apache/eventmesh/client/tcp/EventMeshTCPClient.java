@@ -24,6 +24,8 @@ import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * EventMesh TCP client, used to sub/pub message by tcp.
  * You can use {@link EventMeshTCPClientFactory} to create a target client.
@@ -41,6 +43,11 @@ public interface EventMeshTCPClient<ProtocolMessage> extends AutoCloseable {
 
     Package publish(ProtocolMessage msg, long timeout) throws EventMeshException;
 
+    /**
+     * Publish without waiting for the ack, the returned future is completed when the ack arrives.
+     */
+    CompletableFuture<Package> publishAsync(ProtocolMessage msg, long timeout) throws EventMeshException;
+
     void broadcast(ProtocolMessage msg, long timeout) throws EventMeshException;
 
     void listen() throws EventMeshException;
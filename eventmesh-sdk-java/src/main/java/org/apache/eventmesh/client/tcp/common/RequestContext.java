@@ -19,6 +19,7 @@ package org.apache.eventmesh.client.tcp.common;
 
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 
 import org.slf4j.Logger;
@@ -32,6 +33,7 @@ public class RequestContext {
     private Package request;
     private Package response;
     private CountDownLatch latch;
+    private CompletableFuture<Package> future;
 
     public RequestContext(Object key, Package request, CountDownLatch latch) {
         this.key = key;
@@ -39,6 +41,12 @@ public class RequestContext {
         this.latch = latch;
     }
 
+    public RequestContext(Object key, Package request, CompletableFuture<Package> future) {
+        this.key = key;
+        this.request = request;
+        this.future = future;
+    }
+
     public Object getKey() {
         return key;
     }
@@ -71,9 +79,22 @@ public class RequestContext {
         this.latch = latch;
     }
 
+    public CompletableFuture<Package> getFuture() {
+        return future;
+    }
+
+    public void setFuture(CompletableFuture<Package> future) {
+        this.future = future;
+    }
+
     public void finish(Package msg) {
         this.response = msg;
-        latch.countDown();
+        if (latch != null) {
+            latch.countDown();
+        }
+        if (future != null) {
+            future.complete(msg);
+        }
     }
 
     public static RequestContext context(Object key, Package request, CountDownLatch latch) throws Exception {
@@ -82,6 +103,14 @@ public class RequestContext {
         return c;
     }
 
+    public static RequestContext context(Object key, Package request, CompletableFuture<Package> future) {
+        RequestContext c = new RequestContext(key, request, future);
+        if (logger.isDebugEnabled()) {
+            logger.debug("_RequestContext|create|key={}", key);
+        }
+        return c;
+    }
+
 
     public static Object key(Package request) {
         return request.getHeader().getSeq();
@@ -25,10 +25,12 @@ import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
 import java.io.Closeable;
 import java.net.InetSocketAddress;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -68,7 +70,10 @@ public abstract class TcpClient implements Closeable {
 
     private final transient Bootstrap bootstrap = new Bootstrap();
 
-    private final transient EventLoopGroup workers = new NioEventLoopGroup();
+    /**
+     * Max number of requests sent by {@link #ioAsync(Package, long)} that are still waiting for a response.
+     */
+    private final transient Semaphore outstandingPermits;
 
     private transient Channel channel;
 
@@ -78,6 +83,16 @@ public abstract class TcpClient implements Closeable {
             Runtime.getRuntime().availableProcessors(),
             new ThreadFactoryBuilder().setNameFormat("TCPClientScheduler").setDaemon(true).build());
 
+    /**
+     * All tcp clients in the process share one event loop group, so the number of io threads
+     * does not grow with the number of clients.
+     */
+    private static class SharedEventLoopGroupHolder {
+        private static final EventLoopGroup WORKERS = new NioEventLoopGroup(
+                Runtime.getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder().setNameFormat("TCPClientWorker-%d").setDaemon(true).build());
+    }
+
     public TcpClient(EventMeshTCPClientConfig eventMeshTcpClientConfig) {
         Preconditions.checkNotNull(eventMeshTcpClientConfig, "EventMeshTcpClientConfig cannot be null");
         Preconditions.checkNotNull(eventMeshTcpClientConfig.getHost(), "Host cannot be null");
@@ -85,10 +100,13 @@ public abstract class TcpClient implements Closeable {
         this.host = eventMeshTcpClientConfig.getHost();
         this.port = eventMeshTcpClientConfig.getPort();
         this.userAgent = eventMeshTcpClientConfig.getUserAgent();
+        Preconditions.checkState(eventMeshTcpClientConfig.getMaxOutstandingRequests() > 0,
+                "maxOutstandingRequests is not validated");
+        this.outstandingPermits = new Semaphore(eventMeshTcpClientConfig.getMaxOutstandingRequests());
     }
 
     protected synchronized void open(SimpleChannelInboundHandler<Package> handler) throws Exception {
-        bootstrap.group(workers);
+        bootstrap.group(SharedEventLoopGroupHolder.WORKERS);
         bootstrap.channel(NioSocketChannel.class);
         bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1_000)
                 .option(ChannelOption.SO_KEEPALIVE, true)
@@ -116,7 +134,6 @@ public abstract class TcpClient implements Closeable {
     public void close() {
         try {
             channel.disconnect().sync();
-            workers.shutdownGracefully();
             if (heartTask != null) {
                 heartTask.cancel(false);
             }
@@ -192,6 +209,43 @@ public abstract class TcpClient implements Closeable {
         return c.getResponse();
     }
 
+    /**
+     * Send the request without waiting for its response, the returned future is completed when the response
+     * with the same seq arrives. At most {@code maxOutstandingRequests} requests can be in flight, the caller
+     * is blocked until a permit is released or the timeout expires. A failed write completes the future exceptionally.
+     */
+    protected CompletableFuture<Package> ioAsync(Package msg, long timeout) throws Exception {
+        if (!outstandingPermits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("too many outstanding requests, seq=" + RequestContext.key(msg));
+        }
+        Object key = RequestContext.key(msg);
+        CompletableFuture<Package> future = new CompletableFuture<>();
+        RequestContext c = RequestContext.context(key, msg, future);
+        if (contexts.putIfAbsent(key, c) != null) {
+            outstandingPermits.release();
+            throw new IllegalStateException("duplicate key : " + key);
+        }
+        ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
+            future.completeExceptionally(new TimeoutException("operation timeout, context.key=" + key));
+        }, timeout, TimeUnit.MILLISECONDS);
+        future.whenComplete((response, throwable) -> {
+            timeoutTask.cancel(false);
+            contexts.remove(key, c);
+            outstandingPermits.release();
+        });
+        try {
+            // never blocks on an unwritable channel, the outstanding permits already bound what is buffered
+            channel.writeAndFlush(msg).addListener((ChannelFutureListener) writeFuture -> {
+                if (!writeFuture.isSuccess()) {
+                    future.completeExceptionally(writeFuture.cause());
+                }
+            });
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     // todo: remove hello
     protected void hello() throws Exception {
         Package msg = MessageUtils.hello(userAgent);
@@ -28,4 +28,10 @@ public class EventMeshTCPClientConfig {
     private String host;
     private int port;
     private UserAgent userAgent;
+
+    /**
+     * Max number of in-flight requests sent by publishAsync on one client.
+     */
+    @Builder.Default
+    private int maxOutstandingRequests = 1024;
 }
@@ -28,6 +28,8 @@ import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.concurrent.CompletableFuture;
+
 import io.cloudevents.CloudEvent;
 
 public class CloudEventTCPClient implements EventMeshTCPClient<CloudEvent> {
@@ -62,6 +64,11 @@ public class CloudEventTCPClient implements EventMeshTCPClient<CloudEvent> {
         return cloudEventTCPPubClient.publish(cloudEvent, timeout);
     }
 
+    @Override
+    public CompletableFuture<Package> publishAsync(CloudEvent cloudEvent, long timeout) throws EventMeshException {
+        return cloudEventTCPPubClient.publishAsync(cloudEvent, timeout);
+    }
+
     @Override
     public void broadcast(CloudEvent cloudEvent, long timeout) throws EventMeshException {
         cloudEventTCPPubClient.broadcast(cloudEvent, timeout);
@@ -31,6 +31,7 @@ import org.apache.eventmesh.common.protocol.tcp.Command;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.cloudevents.CloudEvent;
@@ -112,6 +113,20 @@ class CloudEventTCPPubClient extends TcpClient implements EventMeshTCPPubClient<
         }
     }
 
+    @Override
+    public CompletableFuture<Package> publishAsync(CloudEvent cloudEvent, long timeout) throws EventMeshException {
+        try {
+            Package msg = MessageUtils.buildPackage(cloudEvent, Command.ASYNC_MESSAGE_TO_SERVER);
+            if (log.isDebugEnabled()) {
+                log.debug("SimplePubClientImpl cloud event|{}|publishAsync|send|type={}|protocol={}|msg={}",
+                        CLIENTNO, msg.getHeader().getCmd(), msg.getHeader().getProperty(Constants.PROTOCOL_TYPE), msg);
+            }
+            return ioAsync(msg, timeout);
+        } catch (Exception ex) {
+            throw new EventMeshException("publishAsync error", ex);
+        }
+    }
+
     @Override
     public void broadcast(CloudEvent cloudEvent, long timeout) throws EventMeshException {
         try {
@@ -31,6 +31,8 @@ import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.google.common.base.Preconditions;
 
 public class EventMeshMessageTCPClient implements EventMeshTCPClient<EventMeshMessage> {
@@ -68,6 +70,13 @@ public class EventMeshMessageTCPClient implements EventMeshTCPClient<EventMeshMe
         return eventMeshMessageTCPPubClient.publish(eventMeshMessage, timeout);
     }
 
+    @Override
+    public CompletableFuture<Package> publishAsync(EventMeshMessage eventMeshMessage, long timeout)
+            throws EventMeshException {
+        validateMessage(eventMeshMessage);
+        return eventMeshMessageTCPPubClient.publishAsync(eventMeshMessage, timeout);
+    }
+
     @Override
     public void broadcast(EventMeshMessage eventMeshMessage, long timeout) throws EventMeshException {
         validateMessage(eventMeshMessage);
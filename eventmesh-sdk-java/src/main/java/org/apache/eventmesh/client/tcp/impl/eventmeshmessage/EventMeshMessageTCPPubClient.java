@@ -32,6 +32,7 @@ import org.apache.eventmesh.common.protocol.tcp.EventMeshMessage;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 import org.apache.eventmesh.common.utils.JsonUtils;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 import io.netty.channel.ChannelHandlerContext;
@@ -114,6 +115,22 @@ class EventMeshMessageTCPPubClient extends TcpClient implements EventMeshTCPPubC
         }
     }
 
+    @Override
+    public CompletableFuture<Package> publishAsync(EventMeshMessage eventMeshMessage, long timeout)
+            throws EventMeshException {
+        try {
+            Package msg = MessageUtils.buildPackage(eventMeshMessage, Command.ASYNC_MESSAGE_TO_SERVER);
+            if (log.isDebugEnabled()) {
+                log.debug("SimplePubClientImpl em message|{}|publishAsync|send|type={}|protocol={}|msg={}",
+                        CLIENTNO, msg.getHeader().getCmd(),
+                        msg.getHeader().getProperty(Constants.PROTOCOL_TYPE), msg);
+            }
+            return ioAsync(msg, timeout);
+        } catch (Exception e) {
+            throw new EventMeshException("publishAsync error", e);
+        }
+    }
+
     @Override
     public void broadcast(EventMeshMessage eventMeshMessage, long timeout) throws EventMeshException {
         try {
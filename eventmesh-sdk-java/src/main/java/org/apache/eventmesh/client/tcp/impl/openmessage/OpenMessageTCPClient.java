@@ -28,6 +28,8 @@ import org.apache.eventmesh.common.protocol.SubscriptionMode;
 import org.apache.eventmesh.common.protocol.SubscriptionType;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.concurrent.CompletableFuture;
+
 import io.openmessaging.api.Message;
 
 import lombok.extern.slf4j.Slf4j;
@@ -64,6 +66,11 @@ public class OpenMessageTCPClient implements EventMeshTCPClient<Message> {
         return eventMeshTCPPubClient.publish(openMessage, timeout);
     }
 
+    @Override
+    public CompletableFuture<Package> publishAsync(Message openMessage, long timeout) throws EventMeshException {
+        return eventMeshTCPPubClient.publishAsync(openMessage, timeout);
+    }
+
     @Override
     public void broadcast(Message openMessage, long timeout) throws EventMeshException {
         eventMeshTCPPubClient.broadcast(openMessage, timeout);
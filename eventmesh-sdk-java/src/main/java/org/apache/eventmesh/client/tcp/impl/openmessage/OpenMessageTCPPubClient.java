@@ -24,6 +24,8 @@ import org.apache.eventmesh.client.tcp.conf.EventMeshTCPClientConfig;
 import org.apache.eventmesh.common.exception.EventMeshException;
 import org.apache.eventmesh.common.protocol.tcp.Package;
 
+import java.util.concurrent.CompletableFuture;
+
 import io.openmessaging.api.Message;
 
 import lombok.extern.slf4j.Slf4j;
@@ -62,6 +64,13 @@ class OpenMessageTCPPubClient implements EventMeshTCPPubClient<Message> {
         return null;
     }
 
+    @Override
+    public CompletableFuture<Package> publishAsync(Message cloudEvent, long timeout) throws EventMeshException {
+        CompletableFuture<Package> future = new CompletableFuture<>();
+        future.completeExceptionally(new EventMeshException("publishAsync is not supported by the openmessaging client"));
+        return future;
+    }
+
     @Override
     public void broadcast(Message cloudEvent, long timeout) throws EventMeshException {
 
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.client.tcp.common;
+
+import org.apache.eventmesh.client.tcp.conf.EventMeshTCPClientConfig;
+import org.apache.eventmesh.common.protocol.tcp.Command;
+import org.apache.eventmesh.common.protocol.tcp.Header;
+import org.apache.eventmesh.common.protocol.tcp.Package;
+import org.apache.eventmesh.common.protocol.tcp.codec.Codec;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+public class TcpClientTest {
+
+    private EventLoopGroup serverGroup;
+
+    private Channel serverChannel;
+
+    private volatile boolean ack = true;
+
+    private volatile Channel acceptedChannel;
+
+    @Before
+    public void setUp() throws Exception {
+        serverGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        acceptedChannel = ch;
+                        ch.pipeline().addLast(new Codec.Encoder(), new Codec.Decoder(),
+                                new SimpleChannelInboundHandler<Package>() {
+                                    @Override
+                                    protected void channelRead0(ChannelHandlerContext ctx, Package msg) {
+                                        if (ack) {
+                                            ctx.writeAndFlush(new Package(new Header(Command.ASYNC_MESSAGE_TO_SERVER_ACK,
+                                                    0, null, msg.getHeader().getSeq())));
+                                        }
+                                    }
+                                });
+                    }
+                })
+                .bind("127.0.0.1", 0).sync().channel();
+    }
+
+    @After
+    public void tearDown() {
+        serverChannel.close();
+        serverGroup.shutdownGracefully();
+    }
+
+    @Test
+    public void testPublishAsyncPipelined() throws Exception {
+        try (TestTcpClient client = new TestTcpClient(newConfig(64))) {
+            List<CompletableFuture<Package>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(client.ioAsync(MessageUtils.heartBeat(), 3000));
+            }
+            for (CompletableFuture<Package> future : futures) {
+                Package response = future.get(3, TimeUnit.SECONDS);
+                Assert.assertEquals(Command.ASYNC_MESSAGE_TO_SERVER_ACK, response.getHeader().getCmd());
+            }
+            Assert.assertTrue(client.contexts.isEmpty());
+        }
+    }
+
+    @Test
+    public void testMaxOutstandingRequests() throws Exception {
+        ack = false;
+        try (TestTcpClient client = new TestTcpClient(newConfig(2))) {
+            CompletableFuture<Package> first = client.ioAsync(MessageUtils.heartBeat(), 200);
+            client.ioAsync(MessageUtils.heartBeat(), 200);
+            try {
+                client.ioAsync(MessageUtils.heartBeat(), 50);
+                Assert.fail("the third request should be rejected");
+            } catch (TimeoutException e) {
+                // expected
+            }
+            try {
+                first.get(1, TimeUnit.SECONDS);
+                Assert.fail("the request should be timeout");
+            } catch (Exception e) {
+                Assert.assertTrue(e.getCause() instanceof TimeoutException);
+            }
+            // the permits are released once the pending requests are timeout
+            TimeUnit.MILLISECONDS.sleep(100);
+            Assert.assertNotNull(client.ioAsync(MessageUtils.heartBeat(), 200));
+        }
+    }
+
+    @Test
+    public void testWriteFailureCompletesFuture() throws Exception {
+        try (TestTcpClient client = new TestTcpClient(newConfig(1))) {
+            acceptedChannel.close().sync();
+            long deadline = System.currentTimeMillis() + 3000;
+            while (client.isActive() && System.currentTimeMillis() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            CompletableFuture<Package> future = client.ioAsync(MessageUtils.heartBeat(), 10000);
+            try {
+                future.get(1, TimeUnit.SECONDS);
+                Assert.fail("the write should fail");
+            } catch (ExecutionException e) {
+                Assert.assertFalse(e.getCause() instanceof TimeoutException);
+            }
+            // the permit of the failed request is released at once
+            Assert.assertTrue(client.contexts.isEmpty());
+            Assert.assertNotNull(client.ioAsync(MessageUtils.heartBeat(), 50));
+        }
+    }
+
+    private EventMeshTCPClientConfig newConfig(int maxOutstandingRequests) {
+        InetSocketAddress address = (InetSocketAddress) serverChannel.localAddress();
+        return EventMeshTCPClientConfig.builder()
+                .host(address.getHostString())
+                .port(address.getPort())
+                .maxOutstandingRequests(maxOutstandingRequests)
+                .build();
+    }
+
+    private static class TestTcpClient extends TcpClient {
+
+        TestTcpClient(EventMeshTCPClientConfig config) throws Exception {
+            super(config);
+            open(new ResponseHandler(contexts));
+        }
+    }
+
+    private static class ResponseHandler extends SimpleChannelInboundHandler<Package> {
+
+        private final ConcurrentHashMap<Object, RequestContext> contexts;
+
+        ResponseHandler(ConcurrentHashMap<Object, RequestContext> contexts) {
+            this.contexts = contexts;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Package msg) {
+            RequestContext context = contexts.remove(RequestContext.key(msg));
+            if (context != null) {
+                context.finish(msg);
+            }
+        }
+    }
+}
@@ -23,4 +23,19 @@ public class EventMeshExtensionConstant {
      */
     public static final String EVENTMESH_EXTENSION_META_DIR = "META-INF/eventmesh/";
 
+    /**
+     * index of the jars and extensions of a plugin instance, generated by the installPlugin task
+     */
+    public static final String EVENTMESH_PLUGIN_INDEX_FILE = "eventmesh-plugin.index";
+
+    /**
+     * key of the comma separated jar paths in the plugin index, relative to the plugin instance dir
+     */
+    public static final String EVENTMESH_PLUGIN_INDEX_JARS = "jars";
+
+    /**
+     * separator between the extension type and the extension name in the plugin index keys
+     */
+    public static final String EVENTMESH_PLUGIN_INDEX_SEPARATOR = "/";
+
 }
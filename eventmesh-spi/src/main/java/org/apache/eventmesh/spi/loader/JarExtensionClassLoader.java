@@ -20,11 +20,14 @@ package org.apache.eventmesh.spi.loader;
 import org.apache.eventmesh.spi.EventMeshSPI;
 import org.apache.eventmesh.spi.ExtensionException;
 
+import org.apache.commons.lang3.StringUtils;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -42,7 +45,9 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.Lists;
 
 /**
- * Load extension from '${eventMeshPluginDir}', the default loading directory is './plugin'
+ * Load extension from '${eventMeshPluginDir}', the default loading directory is './plugin'.
+ * If the plugin instance dir contains the index generated by the installPlugin task, the jars and
+ * extensions are taken from the index instead of scanning the dir and the jars.
  */
 public class JarExtensionClassLoader implements ExtensionClassLoader {
 
@@ -50,7 +55,7 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
 
     private static final String EVENT_MESH_PLUGIN_DIR = "eventMeshPluginDir";
 
-    private static final ConcurrentHashMap<Class<?>, Map<String, Class<?>>> EXTENSION_CLASS_CACHE =
+    private static final ConcurrentHashMap<String, Map<String, Class<?>>> EXTENSION_CLASS_CACHE =
             new ConcurrentHashMap<>(16);
 
     private static final String EVENTMESH_EXTENSION_PLUGIN_DIR =
@@ -60,8 +65,9 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
     @Override
     public <T> Map<String, Class<?>> loadExtensionClass(Class<T> extensionType,
                                                         String extensionInstanceName) {
-        return EXTENSION_CLASS_CACHE
-                .computeIfAbsent(extensionType, t -> doLoadExtensionClass(t, extensionInstanceName));
+        return EXTENSION_CLASS_CACHE.computeIfAbsent(
+                extensionType.getName() + EventMeshExtensionConstant.EVENTMESH_PLUGIN_INDEX_SEPARATOR + extensionInstanceName,
+                key -> doLoadExtensionClass(extensionType, extensionInstanceName));
     }
 
     private <T> Map<String, Class<?>> doLoadExtensionClass(Class<T> extensionType,
@@ -75,6 +81,15 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
                 extensionInstanceName
         ).toString();
 
+        File indexFile = Paths.get(pluginDir, EventMeshExtensionConstant.EVENTMESH_PLUGIN_INDEX_FILE).toFile();
+        if (indexFile.isFile()) {
+            try {
+                return loadExtensionClassFromIndex(indexFile, pluginDir, extensionType);
+            } catch (IOException e) {
+                logger.warn("load plugin index:{} failed, scan the plugin dir instead", indexFile, e);
+            }
+        }
+
         String extensionFileName =
                 EventMeshExtensionConstant.EVENTMESH_EXTENSION_META_DIR + extensionType.getName();
         EventMeshUrlClassLoader urlClassLoader = EventMeshUrlClassLoader.getInstance();
@@ -93,6 +108,28 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
         return extensionMap;
     }
 
+    <T> Map<String, Class<?>> loadExtensionClassFromIndex(File indexFile, String pluginDir,
+                                                          Class<T> extensionType) throws IOException {
+        Properties index = new Properties();
+        try (InputStream inputStream = Files.newInputStream(indexFile.toPath())) {
+            index.load(inputStream);
+        }
+        List<URL> pluginUrls = new ArrayList<>();
+        for (String jar : StringUtils.split(index.getProperty(EventMeshExtensionConstant.EVENTMESH_PLUGIN_INDEX_JARS, ""), ',')) {
+            pluginUrls.add(Paths.get(pluginDir, jar.trim()).toUri().toURL());
+        }
+        EventMeshUrlClassLoader urlClassLoader = EventMeshUrlClassLoader.getInstance();
+        urlClassLoader.addUrls(pluginUrls);
+
+        String prefix = extensionType.getName() + EventMeshExtensionConstant.EVENTMESH_PLUGIN_INDEX_SEPARATOR;
+        Properties extensions = new Properties();
+        index.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(prefix))
+                .forEach(key -> extensions.setProperty(key.substring(prefix.length()), index.getProperty(key)));
+        logger.info("load plugin index:{}, jars:{}, extensions:{}", indexFile, pluginUrls.size(), extensions.size());
+        return loadExtensionClasses(urlClassLoader, extensions, extensionType);
+    }
+
     private List<URL> loadJarPathFromResource(String pluginPath) {
         File plugin = new File(pluginPath);
         if (!plugin.exists()) {
@@ -122,29 +159,34 @@ public class JarExtensionClassLoader implements ExtensionClassLoader {
     private static <T> Map<String, Class<?>> loadResources(URLClassLoader urlClassLoader, URL url,
                                                            Class<T> extensionType)
             throws IOException {
-        Map<String, Class<?>> extensionMap = new HashMap<>();
         try (InputStream inputStream = url.openStream()) {
             Properties properties = new Properties();
             properties.load(inputStream);
-            properties.forEach((extensionName, extensionClass) -> {
-                String extensionNameStr = (String) extensionName;
-                String extensionClassStr = (String) extensionClass;
-                try {
-                    Class<?> targetClass = urlClassLoader.loadClass(extensionClassStr);
-                    logger
-                            .info("load extension class success, extensionType: {}, extensionClass: {}",
-                                    extensionType, targetClass);
-                    if (!extensionType.isAssignableFrom(targetClass)) {
-                        throw new ExtensionException(
-                                String.format("class: %s is not subClass of %s", targetClass,
-                                        extensionType));
-                    }
-                    extensionMap.put(extensionNameStr, targetClass);
-                } catch (ClassNotFoundException e) {
-                    throw new ExtensionException("load extension class error", e);
-                }
-            });
+            return loadExtensionClasses(urlClassLoader, properties, extensionType);
         }
+    }
+
+    private static <T> Map<String, Class<?>> loadExtensionClasses(URLClassLoader urlClassLoader, Properties properties,
+                                                                  Class<T> extensionType) {
+        Map<String, Class<?>> extensionMap = new HashMap<>();
+        properties.forEach((extensionName, extensionClass) -> {
+            String extensionNameStr = (String) extensionName;
+            String extensionClassStr = (String) extensionClass;
+            try {
+                Class<?> targetClass = urlClassLoader.loadClass(extensionClassStr);
+                logger
+                        .info("load extension class success, extensionType: {}, extensionClass: {}",
+                                extensionType, targetClass);
+                if (!extensionType.isAssignableFrom(targetClass)) {
+                    throw new ExtensionException(
+                            String.format("class: %s is not subClass of %s", targetClass,
+                                    extensionType));
+                }
+                extensionMap.put(extensionNameStr, targetClass);
+            } catch (ClassNotFoundException e) {
+                throw new ExtensionException("load extension class error", e);
+            }
+        });
         return extensionMap;
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.eventmesh.spi.loader;
+
+import org.apache.eventmesh.spi.ExtensionException;
+import org.apache.eventmesh.spi.example.PrototypeExtension;
+import org.apache.eventmesh.spi.example.SingletonExtension;
+import org.apache.eventmesh.spi.example.TestPrototypeExtension;
+import org.apache.eventmesh.spi.example.TestSingletonExtension;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JarExtensionClassLoaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final JarExtensionClassLoader classLoader = new JarExtensionClassLoader();
+
+    @Test
+    public void testLoadExtensionClassFromIndex() throws Exception {
+        Properties index = new Properties();
+        index.setProperty(EventMeshExtensionConstant.EVENTMESH_PLUGIN_INDEX_JARS, "");
+        index.setProperty(TestSingletonExtension.class.getName() + "/singletonExtension", SingletonExtension.class.getName());
+        index.setProperty(TestPrototypeExtension.class.getName() + "/prototypeExtension", PrototypeExtension.class.getName());
+        File indexFile = writeIndex(index);
+
+        Map<String, Class<?>> extensions = classLoader.loadExtensionClassFromIndex(indexFile,
+                temporaryFolder.getRoot().getPath(), TestSingletonExtension.class);
+        Assert.assertEquals(1, extensions.size());
+        Assert.assertEquals(SingletonExtension.class, extensions.get("singletonExtension"));
+    }
+
+    @Test(expected = ExtensionException.class)
+    public void testLoadExtensionClassOfWrongType() throws Exception {
+        Properties index = new Properties();
+        index.setProperty(TestSingletonExtension.class.getName() + "/prototypeExtension", PrototypeExtension.class.getName());
+        File indexFile = writeIndex(index);
+
+        classLoader.loadExtensionClassFromIndex(indexFile, temporaryFolder.getRoot().getPath(), TestSingletonExtension.class);
+    }
+
+    private File writeIndex(Properties index) throws Exception {
+        File indexFile = new File(temporaryFolder.getRoot(), EventMeshExtensionConstant.EVENTMESH_PLUGIN_INDEX_FILE);
+        try (OutputStream outputStream = Files.newOutputStream(indexFile.toPath())) {
+            index.store(outputStream, null);
+        }
+        return indexFile;
+    }
+}